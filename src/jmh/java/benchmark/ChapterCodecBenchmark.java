@@ -0,0 +1,102 @@
+package benchmark;
+
+import com.google.firebase.database.utilities.encoding.CustomClassMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import thrift.Chapter;
+import thrift.Handbook;
+import transfer.Handbooks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stored chapter values to Chapter structs and back, the hand written
+ * codecs of Handbooks against Firebase's reflective bean mapper, which
+ * {@code DataSnapshot.getValue(Chapter.class)} and {@code setValueAsync(chapter)} use.
+ * <pre>
+ * mvn -P jmh package
+ * java -jar target/benchmarks.jar ChapterCodecBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChapterCodecBenchmark {
+
+    // characters of chapter text, a short note, a typical chapter and a long one
+    @Param({"256", "4096", "65536"})
+    private int textLength;
+
+    // chapters of the book read by the Handbook benchmarks
+    private static final int CHAPTERS = 20;
+
+    private Map<String, Object> chapterValue;
+    private Map<String, Object> bookValue;
+    private Chapter chapter;
+
+    @Setup
+    public void setUp() {
+        chapterValue = chapterValue(0);
+        Map<String, Object> chapters = new LinkedHashMap<>();
+        for (int i = 0; i < CHAPTERS; i++) {
+            chapters.put("-Lchapter" + i, chapterValue(i));
+        }
+        bookValue = new LinkedHashMap<>();
+        bookValue.put("name", "Field guide to the northern woods");
+        bookValue.put("chapters", chapters);
+        chapter = Handbooks.toChapter("-Lchapter0", chapterValue);
+    }
+
+    private Map<String, Object> chapterValue(int index) {
+        StringBuilder text = new StringBuilder(textLength);
+        while (text.length() < textLength) {
+            text.append("Lichens grow slowly on the north side of old birches. ");
+        }
+        text.setLength(textLength);
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "Chapter " + index);
+        value.put("description", "Trees, mosses and lichens of the boreal forest");
+        value.put("text", text.toString());
+        return value;
+    }
+
+    @Benchmark
+    public Chapter readChapterCodec() {
+        return Handbooks.toChapter("-Lchapter0", chapterValue);
+    }
+
+    @Benchmark
+    public Chapter readChapterReflective() {
+        return CustomClassMapper.convertToCustomClass(chapterValue, Chapter.class);
+    }
+
+    @Benchmark
+    public Object writeChapterCodec() {
+        return Handbooks.chapterValue(chapter);
+    }
+
+    @Benchmark
+    public Object writeChapterReflective() {
+        return CustomClassMapper.convertToPlainJavaTypes(chapter);
+    }
+
+    @Benchmark
+    public Handbook readHandbookCodec() {
+        return Handbooks.toHandbook("-Lbook", bookValue);
+    }
+
+}
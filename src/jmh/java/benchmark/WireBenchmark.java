@@ -0,0 +1,228 @@
+package benchmark;
+
+import org.apache.thrift.TBase;
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TJSONProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.protocol.TTupleProtocol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import thrift.Callback;
+import thrift.CallbackType;
+import thrift.Chapter;
+import thrift.CustomPair;
+import thrift.Handbook;
+import thrift.Storage;
+import thrift.TextEdit;
+import thrift.ValidUpdate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization and deserialization of the structs the server sends most,
+ * per protocol and payload size. A list of callbacks is measured as the
+ * result struct of subscribeForBookList, the bytes a subscribe reply
+ * carries. The serialized sizes are printed once per trial.
+ * <pre>
+ * mvn -P jmh package
+ * java -jar target/benchmarks.jar WireBenchmark
+ * java -jar target/benchmarks.jar WireBenchmark -p protocol=binary,compact -p payload=typical
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireBenchmark {
+
+    @Param({"binary", "compact", "json", "tuple"})
+    private String protocol;
+
+    // small: a note and a short poll, typical: an average book and a busy poll, large: a long book and a backlog
+    @Param({"small", "typical", "large"})
+    private String payload;
+
+    private TSerializer serializer;
+    private TDeserializer deserializer;
+
+    private Callback callback;
+    private Chapter chapter;
+    private Handbook handbook;
+    private Storage.subscribeForBookList_result callbacks;
+
+    private byte[] callbackBytes;
+    private byte[] chapterBytes;
+    private byte[] handbookBytes;
+    private byte[] callbacksBytes;
+
+    @Setup
+    public void setUp() throws TException {
+        TProtocolFactory factory = protocolFactory(protocol);
+        serializer = new TSerializer(factory);
+        deserializer = new TDeserializer(factory);
+
+        int textLength;
+        int chapters;
+        int pending;
+        switch (payload) {
+            case "small":
+                textLength = 256;
+                chapters = 5;
+                pending = 10;
+                break;
+            case "typical":
+                textLength = 4096;
+                chapters = 20;
+                pending = 50;
+                break;
+            case "large":
+                textLength = 65536;
+                chapters = 100;
+                pending = 200;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown payload: " + payload);
+        }
+
+        chapter = chapter(0, textLength);
+        handbook = new Handbook("Field guide to the northern woods", new ArrayList<Chapter>());
+        handbook.setUid("-Lbook0000000000000");
+        for (int i = 0; i < chapters; i++) {
+            handbook.addToChapters(chapter(i, textLength));
+        }
+        callback = watchCallback();
+        List<Callback> events = new ArrayList<>(pending);
+        for (int i = 0; i < pending; i++) {
+            // a poll mixes name events of the book list with text edits
+            events.add(i % 5 == 4 ? editedCallback(i) : new Callback(
+                    new CustomPair(uid("-Lbook", i), "Book " + i), "books", CallbackType.CHANGED, ValidUpdate.BOOK_NAME));
+        }
+        callbacks = new Storage.subscribeForBookList_result();
+        callbacks.setSuccess(events);
+
+        callbackBytes = serializer.serialize(callback);
+        chapterBytes = serializer.serialize(chapter);
+        handbookBytes = serializer.serialize(handbook);
+        callbacksBytes = serializer.serialize(callbacks);
+        System.out.println(protocol + "/" + payload + " bytes: callback " + callbackBytes.length
+                + ", chapter " + chapterBytes.length + ", handbook " + handbookBytes.length
+                + ", callbacks " + callbacksBytes.length);
+    }
+
+    private static TProtocolFactory protocolFactory(String protocol) {
+        switch (protocol) {
+            case "binary":
+                return new TBinaryProtocol.Factory();
+            case "compact":
+                return new TCompactProtocol.Factory();
+            case "json":
+                return new TJSONProtocol.Factory();
+            case "tuple":
+                return new TTupleProtocol.Factory();
+            default:
+                throw new IllegalArgumentException("Unknown protocol: " + protocol);
+        }
+    }
+
+    private static String uid(String prefix, int index) {
+        // push keys are 20 characters
+        String key = prefix + index;
+        return key + "0000000000000000000".substring(0, Math.max(0, 20 - key.length()));
+    }
+
+    private static Chapter chapter(int index, int textLength) {
+        StringBuilder text = new StringBuilder(textLength);
+        while (text.length() < textLength) {
+            text.append("Lichens grow slowly on the north side of old birches, ёлки растут быстрее. ");
+        }
+        text.setLength(textLength);
+        Chapter chapter = new Chapter("Chapter " + index, "Trees, mosses and lichens of the boreal forest",
+                text.toString());
+        chapter.setUid(uid("-Lchapter", index));
+        return chapter;
+    }
+
+    /**
+     * A watchChapter event after a rename and a new description.
+     */
+    private static Callback watchCallback() {
+        Callback callback = new Callback(new CustomPair(uid("-Lchapter", 0), "Mosses"), "chapter",
+                CallbackType.CHANGED, ValidUpdate.CHAPTER_INFO);
+        callback.setFieldMask(Arrays.asList("description", "name"));
+        callback.setFields(Arrays.asList(new CustomPair("description", "Mosses of wet spruce forests"),
+                new CustomPair("name", "Mosses")));
+        return callback;
+    }
+
+    private static Callback editedCallback(int index) {
+        Callback callback = new Callback(new CustomPair("text", null), "text", CallbackType.EDITED,
+                ValidUpdate.CHAPTER_INFO);
+        callback.setVersion(index);
+        callback.setEdits(Arrays.asList(new TextEdit(120 + index, 0, "sphagnum "), new TextEdit(140 + index, 4, "")));
+        return callback;
+    }
+
+    private <T extends TBase<?, ?>> T read(T struct, byte[] bytes) throws TException {
+        deserializer.deserialize(struct, bytes);
+        return struct;
+    }
+
+    @Benchmark
+    public byte[] writeCallback() throws TException {
+        return serializer.serialize(callback);
+    }
+
+    @Benchmark
+    public Callback readCallback() throws TException {
+        return read(new Callback(), callbackBytes);
+    }
+
+    @Benchmark
+    public byte[] writeChapter() throws TException {
+        return serializer.serialize(chapter);
+    }
+
+    @Benchmark
+    public Chapter readChapter() throws TException {
+        return read(new Chapter(), chapterBytes);
+    }
+
+    @Benchmark
+    public byte[] writeHandbook() throws TException {
+        return serializer.serialize(handbook);
+    }
+
+    @Benchmark
+    public Handbook readHandbook() throws TException {
+        return read(new Handbook(), handbookBytes);
+    }
+
+    @Benchmark
+    public byte[] writeCallbacks() throws TException {
+        return serializer.serialize(callbacks);
+    }
+
+    @Benchmark
+    public Storage.subscribeForBookList_result readCallbacks() throws TException {
+        return read(new Storage.subscribeForBookList_result(), callbacksBytes);
+    }
+
+}
@@ -0,0 +1,294 @@
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.async.AsyncMethodCallback;
+import session.Subscription;
+import thrift.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Storage.Iface view of the async handler for the blocking server mode.
+ * Each call parks its connection thread until the async handler completes,
+ * which is cheap when connections run on virtual threads. A call left
+ * unanswered fails after a timeout instead of holding its connection.
+ */
+public class BlockingStorageHandler implements Storage.Iface {
+
+    // a call that takes longer is failed, its backend operation is stuck
+    private static final long CALL_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final Storage.AsyncIface handler;
+
+    BlockingStorageHandler(Storage.AsyncIface handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public Callback getBookList() throws TException {
+        BlockingCallback<Callback> callback = new BlockingCallback<>();
+        handler.getBookList(callback);
+        return callback.get();
+    }
+
+    @Override
+    public Callback getBookChapters(String bookUid) throws TException {
+        BlockingCallback<Callback> callback = new BlockingCallback<>();
+        handler.getBookChapters(bookUid, callback);
+        return callback.get();
+    }
+
+    @Override
+    public void renameBook(CustomPair newValue) throws TException {
+        BlockingCallback<Void> callback = new BlockingCallback<>();
+        handler.renameBook(newValue, callback);
+        callback.get();
+    }
+
+    @Override
+    public void renameBookChapter(String bookUid, CustomPair newValue) throws TException {
+        BlockingCallback<Void> callback = new BlockingCallback<>();
+        handler.renameBookChapter(bookUid, newValue, callback);
+        callback.get();
+    }
+
+    @Override
+    public Callback getChapter(String bookUid, String chapterUid) throws TException {
+        BlockingCallback<Callback> callback = new BlockingCallback<>();
+        handler.getChapter(bookUid, chapterUid, callback);
+        return callback.get();
+    }
+
+    @Override
+    public Callback watchChapter(String bookUid, String chapterUid) throws TException {
+        BlockingCallback<Callback> callback = new BlockingCallback<>();
+        handler.watchChapter(bookUid, chapterUid, callback);
+        return callback.get();
+    }
+
+    @Override
+    public void updateChapter(String bookUid, String chapterUid, Chapter chapter) throws TException {
+        BlockingCallback<Void> callback = new BlockingCallback<>();
+        handler.updateChapter(bookUid, chapterUid, chapter, callback);
+        callback.get();
+    }
+
+    @Override
+    public void removeBook(String bookUid) throws TException {
+        BlockingCallback<Void> callback = new BlockingCallback<>();
+        handler.removeBook(bookUid, callback);
+        callback.get();
+    }
+
+    @Override
+    public void removeChapter(String bookUid, String chapterUid) throws TException {
+        BlockingCallback<Void> callback = new BlockingCallback<>();
+        handler.removeChapter(bookUid, chapterUid, callback);
+        callback.get();
+    }
+
+    @Override
+    public void addBook(String bookName) throws TException {
+        BlockingCallback<Void> callback = new BlockingCallback<>();
+        handler.addBook(bookName, callback);
+        callback.get();
+    }
+
+    @Override
+    public void addChapter(String bookUid, String chapterName) throws TException {
+        BlockingCallback<Void> callback = new BlockingCallback<>();
+        handler.addChapter(bookUid, chapterName, callback);
+        callback.get();
+    }
+
+    @Override
+    public Page getBookListSnapshot(int pageSize) throws TException {
+        BlockingCallback<Page> callback = new BlockingCallback<>();
+        handler.getBookListSnapshot(pageSize, callback);
+        return callback.get();
+    }
+
+    @Override
+    public Page getBookChaptersSnapshot(String bookUid, int pageSize) throws TException {
+        BlockingCallback<Page> callback = new BlockingCallback<>();
+        handler.getBookChaptersSnapshot(bookUid, pageSize, callback);
+        return callback.get();
+    }
+
+    @Override
+    public List<Callback> getChapterSnapshot(String bookUid, String chapterUid) throws TException {
+        BlockingCallback<List<Callback>> callback = new BlockingCallback<>();
+        handler.getChapterSnapshot(bookUid, chapterUid, callback);
+        return callback.get();
+    }
+
+    @Override
+    public Page getBookListPage(int pageSize, String cursor) throws TException {
+        BlockingCallback<Page> callback = new BlockingCallback<>();
+        handler.getBookListPage(pageSize, cursor, callback);
+        return callback.get();
+    }
+
+    @Override
+    public Page getBookChaptersPage(String bookUid, int pageSize, String cursor) throws TException {
+        BlockingCallback<Page> callback = new BlockingCallback<>();
+        handler.getBookChaptersPage(bookUid, pageSize, cursor, callback);
+        return callback.get();
+    }
+
+    @Override
+    public List<ChapterResult> getChapters(List<ChapterRef> refs) throws TException {
+        BlockingCallback<List<ChapterResult>> callback = new BlockingCallback<>();
+        handler.getChapters(refs, callback);
+        return callback.get();
+    }
+
+    @Override
+    public Handbook getHandbook(String bookUid) throws TException {
+        BlockingCallback<Handbook> callback = new BlockingCallback<>();
+        handler.getHandbook(bookUid, callback);
+        return callback.get();
+    }
+
+    @Override
+    public List<SearchHit> search(String query, int limit) throws TException {
+        BlockingCallback<List<SearchHit>> callback = new BlockingCallback<>();
+        handler.search(query, limit, callback);
+        return callback.get();
+    }
+
+    @Override
+    public List<Suggestion> suggest(String prefix, int limit) throws TException {
+        BlockingCallback<List<Suggestion>> callback = new BlockingCallback<>();
+        handler.suggest(prefix, limit, callback);
+        return callback.get();
+    }
+
+    @Override
+    public List<String> applyBatch(List<Mutation> mutations) throws TException {
+        BlockingCallback<List<String>> callback = new BlockingCallback<>();
+        handler.applyBatch(mutations, callback);
+        return callback.get();
+    }
+
+    @Override
+    public void patchChapter(String bookUid, String chapterUid, Chapter chapter, List<String> fieldMask) throws TException {
+        BlockingCallback<Void> callback = new BlockingCallback<>();
+        handler.patchChapter(bookUid, chapterUid, chapter, fieldMask, callback);
+        callback.get();
+    }
+
+    @Override
+    public ChapterText getChapterText(String bookUid, String chapterUid) throws TException {
+        BlockingCallback<ChapterText> callback = new BlockingCallback<>();
+        handler.getChapterText(bookUid, chapterUid, callback);
+        return callback.get();
+    }
+
+    @Override
+    public long editChapterText(String bookUid, String chapterUid, long baseVersion, List<TextEdit> edits)
+            throws VersionConflict, TException {
+        BlockingCallback<Long> callback = new BlockingCallback<>();
+        handler.editChapterText(bookUid, chapterUid, baseVersion, edits, callback);
+        Long version = callback.get();
+        if (version == null) {
+            throw new TApplicationException(TApplicationException.MISSING_RESULT, "editChapterText failed: no version");
+        }
+        return version;
+    }
+
+    @Override
+    public TextRange getChapterTextRange(String bookUid, String chapterUid, int offset, int length) throws TException {
+        BlockingCallback<TextRange> callback = new BlockingCallback<>();
+        handler.getChapterTextRange(bookUid, chapterUid, offset, length, callback);
+        return callback.get();
+    }
+
+    @Override
+    public List<Callback> subscribeForBookList(long timeoutMillis) throws TException {
+        BlockingCallback<List<Callback>> callback = new BlockingCallback<>(pollWaitMillis(timeoutMillis));
+        handler.subscribeForBookList(timeoutMillis, callback);
+        return callback.get();
+    }
+
+    @Override
+    public List<Callback> subscribeForBookChapters(String bookUid, long timeoutMillis) throws TException {
+        BlockingCallback<List<Callback>> callback = new BlockingCallback<>(pollWaitMillis(timeoutMillis));
+        handler.subscribeForBookChapters(bookUid, timeoutMillis, callback);
+        return callback.get();
+    }
+
+    @Override
+    public List<Callback> subscribeForChapter(String bookUid, String chapterUid, long timeoutMillis) throws TException {
+        BlockingCallback<List<Callback>> callback = new BlockingCallback<>(pollWaitMillis(timeoutMillis));
+        handler.subscribeForChapter(bookUid, chapterUid, timeoutMillis, callback);
+        return callback.get();
+    }
+
+    /**
+     * A long poll answers by its timeout, the wait allows for the call on top.
+     */
+    private static long pollWaitMillis(long timeoutMillis) {
+        return Math.max(0, Math.min(timeoutMillis, Subscription.MAX_POLL_TIMEOUT_MILLIS)) + CALL_TIMEOUT_MILLIS;
+    }
+
+    /**
+     * Keeps the first outcome only, the listeners of the async handler may
+     * keep completing a callback after it was answered.
+     */
+    private static class BlockingCallback<T> implements AsyncMethodCallback<T> {
+
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final long timeoutMillis;
+        private T result;
+        private Exception error;
+
+        BlockingCallback() {
+            this(CALL_TIMEOUT_MILLIS);
+        }
+
+        BlockingCallback(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        @Override
+        public synchronized void onComplete(T response) {
+            if (done.getCount() > 0) {
+                result = response;
+                done.countDown();
+            }
+        }
+
+        @Override
+        public synchronized void onError(Exception exception) {
+            if (done.getCount() > 0) {
+                error = exception;
+                done.countDown();
+            }
+        }
+
+        T get() throws TException {
+            try {
+                if (!done.await(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    // an answer arriving now is dropped, the connection thread moves on
+                    onError(new TApplicationException(TApplicationException.INTERNAL_ERROR,
+                            "No answer within " + timeoutMillis + " ms"));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TException(e);
+            }
+            synchronized (this) {
+                if (error instanceof TException) {
+                    throw (TException) error;
+                }
+                if (error != null) {
+                    throw new TException(error);
+                }
+                return result;
+            }
+        }
+    }
+
+}
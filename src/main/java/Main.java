@@ -1,8 +1,17 @@
 import org.apache.log4j.BasicConfigurator;
 
+import java.io.File;
+
 public class Main {
     public static void main(String[] args) {
         BasicConfigurator.configure();
+        if (args.length >= 2 && "export".equals(args[0])) {
+            boolean resume = args.length > 2 && "resume".equals(args[2]);
+            System.exit(new Server().export(new File(args[1]), resume) ? 0 : 1);
+        }
+        if (args.length >= 2 && "import".equals(args[0])) {
+            System.exit(new Server().load(new File(args[1])) ? 0 : 1);
+        }
         new Server().start();
     }
 }
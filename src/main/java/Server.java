@@ -4,13 +4,34 @@ import org.apache.thrift.TProcessor;
 import org.apache.thrift.server.TNonblockingServer;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
 import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TNonblockingServerTransport;
 import org.apache.thrift.transport.TServerSocket;
 import org.apache.thrift.transport.TTransportException;
+import cache.ChildrenCache;
+import session.OverflowPolicy;
+import session.SessionManager;
+import storage.FirebaseStorageBackend;
+import storage.InMemoryStorageBackend;
+import storage.IndexedStorageBackend;
+import storage.StorageBackend;
 import thrift.Storage;
+import transfer.CatalogExporter;
+import transfer.CatalogImporter;
+import write.AckMode;
+import write.WriteJournal;
+import write.Writer;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 class Server {
 
@@ -21,24 +42,194 @@ class Server {
             ResourceBundle bundle = ResourceBundle.getBundle("config");
             Integer port = Integer.parseInt(bundle.getString("server.port"));
 
-            TNonblockingServerTransport serverTransport = new TNonblockingServerSocket(port);
+            SessionManager sessions = new SessionManager(
+                    intProperty(bundle, "session.queue.capacity", 256),
+                    OverflowPolicy.parse(stringProperty(bundle, "session.overflow.policy", "drop-oldest")));
+            long cacheBudgetBytes = intProperty(bundle, "cache.budget.mb", 64) * 1024L * 1024L;
+            IndexedStorageBackend backend = createBackend(bundle);
+            Writer writer = createWriter(bundle, backend);
+            final StorageServiceHandler handler = new StorageServiceHandler(backend, writer, sessions, cacheBudgetBytes,
+                    intProperty(bundle, "text.persist.delay.ms", 500),
+                    Boolean.parseBoolean(stringProperty(bundle, "search.enabled", "false")),
+                    intProperty(bundle, "search.budget.mb", 64) * 1024L * 1024L,
+                    intProperty(bundle, "search.index.threads", Runtime.getRuntime().availableProcessors()));
+            Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    handler.close();
+                }
+            }, "storage-close"));
+            scheduleStats(intProperty(bundle, "stats.interval.seconds", 60), handler, sessions);
+            migrateNameIndex(backend, intProperty(bundle, "name.index.migration.page.size", 50));
 
-            //TServerSocket serverTransport = new TServerSocket(port);
+            TServer server = createServer(bundle, port, handler);
+            server.setServerEventHandler(sessions);
 
-            StorageServiceHandler handler = new StorageServiceHandler();
-//            Storage.AsyncProcessor<Storage.AsyncIface> processor =
-//                    new Storage.AsyncProcessor<Storage.AsyncIface>(handler);
-            TProcessor processor = new Storage.AsyncProcessor<>(handler);
-
-            TServer server = new TNonblockingServer(new TNonblockingServer.Args(serverTransport).
-                    processor(processor));
-//            TServer server = new TThreadPoolServer(new TThreadPoolServer.Args(serverTransport).processor(processor));
-
-            log.info("Service started on port: " + ((TNonblockingServerSocket) serverTransport).getPort());
+            log.info("Service started on port: " + port);
             server.serve();
         } catch (TTransportException e) {
             log.error(e.getMessage());
+        } catch (IOException e) {
+            log.error("Error in app initialization: " + e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Writes all books to the file, after the last complete book of the file when resuming.
+     */
+    boolean export(File file, boolean resume) {
+        try {
+            ResourceBundle bundle = ResourceBundle.getBundle("config");
+            CatalogExporter exporter = new CatalogExporter(createBackend(bundle),
+                    intProperty(bundle, "export.page.size", 100));
+            long books = exporter.export(file, resume);
+            log.info("Exported " + books + " books to " + file);
+            return true;
+        } catch (IOException e) {
+            log.error("Export failed: " + e.getLocalizedMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * Loads the books of an exported file.
+     */
+    boolean load(File file) {
+        try {
+            ResourceBundle bundle = ResourceBundle.getBundle("config");
+            CatalogImporter importer = new CatalogImporter(createBackend(bundle),
+                    intProperty(bundle, "import.batch.books", 50));
+            importer.load(file);
+            return true;
+        } catch (IOException e) {
+            log.error("Import failed: " + e.getLocalizedMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private void scheduleStats(int intervalSeconds, final StorageServiceHandler handler, final SessionManager sessions) {
+        if (intervalSeconds <= 0) {
+            return;
+        }
+        ScheduledExecutorService stats = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "stats");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        stats.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                ChildrenCache cache = handler.getCache();
+                log.info("Cache: " + cache.getSize() + " paths, " + cache.getBytes() + " bytes, "
+                        + cache.getMetrics());
+                log.info("Sessions: " + sessions.getOpenSessions() + " open, " + sessions.getMetrics());
+                if (handler.getIndex() != null) {
+                    log.info("Search index: " + handler.getIndex());
+                }
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    private TServer createServer(ResourceBundle bundle,
+                                 int port,
+                                 StorageServiceHandler handler) throws TTransportException {
+        String mode = stringProperty(bundle, "server.mode", "nonblocking");
+        if ("virtual-threads".equals(mode)) {
+            TServerSocket serverTransport = new TServerSocket(port);
+            TProcessor processor = new Storage.Processor<>(new BlockingStorageHandler(handler));
+            ThreadFactory factory = Thread.ofVirtual().name("storage-connection-", 0).factory();
+            log.info("Blocking server, one virtual thread per connection");
+            return new TThreadPoolServer(new TThreadPoolServer.Args(serverTransport)
+                    .executorService(Executors.newThreadPerTaskExecutor(factory))
+                    .processor(processor));
+        }
+
+        TNonblockingServerTransport serverTransport = new TNonblockingServerSocket(port);
+        TProcessor processor = new Storage.AsyncProcessor<>(handler);
+        if ("threaded-selector".equals(mode)) {
+            int cores = Runtime.getRuntime().availableProcessors();
+            int selectorThreads = intProperty(bundle, "server.selector.threads", Math.max(2, cores / 2));
+            int workerThreads = intProperty(bundle, "server.worker.threads", cores * 2);
+            int acceptQueueSize = intProperty(bundle, "server.accept.queue.size", 4);
+            log.info("Threaded selector server: " + selectorThreads + " selector threads, "
+                    + workerThreads + " worker threads, accept queue " + acceptQueueSize);
+            return new TThreadedSelectorServer(new TThreadedSelectorServer.Args(serverTransport)
+                    .selectorThreads(selectorThreads)
+                    .workerThreads(workerThreads)
+                    .acceptQueueSizePerThread(acceptQueueSize)
+                    .processor(processor));
         }
+        return new TNonblockingServer(new TNonblockingServer.Args(serverTransport).
+                processor(processor));
+    }
+
+    private static String stringProperty(ResourceBundle bundle, String key, String defaultValue) {
+        try {
+            return bundle.getString(key).trim();
+        } catch (MissingResourceException e) {
+            return defaultValue;
+        }
+    }
+
+    private static int intProperty(ResourceBundle bundle, String key, int defaultValue) {
+        String value = stringProperty(bundle, key, null);
+        return value == null || value.isEmpty() ? defaultValue : Integer.parseInt(value);
+    }
+
+    private Writer createWriter(ResourceBundle bundle, StorageBackend backend) throws IOException {
+        AckMode mode = AckMode.parse(stringProperty(bundle, "write.ack.mode", "fire-and-forget"));
+        int groupWindowMillis = intProperty(bundle, "write.group.window.ms", 0);
+        int groupMaxUpdates = intProperty(bundle, "write.group.max.updates", 64);
+        int writeBehindMillis = intProperty(bundle, "write.behind.interval.ms", 0);
+        log.info("Write calls are answered " + mode + ", group commit window " + groupWindowMillis
+                + " ms, at most " + groupMaxUpdates + " updates, write-behind interval " + writeBehindMillis + " ms");
+        if (mode != AckMode.DURABLE && writeBehindMillis <= 0) {
+            return new Writer(backend, mode, null, groupWindowMillis, groupMaxUpdates, 0);
+        }
+        WriteJournal journal = new WriteJournal(
+                new File(stringProperty(bundle, "write.journal.path", "journal/writes.log")));
+        Writer writer = new Writer(backend, mode, journal, groupWindowMillis, groupMaxUpdates, writeBehindMillis);
+        writer.replay();
+        return writer;
+    }
+
+    private IndexedStorageBackend createBackend(ResourceBundle bundle) throws IOException {
+        String type = bundle.getString("storage.backend");
+        if ("memory".equals(type)) {
+            log.info("Using in-memory storage backend");
+            return new IndexedStorageBackend(new InMemoryStorageBackend());
+        }
+        return new IndexedStorageBackend(new FirebaseStorageBackend(bundle.getString("firebase.credentials"),
+                bundle.getString("firebase.url")));
+    }
+
+    /**
+     * Copies the names of existing books into the name index while the server
+     * runs, listings read the books until it is complete.
+     */
+    private void migrateNameIndex(final IndexedStorageBackend backend, final int pageSize) {
+        Thread migration = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    backend.migrate(pageSize);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    log.error("Name index migration failed, listings keep reading the books: "
+                            + e.getCause().getLocalizedMessage());
+                }
+            }
+        }, "name-index-migration");
+        migration.setDaemon(true);
+        migration.start();
     }
 
 }
@@ -1,419 +1,889 @@
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.FirebaseOptions;
-import com.google.firebase.database.*;
 import org.apache.log4j.Logger;
-import org.apache.thrift.TException;
+import cache.ChildrenCache;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import org.apache.thrift.async.AsyncMethodCallback;
+import search.NameIndex;
+import search.SearchIndex;
+import search.SearchIndexer;
+import search.Snippets;
+import session.SessionManager;
+import session.Subscription;
+import session.SubscriptionType;
+import storage.ChildListener;
+import storage.IndexedStorageBackend;
+import storage.ListenerRegistry;
+import storage.Paths;
+import storage.Snapshot;
+import storage.ValueListener;
+import text.TextDocuments;
+import text.TextEditListener;
 import thrift.*;
+import transfer.Handbooks;
+import write.AckMode;
+import write.Writer;
 
-import java.io.FileInputStream;
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class StorageServiceHandler implements Storage.AsyncIface{
 
     private final static Logger logger = Logger.getLogger(StorageServiceHandler.class);
 
 
-    private DatabaseReference ref;
-
-    private UpdateChapterListListener updateChapterListListener;
-    private UpdateChapterListener updateChapterListener;
-
-    private ArrayList<Callback> unsentBookList;
-    private AtomicBoolean bookListSent = new AtomicBoolean(false);
-    private static final Object bookListLock = new Object();
-
-    private ArrayList<Callback> unsentChapterList;
-    private AtomicBoolean chapterListSent = new AtomicBoolean(false);
-    private static final Object chapterListLock = new Object();
-
-    private ArrayList<Callback> unsentChapterInfoList;
-    private AtomicBoolean chapterInfoListSent = new AtomicBoolean(false);
-    private static final Object chapterInfoListLock = new Object();
-
+    private static final String BOOKS = "books";
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 1000;
+    // characters returned by one getChapterTextRange call at most
+    private static final int TEXT_CHUNK = 64 * 1024;
+    private static final int DEFAULT_SEARCH_HITS = 10;
+    private static final int MAX_SEARCH_HITS = 100;
+
+    private final IndexedStorageBackend backend;
+    private final ListenerRegistry listeners;
+    private final ChildrenCache cache;
+    private final SessionManager sessions;
+    private final Writer writer;
+    private final TextDocuments documents;
+    private final SearchIndex index;
+    private final NameIndex names;
+    private final SearchIndexer indexer;
+
+
+    StorageServiceHandler(IndexedStorageBackend backend, Writer writer, SessionManager sessions, long cacheBudgetBytes,
+                          long textPersistDelayMillis, boolean searchEnabled, long searchBudgetBytes,
+                          int searchThreads) {
+        this.backend = backend;
+        this.writer = writer;
+        this.listeners = new ListenerRegistry(backend);
+        this.cache = new ChildrenCache(backend, listeners, cacheBudgetBytes);
+        this.sessions = sessions;
+        this.documents = new TextDocuments(cache, listeners, writer, "text", textPersistDelayMillis);
+        this.index = searchEnabled ? new SearchIndex(searchBudgetBytes) : null;
+        this.names = new NameIndex();
+        this.indexer = new SearchIndexer(backend, index, names, searchThreads);
+        indexer.start();
+    }
 
-    StorageServiceHandler() {
-        try {
-            initializeApp();
-            ref = FirebaseDatabase.getInstance()
-                    .getReference().child("books");
-            createEventListeners();
-            createCash();
-        } catch (IOException e) {
-            logger.error("Error in app initialization: " + e.getLocalizedMessage());
-        }
+    private static String bookPath(String bookUid) {
+        return Paths.join(BOOKS, bookUid);
     }
 
-    private void initializeApp() throws IOException {
-        FileInputStream serviceAccount = new FileInputStream("src/main/resources/realtimehandbookservce-firebase-adminsdk-ty3to-24c90c1cac.json");
+    private static String chaptersPath(String bookUid) {
+        return Paths.join(BOOKS, bookUid, "chapters");
+    }
 
-        FirebaseOptions options = new FirebaseOptions.Builder()
-                .setCredentials(GoogleCredentials.fromStream(serviceAccount))
-                .setDatabaseUrl("https://realtimehandbookservce.firebaseio.com/")
-                .build();
+    private static String chapterPath(String bookUid, String chapterUid) {
+        return Paths.join(BOOKS, bookUid, "chapters", chapterUid);
+    }
 
-        FirebaseApp.initializeApp(options);
+    /**
+     * The book list listings read, the name index once every book is in it.
+     */
+    private String bookListPath() {
+        return backend.isIndexed() ? IndexedStorageBackend.BOOK_INDEX : BOOKS;
+    }
 
-        logger.info("Application initialized successfully");
+    private String chapterListPath(String bookUid) {
+        return backend.isIndexed() ? IndexedStorageBackend.chapterIndexPath(bookUid) : chaptersPath(bookUid);
     }
 
-    private void createEventListeners() {
-        updateChapterListListener = new UpdateChapterListListener(null);
-        updateChapterListener = new UpdateChapterListener(null);
+    ChildrenCache getCache() {
+        return cache;
     }
 
-    private void createCash() {
-        unsentBookList = new ArrayList<>();
-        unsentChapterList = new ArrayList<>();
-        unsentChapterInfoList = new ArrayList<>();
+    /**
+     * @return null when full text search is disabled
+     */
+    SearchIndex getIndex() {
+        return index;
     }
 
+    /**
+     * Saves edited chapter texts and flushes buffered writes, the server is stopping.
+     */
+    void close() {
+        indexer.close();
+        documents.flush();
+        writer.close();
+    }
 
     @Override
     public void getBookList(AsyncMethodCallback<Callback> resultHandler) {
         logger.info("Called getBookList()");
-        this.clearBookCash();
-        ref.addChildEventListener(new UpdateBookListListener(resultHandler));
+        sessions.current().subscription(SubscriptionType.BOOK_CHAPTERS).clear();
+        sessions.current().subscription(SubscriptionType.CHAPTER).clear();
+        Subscription subscription = sessions.current().subscription(SubscriptionType.BOOK_LIST);
+        listen(subscription, resultHandler, bookListPath(), new UpdateBookListListener(subscription));
     }
 
-    private void clearBookCash() {
-        unsentBookList = new ArrayList<>();
-        bookListSent.set(false);
-        this.clearChapterCash();
+    @Override
+    public void getBookChapters(String bookUid, AsyncMethodCallback<Callback> resultHandler) {
+        logger.info("Called getBookChapters(" + bookUid + ")");
+        sessions.current().subscription(SubscriptionType.CHAPTER).clear();
+        Subscription subscription = sessions.current().subscription(SubscriptionType.BOOK_CHAPTERS);
+        listen(subscription, resultHandler, chapterListPath(bookUid), new UpdateChapterListListener(subscription));
     }
 
-    private void clearChapterCash() {
-        unsentChapterList = new ArrayList<>();
-        chapterListSent.set(false);
-        this.clearChapterInfoCash();
+    private void attach(String path, ChildListener listener) {
+        listeners.addChildListener(path, listener);
+        if (listener instanceof TextEditListener) {
+            documents.addEditListener(path, (TextEditListener) listener);
+        }
     }
 
-    @Override
-    public void getBookChapters(String bookUid, AsyncMethodCallback<Callback> resultHandler) {
-        logger.info("Called getBookChapters(" + bookUid + ")");
-        DatabaseReference currentBookChaptersRef = ref.child(bookUid).child("chapters");
-        this.clearChapterCash();
-        currentBookChaptersRef.removeEventListener(updateChapterListListener);
-        updateChapterListListener = new UpdateChapterListListener(resultHandler);
-        currentBookChaptersRef.addChildEventListener(updateChapterListListener);
+    private void detach(String path, ChildListener listener) {
+        listeners.removeChildListener(path, listener);
+        if (listener instanceof TextEditListener) {
+            documents.removeEditListener(path, (TextEditListener) listener);
+        }
     }
 
-    private void clearChapterInfoCash() {
-        unsentChapterInfoList = new ArrayList<>();
-        chapterInfoListSent.set(false);
+    /**
+     * Restarts the subscription on a new listener, the listener it replaces is detached.
+     * The path is read through the cache, so when it is cached the existing
+     * children are replayed to the listener from memory.
+     */
+    private void listen(Subscription subscription,
+                        AsyncMethodCallback<Callback> resultHandler,
+                        final String path,
+                        final ChildListener listener) {
+        cache.getChildren(path);
+        subscription.reset(resultHandler, new Runnable() {
+            @Override
+            public void run() {
+                detach(path, listener);
+            }
+        });
+        attach(path, listener);
     }
 
     @Override
     public void renameBook(CustomPair newValue, AsyncMethodCallback<Void> resultHandler) {
         String key = newValue.getKey();
         String newName = newValue.getValue();
-        ref.child(key)
-                .child("name")
-                .setValueAsync(newName);
-        resultHandler.onComplete(null);
+        write(Paths.join(bookPath(key), "name"), newName, resultHandler);
     }
 
     @Override
     public void renameBookChapter(String bookUid, CustomPair newValue, AsyncMethodCallback<Void> resultHandler) {
         String key = newValue.getKey();
         String newName = newValue.getValue();
-        ref.child(bookUid)
-                .child("chapters")
-                .child(key)
-                .child("name")
-                .setValueAsync(newName);
-        resultHandler.onComplete(null);
+        write(Paths.join(chapterPath(bookUid, key), "name"), newName, resultHandler);
     }
 
     @Override
     public void getChapter(String bookUid, String chapterUid, AsyncMethodCallback<Callback> resultHandler) {
-        DatabaseReference chaptersRef =  ref.child(bookUid)
-                .child("chapters")
-                .child(chapterUid);
-        this.clearChapterInfoCash();
-        chaptersRef.removeEventListener(updateChapterListener);
-        updateChapterListener = new UpdateChapterListener(resultHandler);
-        chaptersRef.addChildEventListener(updateChapterListener);
+        Subscription subscription = sessions.current().subscription(SubscriptionType.CHAPTER);
+        listen(subscription, resultHandler, chapterPath(bookUid, chapterUid), new UpdateChapterListener(subscription, chapterPath(bookUid, chapterUid)));
+    }
+
+    @Override
+    public void watchChapter(String bookUid, String chapterUid, AsyncMethodCallback<Callback> resultHandler) {
+        logger.info("Called watchChapter(" + bookUid + ", " + chapterUid + ")");
+        Subscription subscription = sessions.current().subscription(SubscriptionType.CHAPTER);
+        final String path = chapterPath(bookUid, chapterUid);
+        final ChapterWatch watch = new ChapterWatch(subscription, chapterUid, path);
+        subscription.reset(resultHandler, new Runnable() {
+            @Override
+            public void run() {
+                listeners.removeValueListener(path, watch);
+                documents.removeEditListener(path, watch);
+            }
+        });
+        listeners.addValueListener(path, watch);
+        documents.addEditListener(path, watch);
     }
 
     @Override
     public void updateChapter(String bookUid, String chapterUid, Chapter chapter, AsyncMethodCallback<Void> resultHandler) {
-        Chapter correctChapter = new Chapter(chapter.name, chapter.description, chapter.text);
-        ref.child(bookUid)
-                .child("chapters")
-                .child(chapterUid)
-                .setValueAsync(correctChapter);
-        resultHandler.onComplete(null);
+        // autosaves of the same chapter are coalesced when write-behind is enabled
+        writer.writeBehind(chapterPath(bookUid, chapterUid), Handbooks.chapterReplacement(chapter), resultHandler);
+    }
+
+    /**
+     * Writes a single path, the call is answered according to the writer's acknowledgement mode.
+     */
+    private void write(String path, Object value, AsyncMethodCallback<Void> resultHandler) {
+        writer.write(Collections.singletonMap(path, value), null, resultHandler);
+    }
+
+    @Override
+    public void patchChapter(String bookUid, String chapterUid, Chapter chapter, List<String> fieldMask,
+                             AsyncMethodCallback<Void> resultHandler) {
+        logger.info("Called patchChapter(" + bookUid + ", " + chapterUid + ", " + fieldMask + ")");
+        if (chapter == null || fieldMask == null) {
+            resultHandler.onError(new IllegalArgumentException("patchChapter needs a chapter and a field mask"));
+            return;
+        }
+        String path = chapterPath(bookUid, chapterUid);
+        Map<String, Object> value = Handbooks.chapterReplacement(chapter);
+        Map<String, Object> update = new HashMap<>();
+        for (String field : fieldMask) {
+            if (!value.containsKey(field)) {
+                resultHandler.onError(new IllegalArgumentException("Unknown chapter field: " + field));
+                return;
+            }
+            update.put(Paths.join(path, field), value.get(field));
+        }
+        // a buffered save is newer than the cache, compare only against what the backend reported
+        List<Snapshot> cached = writer.isBuffered(path) ? null : cache.getCachedChildren(path);
+        if (cached != null) {
+            for (Snapshot child : cached) {
+                Object current = child.getValue();
+                String childPath = Paths.join(path, child.getKey());
+                if (update.containsKey(childPath) && current != null && current.equals(update.get(childPath))) {
+                    update.remove(childPath);
+                }
+            }
+        }
+        if (update.isEmpty()) {
+            resultHandler.onComplete(null);
+            return;
+        }
+        writer.write(update, null, resultHandler);
+    }
+
+    @Override
+    public void getChapterText(String bookUid, String chapterUid, AsyncMethodCallback<ChapterText> resultHandler) {
+        logger.info("Called getChapterText(" + bookUid + ", " + chapterUid + ")");
+        documents.getText(chapterPath(bookUid, chapterUid), resultHandler);
+    }
+
+    @Override
+    public void editChapterText(String bookUid, String chapterUid, long baseVersion, List<TextEdit> edits,
+                                AsyncMethodCallback<Long> resultHandler) {
+        logger.info("Called editChapterText(" + bookUid + ", " + chapterUid + ", " + baseVersion + ", "
+                + edits.size() + " edits)");
+        documents.edit(chapterPath(bookUid, chapterUid), baseVersion, edits, resultHandler);
+    }
+
+    @Override
+    public void getChapterTextRange(String bookUid, String chapterUid, int offset, int length,
+                                    AsyncMethodCallback<TextRange> resultHandler) {
+        logger.info("Called getChapterTextRange(" + bookUid + ", " + chapterUid + ", " + offset + ", " + length + ")");
+        int chunk = length <= 0 || length > TEXT_CHUNK ? TEXT_CHUNK : length;
+        documents.read(chapterPath(bookUid, chapterUid), offset, chunk, resultHandler);
     }
 
     @Override
     public void removeBook(String bookUid, AsyncMethodCallback<Void> resultHandler) {
-        ref.child(bookUid)
-                .removeValueAsync();
-        resultHandler.onComplete(null);
+        write(bookPath(bookUid), null, resultHandler);
     }
 
     @Override
     public void removeChapter(String bookUid, String chapterUid, AsyncMethodCallback<Void> resultHandler) {
-        ref.child(bookUid)
-                .child("chapters")
-                .child(chapterUid)
-                .removeValueAsync();
-        resultHandler.onComplete(null);
+        write(chapterPath(bookUid, chapterUid), null, resultHandler);
     }
 
     @Override
     public void addBook(String bookName, AsyncMethodCallback<Void> resultHandler) {
-        ref.push()
-                .child("name")
-                .setValueAsync(bookName);
-        resultHandler.onComplete(null);
+        String bookUid = backend.push(BOOKS);
+        write(Paths.join(bookPath(bookUid), "name"), bookName, resultHandler);
     }
 
     @Override
     public void addChapter(String bookUid, String chapterName, AsyncMethodCallback<Void> resultHandler) {
-        ref.child(bookUid)
-                .child("chapters")
-                .push()
-                .child("name")
-                .setValueAsync(chapterName);
-        resultHandler.onComplete(null);
+        String chapterUid = backend.push(chaptersPath(bookUid));
+        write(Paths.join(chapterPath(bookUid, chapterUid), "name"), chapterName, resultHandler);
+    }
+
+    @Override
+    public void getBookListSnapshot(int pageSize, AsyncMethodCallback<Page> resultHandler) {
+        logger.info("Called getBookListSnapshot(" + pageSize + ")");
+        sessions.current().subscription(SubscriptionType.BOOK_CHAPTERS).clear();
+        sessions.current().subscription(SubscriptionType.CHAPTER).clear();
+        Subscription subscription = sessions.current().subscription(SubscriptionType.BOOK_LIST);
+        snapshot(subscription, resultHandler, bookListPath(), new UpdateBookListListener(subscription), pageSize);
+    }
+
+    @Override
+    public void getBookChaptersSnapshot(String bookUid, int pageSize, AsyncMethodCallback<Page> resultHandler) {
+        logger.info("Called getBookChaptersSnapshot(" + bookUid + ", " + pageSize + ")");
+        sessions.current().subscription(SubscriptionType.CHAPTER).clear();
+        Subscription subscription = sessions.current().subscription(SubscriptionType.BOOK_CHAPTERS);
+        snapshot(subscription, resultHandler, chapterListPath(bookUid), new UpdateChapterListListener(subscription), pageSize);
+    }
+
+    @Override
+    public void getChapterSnapshot(String bookUid, String chapterUid, final AsyncMethodCallback<List<Callback>> resultHandler) {
+        Subscription subscription = sessions.current().subscription(SubscriptionType.CHAPTER);
+        snapshot(subscription, new AsyncMethodCallback<Page>() {
+            @Override
+            public void onComplete(Page page) {
+                resultHandler.onComplete(page.items);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                resultHandler.onError(e);
+            }
+        }, chapterPath(bookUid, chapterUid), new UpdateChapterListener(subscription, chapterPath(bookUid, chapterUid)), 0);
+    }
+
+    /**
+     * Answers with the current children of the path and moves the subscription
+     * onto a listener whose later events are queued for polling. The cache
+     * load guarantees the shared listener holds the full state, which is
+     * replayed into the capture when the listener joins, so nothing is lost
+     * or repeated between the snapshot and the subscription. A page of it
+     * carries the cursor of the page calls for the rest.
+     */
+    private void snapshot(final Subscription subscription,
+                          final AsyncMethodCallback<Page> resultHandler,
+                          final String path,
+                          final ChildListener listener,
+                          final int pageSize) {
+        ApiFutures.addCallback(cache.getChildren(path), new ApiFutureCallback<List<Snapshot>>() {
+            @Override
+            public void onSuccess(List<Snapshot> children) {
+                subscription.capture(new Runnable() {
+                    @Override
+                    public void run() {
+                        detach(path, listener);
+                    }
+                });
+                attach(path, listener);
+                List<Callback> state = subscription.endCapture();
+                Page page = new Page(state, null);
+                if (pageSize > 0 && state.size() > pageSize) {
+                    // the rest is current in the backend, changes to it reach the subscription as well
+                    page.items = new ArrayList<>(state.subList(0, pageSize));
+                    page.nextCursor = encodeCursor(state.get(pageSize - 1).pair.key);
+                }
+                resultHandler.onComplete(page);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                resultHandler.onError(t instanceof Exception ? (Exception) t : new Exception(t));
+            }
+        });
+    }
+
+    @Override
+    public void getBookListPage(int pageSize, String cursor, AsyncMethodCallback<Page> resultHandler) {
+        page(bookListPath(), "books", ValidUpdate.BOOK_NAME, pageSize, cursor, resultHandler);
+    }
+
+    @Override
+    public void getBookChaptersPage(String bookUid, int pageSize, String cursor, AsyncMethodCallback<Page> resultHandler) {
+        page(chapterListPath(bookUid), "chapters", ValidUpdate.CHAPTER_NAME, pageSize, cursor, resultHandler);
+    }
+
+    /**
+     * Reads one page of named children with a key range query, one child more
+     * than asked for tells whether there is a next page.
+     */
+    private void page(String path,
+                      final String event,
+                      final ValidUpdate update,
+                      int pageSize,
+                      String cursor,
+                      final AsyncMethodCallback<Page> resultHandler) {
+        final int size = pageSize <= 0 ? DEFAULT_PAGE_SIZE : Math.min(pageSize, MAX_PAGE_SIZE);
+        String startAfter;
+        try {
+            startAfter = cursor == null || cursor.isEmpty() ? null : decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            resultHandler.onError(new IllegalArgumentException("Malformed cursor: " + cursor));
+            return;
+        }
+        ApiFutures.addCallback(backend.getChildren(path, startAfter, size + 1), new ApiFutureCallback<List<Snapshot>>() {
+            @Override
+            public void onSuccess(List<Snapshot> children) {
+                Page page = new Page(new ArrayList<Callback>(), null);
+                for (Snapshot child : children.subList(0, Math.min(size, children.size()))) {
+                    CustomPair entry = Handbooks.toNamePair(child);
+                    page.items.add(new Callback(entry, event, CallbackType.ADDED, update));
+                }
+                if (children.size() > size) {
+                    page.nextCursor = encodeCursor(children.get(size - 1).getKey());
+                }
+                resultHandler.onComplete(page);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                resultHandler.onError(t instanceof Exception ? (Exception) t : new Exception(t));
+            }
+        });
+    }
+
+    private static String encodeCursor(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void getChapters(List<ChapterRef> refs, final AsyncMethodCallback<List<ChapterResult>> resultHandler) {
+        logger.info("Called getChapters(" + refs.size() + " chapters)");
+        if (refs.size() > MAX_PAGE_SIZE) {
+            resultHandler.onError(new IllegalArgumentException("At most " + MAX_PAGE_SIZE + " chapters per call"));
+            return;
+        }
+        if (refs.isEmpty()) {
+            resultHandler.onComplete(new ArrayList<ChapterResult>());
+            return;
+        }
+        final ChapterResult[] results = new ChapterResult[refs.size()];
+        final AtomicInteger remaining = new AtomicInteger(refs.size());
+        for (int i = 0; i < refs.size(); i++) {
+            final int index = i;
+            final ChapterRef ref = refs.get(i);
+            // all reads are started before any completes, the cache loads missing chapters concurrently
+            ApiFutures.addCallback(cache.getChildren(chapterPath(ref.bookUid, ref.chapterUid)),
+                    new ApiFutureCallback<List<Snapshot>>() {
+                        @Override
+                        public void onSuccess(List<Snapshot> children) {
+                            ChapterResult result = new ChapterResult();
+                            if (children.isEmpty()) {
+                                result.setError("No chapter " + ref.chapterUid + " in book " + ref.bookUid);
+                            } else {
+                                result.setChapter(Handbooks.toChapter(ref.chapterUid, children));
+                            }
+                            complete(result);
+                        }
+
+                        @Override
+                        public void onFailure(Throwable t) {
+                            ChapterResult result = new ChapterResult();
+                            result.setError(String.valueOf(t.getLocalizedMessage()));
+                            complete(result);
+                        }
+
+                        private void complete(ChapterResult result) {
+                            results[index] = result;
+                            if (remaining.decrementAndGet() == 0) {
+                                List<ChapterResult> ordered = new ArrayList<>(results.length);
+                                Collections.addAll(ordered, results);
+                                resultHandler.onComplete(ordered);
+                            }
+                        }
+                    });
+        }
+    }
+
+    @Override
+    public void getHandbook(final String bookUid, final AsyncMethodCallback<Handbook> resultHandler) {
+        logger.info("Called getHandbook(" + bookUid + ")");
+        // the children of the book node hold the whole subtree, one cached read
+        ApiFutures.addCallback(cache.getChildren(bookPath(bookUid)), new ApiFutureCallback<List<Snapshot>>() {
+            @Override
+            public void onSuccess(List<Snapshot> children) {
+                if (children.isEmpty()) {
+                    resultHandler.onError(new IllegalArgumentException("No book " + bookUid));
+                    return;
+                }
+                resultHandler.onComplete(Handbooks.fromChildren(bookUid, children));
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                resultHandler.onError(t instanceof Exception ? (Exception) t : new Exception(t));
+            }
+        });
     }
 
     @Override
-    public void subscribeForBookList(AsyncMethodCallback<List<Callback>> resultHandler) {
-        this.notifySubscriber(bookListLock, bookListSent, unsentBookList, resultHandler);
+    public void search(final String query, int limit, final AsyncMethodCallback<List<SearchHit>> resultHandler) {
+        logger.info("Called search(" + query + ", " + limit + ")");
+        if (index == null) {
+            resultHandler.onError(new IllegalStateException("Full text search is disabled, see search.enabled"));
+            return;
+        }
+        List<SearchIndex.Hit> hits = index.search(query, limit <= 0 ? DEFAULT_SEARCH_HITS
+                : Math.min(limit, MAX_SEARCH_HITS));
+        if (hits.isEmpty()) {
+            resultHandler.onComplete(new ArrayList<SearchHit>());
+            return;
+        }
+        final SearchHit[] results = new SearchHit[hits.size()];
+        final AtomicInteger remaining = new AtomicInteger(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            final int slot = i;
+            final SearchIndex.Hit hit = hits.get(i);
+            String path = chapterPath(hit.getBookUid(), hit.getChapterUid());
+            // the snippet needs the chapter fields, the index keeps only postings
+            List<Snapshot> cached = cache.getCachedChildren(path);
+            final ApiFutureCallback<List<Snapshot>> callback = new ApiFutureCallback<List<Snapshot>>() {
+                @Override
+                public void onSuccess(List<Snapshot> children) {
+                    if (!children.isEmpty()) {
+                        Chapter chapter = Handbooks.toChapter(hit.getChapterUid(), children);
+                        results[slot] = new SearchHit(hit.getBookUid(), hit.getChapterUid(), chapter.name,
+                                hit.getScore(), Snippets.snippet(query, chapter.name, chapter.description, chapter.text));
+                    }
+                    complete();
+                }
+
+                @Override
+                public void onFailure(Throwable t) {
+                    logger.warn("Cannot read search hit " + hit.getChapterUid() + ": " + t.getLocalizedMessage());
+                    complete();
+                }
+
+                private void complete() {
+                    if (remaining.decrementAndGet() == 0) {
+                        // chapters removed since they were indexed are left out
+                        List<SearchHit> found = new ArrayList<>(results.length);
+                        for (SearchHit result : results) {
+                            if (result != null) {
+                                found.add(result);
+                            }
+                        }
+                        resultHandler.onComplete(found);
+                    }
+                }
+            };
+            if (cached != null) {
+                callback.onSuccess(cached);
+            } else {
+                ApiFutures.addCallback(backend.get(path), new ApiFutureCallback<Snapshot>() {
+                    @Override
+                    public void onSuccess(Snapshot snapshot) {
+                        callback.onSuccess(snapshot.getChildren());
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t) {
+                        callback.onFailure(t);
+                    }
+                });
+            }
+        }
     }
 
     @Override
-    public void subscribeForBookChapters(String bookUid, AsyncMethodCallback<List<Callback>> resultHandler) {
-        this.notifySubscriber(chapterListLock, chapterListSent, unsentChapterList, resultHandler);
+    public void suggest(String prefix, int limit, AsyncMethodCallback<List<Suggestion>> resultHandler) {
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (NameIndex.Suggestion found : names.suggest(prefix, limit <= 0 ? DEFAULT_SEARCH_HITS
+                : Math.min(limit, MAX_SEARCH_HITS))) {
+            Suggestion suggestion = new Suggestion(found.getBookUid(), found.getName());
+            suggestion.setChapterUid(found.getChapterUid());
+            suggestions.add(suggestion);
+        }
+        resultHandler.onComplete(suggestions);
     }
 
     @Override
-    public void subscribeForChapter(String bookUid, String chapterUid, AsyncMethodCallback<List<Callback>> resultHandler) {
-        this.notifySubscriber(chapterInfoListLock, chapterInfoListSent, unsentChapterInfoList, resultHandler);
-    }
-
-    private void notifySubscriber(Object lock,
-                                  AtomicBoolean arraySent,
-                                  ArrayList<Callback> array,
-                                  AsyncMethodCallback<List<Callback>> resultHandler) {
-        synchronized (lock) {
-            if (arraySent.get() && !array.isEmpty()) {
-                resultHandler.onComplete(array);
-                arraySent.set(true);
-            } else  {
-                resultHandler.onComplete(new ArrayList<Callback>());
+    public void applyBatch(List<Mutation> mutations, final AsyncMethodCallback<List<String>> resultHandler) {
+        logger.info("Called applyBatch(" + mutations.size() + " mutations)");
+        Map<String, Object> update = new HashMap<>();
+        List<String> uids = new ArrayList<>(mutations.size());
+        try {
+            for (Mutation mutation : mutations) {
+                uids.add(addMutation(update, mutation));
             }
+        } catch (IllegalArgumentException e) {
+            resultHandler.onError(e);
+            return;
+        }
+        // a batch reports whether it committed, it is all or nothing
+        writer.write(update, uids, resultHandler, AckMode.ACKNOWLEDGED);
+    }
+
+    /**
+     * Adds the paths written by one mutation to a multi-path update.
+     *
+     * @return the uid of the book or chapter the mutation writes
+     */
+    private String addMutation(Map<String, Object> update, Mutation mutation) {
+        if (mutation.type == null) {
+            throw new IllegalArgumentException("Mutation without type");
+        }
+        String uid;
+        switch (mutation.type) {
+            case ADD_BOOK:
+                uid = backend.push(BOOKS);
+                update.put(Paths.join(bookPath(uid), "name"), required(mutation.name, mutation));
+                return uid;
+            case RENAME_BOOK:
+                uid = required(mutation.bookUid, mutation);
+                update.put(Paths.join(bookPath(uid), "name"), required(mutation.name, mutation));
+                return uid;
+            case REMOVE_BOOK:
+                uid = required(mutation.bookUid, mutation);
+                update.put(bookPath(uid), null);
+                return uid;
+            case ADD_CHAPTER:
+                uid = backend.push(chaptersPath(required(mutation.bookUid, mutation)));
+                update.put(Paths.join(chapterPath(mutation.bookUid, uid), "name"), required(mutation.name, mutation));
+                return uid;
+            case RENAME_CHAPTER:
+                uid = required(mutation.chapterUid, mutation);
+                update.put(Paths.join(chapterPath(required(mutation.bookUid, mutation), uid), "name"),
+                        required(mutation.name, mutation));
+                return uid;
+            case UPDATE_CHAPTER:
+                uid = required(mutation.chapterUid, mutation);
+                update.put(chapterPath(required(mutation.bookUid, mutation), uid),
+                        Handbooks.chapterReplacement(required(mutation.chapter, mutation)));
+                return uid;
+            case REMOVE_CHAPTER:
+                uid = required(mutation.chapterUid, mutation);
+                update.put(chapterPath(required(mutation.bookUid, mutation), uid), null);
+                return uid;
+            default:
+                throw new IllegalArgumentException("Unsupported mutation: " + mutation);
+        }
+    }
+
+    private static <T> T required(T value, Mutation mutation) {
+        if (value == null) {
+            throw new IllegalArgumentException("Incomplete mutation: " + mutation);
         }
+        return value;
+    }
+
+    @Override
+    public void subscribeForBookList(long timeoutMillis, AsyncMethodCallback<List<Callback>> resultHandler) {
+        sessions.current().subscription(SubscriptionType.BOOK_LIST).poll(timeoutMillis, resultHandler);
+    }
+
+    @Override
+    public void subscribeForBookChapters(String bookUid, long timeoutMillis, AsyncMethodCallback<List<Callback>> resultHandler) {
+        sessions.current().subscription(SubscriptionType.BOOK_CHAPTERS).poll(timeoutMillis, resultHandler);
+    }
+
+    @Override
+    public void subscribeForChapter(String bookUid, String chapterUid, long timeoutMillis, AsyncMethodCallback<List<Callback>> resultHandler) {
+        sessions.current().subscription(SubscriptionType.CHAPTER).poll(timeoutMillis, resultHandler);
     }
 
 
-    private class UpdateBookListListener implements ChildEventListener {
+    private class UpdateBookListListener implements ChildListener {
 
-        private final AsyncMethodCallback<Callback> callback;
+        private final Subscription subscription;
 
-        UpdateBookListListener(AsyncMethodCallback<Callback> callback) {
-            this.callback  = callback;
+        UpdateBookListListener(Subscription subscription) {
+            this.subscription = subscription;
         }
 
         @Override
-        public void onChildAdded(DataSnapshot dataSnapshot, String s) {
-            String name = (String) dataSnapshot.child("name").getValue();
+        public void onChildAdded(Snapshot dataSnapshot, String s) {
+            String name = IndexedStorageBackend.nameOf(dataSnapshot);
             String key = dataSnapshot.getKey();
             CustomPair entry = new CustomPair(key, name);
             logger.info("Added book: " + name);
-            send(bookListLock,
-                    bookListSent,
-                    new Callback(entry, "books", CallbackType.ADDED, null),
-                    ValidUpdate.BOOK_NAME,
-                    unsentBookList,
-                    callback);
+            subscription.publish(new Callback(entry, "books", CallbackType.ADDED, null), ValidUpdate.BOOK_NAME);
         }
 
         @Override
-        public void onChildChanged(DataSnapshot dataSnapshot, String s) {
-            String name = (String) dataSnapshot.child("name").getValue();
+        public void onChildChanged(Snapshot dataSnapshot, String s) {
+            String name = IndexedStorageBackend.nameOf(dataSnapshot);
             String key = dataSnapshot.getKey();
             CustomPair entry = new CustomPair(key, name);
-            send(bookListLock,
-                    bookListSent,
-                    new Callback(entry, "books", CallbackType.CHANGED, null),
-                    ValidUpdate.BOOK_NAME,
-                    unsentBookList,
-                    callback);
+            subscription.publish(new Callback(entry, "books", CallbackType.CHANGED, null), ValidUpdate.BOOK_NAME);
         }
 
         @Override
-        public void onChildRemoved(DataSnapshot dataSnapshot) {
-            String name = (String) dataSnapshot.child("name").getValue();
+        public void onChildRemoved(Snapshot dataSnapshot) {
+            String name = IndexedStorageBackend.nameOf(dataSnapshot);
             String key = dataSnapshot.getKey();
             logger.info("Removed book name: " + name + ", key: " + key);
             CustomPair entry = new CustomPair(key, name);
-            send(bookListLock,
-                    bookListSent,
-                    new Callback(entry, "books", CallbackType.REMOVED, null),
-                    ValidUpdate.BOOK_NAME,
-                    unsentBookList,
-                    callback);
-        }
-
-        @Override
-        public void onChildMoved(DataSnapshot dataSnapshot, String s) {
-
+            subscription.publish(new Callback(entry, "books", CallbackType.REMOVED, null), ValidUpdate.BOOK_NAME);
         }
 
         @Override
-        public void onCancelled(DatabaseError databaseError) {
-            callback.onError(databaseError.toException());
+        public void onCancelled(Exception e) {
+            subscription.fail(e);
         }
 
     }
 
-    private void send(Object lock,
-                      AtomicBoolean arraySent,
-                      Callback callbackInfo,
-                      ValidUpdate update,
-                      ArrayList<Callback> unsent,
-                      AsyncMethodCallback<Callback> callback) {
-        synchronized (lock) {
-            if (!arraySent.get()) {
-                callback.onComplete(callbackInfo);
-                arraySent.set(true);
-            } else  {
-                callbackInfo.update = update;
-                unsent.add(callbackInfo);
-            }
-        }
-    }
+    private class UpdateChapterListListener implements ChildListener {
 
-    private class UpdateChapterListListener implements ChildEventListener {
+        private final Subscription subscription;
 
-        private final AsyncMethodCallback<Callback> callback;
-
-        UpdateChapterListListener(AsyncMethodCallback<Callback> callback) {
-            this.callback  = callback;
+        UpdateChapterListListener(Subscription subscription) {
+            this.subscription = subscription;
         }
 
         @Override
-        public void onChildAdded(DataSnapshot dataSnapshot, String s) {
-            Chapter chapter = dataSnapshot.getValue(Chapter.class);
+        public void onChildAdded(Snapshot dataSnapshot, String s) {
+            String name = IndexedStorageBackend.nameOf(dataSnapshot);
             String key = dataSnapshot.getKey();
-            String name = chapter.getName();
             logger.info("Added chapter: " + name);
             CustomPair entry = new CustomPair(key, name);
-            send(chapterListLock,
-                    chapterListSent,
-                    new Callback(entry, "chapters", CallbackType.ADDED, null),
-                    ValidUpdate.CHAPTER_NAME,
-                    unsentChapterList,
-                    callback);
+            subscription.publish(new Callback(entry, "chapters", CallbackType.ADDED, null), ValidUpdate.CHAPTER_NAME);
         }
 
         @Override
-        public void onChildChanged(DataSnapshot dataSnapshot, String s) {
-            String name = (String) dataSnapshot.child("name").getValue();
+        public void onChildChanged(Snapshot dataSnapshot, String s) {
+            String name = IndexedStorageBackend.nameOf(dataSnapshot);
             String key = dataSnapshot.getKey();
             logger.info("Changed chapter name: " + name + ", key: " + key);
             CustomPair entry = new CustomPair(key, name);
-            send(chapterListLock,
-                    chapterListSent,
-                    new Callback(entry, "chapters", CallbackType.CHANGED, null),
-                    ValidUpdate.CHAPTER_NAME,
-                    unsentChapterList,
-                    callback);
+            subscription.publish(new Callback(entry, "chapters", CallbackType.CHANGED, null), ValidUpdate.CHAPTER_NAME);
         }
 
         @Override
-        public void onChildRemoved(DataSnapshot dataSnapshot) {
-            String name = (String) dataSnapshot.child("name").getValue();
+        public void onChildRemoved(Snapshot dataSnapshot) {
+            String name = IndexedStorageBackend.nameOf(dataSnapshot);
             String key = dataSnapshot.getKey();
             logger.info("Removed chapter name: " + name + ", key: " + key);
             CustomPair entry = new CustomPair(key, name);
-            send(chapterListLock,
-                    chapterListSent,
-                    new Callback(entry, "chapters", CallbackType.REMOVED, null),
-                    ValidUpdate.CHAPTER_NAME,
-                    unsentChapterList,
-                    callback);
+            subscription.publish(new Callback(entry, "chapters", CallbackType.REMOVED, null), ValidUpdate.CHAPTER_NAME);
         }
 
         @Override
-        public void onChildMoved(DataSnapshot dataSnapshot, String s) {
-
-        }
-
-        @Override
-        public void onCancelled(DatabaseError databaseError) {
-            callback.onError(databaseError.toException());
+        public void onCancelled(Exception e) {
+            subscription.fail(e);
         }
     }
 
-    private class UpdateChapterListener implements ChildEventListener {
+    private class UpdateChapterListener implements ChildListener, TextEditListener {
 
-        private final AsyncMethodCallback<Callback> callback;
+        private final Subscription subscription;
+        private final String path;
 
-        UpdateChapterListener(AsyncMethodCallback<Callback> callback) {
-            this.callback  = callback;
+        UpdateChapterListener(Subscription subscription, String path) {
+            this.subscription = subscription;
+            this.path = path;
         }
 
         @Override
-        public void onChildAdded(DataSnapshot dataSnapshot, String s) {
+        public void onChildAdded(Snapshot dataSnapshot, String s) {
             String value = (String) dataSnapshot.getValue();
             String event = dataSnapshot.getKey();
             CustomPair entry = new CustomPair(event, value);
             logger.info("Added chapter event: " + event + ", value: " + value);
-            send(chapterInfoListLock,
-                    chapterInfoListSent,
-                    new Callback(entry, event, CallbackType.ADDED, null),
-                    ValidUpdate.CHAPTER_INFO,
-                    unsentChapterInfoList,
-                    callback);
+            subscription.publish(new Callback(entry, event, CallbackType.ADDED, null), ValidUpdate.CHAPTER_INFO);
         }
 
         @Override
-        public void onChildChanged(DataSnapshot dataSnapshot, String s) {
+        public void onChildChanged(Snapshot dataSnapshot, String s) {
             String value = (String) dataSnapshot.getValue();
             String event = dataSnapshot.getKey();
+            if (documents.isOwnWrite(path, value)) {
+                // a saved text edit, subscribers got the edits already
+                return;
+            }
             CustomPair entry = new CustomPair(event, value);
             logger.info("Changed chapter event: " + event + ", value: " + value);
-            send(chapterInfoListLock,
-                    chapterInfoListSent,
-                    new Callback(entry, event, CallbackType.CHANGED, null),
-                    ValidUpdate.CHAPTER_INFO,
-                    unsentChapterInfoList,
-                    callback);
+            subscription.publish(new Callback(entry, event, CallbackType.CHANGED, null), ValidUpdate.CHAPTER_INFO);
         }
 
         @Override
-        public void onChildRemoved(DataSnapshot dataSnapshot) {
+        public void onChildRemoved(Snapshot dataSnapshot) {
             String value = (String) dataSnapshot.getValue();
             String event = dataSnapshot.getKey();
             CustomPair entry = new CustomPair(event, value);
             logger.info("Removed chapter event: " + event + ", value: " + value);
-            send(chapterInfoListLock,
-                    chapterInfoListSent,
-                    new Callback(entry, event, CallbackType.REMOVED, null),
-                    ValidUpdate.CHAPTER_INFO,
-                    unsentChapterInfoList,
-                    callback);
+            subscription.publish(new Callback(entry, event, CallbackType.REMOVED, null), ValidUpdate.CHAPTER_INFO);
         }
 
         @Override
-        public void onChildMoved(DataSnapshot dataSnapshot, String s) {
+        public void onCancelled(Exception e) {
+            subscription.fail(e);
+        }
+
+        @Override
+        public void onTextEdited(long version, List<TextEdit> edits) {
+            subscription.publish(editedCallback(version, edits), ValidUpdate.CHAPTER_INFO);
+        }
+
+    }
+
+    private static Callback editedCallback(long version, List<TextEdit> edits) {
+        Callback callback = new Callback(new CustomPair("text", null), "text", CallbackType.EDITED, null);
+        callback.setEdits(edits);
+        callback.setVersion(version);
+        return callback;
+    }
+
+    /**
+     * Publishes one "chapter" event per write of the chapter, with the fields
+     * the write changed, where a per-field listener publishes one per field.
+     */
+    private class ChapterWatch implements ValueListener, TextEditListener {
+
+        private final Subscription subscription;
+        private final String chapterUid;
+        private final String path;
+        // the fields as last published, null before the first value
+        private Map<String, String> fields;
+
+        ChapterWatch(Subscription subscription, String chapterUid, String path) {
+            this.subscription = subscription;
+            this.chapterUid = chapterUid;
+            this.path = path;
+        }
 
+        @Override
+        public void onValue(Snapshot snapshot) {
+            Map<String, String> current = new HashMap<>();
+            for (Snapshot child : snapshot.getChildren()) {
+                current.put(child.getKey(), child.getValue() == null ? null : String.valueOf(child.getValue()));
+            }
+            CallbackType type;
+            List<String> mask = new ArrayList<>();
+            if (fields == null || fields.isEmpty()) {
+                type = current.isEmpty() ? CallbackType.REMOVED : CallbackType.ADDED;
+                mask.addAll(current.keySet());
+            } else if (current.isEmpty()) {
+                type = CallbackType.REMOVED;
+                mask.addAll(fields.keySet());
+            } else {
+                type = CallbackType.CHANGED;
+                for (String field : current.keySet()) {
+                    if (!current.get(field).equals(fields.get(field))) {
+                        mask.add(field);
+                    }
+                }
+                for (String field : fields.keySet()) {
+                    if (!current.containsKey(field)) {
+                        mask.add(field);
+                    }
+                }
+                if (mask.contains("text") && documents.isOwnWrite(path, current.get("text"))) {
+                    // a saved text edit, subscribers got the edits already
+                    mask.remove("text");
+                }
+            }
+            boolean first = fields == null;
+            fields = current;
+            if (first && current.isEmpty()) {
+                subscription.fail(new IllegalArgumentException("No chapter " + chapterUid));
+                return;
+            }
+            if (mask.isEmpty() && !first) {
+                return;
+            }
+            Collections.sort(mask);
+            List<CustomPair> values = new ArrayList<>();
+            for (String field : mask) {
+                if (current.containsKey(field)) {
+                    values.add(new CustomPair(field, current.get(field)));
+                }
+            }
+            Callback callback = new Callback(new CustomPair(chapterUid, current.get("name")), "chapter", type, null);
+            callback.setFieldMask(mask);
+            callback.setFields(values);
+            subscription.publish(callback, ValidUpdate.CHAPTER_INFO);
         }
 
         @Override
-        public void onCancelled(DatabaseError databaseError) {
-            callback.onError(databaseError.toException());
+        public void onCancelled(Exception e) {
+            subscription.fail(e);
         }
 
+        @Override
+        public void onTextEdited(long version, List<TextEdit> edits) {
+            subscription.publish(editedCallback(version, edits), ValidUpdate.CHAPTER_INFO);
+        }
     }
 
 }
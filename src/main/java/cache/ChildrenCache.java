@@ -0,0 +1,260 @@
+package cache;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import org.apache.log4j.Logger;
+import storage.ChildListener;
+import storage.ListenerRegistry;
+import storage.Paths;
+import storage.Snapshot;
+import storage.StorageBackend;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-through cache of the children of storage paths, e.g. the book list,
+ * the chapter list of a book or the fields of a chapter. A cached path keeps
+ * a listener in the ListenerRegistry, so it stays current through child
+ * events and later subscribers of the path are served from memory.
+ * <p>
+ * Entries are evicted least recently read first once their estimated size
+ * exceeds the memory budget. Every entry is charged a fixed overhead on top
+ * of its children, so entries of missing paths, and their listeners, are
+ * evicted as well. Evictions run on reads and when a load completes, the
+ * latter on the backend event thread, so evicting an entry may remove its
+ * registry listener from the event thread. Child events never evict, a
+ * burst of writes can overshoot the budget until the next read or load.
+ */
+public class ChildrenCache {
+
+    private final static Logger logger = Logger.getLogger(ChildrenCache.class);
+
+    // the entry, its map and its listener in the registry
+    static final long ENTRY_BYTES = 512;
+
+    private final StorageBackend backend;
+    private final ListenerRegistry listeners;
+    private final long budgetBytes;
+    private final CacheMetrics metrics = new CacheMetrics();
+
+    // access ordered, the eldest entry is the least recently read
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    public ChildrenCache(StorageBackend backend, ListenerRegistry listeners, long budgetBytes) {
+        this.backend = backend;
+        this.listeners = listeners;
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * The current children of a path, in storage order. Completes immediately
+     * when the path is cached, otherwise once it has been loaded.
+     */
+    public ApiFuture<List<Snapshot>> getChildren(String path) {
+        String normalized = Paths.normalize(path);
+        Entry entry;
+        boolean miss = false;
+        synchronized (this) {
+            entry = entries.get(normalized);
+            if (entry == null) {
+                entry = new Entry(normalized);
+                entries.put(normalized, entry);
+                entry.accounted = ENTRY_BYTES;
+                bytes += ENTRY_BYTES;
+                miss = true;
+            }
+        }
+        if (miss) {
+            metrics.miss();
+            entry.load();
+        } else {
+            metrics.hit();
+        }
+        evict();
+        return entry.children();
+    }
+
+    /**
+     * The children of a path when it is cached and loaded, null otherwise.
+     * Never loads the path.
+     */
+    public List<Snapshot> getCachedChildren(String path) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(Paths.normalize(path));
+        }
+        return entry == null ? null : entry.loadedChildren();
+    }
+
+    public CacheMetrics getMetrics() {
+        return metrics;
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    private synchronized void resize(Entry entry, long delta) {
+        if (entries.get(entry.path) == entry) {
+            entry.accounted += delta;
+            bytes += delta;
+        }
+    }
+
+    private synchronized void discard(Entry entry) {
+        if (entries.get(entry.path) == entry) {
+            entries.remove(entry.path);
+            bytes -= entry.accounted;
+        }
+    }
+
+    private void evict() {
+        List<Entry> evicted = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Entry> eldest = entries.values().iterator();
+            // the most recently read entry stays, even when it is over budget on its own
+            while (bytes > budgetBytes && entries.size() > 1) {
+                Entry entry = eldest.next();
+                eldest.remove();
+                bytes -= entry.accounted;
+                evicted.add(entry);
+            }
+        }
+        for (Entry entry : evicted) {
+            listeners.removeChildListener(entry.path, entry);
+            metrics.evicted();
+            logger.debug("Evicted " + entry.path + ", " + entry.accounted + " bytes");
+        }
+    }
+
+    /**
+     * Rough heap footprint of a stored value.
+     */
+    static long sizeOf(Object value) {
+        if (value instanceof String) {
+            return 40 + 2L * ((String) value).length();
+        }
+        if (value instanceof Map) {
+            long size = 48;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += 32 + sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+            }
+            return size;
+        }
+        return value == null ? 0 : 16;
+    }
+
+    private static long sizeOf(Snapshot snapshot) {
+        return snapshot == null ? 0 : 56 + sizeOf(snapshot.getKey()) + sizeOf(snapshot.getValue());
+    }
+
+    private class Entry implements ChildListener {
+
+        final String path;
+        private final LinkedHashMap<String, Snapshot> children = new LinkedHashMap<>();
+        private final SettableApiFuture<List<Snapshot>> loaded = SettableApiFuture.create();
+        // guarded by the entry
+        long bytes;
+        // guarded by the cache, the share of the cache total owned by this entry
+        long accounted;
+
+        Entry(String path) {
+            this.path = path;
+        }
+
+        void load() {
+            listeners.addChildListener(path, this);
+            ApiFutures.addCallback(backend.get(path), new ApiFutureCallback<Snapshot>() {
+                @Override
+                public void onSuccess(Snapshot snapshot) {
+                    long delta;
+                    List<Snapshot> current;
+                    synchronized (Entry.this) {
+                        long before = bytes;
+                        children.clear();
+                        bytes = 0;
+                        for (Snapshot child : snapshot.getChildren()) {
+                            children.put(child.getKey(), child);
+                            bytes += sizeOf(child);
+                        }
+                        delta = bytes - before;
+                        current = new ArrayList<>(children.values());
+                    }
+                    resize(Entry.this, delta);
+                    loaded.set(current);
+                    // on the event thread, the loaded children may have pushed the cache over budget
+                    evict();
+                }
+
+                @Override
+                public void onFailure(Throwable t) {
+                    discard(Entry.this);
+                    listeners.removeChildListener(path, Entry.this);
+                    loaded.setException(t);
+                }
+            });
+        }
+
+        ApiFuture<List<Snapshot>> children() {
+            if (!loaded.isDone()) {
+                return loaded;
+            }
+            synchronized (this) {
+                return ApiFutures.<List<Snapshot>>immediateFuture(new ArrayList<>(children.values()));
+            }
+        }
+
+        synchronized List<Snapshot> loadedChildren() {
+            return loaded.isDone() ? new ArrayList<>(children.values()) : null;
+        }
+
+        private void put(Snapshot snapshot) {
+            long delta;
+            synchronized (this) {
+                delta = sizeOf(snapshot) - sizeOf(children.put(snapshot.getKey(), snapshot));
+                bytes += delta;
+            }
+            resize(this, delta);
+        }
+
+        @Override
+        public void onChildAdded(Snapshot snapshot, String previousChildKey) {
+            put(snapshot);
+        }
+
+        @Override
+        public void onChildChanged(Snapshot snapshot, String previousChildKey) {
+            put(snapshot);
+        }
+
+        @Override
+        public void onChildRemoved(Snapshot snapshot) {
+            long delta;
+            synchronized (this) {
+                delta = -sizeOf(children.remove(snapshot.getKey()));
+                bytes += delta;
+            }
+            resize(this, delta);
+        }
+
+        @Override
+        public void onCancelled(Exception e) {
+            logger.warn("Cache listener on " + path + " cancelled: " + e.getLocalizedMessage());
+            discard(this);
+            // readers waiting for the load would wait forever
+            loaded.setException(e);
+        }
+    }
+
+}
@@ -0,0 +1,183 @@
+package search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Book and chapter names in sorted maps keyed by the normalized name, so
+ * the names starting with a prefix are a range of the map. Names match
+ * from their start first, then from the start of any later word. Reads
+ * never lock, updates are serialized.
+ */
+public class NameIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    // names are matched from at most this many of their words
+    private static final int MAX_WORDS = 16;
+    // sorts before every character, ends the name part of a key
+    private static final char SEPARATOR = '\u0000';
+
+    private final ConcurrentSkipListMap<String, Suggestion> names = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Suggestion> words = new ConcurrentSkipListMap<>();
+    // guarded by this
+    private final HashMap<String, Map<String, Suggestion>> books = new HashMap<>();
+
+    public static final class Suggestion {
+
+        private final String bookUid;
+        private final String chapterUid;
+        private final String name;
+
+        Suggestion(String bookUid, String chapterUid, String name) {
+            this.bookUid = bookUid;
+            this.chapterUid = chapterUid;
+            this.name = name;
+        }
+
+        public String getBookUid() {
+            return bookUid;
+        }
+
+        /**
+         * @return null for a book
+         */
+        public String getChapterUid() {
+            return chapterUid;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        String key() {
+            return chapterUid == null ? bookUid : bookUid + '/' + chapterUid;
+        }
+    }
+
+    /**
+     * Sets the name of a book, or of one of its chapters.
+     *
+     * @param chapterUid null for the book
+     * @param name       null or blank removes the name
+     */
+    public synchronized void indexName(String bookUid, String chapterUid, String name) {
+        Suggestion suggestion = new Suggestion(bookUid, chapterUid, name);
+        Map<String, Suggestion> book = books.get(bookUid);
+        Suggestion previous = book == null ? null : book.get(suggestion.key());
+        if (previous != null && previous.name.equals(name)) {
+            return;
+        }
+        if (previous != null) {
+            remove(previous);
+            book.remove(suggestion.key());
+        }
+        if (name == null || normalize(name).isEmpty()) {
+            if (book != null && book.isEmpty()) {
+                books.remove(bookUid);
+            }
+            return;
+        }
+        if (book == null) {
+            book = new HashMap<>();
+            books.put(bookUid, book);
+        }
+        book.put(suggestion.key(), suggestion);
+        put(suggestion);
+    }
+
+    public synchronized void removeName(String bookUid, String chapterUid) {
+        indexName(bookUid, chapterUid, null);
+    }
+
+    public synchronized void removeBook(String bookUid) {
+        Map<String, Suggestion> previous = books.remove(bookUid);
+        if (previous != null) {
+            for (Suggestion suggestion : previous.values()) {
+                remove(suggestion);
+            }
+        }
+    }
+
+    /**
+     * Names starting with the prefix, then names with a later word starting
+     * with it, each in name order.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        // a trailing space asks for the next word, "war " does not match "warden"
+        if (!normalized.isEmpty() && Character.isWhitespace(prefix.charAt(prefix.length() - 1))) {
+            normalized += ' ';
+        }
+        Set<String> seen = new HashSet<>();
+        List<Suggestion> found = new ArrayList<>();
+        if (normalized.isEmpty() || limit <= 0) {
+            return found;
+        }
+        collect(names, normalized, limit, seen, found);
+        collect(words, normalized, limit, seen, found);
+        return found;
+    }
+
+    public int getSize() {
+        return names.size();
+    }
+
+    private static void collect(ConcurrentSkipListMap<String, Suggestion> map, String prefix, int limit,
+                                Set<String> seen, List<Suggestion> found) {
+        ConcurrentNavigableMap<String, Suggestion> range = map.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        for (Suggestion suggestion : range.values()) {
+            if (found.size() >= limit) {
+                return;
+            }
+            if (seen.add(suggestion.key())) {
+                found.add(suggestion);
+            }
+        }
+    }
+
+    private void put(Suggestion suggestion) {
+        String normalized = normalize(suggestion.name);
+        String suffix = SEPARATOR + suggestion.key();
+        names.put(normalized + suffix, suggestion);
+        for (int start : wordStarts(normalized)) {
+            words.put(normalized.substring(start) + suffix, suggestion);
+        }
+    }
+
+    private void remove(Suggestion suggestion) {
+        String normalized = normalize(suggestion.name);
+        String suffix = SEPARATOR + suggestion.key();
+        names.remove(normalized + suffix);
+        for (int start : wordStarts(normalized)) {
+            words.remove(normalized.substring(start) + suffix);
+        }
+    }
+
+    private static List<Integer> wordStarts(String normalized) {
+        List<Integer> starts = new ArrayList<>();
+        for (int i = normalized.indexOf(' '); i >= 0 && starts.size() < MAX_WORDS; i = normalized.indexOf(' ', i + 1)) {
+            starts.add(i + 1);
+        }
+        return starts;
+    }
+
+    /**
+     * Lower case without accents and with single spaces, "Crème  Brûlée" is "creme brulee".
+     */
+    static String normalize(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+        String plain = MARKS.matcher(decomposed).replaceAll("");
+        return SPACES.matcher(plain.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+}
@@ -0,0 +1,73 @@
+package search;
+
+import java.util.Arrays;
+
+/**
+ * Documents containing a term, in ascending document order, with the
+ * weighted frequency of the term in each. Two int arrays instead of a list
+ * of objects keep a posting at 8 bytes.
+ */
+final class Postings {
+
+    private int[] docs = new int[2];
+    private int[] weights = new int[2];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int doc(int index) {
+        return docs[index];
+    }
+
+    int weight(int index) {
+        return weights[index];
+    }
+
+    /**
+     * @param doc greater than any document added before
+     */
+    void add(int doc, int weight) {
+        if (size == docs.length) {
+            int capacity = size + (size >> 1) + 1;
+            docs = Arrays.copyOf(docs, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+        docs[size] = doc;
+        weights[size] = weight;
+        size++;
+    }
+
+    /**
+     * @return the index of the document, or a negative value when it is not listed
+     */
+    int find(int doc, int from) {
+        return Arrays.binarySearch(docs, from, size, doc);
+    }
+
+    /**
+     * Drops removed documents and renumbers the rest.
+     *
+     * @param remap the new number of each document, -1 for a removed one
+     */
+    void compact(int[] remap) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int doc = remap[docs[i]];
+            if (doc >= 0) {
+                docs[kept] = doc;
+                weights[kept] = weights[i];
+                kept++;
+            }
+        }
+        size = kept;
+        docs = Arrays.copyOf(docs, kept);
+        weights = Arrays.copyOf(weights, kept);
+    }
+
+    long bytes() {
+        return 16 + 2 * (16 + 4L * docs.length) + 4;
+    }
+
+}
@@ -0,0 +1,430 @@
+package search;
+
+import org.apache.log4j.Logger;
+import storage.Snapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index of chapter names, descriptions and texts. Every chapter is
+ * a document, numbered in the order it was indexed, and a changed chapter
+ * is indexed again as a new document while the old one is marked removed.
+ * Removed documents are dropped from the postings once they make up a
+ * quarter of all documents, until then their postings count against the
+ * budget.
+ * <p>
+ * Chapters are tokenized outside the lock, so books can be indexed in
+ * parallel; only adding the postings is serialized. Once the estimated size
+ * passes the budget, chapters are indexed by name and description only.
+ */
+public class SearchIndex {
+
+    private final static Logger logger = Logger.getLogger(SearchIndex.class);
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 2;
+    private static final int TEXT_WEIGHT = 1;
+    // BM25 parameters
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_COMPACTION = 1024;
+
+    private final long budgetBytes;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // guarded by the lock
+    private final HashMap<String, Postings> terms = new HashMap<>();
+    private final HashMap<String, Map<String, Integer>> books = new HashMap<>();
+    private String[] bookUids = new String[16];
+    private String[] chapterUids = new String[16];
+    private int[] lengths = new int[16];
+    private long[] hashes = new long[16];
+    private final BitSet removed = new BitSet();
+    private int docCount;
+    private int removedCount;
+    private long totalLength;
+    private long bytes;
+    private int partial;
+
+    public SearchIndex(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    public static final class Hit {
+
+        private final String bookUid;
+        private final String chapterUid;
+        private final double score;
+
+        Hit(String bookUid, String chapterUid, double score) {
+            this.bookUid = bookUid;
+            this.chapterUid = chapterUid;
+            this.score = score;
+        }
+
+        public String getBookUid() {
+            return bookUid;
+        }
+
+        public String getChapterUid() {
+            return chapterUid;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * Indexes a chapter, unless it is unchanged since it was indexed.
+     *
+     * @param chapter the snapshot of a chapter node
+     */
+    public void indexChapter(String bookUid, Snapshot chapter) {
+        String name = field(chapter, "name");
+        String description = field(chapter, "description");
+        String text = field(chapter, "text");
+        long hash = hash(name, description, text);
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> docs = books.get(bookUid);
+            Integer doc = docs == null ? null : docs.get(chapter.getKey());
+            if (doc != null && hashes[doc] == hash) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Document document = new Document(hash);
+        document.add(name, NAME_WEIGHT);
+        document.add(description, DESCRIPTION_WEIGHT);
+        if (!isFull()) {
+            document.add(text, TEXT_WEIGHT);
+        } else {
+            document.partial = text != null && !text.isEmpty();
+        }
+        add(bookUid, chapter.getKey(), document);
+    }
+
+    public void removeBook(String bookUid) {
+        lock.writeLock().lock();
+        try {
+            Map<String, Integer> docs = books.remove(bookUid);
+            if (docs != null) {
+                for (int doc : docs.values()) {
+                    remove(doc);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeChapter(String bookUid, String chapterUid) {
+        lock.writeLock().lock();
+        try {
+            Map<String, Integer> docs = books.get(bookUid);
+            Integer doc = docs == null ? null : docs.remove(chapterUid);
+            if (doc != null) {
+                remove(doc);
+                if (docs.isEmpty()) {
+                    books.remove(bookUid);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Chapters containing every term of the query, best first.
+     */
+    public List<Hit> search(String query, int limit) {
+        Set<String> queryTerms = terms(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, new Comparator<Hit>() {
+            @Override
+            public int compare(Hit a, Hit b) {
+                return Double.compare(a.score, b.score);
+            }
+        });
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[queryTerms.size()];
+            int n = 0;
+            for (String term : queryTerms) {
+                Postings postings = terms.get(term);
+                if (postings == null) {
+                    return new ArrayList<>();
+                }
+                lists[n++] = postings;
+            }
+            // walk the rarest term and look the others up, all lists are in document order
+            Arrays.sort(lists, new Comparator<Postings>() {
+                @Override
+                public int compare(Postings a, Postings b) {
+                    return Integer.compare(a.size(), b.size());
+                }
+            });
+            int live = docCount - removedCount;
+            double averageLength = live == 0 ? 1 : Math.max(1.0, (double) totalLength / live);
+            double[] idf = new double[lists.length];
+            for (int t = 0; t < lists.length; t++) {
+                idf[t] = Math.log(1 + (live - lists[t].size() + 0.5) / (lists[t].size() + 0.5));
+            }
+            int[] cursors = new int[lists.length];
+            Postings rarest = lists[0];
+            candidates:
+            for (int i = 0; i < rarest.size(); i++) {
+                int doc = rarest.doc(i);
+                if (removed.get(doc)) {
+                    continue;
+                }
+                double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                double score = idf[0] * rarest.weight(i) * (K1 + 1) / (rarest.weight(i) + norm);
+                for (int t = 1; t < lists.length; t++) {
+                    int found = lists[t].find(doc, cursors[t]);
+                    if (found < 0) {
+                        cursors[t] = -found - 1;
+                        continue candidates;
+                    }
+                    cursors[t] = found + 1;
+                    int weight = lists[t].weight(found);
+                    score += idf[t] * weight * (K1 + 1) / (weight + norm);
+                }
+                best.add(new Hit(bookUids[doc], chapterUids[doc], score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Hit> hits = new ArrayList<>(best);
+        Collections.sort(hits, Collections.reverseOrder(best.comparator()));
+        return hits;
+    }
+
+    /**
+     * The distinct terms of a query, in query order.
+     */
+    static Set<String> terms(String query) {
+        final Set<String> terms = new LinkedHashSet<>();
+        Tokenizer.tokenize(query, new Tokenizer.Sink() {
+            @Override
+            public void term(String term, int start, int end) {
+                terms.add(term);
+            }
+        });
+        return terms;
+    }
+
+    public int getDocuments() {
+        lock.readLock().lock();
+        try {
+            return docCount - removedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getBytes() {
+        lock.readLock().lock();
+        try {
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.readLock().lock();
+        try {
+            return "documents=" + (docCount - removedCount) + ", terms=" + terms.size() + ", bytes=" + bytes
+                    + ", without text=" + partial;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isFull() {
+        return getBytes() > budgetBytes;
+    }
+
+    private void add(String bookUid, String chapterUid, Document document) {
+        lock.writeLock().lock();
+        try {
+            Map<String, Integer> docs = books.get(bookUid);
+            if (docs == null) {
+                docs = new HashMap<>();
+                books.put(bookUid, docs);
+            }
+            Integer previous = docs.get(chapterUid);
+            if (previous != null) {
+                remove(previous);
+            }
+            int doc = docCount++;
+            if (doc == lengths.length) {
+                int capacity = doc * 2;
+                bookUids = Arrays.copyOf(bookUids, capacity);
+                chapterUids = Arrays.copyOf(chapterUids, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                hashes = Arrays.copyOf(hashes, capacity);
+                bytes += 28L * doc;
+            }
+            bookUids[doc] = bookUid;
+            chapterUids[doc] = chapterUid;
+            lengths[doc] = document.length;
+            hashes[doc] = document.hash;
+            docs.put(chapterUid, doc);
+            totalLength += document.length;
+            bytes += 96;
+            if (document.partial) {
+                partial++;
+                if (partial == 1) {
+                    logger.warn("Search index passed its budget of " + budgetBytes
+                            + " bytes, chapter texts are no longer indexed");
+                }
+            }
+            for (Map.Entry<String, int[]> term : document.weights.entrySet()) {
+                Postings postings = terms.get(term.getKey());
+                if (postings == null) {
+                    postings = new Postings();
+                    terms.put(term.getKey(), postings);
+                    bytes += 72 + 2L * term.getKey().length() + postings.bytes();
+                }
+                long before = postings.bytes();
+                postings.add(doc, term.getValue()[0]);
+                bytes += postings.bytes() - before;
+            }
+            // edits replace documents, without removing any
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // called with the write lock held
+    private void remove(int doc) {
+        if (removed.get(doc)) {
+            return;
+        }
+        removed.set(doc);
+        removedCount++;
+        totalLength -= lengths[doc];
+    }
+
+    // called with the write lock held
+    private void compactIfNeeded() {
+        if (removedCount < MIN_COMPACTION || removedCount * 4 < docCount) {
+            return;
+        }
+        int[] remap = new int[docCount];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (removed.get(doc)) {
+                remap[doc] = -1;
+                continue;
+            }
+            remap[doc] = live;
+            bookUids[live] = bookUids[doc];
+            chapterUids[live] = chapterUids[doc];
+            lengths[live] = lengths[doc];
+            hashes[live] = hashes[doc];
+            live++;
+        }
+        Arrays.fill(bookUids, live, docCount, null);
+        Arrays.fill(chapterUids, live, docCount, null);
+        long size = 28L * lengths.length + 96L * live;
+        Iterator<Map.Entry<String, Postings>> entries = terms.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, Postings> entry = entries.next();
+            entry.getValue().compact(remap);
+            if (entry.getValue().size() == 0) {
+                entries.remove();
+            } else {
+                size += 72 + 2L * entry.getKey().length() + entry.getValue().bytes();
+            }
+        }
+        for (Map<String, Integer> docs : books.values()) {
+            for (Map.Entry<String, Integer> doc : docs.entrySet()) {
+                doc.setValue(remap[doc.getValue()]);
+            }
+        }
+        logger.info("Compacted search index from " + docCount + " to " + live + " documents");
+        removed.clear();
+        removedCount = 0;
+        docCount = live;
+        bytes = size;
+    }
+
+    private static String field(Snapshot chapter, String name) {
+        Object value = chapter.child(name).getValue();
+        return value == null ? null : String.valueOf(value);
+    }
+
+    private static long hash(String... fields) {
+        long hash = 1125899906842597L;
+        for (String field : fields) {
+            if (field != null) {
+                for (int i = 0; i < field.length(); i++) {
+                    hash = 31 * hash + field.charAt(i);
+                }
+            }
+            hash = 31 * hash + 0xff;
+        }
+        return hash;
+    }
+
+    /**
+     * The weighted term frequencies of a chapter, built before the lock is taken.
+     */
+    private static class Document implements Tokenizer.Sink {
+
+        final long hash;
+        final Map<String, int[]> weights = new HashMap<>();
+        int length;
+        boolean partial;
+        private int weight;
+
+        Document(long hash) {
+            this.hash = hash;
+        }
+
+        void add(String field, int weight) {
+            if (field != null) {
+                this.weight = weight;
+                Tokenizer.tokenize(field, this);
+            }
+        }
+
+        @Override
+        public void term(String term, int start, int end) {
+            int[] count = weights.get(term);
+            if (count == null) {
+                weights.put(term, new int[]{weight});
+            } else {
+                count[0] += weight;
+            }
+            length += weight;
+        }
+    }
+
+}
@@ -0,0 +1,242 @@
+package search;
+
+import org.apache.log4j.Logger;
+import storage.ChildListener;
+import storage.IndexedStorageBackend;
+import storage.Paths;
+import storage.Snapshot;
+import storage.StorageBackend;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps a NameIndex, and optionally a SearchIndex, current from chapter
+ * level events. The book list is followed through the name only book index,
+ * and every listed book gets a listener on its chapter names and, when text
+ * is searched, one on its chapters, so an edit reports just the chapter
+ * that changed. Names are updated right on the event thread, they are cheap
+ * to index and suggestions should follow renames at once. The text is
+ * indexed on one of several worker threads chosen by the book key: the
+ * existing books, reported as added right after start, are indexed in
+ * parallel, while the events of one book stay in order.
+ * <p>
+ * Books without a name are not in the book index, like in the listings,
+ * and are not searched. The listeners are attached to the backend rather
+ * than the ListenerRegistry, whose shared listeners would keep a second
+ * copy of every chapter.
+ */
+public class SearchIndexer implements ChildListener {
+
+    private final static Logger logger = Logger.getLogger(SearchIndexer.class);
+
+    private final StorageBackend backend;
+    private final SearchIndex index;
+    private final NameIndex names;
+    private final ExecutorService[] workers;
+    // the listeners of each book, on its chapter names and its chapters
+    private final ConcurrentHashMap<String, ChildListener[]> attached = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile long startedAt;
+    private volatile boolean built;
+
+    /**
+     * @param index null to keep only the names
+     */
+    public SearchIndexer(StorageBackend backend, SearchIndex index, NameIndex names, int threads) {
+        this.backend = backend;
+        this.index = index;
+        this.names = names;
+        this.workers = new ExecutorService[index == null ? 0 : Math.max(1, threads)];
+        for (int i = 0; i < workers.length; i++) {
+            final String name = "search-index-" + i;
+            workers[i] = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, name);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+    }
+
+    public void start() {
+        startedAt = System.currentTimeMillis();
+        backend.addChildListener(IndexedStorageBackend.BOOK_INDEX, this);
+    }
+
+    public void close() {
+        backend.removeChildListener(IndexedStorageBackend.BOOK_INDEX, this);
+        for (String bookUid : attached.keySet()) {
+            detach(bookUid);
+        }
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+        try {
+            for (ExecutorService worker : workers) {
+                worker.awaitTermination(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(String bookUid, final Runnable task) {
+        pending.incrementAndGet();
+        workers[Math.floorMod(bookUid.hashCode(), workers.length)].execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.error("Indexing failed", e);
+                } finally {
+                    if (pending.decrementAndGet() == 0 && !built) {
+                        built = true;
+                        logger.info("Search index built in " + (System.currentTimeMillis() - startedAt)
+                                + " ms: " + index);
+                    }
+                }
+            }
+        });
+    }
+
+    private void attach(String bookUid) {
+        if (attached.containsKey(bookUid)) {
+            return;
+        }
+        ChildListener chapterNames = new ChapterNames(bookUid);
+        ChildListener chapters = index == null ? null : new Chapters(bookUid);
+        attached.put(bookUid, new ChildListener[]{chapterNames, chapters});
+        backend.addChildListener(IndexedStorageBackend.chapterIndexPath(bookUid), chapterNames);
+        if (chapters != null) {
+            backend.addChildListener(Paths.join(IndexedStorageBackend.BOOKS, bookUid, "chapters"), chapters);
+        }
+    }
+
+    private void detach(String bookUid) {
+        ChildListener[] listeners = attached.remove(bookUid);
+        if (listeners == null) {
+            return;
+        }
+        backend.removeChildListener(IndexedStorageBackend.chapterIndexPath(bookUid), listeners[0]);
+        if (listeners[1] != null) {
+            backend.removeChildListener(Paths.join(IndexedStorageBackend.BOOKS, bookUid, "chapters"), listeners[1]);
+        }
+    }
+
+    @Override
+    public void onChildAdded(Snapshot snapshot, String previousChildKey) {
+        names.indexName(snapshot.getKey(), null, IndexedStorageBackend.nameOf(snapshot));
+        attach(snapshot.getKey());
+    }
+
+    @Override
+    public void onChildChanged(Snapshot snapshot, String previousChildKey) {
+        names.indexName(snapshot.getKey(), null, IndexedStorageBackend.nameOf(snapshot));
+    }
+
+    @Override
+    public void onChildRemoved(final Snapshot snapshot) {
+        detach(snapshot.getKey());
+        names.removeBook(snapshot.getKey());
+        if (index != null) {
+            submit(snapshot.getKey(), new Runnable() {
+                @Override
+                public void run() {
+                    index.removeBook(snapshot.getKey());
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onCancelled(Exception e) {
+        logger.warn("Book index listener cancelled, search results go stale: " + e.getLocalizedMessage());
+    }
+
+    /**
+     * The chapter names of one book, from its chapter index.
+     */
+    private class ChapterNames implements ChildListener {
+
+        private final String bookUid;
+
+        ChapterNames(String bookUid) {
+            this.bookUid = bookUid;
+        }
+
+        @Override
+        public void onChildAdded(Snapshot snapshot, String previousChildKey) {
+            names.indexName(bookUid, snapshot.getKey(), IndexedStorageBackend.nameOf(snapshot));
+        }
+
+        @Override
+        public void onChildChanged(Snapshot snapshot, String previousChildKey) {
+            names.indexName(bookUid, snapshot.getKey(), IndexedStorageBackend.nameOf(snapshot));
+        }
+
+        @Override
+        public void onChildRemoved(Snapshot snapshot) {
+            names.removeName(bookUid, snapshot.getKey());
+        }
+
+        @Override
+        public void onCancelled(Exception e) {
+            logger.warn("Chapter names of " + bookUid + " no longer followed: " + e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * The chapters of one book, each event carries one chapter.
+     */
+    private class Chapters implements ChildListener {
+
+        private final String bookUid;
+
+        Chapters(String bookUid) {
+            this.bookUid = bookUid;
+        }
+
+        private void index(final Snapshot chapter) {
+            submit(bookUid, new Runnable() {
+                @Override
+                public void run() {
+                    index.indexChapter(bookUid, chapter);
+                }
+            });
+        }
+
+        @Override
+        public void onChildAdded(Snapshot snapshot, String previousChildKey) {
+            index(snapshot);
+        }
+
+        @Override
+        public void onChildChanged(Snapshot snapshot, String previousChildKey) {
+            index(snapshot);
+        }
+
+        @Override
+        public void onChildRemoved(final Snapshot snapshot) {
+            submit(bookUid, new Runnable() {
+                @Override
+                public void run() {
+                    index.removeChapter(bookUid, snapshot.getKey());
+                }
+            });
+        }
+
+        @Override
+        public void onCancelled(Exception e) {
+            logger.warn("Chapters of " + bookUid + " no longer indexed: " + e.getLocalizedMessage());
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Short excerpts of a chapter around the first match of a query, matched
+ * terms wrapped in {@code <em>} tags.
+ */
+public final class Snippets {
+
+    // characters of an excerpt, not counting the tags and ellipses
+    private static final int LENGTH = 160;
+    // characters kept in front of the first match
+    private static final int LEAD = 40;
+
+    private Snippets() {
+    }
+
+    /**
+     * Excerpt of the first field that contains a term of the query, or the
+     * start of the text when none does.
+     */
+    public static String snippet(String query, String name, String description, String text) {
+        Set<String> terms = SearchIndex.terms(query);
+        for (String field : new String[]{text, description, name}) {
+            if (field != null) {
+                String snippet = highlight(field, terms);
+                if (snippet != null) {
+                    return snippet;
+                }
+            }
+        }
+        return text == null ? "" : excerpt(text, 0, new ArrayList<int[]>());
+    }
+
+    /**
+     * @return the excerpt around the first match, null when no term matches
+     */
+    private static String highlight(String field, final Set<String> terms) {
+        final List<int[]> matches = new ArrayList<>();
+        Tokenizer.tokenize(field, new Tokenizer.Sink() {
+            @Override
+            public void term(String term, int start, int end) {
+                if (terms.contains(term)) {
+                    matches.add(new int[]{start, end});
+                }
+            }
+        });
+        if (matches.isEmpty()) {
+            return null;
+        }
+        return excerpt(field, Math.max(0, matches.get(0)[0] - LEAD), matches);
+    }
+
+    private static String excerpt(String field, int from, List<int[]> matches) {
+        int start = from;
+        // start at a word, unless the field begins within the lead
+        while (start > 0 && Character.isLetterOrDigit(field.charAt(start - 1))) {
+            start++;
+        }
+        if (start < field.length() && Character.isLowSurrogate(field.charAt(start))) {
+            start++;
+        }
+        int end = Math.min(field.length(), start + LENGTH);
+        while (end < field.length() && Character.isLetterOrDigit(field.charAt(end))) {
+            end--;
+        }
+        if (end <= start) {
+            end = Math.min(field.length(), start + LENGTH);
+        }
+        if (end < field.length() && Character.isHighSurrogate(field.charAt(end - 1))) {
+            end--;
+        }
+        StringBuilder snippet = new StringBuilder(end - start + 32);
+        if (start > 0) {
+            snippet.append('…');
+        }
+        int position = start;
+        for (int[] match : matches) {
+            if (match[0] < start) {
+                continue;
+            }
+            if (match[1] > end) {
+                break;
+            }
+            snippet.append(field, position, match[0]).append("<em>")
+                    .append(field, match[0], match[1]).append("</em>");
+            position = match[1];
+        }
+        snippet.append(field, position, end);
+        if (end < field.length()) {
+            snippet.append('…');
+        }
+        return snippet.toString().trim();
+    }
+
+}
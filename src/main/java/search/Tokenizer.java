@@ -0,0 +1,51 @@
+package search;
+
+import java.util.Locale;
+
+/**
+ * Splits text into lower case terms of letters and digits. Terms longer
+ * than MAX_TERM_LENGTH are cut, they are rarely searched for and would only
+ * grow the term dictionary.
+ */
+final class Tokenizer {
+
+    static final int MAX_TERM_LENGTH = 32;
+
+    interface Sink {
+
+        /**
+         * @param start offset of the first character of the term in the text
+         * @param end   offset after the last character of the term
+         */
+        void term(String term, int start, int end);
+    }
+
+    private Tokenizer() {
+    }
+
+    static void tokenize(String text, Sink sink) {
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int c = text.codePointAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                i += Character.charCount(c);
+                continue;
+            }
+            int start = i;
+            while (i < length) {
+                c = text.codePointAt(i);
+                if (!Character.isLetterOrDigit(c)) {
+                    break;
+                }
+                i += Character.charCount(c);
+            }
+            int end = Math.min(i, start + MAX_TERM_LENGTH);
+            if (end < i && Character.isHighSurrogate(text.charAt(end - 1))) {
+                end--;
+            }
+            sink.term(text.substring(start, end).toLowerCase(Locale.ROOT), start, i);
+        }
+    }
+
+}
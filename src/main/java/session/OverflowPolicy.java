@@ -0,0 +1,24 @@
+package session;
+
+/**
+ * What a subscription queue does with a new event when it is full.
+ */
+public enum OverflowPolicy {
+
+    /** Evict the oldest queued event. */
+    DROP_OLDEST,
+
+    /** Merge the event into a queued event for the same key, evict the oldest when there is none. */
+    COALESCE,
+
+    /** Discard the queue and tell the client to reload with a RESYNC event. */
+    FORCE_RESYNC;
+
+    /**
+     * Parses the config.properties spelling, e.g. "drop-oldest".
+     */
+    public static OverflowPolicy parse(String value) {
+        return valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+
+}
@@ -0,0 +1,51 @@
+package session;
+
+import org.apache.thrift.server.ServerContext;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Per-connection state: one subscription per event stream.
+ */
+public class Session implements ServerContext {
+
+    private final long id;
+    private final Map<SubscriptionType, Subscription> subscriptions = new EnumMap<>(SubscriptionType.class);
+
+    Session(long id, int capacity, OverflowPolicy policy, ScheduledExecutorService timer, SessionMetrics metrics) {
+        this.id = id;
+        for (SubscriptionType type : SubscriptionType.values()) {
+            subscriptions.put(type, new Subscription(id + "/" + type, capacity, policy, timer, metrics));
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Subscription subscription(SubscriptionType type) {
+        return subscriptions.get(type);
+    }
+
+    long getDropped() {
+        long dropped = 0;
+        for (Subscription subscription : subscriptions.values()) {
+            dropped += subscription.getDropped();
+        }
+        return dropped;
+    }
+
+    void close() {
+        for (Subscription subscription : subscriptions.values()) {
+            subscription.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Session " + id;
+    }
+
+}
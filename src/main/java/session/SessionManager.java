@@ -0,0 +1,91 @@
+package session;
+
+import org.apache.log4j.Logger;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.ServerContext;
+import org.apache.thrift.server.TServerEventHandler;
+import org.apache.thrift.transport.TTransport;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opens a Session for every client connection and closes it on disconnect.
+ * The servers call processContext on the thread that runs the request right
+ * before dispatching it, so the handler finds the caller's session through
+ * {@link #current()}.
+ */
+public class SessionManager implements TServerEventHandler {
+
+    private final static Logger logger = Logger.getLogger(SessionManager.class);
+
+    private final ThreadLocal<Session> current = new ThreadLocal<>();
+    private final AtomicLong ids = new AtomicLong();
+    private final AtomicInteger open = new AtomicInteger();
+    private final SessionMetrics metrics = new SessionMetrics();
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "long-poll-timeouts");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+    // calls made outside of a server connection share this session
+    private final Session detached;
+
+    public SessionManager(int capacity, OverflowPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.policy = policy;
+        this.detached = new Session(0, capacity, policy, timer, metrics);
+    }
+
+    public Session current() {
+        Session session = current.get();
+        return session == null ? detached : session;
+    }
+
+    public SessionMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int getOpenSessions() {
+        return open.get();
+    }
+
+    @Override
+    public void preServe() {
+        logger.info("Sessions use queues of " + capacity + " events, overflow policy " + policy);
+    }
+
+    @Override
+    public ServerContext createContext(TProtocol input, TProtocol output) {
+        open.incrementAndGet();
+        return new Session(ids.incrementAndGet(), capacity, policy, timer, metrics);
+    }
+
+    @Override
+    public void deleteContext(ServerContext serverContext, TProtocol input, TProtocol output) {
+        Session session = (Session) serverContext;
+        session.close();
+        open.decrementAndGet();
+        long dropped = session.getDropped();
+        if (dropped > 0) {
+            logger.info(session + " closed, " + dropped + " events dropped, totals: " + metrics);
+        }
+    }
+
+    @Override
+    public void processContext(ServerContext serverContext, TTransport inputTransport, TTransport outputTransport) {
+        current.set((Session) serverContext);
+    }
+
+}
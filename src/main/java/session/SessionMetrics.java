@@ -0,0 +1,52 @@
+package session;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server wide counters of events lost to full subscription queues.
+ */
+public class SessionMetrics {
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+
+    void dropped(long count) {
+        dropped.addAndGet(count);
+    }
+
+    void coalesced() {
+        coalesced.incrementAndGet();
+    }
+
+    void resync() {
+        resyncs.incrementAndGet();
+    }
+
+    /**
+     * Events evicted or discarded without being delivered.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Events merged into an already queued event for the same key.
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * Queues discarded by the force-resync policy.
+     */
+    public long getResyncs() {
+        return resyncs.get();
+    }
+
+    @Override
+    public String toString() {
+        return "dropped=" + getDropped() + ", coalesced=" + getCoalesced() + ", resyncs=" + getResyncs();
+    }
+
+}
@@ -0,0 +1,380 @@
+package session;
+
+import org.apache.log4j.Logger;
+import org.apache.thrift.async.AsyncMethodCallback;
+import thrift.Callback;
+import thrift.CallbackType;
+import thrift.CustomPair;
+import thrift.ValidUpdate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One client's view of an event stream. The first event answers the get call
+ * that started the subscription, later events wait in a bounded queue until
+ * the client polls for them. Each subscription has its own lock, so events
+ * for different clients are delivered independently.
+ */
+public class Subscription {
+
+    private final static Logger logger = Logger.getLogger(Subscription.class);
+
+    public static final long MAX_POLL_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final String name;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final ScheduledExecutorService timer;
+    private final SessionMetrics metrics;
+
+    private final ArrayDeque<Callback> events = new ArrayDeque<>();
+    // current state collected for a snapshot response, null unless capturing
+    private LinkedHashMap<String, Callback> captured;
+    private AsyncMethodCallback<Callback> first;
+    private boolean firstSent;
+    private boolean resyncPending;
+    private long dropped;
+    private ParkedPoll parked;
+    private Runnable detach;
+
+    Subscription(String name,
+                 int capacity,
+                 OverflowPolicy policy,
+                 ScheduledExecutorService timer,
+                 SessionMetrics metrics) {
+        this.name = name;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.timer = timer;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts the stream over: queued events are discarded, the next event
+     * answers {@code first}, and the previous listener is detached.
+     *
+     * @param detach called when the subscription is reset again or closed
+     */
+    public void reset(AsyncMethodCallback<Callback> first, Runnable detach) {
+        Runnable previous;
+        synchronized (this) {
+            previous = this.detach;
+            this.detach = null;
+        }
+        // detach first, so the old listener does not answer the new get call
+        if (previous != null) {
+            previous.run();
+        }
+        synchronized (this) {
+            this.detach = detach;
+            this.first = first;
+            firstSent = false;
+            resyncPending = false;
+            captured = null;
+            events.clear();
+        }
+    }
+
+    /**
+     * Starts the stream over like {@link #reset}, but collects the events
+     * published until {@link #endCapture} as the current state instead of
+     * answering a get call with the first of them.
+     */
+    public void capture(Runnable detach) {
+        reset(null, detach);
+        synchronized (this) {
+            firstSent = true;
+            captured = new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Returns the state collected since {@link #capture}, one event per key.
+     * Later events are queued for polling.
+     */
+    public synchronized List<Callback> endCapture() {
+        List<Callback> state = captured == null
+                ? new ArrayList<Callback>()
+                : new ArrayList<>(captured.values());
+        captured = null;
+        return state;
+    }
+
+    /**
+     * Discards queued events without restarting the stream.
+     */
+    public synchronized void clear() {
+        events.clear();
+    }
+
+    public void publish(Callback event, ValidUpdate update) {
+        AsyncMethodCallback<Callback> answer = null;
+        ParkedPoll woken = null;
+        List<Callback> drained = null;
+        synchronized (this) {
+            if (captured != null) {
+                fold(captured, event, update);
+                return;
+            }
+            if (!firstSent) {
+                answer = first;
+                first = null;
+                firstSent = true;
+            } else {
+                event.update = update;
+                offer(event);
+                if (parked != null && !events.isEmpty()) {
+                    woken = parked;
+                    parked = null;
+                    drained = drain();
+                }
+            }
+        }
+        // completes on the event thread that produced the event
+        if (answer != null) {
+            answer.onComplete(event);
+        }
+        if (woken != null) {
+            woken.timeout.cancel(false);
+            woken.callback.onComplete(drained);
+        }
+    }
+
+    /**
+     * Reports a failed listener to the pending get call, if there is one.
+     */
+    public void fail(Exception e) {
+        AsyncMethodCallback<Callback> answer;
+        synchronized (this) {
+            answer = first;
+            first = null;
+        }
+        if (answer != null) {
+            answer.onError(e);
+        } else {
+            logger.warn("Subscription " + name + " cancelled: " + e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Answers with the queued events, or parks the request until the next
+     * event is queued or the timeout expires.
+     */
+    public void poll(long timeoutMillis, AsyncMethodCallback<List<Callback>> callback) {
+        ParkedPoll replaced = null;
+        List<Callback> drained;
+        synchronized (this) {
+            if (events.isEmpty() && timeoutMillis > 0) {
+                replaced = parked;
+                parked = new ParkedPoll(callback);
+                parked.timeout = timer.schedule(new PollTimeout(parked),
+                        Math.min(timeoutMillis, MAX_POLL_TIMEOUT_MILLIS), TimeUnit.MILLISECONDS);
+                drained = null;
+            } else {
+                drained = drain();
+            }
+        }
+        if (replaced != null) {
+            replaced.timeout.cancel(false);
+            replaced.callback.onComplete(new ArrayList<Callback>());
+        }
+        if (drained != null) {
+            callback.onComplete(drained);
+        }
+    }
+
+    /**
+     * Drops a parked poll and detaches the listener, the client is gone.
+     */
+    void close() {
+        Runnable previous;
+        synchronized (this) {
+            previous = detach;
+            detach = null;
+            first = null;
+            if (parked != null) {
+                parked.timeout.cancel(false);
+                parked = null;
+            }
+            events.clear();
+        }
+        if (previous != null) {
+            previous.run();
+        }
+    }
+
+    synchronized long getDropped() {
+        return dropped;
+    }
+
+    private List<Callback> drain() {
+        List<Callback> drained = new ArrayList<>(events);
+        events.clear();
+        return drained;
+    }
+
+    private void offer(Callback event) {
+        if (resyncPending) {
+            drop(1);
+            return;
+        }
+        if (events.size() < capacity) {
+            events.add(event);
+            return;
+        }
+        switch (policy) {
+            case COALESCE:
+                if (coalesce(event)) {
+                    metrics.coalesced();
+                } else {
+                    // nothing to merge with, fall back to evicting the oldest event
+                    dropOldest(event);
+                }
+                break;
+            case DROP_OLDEST:
+                dropOldest(event);
+                break;
+            case FORCE_RESYNC:
+                drop(events.size() + 1);
+                events.clear();
+                events.add(new Callback(null, name, CallbackType.RESYNC, null));
+                resyncPending = true;
+                metrics.resync();
+                break;
+        }
+    }
+
+    private void dropOldest(Callback event) {
+        events.poll();
+        drop(1);
+        events.add(event);
+    }
+
+    /**
+     * Folds the event into the queued event for the same key. An addition
+     * followed by a change stays an addition, an addition followed by a
+     * removal cancels out, otherwise the later event wins.
+     */
+    private boolean coalesce(Callback event) {
+        // edits apply one after the other, none of them can be left out
+        if (event.type == CallbackType.EDITED) {
+            return false;
+        }
+        Iterator<Callback> iterator = events.iterator();
+        while (iterator.hasNext()) {
+            Callback queued = iterator.next();
+            if (queued.type != CallbackType.EDITED && sameKey(queued, event)) {
+                iterator.remove();
+                if (queued.type == CallbackType.ADDED && event.type == CallbackType.REMOVED) {
+                    return true;
+                }
+                if (queued.type == CallbackType.ADDED) {
+                    event.type = CallbackType.ADDED;
+                }
+                if (queued.isSetFieldMask() && event.isSetFieldMask() && event.type != CallbackType.REMOVED) {
+                    mergeFields(queued, event);
+                }
+                events.add(event);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the fields of an earlier chapter event the later one did not change,
+     * so the merged event still carries every change.
+     */
+    private static void mergeFields(Callback earlier, Callback later) {
+        Set<String> mask = new TreeSet<>(earlier.fieldMask);
+        mask.addAll(later.fieldMask);
+        Map<String, String> values = new TreeMap<>();
+        for (CustomPair field : earlier.fields) {
+            values.put(field.key, field.value);
+        }
+        for (String field : later.fieldMask) {
+            values.remove(field);
+        }
+        for (CustomPair field : later.fields) {
+            values.put(field.key, field.value);
+        }
+        List<CustomPair> fields = new ArrayList<>();
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            fields.add(new CustomPair(value.getKey(), value.getValue()));
+        }
+        later.setFieldMask(new ArrayList<>(mask));
+        later.setFields(fields);
+    }
+
+    private static void fold(Map<String, Callback> state, Callback event, ValidUpdate update) {
+        String key = key(event);
+        if (event.type == CallbackType.EDITED) {
+            // the state holds values, edits are read with getChapterText
+            return;
+        }
+        if (event.type == CallbackType.REMOVED) {
+            state.remove(key);
+            return;
+        }
+        // the state is a list of additions, a change just updates the value
+        event.type = CallbackType.ADDED;
+        event.update = update;
+        state.put(key, event);
+    }
+
+    private static boolean sameKey(Callback a, Callback b) {
+        return a.event != null && a.event.equals(b.event) && key(a) != null && key(a).equals(key(b));
+    }
+
+    private static String key(Callback callback) {
+        CustomPair pair = callback.pair;
+        return pair == null ? null : pair.key;
+    }
+
+    private void drop(long count) {
+        dropped += count;
+        metrics.dropped(count);
+    }
+
+    private static class ParkedPoll {
+
+        final AsyncMethodCallback<List<Callback>> callback;
+        ScheduledFuture<?> timeout;
+
+        ParkedPoll(AsyncMethodCallback<List<Callback>> callback) {
+            this.callback = callback;
+        }
+    }
+
+    private class PollTimeout implements Runnable {
+
+        private final ParkedPoll poll;
+
+        PollTimeout(ParkedPoll poll) {
+            this.poll = poll;
+        }
+
+        @Override
+        public void run() {
+            synchronized (Subscription.this) {
+                if (parked != poll) {
+                    return;
+                }
+                parked = null;
+            }
+            poll.callback.onComplete(new ArrayList<Callback>());
+        }
+    }
+
+}
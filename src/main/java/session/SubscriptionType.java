@@ -0,0 +1,10 @@
+package session;
+
+/**
+ * The event streams a client can follow, one per subscribeFor* call.
+ */
+public enum SubscriptionType {
+    BOOK_LIST,
+    BOOK_CHAPTERS,
+    CHAPTER
+}
@@ -0,0 +1,19 @@
+package storage;
+
+/**
+ * Receives changes to the direct children of a storage path.
+ * Mirrors the ADDED/CHANGED/REMOVED contract of Firebase's ChildEventListener:
+ * existing children are reported as added right after registration, events
+ * are delivered one at a time on the backend's event thread.
+ */
+public interface ChildListener {
+
+    void onChildAdded(Snapshot snapshot, String previousChildKey);
+
+    void onChildChanged(Snapshot snapshot, String previousChildKey);
+
+    void onChildRemoved(Snapshot snapshot);
+
+    void onCancelled(Exception e);
+
+}
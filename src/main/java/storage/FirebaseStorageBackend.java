@@ -0,0 +1,247 @@
+package storage;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.database.ChildEventListener;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.Query;
+import com.google.firebase.database.ValueEventListener;
+import org.apache.log4j.Logger;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StorageBackend on top of the Firebase Realtime Database.
+ */
+public class FirebaseStorageBackend implements StorageBackend {
+
+    private final static Logger logger = Logger.getLogger(FirebaseStorageBackend.class);
+
+    private final DatabaseReference root;
+
+    private final ConcurrentHashMap<String, Map<ChildListener, ChildEventListener>> registered = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Map<ValueListener, ValueEventListener>> registeredValues = new ConcurrentHashMap<>();
+
+    public FirebaseStorageBackend(String credentialsPath, String databaseUrl) throws IOException {
+        FirebaseOptions options;
+        try (FileInputStream serviceAccount = new FileInputStream(credentialsPath)) {
+            options = new FirebaseOptions.Builder()
+                    .setCredentials(GoogleCredentials.fromStream(serviceAccount))
+                    .setDatabaseUrl(databaseUrl)
+                    .build();
+        }
+
+        FirebaseApp.initializeApp(options);
+        root = FirebaseDatabase.getInstance().getReference();
+
+        logger.info("Application initialized successfully");
+    }
+
+    private DatabaseReference ref(String path) {
+        String normalized = Paths.normalize(path);
+        return normalized.isEmpty() ? root : root.child(normalized);
+    }
+
+    @Override
+    public void addChildListener(String path, ChildListener listener) {
+        path = Paths.normalize(path);
+        Map<ChildListener, ChildEventListener> pathListeners = registered.get(path);
+        if (pathListeners == null) {
+            pathListeners = new ConcurrentHashMap<>();
+            Map<ChildListener, ChildEventListener> existing = registered.putIfAbsent(path, pathListeners);
+            if (existing != null) {
+                pathListeners = existing;
+            }
+        }
+        ChildEventListener adapter = new ChildEventAdapter(listener);
+        // a listener added twice stays attached once, through its first adapter
+        if (pathListeners.putIfAbsent(listener, adapter) == null) {
+            ref(path).addChildEventListener(adapter);
+        }
+    }
+
+    @Override
+    public void removeChildListener(String path, ChildListener listener) {
+        path = Paths.normalize(path);
+        Map<ChildListener, ChildEventListener> pathListeners = registered.get(path);
+        if (pathListeners == null) {
+            return;
+        }
+        ChildEventListener adapter = pathListeners.remove(listener);
+        if (adapter != null) {
+            ref(path).removeEventListener(adapter);
+        }
+    }
+
+    @Override
+    public void addValueListener(String path, final ValueListener listener) {
+        path = Paths.normalize(path);
+        Map<ValueListener, ValueEventListener> pathListeners = registeredValues.get(path);
+        if (pathListeners == null) {
+            pathListeners = new ConcurrentHashMap<>();
+            Map<ValueListener, ValueEventListener> existing = registeredValues.putIfAbsent(path, pathListeners);
+            if (existing != null) {
+                pathListeners = existing;
+            }
+        }
+        ValueEventListener adapter = new ValueEventListener() {
+            @Override
+            public void onDataChange(DataSnapshot dataSnapshot) {
+                listener.onValue(toSnapshot(dataSnapshot));
+            }
+
+            @Override
+            public void onCancelled(DatabaseError databaseError) {
+                listener.onCancelled(databaseError.toException());
+            }
+        };
+        if (pathListeners.putIfAbsent(listener, adapter) == null) {
+            ref(path).addValueEventListener(adapter);
+        }
+    }
+
+    @Override
+    public void removeValueListener(String path, ValueListener listener) {
+        path = Paths.normalize(path);
+        Map<ValueListener, ValueEventListener> pathListeners = registeredValues.get(path);
+        if (pathListeners == null) {
+            return;
+        }
+        ValueEventListener adapter = pathListeners.remove(listener);
+        if (adapter != null) {
+            ref(path).removeEventListener(adapter);
+        }
+    }
+
+    @Override
+    public ApiFuture<Snapshot> get(String path) {
+        final SettableApiFuture<Snapshot> future = SettableApiFuture.create();
+        ref(path).addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override
+            public void onDataChange(DataSnapshot dataSnapshot) {
+                future.set(toSnapshot(dataSnapshot));
+            }
+
+            @Override
+            public void onCancelled(DatabaseError databaseError) {
+                future.setException(databaseError.toException());
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public ApiFuture<List<Snapshot>> getChildren(String path, final String startAfter, final int limit) {
+        final SettableApiFuture<List<Snapshot>> future = SettableApiFuture.create();
+        Query query = ref(path).orderByKey();
+        // startAt is inclusive, ask for one more child and skip the cursor itself
+        query = startAfter == null
+                ? query.limitToFirst(limit)
+                : query.startAt(startAfter).limitToFirst(limit + 1);
+        query.addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override
+            public void onDataChange(DataSnapshot dataSnapshot) {
+                List<Snapshot> children = new ArrayList<>();
+                for (DataSnapshot child : dataSnapshot.getChildren()) {
+                    // the cursor child is gone when it was removed since the last page
+                    if (!child.getKey().equals(startAfter) && children.size() < limit) {
+                        children.add(toSnapshot(child));
+                    }
+                }
+                future.set(children);
+            }
+
+            @Override
+            public void onCancelled(DatabaseError databaseError) {
+                future.setException(databaseError.toException());
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public ApiFuture<Void> setValue(String path, Object value) {
+        return ref(path).setValueAsync(value);
+    }
+
+    @Override
+    public ApiFuture<Void> removeValue(String path) {
+        return ref(path).removeValueAsync();
+    }
+
+    @Override
+    public ApiFuture<Void> updateChildren(String path, Map<String, Object> values) {
+        return ref(path).updateChildrenAsync(values);
+    }
+
+    @Override
+    public String push(String path) {
+        return ref(path).push().getKey();
+    }
+
+    private static Snapshot toSnapshot(DataSnapshot dataSnapshot) {
+        return new Snapshot(dataSnapshot.getKey(), toValue(dataSnapshot));
+    }
+
+    /**
+     * DataSnapshot.getValue() builds HashMaps, walk the children instead to
+     * keep the database ordering.
+     */
+    private static Object toValue(DataSnapshot dataSnapshot) {
+        if (!dataSnapshot.hasChildren()) {
+            return dataSnapshot.getValue();
+        }
+        Map<String, Object> value = new LinkedHashMap<>();
+        for (DataSnapshot child : dataSnapshot.getChildren()) {
+            value.put(child.getKey(), toValue(child));
+        }
+        return value;
+    }
+
+    private static class ChildEventAdapter implements ChildEventListener {
+
+        private final ChildListener listener;
+
+        ChildEventAdapter(ChildListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void onChildAdded(DataSnapshot dataSnapshot, String previousChildName) {
+            listener.onChildAdded(toSnapshot(dataSnapshot), previousChildName);
+        }
+
+        @Override
+        public void onChildChanged(DataSnapshot dataSnapshot, String previousChildName) {
+            listener.onChildChanged(toSnapshot(dataSnapshot), previousChildName);
+        }
+
+        @Override
+        public void onChildRemoved(DataSnapshot dataSnapshot) {
+            listener.onChildRemoved(toSnapshot(dataSnapshot));
+        }
+
+        @Override
+        public void onChildMoved(DataSnapshot dataSnapshot, String previousChildName) {
+
+        }
+
+        @Override
+        public void onCancelled(DatabaseError databaseError) {
+            listener.onCancelled(databaseError.toException());
+        }
+    }
+
+}
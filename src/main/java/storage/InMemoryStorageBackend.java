@@ -0,0 +1,578 @@
+package storage;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Process local StorageBackend. The tree is guarded by a read/write lock,
+ * child events are computed under the write lock and delivered in order on a
+ * single event thread, like the Firebase SDK does.
+ */
+public class InMemoryStorageBackend implements StorageBackend {
+
+    private final static Logger logger = Logger.getLogger(InMemoryStorageBackend.class);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final ConcurrentSkipListMap<String, List<ChildListener>> listeners = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, List<ValueListener>> valueListeners = new ConcurrentSkipListMap<>();
+    private final PushIdGenerator pushIds = new PushIdGenerator();
+    private final ExecutorService eventThread = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "in-memory-storage-events");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    @Override
+    public void addChildListener(String path, ChildListener listener) {
+        String normalized = Paths.normalize(path);
+        lock.writeLock().lock();
+        try {
+            List<ChildListener> pathListeners = listeners.get(normalized);
+            if (pathListeners == null) {
+                pathListeners = new CopyOnWriteArrayList<>();
+                listeners.put(normalized, pathListeners);
+            }
+            pathListeners.add(listener);
+
+            Node node = find(Paths.segments(normalized));
+            if (node != null && node.children != null) {
+                String previous = null;
+                for (Map.Entry<String, Node> entry : node.children.entrySet()) {
+                    dispatch(normalized, listener, CallbackKind.ADDED,
+                            new Snapshot(entry.getKey(), export(entry.getValue())), previous);
+                    previous = entry.getKey();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeChildListener(String path, ChildListener listener) {
+        String normalized = Paths.normalize(path);
+        lock.writeLock().lock();
+        try {
+            List<ChildListener> pathListeners = listeners.get(normalized);
+            if (pathListeners != null) {
+                pathListeners.remove(listener);
+                if (pathListeners.isEmpty()) {
+                    listeners.remove(normalized);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void addValueListener(String path, ValueListener listener) {
+        String normalized = Paths.normalize(path);
+        lock.writeLock().lock();
+        try {
+            List<ValueListener> pathListeners = valueListeners.get(normalized);
+            if (pathListeners == null) {
+                pathListeners = new CopyOnWriteArrayList<>();
+                valueListeners.put(normalized, pathListeners);
+            }
+            pathListeners.add(listener);
+            dispatchValue(normalized, listener, readValue(normalized));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeValueListener(String path, ValueListener listener) {
+        String normalized = Paths.normalize(path);
+        lock.writeLock().lock();
+        try {
+            List<ValueListener> pathListeners = valueListeners.get(normalized);
+            if (pathListeners != null) {
+                pathListeners.remove(listener);
+                if (pathListeners.isEmpty()) {
+                    valueListeners.remove(normalized);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public ApiFuture<Snapshot> get(String path) {
+        final String[] segments = Paths.segments(Paths.normalize(path));
+        final SettableApiFuture<Snapshot> future = SettableApiFuture.create();
+        // read on the event thread, after the events already queued for listeners
+        eventThread.execute(new Runnable() {
+            @Override
+            public void run() {
+                Snapshot snapshot;
+                lock.readLock().lock();
+                try {
+                    String key = segments.length == 0 ? null : segments[segments.length - 1];
+                    snapshot = new Snapshot(key, export(find(segments)));
+                } finally {
+                    lock.readLock().unlock();
+                }
+                // callbacks run inline and may add or remove listeners, which takes the write lock
+                future.set(snapshot);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public ApiFuture<List<Snapshot>> getChildren(String path, String startAfter, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Snapshot> children = new ArrayList<>();
+            Node node = find(Paths.segments(Paths.normalize(path)));
+            if (node != null && node.children != null) {
+                Map<String, Node> range = startAfter == null
+                        ? node.children
+                        : node.children.tailMap(startAfter, false);
+                for (Map.Entry<String, Node> entry : range.entrySet()) {
+                    if (children.size() == limit) {
+                        break;
+                    }
+                    children.add(new Snapshot(entry.getKey(), export(entry.getValue())));
+                }
+            }
+            return ApiFutures.immediateFuture(children);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public ApiFuture<Void> setValue(String path, Object value) {
+        try {
+            write(Paths.normalize(path), value == null ? null : toNode(value));
+            return ApiFutures.immediateFuture(null);
+        } catch (IllegalArgumentException e) {
+            return ApiFutures.immediateFailedFuture(e);
+        }
+    }
+
+    @Override
+    public ApiFuture<Void> removeValue(String path) {
+        write(Paths.normalize(path), null);
+        return ApiFutures.immediateFuture(null);
+    }
+
+    @Override
+    public String push(String path) {
+        return pushIds.next();
+    }
+
+    @Override
+    public ApiFuture<Void> updateChildren(String path, Map<String, Object> values) {
+        String normalized = Paths.normalize(path);
+        TreeMap<String, Node> nodes = new TreeMap<>();
+        try {
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                String childPath = Paths.normalize(Paths.join(normalized, entry.getKey()));
+                if (childPath.equals(normalized)) {
+                    throw new IllegalArgumentException("Empty path in update");
+                }
+                nodes.put(childPath, entry.getValue() == null ? null : toNode(entry.getValue()));
+            }
+            for (String childPath : nodes.keySet()) {
+                for (int slash = childPath.lastIndexOf('/'); slash > 0; slash = childPath.lastIndexOf('/', slash - 1)) {
+                    String ancestor = childPath.substring(0, slash);
+                    if (nodes.containsKey(ancestor)) {
+                        throw new IllegalArgumentException("Path " + ancestor + " is an ancestor of " + childPath);
+                    }
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return ApiFutures.immediateFailedFuture(e);
+        }
+        write(nodes);
+        return ApiFutures.immediateFuture(null);
+    }
+
+    private void write(String path, Node value) {
+        write(Collections.singletonMap(path, value));
+    }
+
+    /**
+     * Applies all values under one write lock, listeners see the combined
+     * change of every path they watch.
+     */
+    private void write(Map<String, Node> values) {
+        lock.writeLock().lock();
+        try {
+            Map<String, Watch> watches = new LinkedHashMap<>();
+            for (String path : values.keySet()) {
+                collectWatches(path, Paths.segments(path), watches);
+            }
+            Map<String, Snapshot> valuesBefore = new LinkedHashMap<>();
+            for (String path : values.keySet()) {
+                collectValueWatches(path, valuesBefore);
+            }
+            for (Watch watch : watches.values()) {
+                watch.before = watch.read();
+            }
+            for (Map.Entry<String, Node> entry : values.entrySet()) {
+                replace(Paths.segments(entry.getKey()), entry.getValue());
+            }
+            for (Watch watch : watches.values()) {
+                fireDiff(watch, watch.before, watch.read());
+            }
+            for (Map.Entry<String, Snapshot> before : valuesBefore.entrySet()) {
+                Snapshot after = readValue(before.getKey());
+                Object old = before.getValue().getValue();
+                if (old == null ? after.getValue() != null : !old.equals(after.getValue())) {
+                    for (ValueListener listener : valueListeners.get(before.getKey())) {
+                        dispatchValue(before.getKey(), listener, after);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Listeners on ancestors of the written path see at most one child change,
+     * listeners on the path itself or below it may see all of their children change.
+     */
+    private void collectWatches(String path, String[] segments, Map<String, Watch> watches) {
+        StringBuilder ancestor = new StringBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            String ancestorPath = ancestor.toString();
+            if (listeners.containsKey(ancestorPath)) {
+                watch(watches, ancestorPath, segments[i]);
+            }
+            if (i > 0) {
+                ancestor.append('/');
+            }
+            ancestor.append(segments[i]);
+        }
+        if (listeners.containsKey(path)) {
+            watch(watches, path, null);
+        }
+        ConcurrentNavigableMap<String, List<ChildListener>> below = path.isEmpty()
+                ? listeners.tailMap("", false)
+                : listeners.subMap(path + "/", true, path + "0", false);
+        for (String listenerPath : below.keySet()) {
+            watch(watches, listenerPath, null);
+        }
+    }
+
+    /**
+     * Reads the value of every value listener path the write can change, the
+     * path itself, its ancestors and its descendants.
+     */
+    private void collectValueWatches(String path, Map<String, Snapshot> before) {
+        String[] segments = Paths.segments(path);
+        StringBuilder ancestor = new StringBuilder();
+        for (int i = 0; i <= segments.length; i++) {
+            String ancestorPath = ancestor.toString();
+            if (valueListeners.containsKey(ancestorPath) && !before.containsKey(ancestorPath)) {
+                before.put(ancestorPath, readValue(ancestorPath));
+            }
+            if (i == segments.length) {
+                break;
+            }
+            if (i > 0) {
+                ancestor.append('/');
+            }
+            ancestor.append(segments[i]);
+        }
+        ConcurrentNavigableMap<String, List<ValueListener>> below = path.isEmpty()
+                ? valueListeners.tailMap("", false)
+                : valueListeners.subMap(path + "/", true, path + "0", false);
+        for (String listenerPath : below.keySet()) {
+            if (!before.containsKey(listenerPath)) {
+                before.put(listenerPath, readValue(listenerPath));
+            }
+        }
+    }
+
+    private Snapshot readValue(String path) {
+        String[] segments = Paths.segments(path);
+        String key = segments.length == 0 ? null : segments[segments.length - 1];
+        return new Snapshot(key, export(find(segments)));
+    }
+
+    private void dispatchValue(final String path, final ValueListener listener, final Snapshot snapshot) {
+        eventThread.execute(new Runnable() {
+            @Override
+            public void run() {
+                List<ValueListener> pathListeners = valueListeners.get(path);
+                if (pathListeners == null || !pathListeners.contains(listener)) {
+                    return;
+                }
+                try {
+                    listener.onValue(snapshot);
+                } catch (RuntimeException e) {
+                    logger.error("Value listener on " + path + " failed: " + e.getLocalizedMessage(), e);
+                }
+            }
+        });
+    }
+
+    private void watch(Map<String, Watch> watches, String path, String child) {
+        Watch watch = watches.get(path);
+        if (watch == null) {
+            watch = new Watch(path);
+            watches.put(path, watch);
+        }
+        if (child == null) {
+            watch.onlyChildren = null;
+        } else if (watch.onlyChildren != null) {
+            watch.onlyChildren.add(child);
+        }
+    }
+
+    private void fireDiff(Watch watch, Map<String, Object> before, Map<String, Object> after) {
+        Node parent = find(Paths.segments(watch.path));
+        for (Map.Entry<String, Object> entry : before.entrySet()) {
+            if (!after.containsKey(entry.getKey())) {
+                fire(watch.path, CallbackKind.REMOVED, new Snapshot(entry.getKey(), entry.getValue()), null);
+            }
+        }
+        for (Map.Entry<String, Object> entry : after.entrySet()) {
+            if (!before.containsKey(entry.getKey())) {
+                fire(watch.path, CallbackKind.ADDED, new Snapshot(entry.getKey(), entry.getValue()),
+                        previousKey(parent, entry.getKey()));
+            }
+        }
+        for (Map.Entry<String, Object> entry : after.entrySet()) {
+            Object old = before.get(entry.getKey());
+            if (old != null && !old.equals(entry.getValue())) {
+                fire(watch.path, CallbackKind.CHANGED, new Snapshot(entry.getKey(), entry.getValue()),
+                        previousKey(parent, entry.getKey()));
+            }
+        }
+    }
+
+    private String previousKey(Node parent, String key) {
+        if (parent == null || parent.children == null) {
+            return null;
+        }
+        return parent.children.lowerKey(key);
+    }
+
+    private void fire(String path, CallbackKind kind, Snapshot snapshot, String previousKey) {
+        List<ChildListener> pathListeners = listeners.get(path);
+        if (pathListeners == null) {
+            return;
+        }
+        for (ChildListener listener : pathListeners) {
+            dispatch(path, listener, kind, snapshot, previousKey);
+        }
+    }
+
+    private void dispatch(final String path,
+                          final ChildListener listener,
+                          final CallbackKind kind,
+                          final Snapshot snapshot,
+                          final String previousKey) {
+        eventThread.execute(new Runnable() {
+            @Override
+            public void run() {
+                List<ChildListener> pathListeners = listeners.get(path);
+                if (pathListeners == null || !pathListeners.contains(listener)) {
+                    return;
+                }
+                try {
+                    switch (kind) {
+                        case ADDED:
+                            listener.onChildAdded(snapshot, previousKey);
+                            break;
+                        case CHANGED:
+                            listener.onChildChanged(snapshot, previousKey);
+                            break;
+                        case REMOVED:
+                            listener.onChildRemoved(snapshot);
+                            break;
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("Listener on " + path + " failed: " + e.getLocalizedMessage(), e);
+                }
+            }
+        });
+    }
+
+    private void replace(String[] segments, Node value) {
+        if (segments.length == 0) {
+            root.leaf = value == null ? null : value.leaf;
+            root.children = value == null ? null : value.children;
+            return;
+        }
+        Node[] chain = new Node[segments.length];
+        Node current = root;
+        for (int i = 0; i < segments.length - 1; i++) {
+            chain[i] = current;
+            if (current.children == null) {
+                if (value == null) {
+                    return;
+                }
+                current.leaf = null;
+                current.children = new TreeMap<>();
+            }
+            Node next = current.children.get(segments[i]);
+            if (next == null) {
+                if (value == null) {
+                    return;
+                }
+                next = new Node();
+                current.children.put(segments[i], next);
+            }
+            current = next;
+        }
+        chain[segments.length - 1] = current;
+        String last = segments[segments.length - 1];
+        if (value != null) {
+            if (current.children == null) {
+                current.leaf = null;
+                current.children = new TreeMap<>();
+            }
+            current.children.put(last, value);
+            return;
+        }
+        if (current.children != null) {
+            current.children.remove(last);
+        }
+        // nodes without children do not exist, prune emptied parents
+        for (int i = segments.length - 1; i > 0; i--) {
+            Node node = chain[i];
+            if (node.leaf != null || (node.children != null && !node.children.isEmpty())) {
+                break;
+            }
+            chain[i - 1].children.remove(segments[i - 1]);
+        }
+    }
+
+    private Node find(String[] segments) {
+        Node current = root;
+        for (String segment : segments) {
+            if (current.children == null) {
+                return null;
+            }
+            current = current.children.get(segment);
+            if (current == null) {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    private static Node toNode(Object value) {
+        Node node = new Node();
+        if (value instanceof Map) {
+            TreeMap<String, Node> children = new TreeMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getValue() != null) {
+                    Node child = toNode(entry.getValue());
+                    if (child != null) {
+                        children.put(String.valueOf(entry.getKey()), child);
+                    }
+                }
+            }
+            if (children.isEmpty()) {
+                return null;
+            }
+            node.children = children;
+        } else if (value instanceof String || value instanceof Boolean
+                || value instanceof Long || value instanceof Double) {
+            node.leaf = value;
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            node.leaf = ((Number) value).longValue();
+        } else if (value instanceof Float) {
+            node.leaf = ((Number) value).doubleValue();
+        } else {
+            throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+        }
+        return node;
+    }
+
+    private static Object export(Node node) {
+        if (node == null) {
+            return null;
+        }
+        if (node.leaf != null) {
+            return node.leaf;
+        }
+        if (node.children == null || node.children.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<String, Node> entry : node.children.entrySet()) {
+            map.put(entry.getKey(), export(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private enum CallbackKind {
+        ADDED,
+        CHANGED,
+        REMOVED
+    }
+
+    private static class Node {
+        Object leaf;
+        TreeMap<String, Node> children;
+    }
+
+    private class Watch {
+
+        final String path;
+        // the children that can change, null when all of them can
+        Set<String> onlyChildren = new TreeSet<>();
+        Map<String, Object> before;
+
+        Watch(String path) {
+            this.path = path;
+        }
+
+        Map<String, Object> read() {
+            Node node = find(Paths.segments(path));
+            Map<String, Object> children = new LinkedHashMap<>();
+            if (node == null || node.children == null) {
+                return children;
+            }
+            if (onlyChildren != null) {
+                for (String onlyChild : onlyChildren) {
+                    Object value = export(node.children.get(onlyChild));
+                    if (value != null) {
+                        children.put(onlyChild, value);
+                    }
+                }
+                return children;
+            }
+            for (Map.Entry<String, Node> entry : node.children.entrySet()) {
+                children.put(entry.getKey(), export(entry.getValue()));
+            }
+            return children;
+        }
+    }
+
+}
@@ -0,0 +1,301 @@
+package storage;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import org.apache.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Keeps name only copies of the book list and chapter lists next to the
+ * books, so listings never download chapter bodies:
+ * <pre>
+ * bookIndex/&lt;book&gt;                = book name
+ * chapterIndex/&lt;book&gt;/&lt;chapter&gt;  = chapter name
+ * </pre>
+ * Only books and chapters with a name are listed. Every write is extended with the index paths it changes and sent as one
+ * multi-path update, so the copies never disagree with the books.
+ * <p>
+ * Books written before the index existed are copied by {@link #migrate},
+ * online: a book written while its page was read is read again, and the
+ * copy is sent under the same lock as the writes, so it never overwrites a
+ * newer name. Once done, {@code meta/nameIndex} marks the index complete
+ * and {@link #isIndexed()} turns true.
+ */
+public class IndexedStorageBackend implements StorageBackend {
+
+    private final static Logger logger = Logger.getLogger(IndexedStorageBackend.class);
+
+    public static final String BOOKS = "books";
+    public static final String BOOK_INDEX = "bookIndex";
+    public static final String CHAPTER_INDEX = "chapterIndex";
+    private static final String INDEXED_MARK = "meta/nameIndex";
+    private static final String CHAPTERS = "chapters";
+    private static final String NAME = "name";
+    // writes are tracked per stripe of books while migrating, a shared stripe only costs a second read
+    private static final int STRIPES = 1024;
+
+    private final StorageBackend backend;
+    private volatile boolean indexed;
+    // guarded by this, the write count when a book of the stripe was last written
+    private final long[] lastWrites = new long[STRIPES];
+    private long writes;
+
+    public IndexedStorageBackend(StorageBackend backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * Whether every book is in the index, listings may read it.
+     */
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    public static String chapterIndexPath(String bookUid) {
+        return Paths.join(CHAPTER_INDEX, bookUid);
+    }
+
+    /**
+     * The name of a listed child, from the index or from a full book or chapter.
+     */
+    public static String nameOf(Snapshot child) {
+        Object value = child.getValue() instanceof Map ? child.child(NAME).getValue() : child.getValue();
+        return value == null ? null : String.valueOf(value);
+    }
+
+    /**
+     * Copies the names of books written before the index existed, a page of
+     * books at a time. Returns right away when the index is marked complete.
+     */
+    public void migrate(int pageSize) throws InterruptedException, ExecutionException {
+        if (backend.get(INDEXED_MARK).get().exists()) {
+            indexed = true;
+            return;
+        }
+        logger.info("Copying book and chapter names into " + BOOK_INDEX + " and " + CHAPTER_INDEX);
+        long books = 0;
+        String startAfter = null;
+        while (true) {
+            long readAt = writeCount();
+            List<Snapshot> page = backend.getChildren(BOOKS, startAfter, pageSize).get();
+            for (Snapshot book : page) {
+                copy(book, readAt);
+            }
+            books += page.size();
+            if (page.size() < pageSize) {
+                break;
+            }
+            startAfter = page.get(page.size() - 1).getKey();
+            logger.info("Copied the names of " + books + " books");
+        }
+        backend.setValue(INDEXED_MARK, 1L).get();
+        indexed = true;
+        logger.info("Name index complete, " + books + " books");
+    }
+
+    private void copy(Snapshot book, long readAt) throws InterruptedException, ExecutionException {
+        String path = Paths.join(BOOKS, book.getKey());
+        while (true) {
+            ApiFuture<Void> written = null;
+            synchronized (this) {
+                if (lastWrites[stripe(book.getKey())] <= readAt) {
+                    Map<String, Object> update = new HashMap<>();
+                    mirror(path, book.getValue(), update);
+                    written = backend.updateChildren("", update);
+                }
+            }
+            if (written != null) {
+                written.get();
+                return;
+            }
+            // written since it was read, the index already has the newer name if the book still exists
+            readAt = writeCount();
+            book = backend.get(path).get();
+        }
+    }
+
+    private synchronized long writeCount() {
+        return writes;
+    }
+
+    private static int stripe(String bookUid) {
+        return Math.floorMod(bookUid.hashCode(), STRIPES);
+    }
+
+    @Override
+    public ApiFuture<Void> updateChildren(String path, Map<String, Object> values) {
+        String normalized = Paths.normalize(path);
+        Map<String, Object> update = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                String childPath = Paths.join(normalized, entry.getKey());
+                update.put(childPath, entry.getValue());
+                mirror(childPath, entry.getValue(), update);
+            }
+        } catch (IllegalArgumentException e) {
+            return ApiFutures.immediateFailedFuture(e);
+        }
+        if (indexed) {
+            return backend.updateChildren("", update);
+        }
+        synchronized (this) {
+            writes++;
+            for (String childPath : values.keySet()) {
+                String[] segments = Paths.segments(Paths.join(normalized, childPath));
+                if (segments.length == 1 && BOOKS.equals(segments[0])) {
+                    // the whole list was replaced, the migration reads everything again
+                    Arrays.fill(lastWrites, writes);
+                } else if (segments.length > 1 && BOOKS.equals(segments[0])) {
+                    lastWrites[stripe(segments[1])] = writes;
+                }
+            }
+            return backend.updateChildren("", update);
+        }
+    }
+
+    @Override
+    public ApiFuture<Void> setValue(String path, Object value) {
+        return updateChildren("", singleton(path, value));
+    }
+
+    @Override
+    public ApiFuture<Void> removeValue(String path) {
+        return updateChildren("", singleton(path, null));
+    }
+
+    private static Map<String, Object> singleton(String path, Object value) {
+        Map<String, Object> values = new HashMap<>();
+        values.put(path, value);
+        return values;
+    }
+
+    /**
+     * Adds the index paths matching a write of value at path.
+     */
+    static void mirror(String path, Object value, Map<String, Object> update) {
+        String[] segments = Paths.segments(Paths.normalize(path));
+        if (segments.length == 0 || !BOOKS.equals(segments[0])) {
+            return;
+        }
+        switch (segments.length) {
+            case 1:
+                // books
+                Map<String, Object> names = new HashMap<>();
+                Map<String, Object> chapters = new HashMap<>();
+                if (value instanceof Map) {
+                    for (Map.Entry<?, ?> book : ((Map<?, ?>) value).entrySet()) {
+                        String name = bookName(book.getValue());
+                        Map<String, Object> chapterNames = chapterNames(child(book.getValue(), CHAPTERS));
+                        if (name != null) {
+                            names.put((String) book.getKey(), name);
+                        }
+                        if (chapterNames != null) {
+                            chapters.put((String) book.getKey(), chapterNames);
+                        }
+                    }
+                }
+                update.put(BOOK_INDEX, names.isEmpty() ? null : names);
+                update.put(CHAPTER_INDEX, chapters.isEmpty() ? null : chapters);
+                return;
+            case 2:
+                // books/<book>
+                update.put(Paths.join(BOOK_INDEX, segments[1]), bookName(value));
+                update.put(chapterIndexPath(segments[1]), chapterNames(child(value, CHAPTERS)));
+                return;
+            case 3:
+                // books/<book>/name, books/<book>/chapters
+                if (NAME.equals(segments[2])) {
+                    update.put(Paths.join(BOOK_INDEX, segments[1]), value == null ? null : String.valueOf(value));
+                } else if (CHAPTERS.equals(segments[2])) {
+                    update.put(chapterIndexPath(segments[1]), chapterNames(value));
+                }
+                return;
+            case 4:
+                // books/<book>/chapters/<chapter>
+                if (CHAPTERS.equals(segments[2])) {
+                    update.put(Paths.join(CHAPTER_INDEX, segments[1], segments[3]), chapterName(value));
+                }
+                return;
+            case 5:
+                // books/<book>/chapters/<chapter>/name
+                if (CHAPTERS.equals(segments[2]) && NAME.equals(segments[4])) {
+                    update.put(Paths.join(CHAPTER_INDEX, segments[1], segments[3]),
+                            value == null ? null : String.valueOf(value));
+                }
+                return;
+            default:
+        }
+    }
+
+    private static Object child(Object value, String key) {
+        return value instanceof Map ? ((Map<?, ?>) value).get(key) : null;
+    }
+
+    /**
+     * @return null when there is no name, books and chapters without one are not listed
+     */
+    private static String bookName(Object book) {
+        Object name = child(book, NAME);
+        return name == null ? null : String.valueOf(name);
+    }
+
+    private static String chapterName(Object chapter) {
+        return bookName(chapter);
+    }
+
+    private static Map<String, Object> chapterNames(Object chapters) {
+        if (!(chapters instanceof Map) || ((Map<?, ?>) chapters).isEmpty()) {
+            return null;
+        }
+        Map<String, Object> names = new HashMap<>();
+        for (Map.Entry<?, ?> chapter : ((Map<?, ?>) chapters).entrySet()) {
+            String name = chapterName(chapter.getValue());
+            if (name != null) {
+                names.put((String) chapter.getKey(), name);
+            }
+        }
+        return names.isEmpty() ? null : names;
+    }
+
+    @Override
+    public void addChildListener(String path, ChildListener listener) {
+        backend.addChildListener(path, listener);
+    }
+
+    @Override
+    public void removeChildListener(String path, ChildListener listener) {
+        backend.removeChildListener(path, listener);
+    }
+
+    @Override
+    public void addValueListener(String path, ValueListener listener) {
+        backend.addValueListener(path, listener);
+    }
+
+    @Override
+    public void removeValueListener(String path, ValueListener listener) {
+        backend.removeValueListener(path, listener);
+    }
+
+    @Override
+    public ApiFuture<Snapshot> get(String path) {
+        return backend.get(path);
+    }
+
+    @Override
+    public ApiFuture<List<Snapshot>> getChildren(String path, String startAfter, int limit) {
+        return backend.getChildren(path, startAfter, limit);
+    }
+
+    @Override
+    public String push(String path) {
+        return backend.push(path);
+    }
+
+}
@@ -0,0 +1,204 @@
+package storage;
+
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Shares one backend listener per path between any number of subscribers.
+ * The shared listener is attached with the first subscriber and detached
+ * with the last one. It keeps the current children of its path, so a
+ * subscriber that joins later is sent them as added, like a fresh backend
+ * listener would be. They are sent in key order, the order of the paged
+ * reads, whatever order they were added in. Value listeners are shared the same way and keep the
+ * last value, which a later subscriber is sent right away.
+ */
+public class ListenerRegistry {
+
+    private final static Logger logger = Logger.getLogger(ListenerRegistry.class);
+
+    private final StorageBackend backend;
+    private final ConcurrentHashMap<String, SharedListener> shared = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, SharedValueListener> sharedValues = new ConcurrentHashMap<>();
+
+    public ListenerRegistry(StorageBackend backend) {
+        this.backend = backend;
+    }
+
+    public synchronized void addChildListener(String path, ChildListener listener) {
+        String normalized = Paths.normalize(path);
+        SharedListener sharedListener = shared.get(normalized);
+        if (sharedListener == null) {
+            sharedListener = new SharedListener(normalized);
+            shared.put(normalized, sharedListener);
+            sharedListener.subscribe(listener);
+            backend.addChildListener(normalized, sharedListener);
+            logger.info("Attached listener on " + normalized);
+            return;
+        }
+        sharedListener.subscribe(listener);
+    }
+
+    public synchronized void removeChildListener(String path, ChildListener listener) {
+        String normalized = Paths.normalize(path);
+        SharedListener sharedListener = shared.get(normalized);
+        if (sharedListener == null || !sharedListener.unsubscribe(listener)) {
+            return;
+        }
+        if (sharedListener.isIdle()) {
+            shared.remove(normalized);
+            backend.removeChildListener(normalized, sharedListener);
+            logger.info("Detached listener on " + normalized);
+        }
+    }
+
+    public synchronized void addValueListener(String path, ValueListener listener) {
+        String normalized = Paths.normalize(path);
+        SharedValueListener sharedListener = sharedValues.get(normalized);
+        if (sharedListener == null) {
+            sharedListener = new SharedValueListener(normalized);
+            sharedValues.put(normalized, sharedListener);
+            sharedListener.subscribe(listener);
+            backend.addValueListener(normalized, sharedListener);
+            logger.info("Attached value listener on " + normalized);
+            return;
+        }
+        sharedListener.subscribe(listener);
+    }
+
+    public synchronized void removeValueListener(String path, ValueListener listener) {
+        String normalized = Paths.normalize(path);
+        SharedValueListener sharedListener = sharedValues.get(normalized);
+        if (sharedListener == null || !sharedListener.subscribers.remove(listener)) {
+            return;
+        }
+        if (sharedListener.subscribers.isEmpty()) {
+            sharedValues.remove(normalized);
+            backend.removeValueListener(normalized, sharedListener);
+            logger.info("Detached value listener on " + normalized);
+        }
+    }
+
+    /**
+     * Number of backend listeners currently attached.
+     */
+    public int getAttachedCount() {
+        return shared.size() + sharedValues.size();
+    }
+
+    private class SharedListener implements ChildListener {
+
+        private final String path;
+        private final List<ChildListener> subscribers = new CopyOnWriteArrayList<>();
+        // key ordered, a page cursor taken from the replay resumes a paged read
+        private final Map<String, Snapshot> children = new TreeMap<>();
+
+        SharedListener(String path) {
+            this.path = path;
+        }
+
+        synchronized void subscribe(ChildListener listener) {
+            subscribers.add(listener);
+            String previous = null;
+            for (Snapshot child : children.values()) {
+                listener.onChildAdded(child, previous);
+                previous = child.getKey();
+            }
+        }
+
+        boolean unsubscribe(ChildListener listener) {
+            return subscribers.remove(listener);
+        }
+
+        boolean isIdle() {
+            return subscribers.isEmpty();
+        }
+
+        @Override
+        public synchronized void onChildAdded(Snapshot snapshot, String previousChildKey) {
+            children.put(snapshot.getKey(), snapshot);
+            for (ChildListener subscriber : subscribers) {
+                subscriber.onChildAdded(snapshot, previousChildKey);
+            }
+        }
+
+        @Override
+        public synchronized void onChildChanged(Snapshot snapshot, String previousChildKey) {
+            children.put(snapshot.getKey(), snapshot);
+            for (ChildListener subscriber : subscribers) {
+                subscriber.onChildChanged(snapshot, previousChildKey);
+            }
+        }
+
+        @Override
+        public synchronized void onChildRemoved(Snapshot snapshot) {
+            children.remove(snapshot.getKey());
+            for (ChildListener subscriber : subscribers) {
+                subscriber.onChildRemoved(snapshot);
+            }
+        }
+
+        @Override
+        public void onCancelled(Exception e) {
+            // the backend dropped this listener, the next subscriber attaches a new one
+            shared.remove(path, this);
+            List<ChildListener> cancelled;
+            synchronized (this) {
+                cancelled = new ArrayList<>(subscribers);
+                subscribers.clear();
+                children.clear();
+            }
+            for (ChildListener subscriber : cancelled) {
+                subscriber.onCancelled(e);
+            }
+        }
+    }
+
+    private class SharedValueListener implements ValueListener {
+
+        private final String path;
+        private final List<ValueListener> subscribers = new CopyOnWriteArrayList<>();
+        // null until the backend sent the first value
+        private Snapshot last;
+
+        SharedValueListener(String path) {
+            this.path = path;
+        }
+
+        synchronized void subscribe(ValueListener listener) {
+            subscribers.add(listener);
+            if (last != null) {
+                listener.onValue(last);
+            }
+        }
+
+        @Override
+        public synchronized void onValue(Snapshot snapshot) {
+            last = snapshot;
+            for (ValueListener subscriber : subscribers) {
+                subscriber.onValue(snapshot);
+            }
+        }
+
+        @Override
+        public void onCancelled(Exception e) {
+            // the backend dropped this listener, the next subscriber attaches a new one
+            sharedValues.remove(path, this);
+            List<ValueListener> cancelled;
+            synchronized (this) {
+                cancelled = new ArrayList<>(subscribers);
+                subscribers.clear();
+                last = null;
+            }
+            for (ValueListener subscriber : cancelled) {
+                subscriber.onCancelled(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+package storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Helpers for slash separated storage paths.
+ */
+public final class Paths {
+
+    // limits Firebase enforces on a write before it is sent
+    public static final int MAX_PATH_BYTES = 768;
+    public static final int MAX_PATH_DEPTH = 32;
+
+    private Paths() {
+    }
+
+    /**
+     * Checks a multi-path update of the root the way Firebase does before it
+     * accepts it: keys without forbidden characters, paths of at most
+     * {@link #MAX_PATH_BYTES} bytes and {@link #MAX_PATH_DEPTH} keys, nested
+     * values included, and no path below another one of the update.
+     *
+     * @throws IllegalArgumentException for the first problem found
+     */
+    public static void checkUpdate(Map<String, Object> update) {
+        TreeSet<String> paths = new TreeSet<>();
+        for (Map.Entry<String, Object> entry : update.entrySet()) {
+            String path = normalize(entry.getKey());
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("Empty path in update");
+            }
+            if (!paths.add(path)) {
+                throw new IllegalArgumentException("Path " + path + " is in the update twice");
+            }
+            String[] segments = segments(path);
+            for (String segment : segments) {
+                checkKey(segment);
+            }
+            checkValue(path, path.getBytes(StandardCharsets.UTF_8).length, segments.length, entry.getValue());
+        }
+        for (String path : paths) {
+            for (int slash = path.lastIndexOf('/'); slash > 0; slash = path.lastIndexOf('/', slash - 1)) {
+                if (paths.contains(path.substring(0, slash))) {
+                    throw new IllegalArgumentException("Path " + path.substring(0, slash) + " is an ancestor of " + path);
+                }
+            }
+        }
+    }
+
+    private static void checkValue(String path, int bytes, int depth, Object value) {
+        if (bytes > MAX_PATH_BYTES) {
+            throw new IllegalArgumentException("Path longer than " + MAX_PATH_BYTES + " bytes: " + path);
+        }
+        if (depth > MAX_PATH_DEPTH) {
+            throw new IllegalArgumentException("Path deeper than " + MAX_PATH_DEPTH + " keys: " + path);
+        }
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> child : ((Map<?, ?>) value).entrySet()) {
+                String key = String.valueOf(child.getKey());
+                checkKey(key);
+                checkValue(path + '/' + key, bytes + 1 + key.getBytes(StandardCharsets.UTF_8).length, depth + 1,
+                        child.getValue());
+            }
+        }
+    }
+
+    private static void checkKey(String key) {
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("Empty key");
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 0x20 || c == 0x7f || c == '/' || ".#$[]".indexOf(c) >= 0) {
+                throw new IllegalArgumentException("Key contains a forbidden character: " + key);
+            }
+        }
+    }
+
+    /**
+     * Joins paths with slashes. The first may be empty for the root, every
+     * later one must name a child.
+     *
+     * @throws IllegalArgumentException for an empty later path, e.g. an empty uid
+     */
+    public static String join(String... segments) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            String normalized = normalize(segments[i]);
+            if (normalized.isEmpty()) {
+                if (i > 0) {
+                    throw new IllegalArgumentException("Empty path segment in " + Arrays.toString(segments));
+                }
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append('/');
+            }
+            builder.append(normalized);
+        }
+        return builder.toString();
+    }
+
+    public static String normalize(String path) {
+        if (path.indexOf('/') < 0) {
+            return path;
+        }
+        StringBuilder builder = new StringBuilder(path.length());
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append('/');
+            }
+            builder.append(segment);
+        }
+        return builder.toString();
+    }
+
+    static String[] segments(String normalized) {
+        return normalized.isEmpty() ? new String[0] : normalized.split("/");
+    }
+
+}
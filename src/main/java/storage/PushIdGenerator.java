@@ -0,0 +1,48 @@
+package storage;
+
+import java.util.Random;
+
+/**
+ * Generates Firebase compatible push keys: 8 characters of timestamp followed
+ * by 12 random characters, so keys sort in creation order.
+ */
+class PushIdGenerator {
+
+    private static final String PUSH_CHARS = "-0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz";
+
+    private final Random random = new Random();
+    private final int[] lastRandChars = new int[12];
+    private long lastPushTime;
+
+    synchronized String next() {
+        long now = System.currentTimeMillis();
+        boolean duplicateTime = now == lastPushTime;
+        lastPushTime = now;
+
+        char[] id = new char[20];
+        for (int i = 7; i >= 0; i--) {
+            id[i] = PUSH_CHARS.charAt((int) (now % 64));
+            now = now / 64;
+        }
+
+        if (!duplicateTime) {
+            for (int i = 0; i < 12; i++) {
+                lastRandChars[i] = random.nextInt(64);
+            }
+        } else {
+            int i = 11;
+            while (i >= 0 && lastRandChars[i] == 63) {
+                lastRandChars[i] = 0;
+                i--;
+            }
+            if (i >= 0) {
+                lastRandChars[i]++;
+            }
+        }
+        for (int i = 0; i < 12; i++) {
+            id[8 + i] = PUSH_CHARS.charAt(lastRandChars[i]);
+        }
+        return new String(id);
+    }
+
+}
@@ -0,0 +1,58 @@
+package storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of a storage node: its key and its value, where a value is
+ * either a leaf (String, Long, Double, Boolean) or a Map of child values.
+ */
+public final class Snapshot {
+
+    private final String key;
+    private final Object value;
+
+    public Snapshot(String key, Object value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public boolean exists() {
+        return value != null;
+    }
+
+    public Snapshot child(String name) {
+        if (value instanceof Map) {
+            return new Snapshot(name, ((Map<?, ?>) value).get(name));
+        }
+        return new Snapshot(name, null);
+    }
+
+    public List<Snapshot> getChildren() {
+        if (!(value instanceof Map)) {
+            return Collections.emptyList();
+        }
+        Map<?, ?> map = (Map<?, ?>) value;
+        List<Snapshot> children = new ArrayList<>(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            children.add(new Snapshot((String) entry.getKey(), entry.getValue()));
+        }
+        return children;
+    }
+
+    @Override
+    public String toString() {
+        return "Snapshot(" + key + ": " + value + ")";
+    }
+
+}
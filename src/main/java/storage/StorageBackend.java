@@ -0,0 +1,53 @@
+package storage;
+
+import com.google.api.core.ApiFuture;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storage operations used by the handbook service. Paths are slash separated
+ * and relative to the database root, e.g. "books/{bookUid}/chapters".
+ * Values are Strings, Numbers, Booleans or Maps of such values.
+ */
+public interface StorageBackend {
+
+    void addChildListener(String path, ChildListener listener);
+
+    void removeChildListener(String path, ChildListener listener);
+
+    void addValueListener(String path, ValueListener listener);
+
+    void removeValueListener(String path, ValueListener listener);
+
+    /**
+     * Reads the current value of a path once. Completes after the events of
+     * listeners registered before the call, with a Snapshot whose value is
+     * null if nothing is stored there.
+     */
+    ApiFuture<Snapshot> get(String path);
+
+    /**
+     * Reads up to {@code limit} children of a path in key order, starting
+     * after {@code startAfter}, or from the first child when it is null.
+     */
+    ApiFuture<List<Snapshot>> getChildren(String path, String startAfter, int limit);
+
+    ApiFuture<Void> setValue(String path, Object value);
+
+    ApiFuture<Void> removeValue(String path);
+
+    /**
+     * Writes several paths relative to {@code path} in one atomic update.
+     * Keys may contain slashes, a null value removes the path. No key may be
+     * an ancestor of another key.
+     */
+    ApiFuture<Void> updateChildren(String path, Map<String, Object> values);
+
+    /**
+     * Generates a new, chronologically ordered child key under the given path.
+     * Nothing is written until a value is set under the returned key.
+     */
+    String push(String path);
+
+}
@@ -0,0 +1,18 @@
+package storage;
+
+/**
+ * Receives the whole value of a storage path, once right after registration
+ * and then once per write that changes it, however many of its children the
+ * write touched. Mirrors Firebase's ValueEventListener, events are delivered
+ * on the backend's event thread.
+ */
+public interface ValueListener {
+
+    /**
+     * @param snapshot the new value, not existing when the path was removed
+     */
+    void onValue(Snapshot snapshot);
+
+    void onCancelled(Exception e);
+
+}
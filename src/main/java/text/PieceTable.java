@@ -0,0 +1,156 @@
+package text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Editable text as a sequence of pieces of two buffers: the original text,
+ * which is never copied, and an append-only buffer of inserted text. An
+ * edit splits at most two pieces and appends the inserted characters, so
+ * its cost depends on the number of pieces and the size of the edit, not
+ * on the length of the text.
+ */
+public class PieceTable {
+
+    private final String original;
+    private final StringBuilder added = new StringBuilder();
+    private final List<Piece> pieces = new ArrayList<>();
+    private int length;
+
+    public PieceTable(String original) {
+        this.original = original;
+        this.length = original.length();
+        if (length > 0) {
+            pieces.add(new Piece(false, 0, length));
+        }
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int pieceCount() {
+        return pieces.size();
+    }
+
+    public void insert(int offset, String text) {
+        checkRange(offset, 0);
+        if (text.isEmpty()) {
+            return;
+        }
+        Piece piece = new Piece(true, added.length(), text.length());
+        added.append(text);
+        int index = split(offset);
+        // extend the previous piece when the insert continues it, e.g. while typing
+        if (index > 0) {
+            Piece previous = pieces.get(index - 1);
+            if (previous.added && previous.start + previous.length == piece.start) {
+                previous.length += piece.length;
+                length += piece.length;
+                return;
+            }
+        }
+        pieces.add(index, piece);
+        length += piece.length;
+    }
+
+    public void delete(int offset, int count) {
+        checkRange(offset, count);
+        if (count == 0) {
+            return;
+        }
+        int first = split(offset);
+        int last = split(offset + count);
+        pieces.subList(first, last).clear();
+        length -= count;
+    }
+
+    private void checkRange(int offset, int count) {
+        if (offset < 0 || count < 0 || offset + count > length) {
+            throw new IndexOutOfBoundsException("Range " + offset + "+" + count + " outside text of length " + length);
+        }
+    }
+
+    /**
+     * Splits the piece containing offset, so a piece starts there.
+     *
+     * @return the index of the piece starting at offset, or the piece count at the end
+     */
+    private int split(int offset) {
+        int position = 0;
+        for (int i = 0; i < pieces.size(); i++) {
+            Piece piece = pieces.get(i);
+            if (offset == position) {
+                return i;
+            }
+            if (offset < position + piece.length) {
+                int head = offset - position;
+                pieces.add(i + 1, new Piece(piece.added, piece.start + head, piece.length - head));
+                piece.length = head;
+                return i + 1;
+            }
+            position += piece.length;
+        }
+        return pieces.size();
+    }
+
+    /**
+     * Copies the characters from start to end, without building the whole text.
+     */
+    public String substring(int start, int end) {
+        if (start < 0 || end < start || end > length) {
+            throw new IndexOutOfBoundsException("Range " + start + ".." + end + " outside text of length " + length);
+        }
+        StringBuilder text = new StringBuilder(end - start);
+        int position = 0;
+        for (Piece piece : pieces) {
+            if (position >= end) {
+                break;
+            }
+            int from = Math.max(start, position);
+            int to = Math.min(end, position + piece.length);
+            if (from < to) {
+                CharSequence buffer = piece.added ? added : original;
+                text.append(buffer, piece.start + from - position, piece.start + to - position);
+            }
+            position += piece.length;
+        }
+        return text.toString();
+    }
+
+    public char charAt(int index) {
+        int position = 0;
+        for (Piece piece : pieces) {
+            if (index < position + piece.length) {
+                CharSequence buffer = piece.added ? added : original;
+                return buffer.charAt(piece.start + index - position);
+            }
+            position += piece.length;
+        }
+        throw new IndexOutOfBoundsException("Index " + index + " outside text of length " + length);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(length);
+        for (Piece piece : pieces) {
+            CharSequence buffer = piece.added ? added : original;
+            text.append(buffer, piece.start, piece.start + piece.length);
+        }
+        return text.toString();
+    }
+
+    private static class Piece {
+
+        final boolean added;
+        final int start;
+        int length;
+
+        Piece(boolean added, int start, int length) {
+            this.added = added;
+            this.start = start;
+            this.length = length;
+        }
+    }
+
+}
@@ -0,0 +1,505 @@
+package text;
+
+import cache.ChildrenCache;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import org.apache.log4j.Logger;
+import org.apache.thrift.async.AsyncMethodCallback;
+import storage.ChildListener;
+import storage.ListenerRegistry;
+import storage.Paths;
+import storage.Snapshot;
+import thrift.ChapterText;
+import thrift.TextEdit;
+import thrift.TextRange;
+import thrift.VersionConflict;
+import write.Writer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live text fields that are edited with positional edits instead of being
+ * replaced as a whole. A document holds the text of one field in a
+ * PieceTable and numbers its states with versions. Edits are applied in
+ * memory, sent to the edit listeners of the field, and the whole text is
+ * written to storage once the persist delay after the first unsaved edit
+ * has passed.
+ * <p>
+ * A document listens to its field, a value written by anyone else replaces
+ * the text and moves the version on. Documents that have not been read or
+ * edited for a while are dropped and loaded again on the next access.
+ */
+public class TextDocuments {
+
+    private final static Logger logger = Logger.getLogger(TextDocuments.class);
+
+    private static final long IDLE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    // own writes remembered to tell them apart from writes of others
+    private static final int RECENT_WRITES = 4;
+
+    private final ChildrenCache cache;
+    private final ListenerRegistry listeners;
+    private final Writer writer;
+    private final String field;
+    private final long persistDelayMillis;
+    private final ScheduledExecutorService timer;
+
+    // guarded by this, by path of the parent node
+    private final Map<String, ApiFuture<Document>> documents = new HashMap<>();
+    private final Map<String, List<TextEditListener>> editListeners = new HashMap<>();
+
+    public TextDocuments(ChildrenCache cache, ListenerRegistry listeners, Writer writer, String field,
+                         long persistDelayMillis) {
+        this.cache = cache;
+        this.listeners = listeners;
+        this.writer = writer;
+        this.field = field;
+        this.persistDelayMillis = persistDelayMillis;
+        this.timer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "text-persist");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * The current text of the field below path and its version.
+     */
+    public void getText(final String path, final AsyncMethodCallback<ChapterText> callback) {
+        ApiFutures.addCallback(open(path), new ApiFutureCallback<Document>() {
+            @Override
+            public void onSuccess(Document document) {
+                ChapterText text = document.text();
+                if (text == null) {
+                    // dropped while idle, load it again
+                    getText(path, callback);
+                    return;
+                }
+                callback.onComplete(text);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                callback.onError(asException(t));
+            }
+        });
+    }
+
+    /**
+     * Reads at most maxLength units of the text from offset. Only the range
+     * is copied, a range never ends between the two halves of a surrogate
+     * pair.
+     */
+    public void read(final String path, final int offset, final int maxLength,
+                     final AsyncMethodCallback<TextRange> callback) {
+        ApiFutures.addCallback(open(path), new ApiFutureCallback<Document>() {
+            @Override
+            public void onSuccess(Document document) {
+                TextRange range;
+                try {
+                    range = document.range(offset, maxLength);
+                } catch (RuntimeException e) {
+                    callback.onError(e);
+                    return;
+                }
+                if (range == null) {
+                    // dropped while idle, load it again
+                    read(path, offset, maxLength, callback);
+                    return;
+                }
+                callback.onComplete(range);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                callback.onError(asException(t));
+            }
+        });
+    }
+
+    /**
+     * Applies the edits, in order, to the text of baseVersion and answers
+     * with the version they produce, or fails with a VersionConflict.
+     */
+    public void edit(final String path, final long baseVersion, final List<TextEdit> edits,
+                     final AsyncMethodCallback<Long> callback) {
+        ApiFutures.addCallback(open(path), new ApiFutureCallback<Document>() {
+            @Override
+            public void onSuccess(Document document) {
+                long version;
+                try {
+                    version = document.apply(baseVersion, edits);
+                } catch (VersionConflict | RuntimeException e) {
+                    callback.onError(e);
+                    return;
+                }
+                if (version < 0) {
+                    // dropped while idle, load it again
+                    edit(path, baseVersion, edits, callback);
+                    return;
+                }
+                callback.onComplete(version);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                callback.onError(asException(t));
+            }
+        });
+    }
+
+    public synchronized void addEditListener(String path, TextEditListener listener) {
+        String normalized = Paths.normalize(path);
+        List<TextEditListener> registered = editListeners.get(normalized);
+        if (registered == null) {
+            registered = new CopyOnWriteArrayList<>();
+            editListeners.put(normalized, registered);
+        }
+        registered.add(listener);
+    }
+
+    public synchronized void removeEditListener(String path, TextEditListener listener) {
+        String normalized = Paths.normalize(path);
+        List<TextEditListener> registered = editListeners.get(normalized);
+        if (registered != null && registered.remove(listener) && registered.isEmpty()) {
+            editListeners.remove(normalized);
+        }
+    }
+
+    /**
+     * Whether the value is one this registry recently wrote to the field,
+     * whose edits were already sent to the edit listeners.
+     */
+    public boolean isOwnWrite(String path, Object value) {
+        ApiFuture<Document> future;
+        synchronized (this) {
+            future = documents.get(Paths.normalize(path));
+        }
+        if (future == null || !future.isDone()) {
+            return false;
+        }
+        try {
+            return future.get().wrote(value);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the unsaved text of every document now.
+     */
+    public void flush() {
+        List<ApiFuture<Document>> open;
+        synchronized (this) {
+            open = new ArrayList<>(documents.values());
+        }
+        for (ApiFuture<Document> future : open) {
+            if (future.isDone()) {
+                try {
+                    future.get().persist();
+                } catch (Exception e) {
+                    // failed to load, nothing to write
+                }
+            }
+        }
+    }
+
+    private synchronized List<TextEditListener> editListeners(String path) {
+        List<TextEditListener> registered = editListeners.get(path);
+        return registered == null ? Collections.<TextEditListener>emptyList() : registered;
+    }
+
+    private ApiFuture<Document> open(String path) {
+        final String normalized = Paths.normalize(path);
+        final SettableApiFuture<Document> loaded;
+        synchronized (this) {
+            ApiFuture<Document> existing = documents.get(normalized);
+            if (existing != null) {
+                return existing;
+            }
+            loaded = SettableApiFuture.create();
+            documents.put(normalized, loaded);
+        }
+        ApiFutures.addCallback(cache.getChildren(normalized), new ApiFutureCallback<List<Snapshot>>() {
+            @Override
+            public void onSuccess(List<Snapshot> children) {
+                if (children.isEmpty()) {
+                    onFailure(new IllegalArgumentException("Nothing stored at " + normalized));
+                    return;
+                }
+                String text = "";
+                for (Snapshot child : children) {
+                    if (field.equals(child.getKey()) && child.getValue() instanceof String) {
+                        text = (String) child.getValue();
+                    }
+                }
+                Document document = new Document(normalized, text);
+                listeners.addChildListener(normalized, document);
+                loaded.set(document);
+                document.checkIdleIn(IDLE_MILLIS);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                synchronized (TextDocuments.this) {
+                    documents.remove(normalized);
+                }
+                loaded.setException(t);
+            }
+        });
+        return loaded;
+    }
+
+    private void close(Document document) {
+        synchronized (this) {
+            ApiFuture<Document> current = documents.get(document.path);
+            try {
+                if (current != null && current.isDone() && current.get() == document) {
+                    documents.remove(document.path);
+                }
+            } catch (Exception e) {
+                // a failed load was removed already
+            }
+        }
+        listeners.removeChildListener(document.path, document);
+    }
+
+    private static Exception asException(Throwable t) {
+        return t instanceof Exception ? (Exception) t : new Exception(t);
+    }
+
+    private class Document implements ChildListener {
+
+        final String path;
+        // guarded by the document
+        private PieceTable table;
+        private long version;
+        private final ArrayDeque<String> recentWrites = new ArrayDeque<>();
+        // the last text written by someone else, not an own write for isOwnWrite
+        private String replacedBy;
+        private ScheduledFuture<?> scheduled;
+        private long lastUsed;
+        private boolean closed;
+
+        Document(String path, String text) {
+            this.path = path;
+            this.table = new PieceTable(text);
+            // versions of a reloaded document must not repeat earlier ones
+            this.version = System.currentTimeMillis() * 1000;
+            this.lastUsed = System.currentTimeMillis();
+            recentWrites.add(text);
+        }
+
+        /**
+         * @return null when the document was dropped
+         */
+        synchronized ChapterText text() {
+            if (closed) {
+                return null;
+            }
+            lastUsed = System.currentTimeMillis();
+            return new ChapterText(table.toString(), version);
+        }
+
+        /**
+         * @return null when the document was dropped
+         */
+        synchronized TextRange range(int offset, int maxLength) {
+            if (closed) {
+                return null;
+            }
+            lastUsed = System.currentTimeMillis();
+            int total = table.length();
+            if (offset < 0 || offset > total || maxLength <= 0) {
+                throw new IllegalArgumentException("Range " + offset + "+" + maxLength + " outside text of length " + total);
+            }
+            int end = (int) Math.min(total, (long) offset + maxLength);
+            if (end < total && end > offset + 1 && Character.isHighSurrogate(table.charAt(end - 1))) {
+                end--;
+            }
+            return new TextRange(table.substring(offset, end), offset, total, version, end < total ? end : -1);
+        }
+
+        /**
+         * @return the new version, or -1 when the document was dropped
+         */
+        synchronized long apply(long baseVersion, List<TextEdit> edits) throws VersionConflict {
+            if (closed) {
+                return -1;
+            }
+            if (baseVersion != version) {
+                throw new VersionConflict(version, "Text is at version " + version + ", not " + baseVersion);
+            }
+            // check every edit first, a batch applies completely or not at all
+            long length = table.length();
+            for (TextEdit edit : edits) {
+                long inserted = edit.text == null ? 0 : edit.text.length();
+                if (edit.offset < 0 || edit.deleteCount < 0 || edit.offset + (long) edit.deleteCount > length) {
+                    throw new IllegalArgumentException("Edit " + edit + " outside text of length " + length);
+                }
+                length += inserted - edit.deleteCount;
+            }
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Text too long");
+            }
+            for (TextEdit edit : edits) {
+                table.delete(edit.offset, edit.deleteCount);
+                if (edit.text != null) {
+                    table.insert(edit.offset, edit.text);
+                }
+            }
+            version++;
+            replacedBy = null;
+            lastUsed = System.currentTimeMillis();
+            if (scheduled == null) {
+                scheduled = timer.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        persist();
+                    }
+                }, persistDelayMillis, TimeUnit.MILLISECONDS);
+            }
+            // under the lock, listeners see the edits in version order
+            for (TextEditListener listener : editListeners(path)) {
+                listener.onTextEdited(version, edits);
+            }
+            return version;
+        }
+
+        void persist() {
+            String text;
+            synchronized (this) {
+                if (scheduled == null) {
+                    return;
+                }
+                scheduled.cancel(false);
+                scheduled = null;
+                text = table.toString();
+                // start over from the saved text, so pieces do not pile up
+                table = new PieceTable(text);
+                remember(text);
+            }
+            writer.write(Collections.<String, Object>singletonMap(Paths.join(path, field), text), null,
+                    new AsyncMethodCallback<Void>() {
+                        @Override
+                        public void onComplete(Void ignored) {
+                        }
+
+                        @Override
+                        public void onError(Exception e) {
+                            logger.error("Cannot save text of " + path + ": " + e.getLocalizedMessage());
+                        }
+                    });
+        }
+
+        void checkIdleIn(long delayMillis) {
+            timer.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    closeIfIdle();
+                }
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Drops the document when it was not used for the idle time and has
+         * nothing unsaved, checks again later otherwise.
+         */
+        private void closeIfIdle() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                long idle = System.currentTimeMillis() - lastUsed;
+                if (scheduled != null || idle < IDLE_MILLIS) {
+                    checkIdleIn(scheduled != null ? IDLE_MILLIS : IDLE_MILLIS - idle);
+                    return;
+                }
+                closed = true;
+            }
+            close(this);
+            logger.debug("Closed idle text document " + path);
+        }
+
+        private void remember(String text) {
+            recentWrites.add(text);
+            while (recentWrites.size() > RECENT_WRITES) {
+                recentWrites.poll();
+            }
+        }
+
+        synchronized boolean wrote(Object value) {
+            for (String text : recentWrites) {
+                if (text == value || text.equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void changed(Snapshot snapshot) {
+            if (!field.equals(snapshot.getKey())) {
+                return;
+            }
+            Object value = snapshot.getValue();
+            String text = value instanceof String ? (String) value : "";
+            long replaced;
+            synchronized (this) {
+                if (wrote(text) || text.equals(replacedBy)) {
+                    return;
+                }
+                // written by someone else, it replaces unsaved edits
+                table = new PieceTable(text);
+                replaced = ++version;
+                replacedBy = text;
+                if (scheduled != null) {
+                    scheduled.cancel(false);
+                    scheduled = null;
+                }
+            }
+            logger.info("Text of " + path + " replaced, now at version " + replaced);
+        }
+
+        @Override
+        public void onChildAdded(Snapshot snapshot, String previousChildKey) {
+            changed(snapshot);
+        }
+
+        @Override
+        public void onChildChanged(Snapshot snapshot, String previousChildKey) {
+            changed(snapshot);
+        }
+
+        @Override
+        public void onChildRemoved(Snapshot snapshot) {
+            if (field.equals(snapshot.getKey())) {
+                changed(new Snapshot(field, ""));
+            }
+        }
+
+        @Override
+        public void onCancelled(Exception e) {
+            synchronized (this) {
+                closed = true;
+            }
+            close(this);
+        }
+    }
+
+}
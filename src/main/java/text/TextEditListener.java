@@ -0,0 +1,17 @@
+package text;
+
+import thrift.TextEdit;
+
+import java.util.List;
+
+/**
+ * Receives the edits applied to a text field, in version order.
+ */
+public interface TextEditListener {
+
+    /**
+     * @param version the version the edits produced, they apply to version - 1
+     */
+    void onTextEdited(long version, List<TextEdit> edits);
+
+}
@@ -15,6 +15,10 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
   private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRING, (short)2);
   private static final org.apache.thrift.protocol.TField TYPE_FIELD_DESC = new org.apache.thrift.protocol.TField("type", org.apache.thrift.protocol.TType.I32, (short)3);
   private static final org.apache.thrift.protocol.TField UPDATE_FIELD_DESC = new org.apache.thrift.protocol.TField("update", org.apache.thrift.protocol.TType.I32, (short)4);
+  private static final org.apache.thrift.protocol.TField EDITS_FIELD_DESC = new org.apache.thrift.protocol.TField("edits", org.apache.thrift.protocol.TType.LIST, (short)5);
+  private static final org.apache.thrift.protocol.TField VERSION_FIELD_DESC = new org.apache.thrift.protocol.TField("version", org.apache.thrift.protocol.TType.I64, (short)6);
+  private static final org.apache.thrift.protocol.TField FIELD_MASK_FIELD_DESC = new org.apache.thrift.protocol.TField("fieldMask", org.apache.thrift.protocol.TType.LIST, (short)7);
+  private static final org.apache.thrift.protocol.TField FIELDS_FIELD_DESC = new org.apache.thrift.protocol.TField("fields", org.apache.thrift.protocol.TType.LIST, (short)8);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new CallbackStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new CallbackTupleSchemeFactory();
@@ -23,13 +27,21 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
   public java.lang.String event; // required
   public CallbackType type; // required
   public ValidUpdate update; // required
+  public java.util.List<TextEdit> edits; // optional
+  public long version; // optional
+  public java.util.List<java.lang.String> fieldMask; // optional
+  public java.util.List<CustomPair> fields; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     PAIR((short)1, "pair"),
     EVENT((short)2, "event"),
     TYPE((short)3, "type"),
-    UPDATE((short)4, "update");
+    UPDATE((short)4, "update"),
+    EDITS((short)5, "edits"),
+    VERSION((short)6, "version"),
+    FIELD_MASK((short)7, "fieldMask"),
+    FIELDS((short)8, "fields");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -52,6 +64,14 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
           return TYPE;
         case 4: // UPDATE
           return UPDATE;
+        case 5: // EDITS
+          return EDITS;
+        case 6: // VERSION
+          return VERSION;
+        case 7: // FIELD_MASK
+          return FIELD_MASK;
+        case 8: // FIELDS
+          return FIELDS;
         default:
           return null;
       }
@@ -92,6 +112,9 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
   }
 
   // isset id assignments
+  private static final int __VERSION_ISSET_ID = 0;
+  private byte __isset_bitfield = 0;
+  private static final _Fields optionals[] = {_Fields.EDITS,_Fields.VERSION,_Fields.FIELD_MASK,_Fields.FIELDS};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -103,6 +126,17 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.ENUM        , "CallbackType")));
     tmpMap.put(_Fields.UPDATE, new org.apache.thrift.meta_data.FieldMetaData("update", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.ENUM        , "ValidUpdate")));
+    tmpMap.put(_Fields.EDITS, new org.apache.thrift.meta_data.FieldMetaData("edits", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TextEdit.class))));
+    tmpMap.put(_Fields.VERSION, new org.apache.thrift.meta_data.FieldMetaData("version", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.FIELD_MASK, new org.apache.thrift.meta_data.FieldMetaData("fieldMask", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+    tmpMap.put(_Fields.FIELDS, new org.apache.thrift.meta_data.FieldMetaData("fields", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CustomPair.class))));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(Callback.class, metaDataMap);
   }
@@ -127,6 +161,7 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
    * Performs a deep copy on <i>other</i>.
    */
   public Callback(Callback other) {
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetPair()) {
       this.pair = new CustomPair(other.pair);
     }
@@ -139,6 +174,25 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
     if (other.isSetUpdate()) {
       this.update = other.update;
     }
+    if (other.isSetEdits()) {
+      java.util.List<TextEdit> __this__edits = new java.util.ArrayList<TextEdit>(other.edits.size());
+      for (TextEdit other_element : other.edits) {
+        __this__edits.add(new TextEdit(other_element));
+      }
+      this.edits = __this__edits;
+    }
+    this.version = other.version;
+    if (other.isSetFieldMask()) {
+      java.util.List<java.lang.String> __this__fieldMask = new java.util.ArrayList<java.lang.String>(other.fieldMask);
+      this.fieldMask = __this__fieldMask;
+    }
+    if (other.isSetFields()) {
+      java.util.List<CustomPair> __this__fields = new java.util.ArrayList<CustomPair>(other.fields.size());
+      for (CustomPair other_element : other.fields) {
+        __this__fields.add(new CustomPair(other_element));
+      }
+      this.fields = __this__fields;
+    }
   }
 
   public Callback deepCopy() {
@@ -151,6 +205,11 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
     this.event = null;
     this.type = null;
     this.update = null;
+    this.edits = null;
+    setVersionIsSet(false);
+    this.version = 0;
+    this.fieldMask = null;
+    this.fields = null;
   }
 
   public CustomPair getPair() {
@@ -249,6 +308,146 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
     }
   }
 
+  public int getEditsSize() {
+    return (this.edits == null) ? 0 : this.edits.size();
+  }
+
+  public java.util.Iterator<TextEdit> getEditsIterator() {
+    return (this.edits == null) ? null : this.edits.iterator();
+  }
+
+  public void addToEdits(TextEdit elem) {
+    if (this.edits == null) {
+      this.edits = new java.util.ArrayList<TextEdit>();
+    }
+    this.edits.add(elem);
+  }
+
+  public java.util.List<TextEdit> getEdits() {
+    return this.edits;
+  }
+
+  public Callback setEdits(java.util.List<TextEdit> edits) {
+    this.edits = edits;
+    return this;
+  }
+
+  public void unsetEdits() {
+    this.edits = null;
+  }
+
+  /** Returns true if field edits is set (has been assigned a value) and false otherwise */
+  public boolean isSetEdits() {
+    return this.edits != null;
+  }
+
+  public void setEditsIsSet(boolean value) {
+    if (!value) {
+      this.edits = null;
+    }
+  }
+
+  public long getVersion() {
+    return this.version;
+  }
+
+  public Callback setVersion(long version) {
+    this.version = version;
+    setVersionIsSet(true);
+    return this;
+  }
+
+  public void unsetVersion() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __VERSION_ISSET_ID);
+  }
+
+  /** Returns true if field version is set (has been assigned a value) and false otherwise */
+  public boolean isSetVersion() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __VERSION_ISSET_ID);
+  }
+
+  public void setVersionIsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __VERSION_ISSET_ID, value);
+  }
+
+  public int getFieldMaskSize() {
+    return (this.fieldMask == null) ? 0 : this.fieldMask.size();
+  }
+
+  public java.util.Iterator<java.lang.String> getFieldMaskIterator() {
+    return (this.fieldMask == null) ? null : this.fieldMask.iterator();
+  }
+
+  public void addToFieldMask(java.lang.String elem) {
+    if (this.fieldMask == null) {
+      this.fieldMask = new java.util.ArrayList<java.lang.String>();
+    }
+    this.fieldMask.add(elem);
+  }
+
+  public java.util.List<java.lang.String> getFieldMask() {
+    return this.fieldMask;
+  }
+
+  public Callback setFieldMask(java.util.List<java.lang.String> fieldMask) {
+    this.fieldMask = fieldMask;
+    return this;
+  }
+
+  public void unsetFieldMask() {
+    this.fieldMask = null;
+  }
+
+  /** Returns true if field fieldMask is set (has been assigned a value) and false otherwise */
+  public boolean isSetFieldMask() {
+    return this.fieldMask != null;
+  }
+
+  public void setFieldMaskIsSet(boolean value) {
+    if (!value) {
+      this.fieldMask = null;
+    }
+  }
+
+  public int getFieldsSize() {
+    return (this.fields == null) ? 0 : this.fields.size();
+  }
+
+  public java.util.Iterator<CustomPair> getFieldsIterator() {
+    return (this.fields == null) ? null : this.fields.iterator();
+  }
+
+  public void addToFields(CustomPair elem) {
+    if (this.fields == null) {
+      this.fields = new java.util.ArrayList<CustomPair>();
+    }
+    this.fields.add(elem);
+  }
+
+  public java.util.List<CustomPair> getFields() {
+    return this.fields;
+  }
+
+  public Callback setFields(java.util.List<CustomPair> fields) {
+    this.fields = fields;
+    return this;
+  }
+
+  public void unsetFields() {
+    this.fields = null;
+  }
+
+  /** Returns true if field fields is set (has been assigned a value) and false otherwise */
+  public boolean isSetFields() {
+    return this.fields != null;
+  }
+
+  public void setFieldsIsSet(boolean value) {
+    if (!value) {
+      this.fields = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, java.lang.Object value) {
     switch (field) {
     case PAIR:
@@ -283,6 +482,38 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
       }
       break;
 
+    case EDITS:
+      if (value == null) {
+        unsetEdits();
+      } else {
+        setEdits((java.util.List<TextEdit>)value);
+      }
+      break;
+
+    case VERSION:
+      if (value == null) {
+        unsetVersion();
+      } else {
+        setVersion((java.lang.Long)value);
+      }
+      break;
+
+    case FIELD_MASK:
+      if (value == null) {
+        unsetFieldMask();
+      } else {
+        setFieldMask((java.util.List<java.lang.String>)value);
+      }
+      break;
+
+    case FIELDS:
+      if (value == null) {
+        unsetFields();
+      } else {
+        setFields((java.util.List<CustomPair>)value);
+      }
+      break;
+
     }
   }
 
@@ -300,6 +531,18 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
     case UPDATE:
       return getUpdate();
 
+    case EDITS:
+      return getEdits();
+
+    case VERSION:
+      return getVersion();
+
+    case FIELD_MASK:
+      return getFieldMask();
+
+    case FIELDS:
+      return getFields();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -319,6 +562,14 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
       return isSetType();
     case UPDATE:
       return isSetUpdate();
+    case EDITS:
+      return isSetEdits();
+    case VERSION:
+      return isSetVersion();
+    case FIELD_MASK:
+      return isSetFieldMask();
+    case FIELDS:
+      return isSetFields();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -374,6 +625,42 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
         return false;
     }
 
+    boolean this_present_edits = true && this.isSetEdits();
+    boolean that_present_edits = true && that.isSetEdits();
+    if (this_present_edits || that_present_edits) {
+      if (!(this_present_edits && that_present_edits))
+        return false;
+      if (!this.edits.equals(that.edits))
+        return false;
+    }
+
+    boolean this_present_version = true && this.isSetVersion();
+    boolean that_present_version = true && that.isSetVersion();
+    if (this_present_version || that_present_version) {
+      if (!(this_present_version && that_present_version))
+        return false;
+      if (this.version != that.version)
+        return false;
+    }
+
+    boolean this_present_fieldMask = true && this.isSetFieldMask();
+    boolean that_present_fieldMask = true && that.isSetFieldMask();
+    if (this_present_fieldMask || that_present_fieldMask) {
+      if (!(this_present_fieldMask && that_present_fieldMask))
+        return false;
+      if (!this.fieldMask.equals(that.fieldMask))
+        return false;
+    }
+
+    boolean this_present_fields = true && this.isSetFields();
+    boolean that_present_fields = true && that.isSetFields();
+    if (this_present_fields || that_present_fields) {
+      if (!(this_present_fields && that_present_fields))
+        return false;
+      if (!this.fields.equals(that.fields))
+        return false;
+    }
+
     return true;
   }
 
@@ -397,6 +684,22 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
     if (isSetUpdate())
       hashCode = hashCode * 8191 + update.getValue();
 
+    hashCode = hashCode * 8191 + ((isSetEdits()) ? 131071 : 524287);
+    if (isSetEdits())
+      hashCode = hashCode * 8191 + edits.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetVersion()) ? 131071 : 524287);
+    if (isSetVersion())
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(version);
+
+    hashCode = hashCode * 8191 + ((isSetFieldMask()) ? 131071 : 524287);
+    if (isSetFieldMask())
+      hashCode = hashCode * 8191 + fieldMask.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetFields()) ? 131071 : 524287);
+    if (isSetFields())
+      hashCode = hashCode * 8191 + fields.hashCode();
+
     return hashCode;
   }
 
@@ -448,6 +751,46 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetEdits()).compareTo(other.isSetEdits());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetEdits()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.edits, other.edits);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.valueOf(isSetVersion()).compareTo(other.isSetVersion());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetVersion()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.version, other.version);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.valueOf(isSetFieldMask()).compareTo(other.isSetFieldMask());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetFieldMask()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fieldMask, other.fieldMask);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.valueOf(isSetFields()).compareTo(other.isSetFields());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetFields()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fields, other.fields);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -499,6 +842,42 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
       sb.append(this.update);
     }
     first = false;
+    if (isSetEdits()) {
+      if (!first) sb.append(", ");
+      sb.append("edits:");
+      if (this.edits == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.edits);
+      }
+      first = false;
+    }
+    if (isSetVersion()) {
+      if (!first) sb.append(", ");
+      sb.append("version:");
+      sb.append(this.version);
+      first = false;
+    }
+    if (isSetFieldMask()) {
+      if (!first) sb.append(", ");
+      sb.append("fieldMask:");
+      if (this.fieldMask == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.fieldMask);
+      }
+      first = false;
+    }
+    if (isSetFields()) {
+      if (!first) sb.append(", ");
+      sb.append("fields:");
+      if (this.fields == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.fields);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -521,6 +900,8 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
 
   private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
     try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bitfield = 0;
       read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
     } catch (org.apache.thrift.TException te) {
       throw new java.io.IOException(te);
@@ -578,6 +959,70 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 5: // EDITS
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                struct.edits = new java.util.ArrayList<TextEdit>(_list8.size);
+                TextEdit _elem9;
+                for (int _i10 = 0; _i10 < _list8.size; ++_i10)
+                {
+                  _elem9 = new TextEdit();
+                  _elem9.read(iprot);
+                  struct.edits.add(_elem9);
+                }
+                iprot.readListEnd();
+              }
+              struct.setEditsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 6: // VERSION
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.version = iprot.readI64();
+              struct.setVersionIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 7: // FIELD_MASK
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list11 = iprot.readListBegin();
+                struct.fieldMask = new java.util.ArrayList<java.lang.String>(_list11.size);
+                java.lang.String _elem12;
+                for (int _i13 = 0; _i13 < _list11.size; ++_i13)
+                {
+                  _elem12 = iprot.readString();
+                  struct.fieldMask.add(_elem12);
+                }
+                iprot.readListEnd();
+              }
+              struct.setFieldMaskIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 8: // FIELDS
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list14 = iprot.readListBegin();
+                struct.fields = new java.util.ArrayList<CustomPair>(_list14.size);
+                CustomPair _elem15;
+                for (int _i16 = 0; _i16 < _list14.size; ++_i16)
+                {
+                  _elem15 = new CustomPair();
+                  _elem15.read(iprot);
+                  struct.fields.add(_elem15);
+                }
+                iprot.readListEnd();
+              }
+              struct.setFieldsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -613,6 +1058,53 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
         oprot.writeI32(struct.update.getValue());
         oprot.writeFieldEnd();
       }
+      if (struct.edits != null) {
+        if (struct.isSetEdits()) {
+          oprot.writeFieldBegin(EDITS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.edits.size()));
+            for (TextEdit _iter17 : struct.edits)
+            {
+              _iter17.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.isSetVersion()) {
+        oprot.writeFieldBegin(VERSION_FIELD_DESC);
+        oprot.writeI64(struct.version);
+        oprot.writeFieldEnd();
+      }
+      if (struct.fieldMask != null) {
+        if (struct.isSetFieldMask()) {
+          oprot.writeFieldBegin(FIELD_MASK_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.fieldMask.size()));
+            for (java.lang.String _iter18 : struct.fieldMask)
+            {
+              oprot.writeString(_iter18);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.fields != null) {
+        if (struct.isSetFields()) {
+          oprot.writeFieldBegin(FIELDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.fields.size()));
+            for (CustomPair _iter19 : struct.fields)
+            {
+              _iter19.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -643,7 +1135,19 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
       if (struct.isSetUpdate()) {
         optionals.set(3);
       }
-      oprot.writeBitSet(optionals, 4);
+      if (struct.isSetEdits()) {
+        optionals.set(4);
+      }
+      if (struct.isSetVersion()) {
+        optionals.set(5);
+      }
+      if (struct.isSetFieldMask()) {
+        optionals.set(6);
+      }
+      if (struct.isSetFields()) {
+        optionals.set(7);
+      }
+      oprot.writeBitSet(optionals, 8);
       if (struct.isSetPair()) {
         struct.pair.write(oprot);
       }
@@ -656,12 +1160,42 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
       if (struct.isSetUpdate()) {
         oprot.writeI32(struct.update.getValue());
       }
+      if (struct.isSetEdits()) {
+        {
+          oprot.writeI32(struct.edits.size());
+          for (TextEdit _iter20 : struct.edits)
+          {
+            _iter20.write(oprot);
+          }
+        }
+      }
+      if (struct.isSetVersion()) {
+        oprot.writeI64(struct.version);
+      }
+      if (struct.isSetFieldMask()) {
+        {
+          oprot.writeI32(struct.fieldMask.size());
+          for (java.lang.String _iter21 : struct.fieldMask)
+          {
+            oprot.writeString(_iter21);
+          }
+        }
+      }
+      if (struct.isSetFields()) {
+        {
+          oprot.writeI32(struct.fields.size());
+          for (CustomPair _iter22 : struct.fields)
+          {
+            _iter22.write(oprot);
+          }
+        }
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, Callback struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(4);
+      java.util.BitSet incoming = iprot.readBitSet(8);
       if (incoming.get(0)) {
         struct.pair = new CustomPair();
         struct.pair.read(iprot);
@@ -679,6 +1213,51 @@ public class Callback implements org.apache.thrift.TBase<Callback, Callback._Fie
         struct.update = thrift.ValidUpdate.findByValue(iprot.readI32());
         struct.setUpdateIsSet(true);
       }
+      if (incoming.get(4)) {
+        {
+          org.apache.thrift.protocol.TList _list23 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+          struct.edits = new java.util.ArrayList<TextEdit>(_list23.size);
+          TextEdit _elem24;
+          for (int _i25 = 0; _i25 < _list23.size; ++_i25)
+          {
+            _elem24 = new TextEdit();
+            _elem24.read(iprot);
+            struct.edits.add(_elem24);
+          }
+        }
+        struct.setEditsIsSet(true);
+      }
+      if (incoming.get(5)) {
+        struct.version = iprot.readI64();
+        struct.setVersionIsSet(true);
+      }
+      if (incoming.get(6)) {
+        {
+          org.apache.thrift.protocol.TList _list26 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.fieldMask = new java.util.ArrayList<java.lang.String>(_list26.size);
+          java.lang.String _elem27;
+          for (int _i28 = 0; _i28 < _list26.size; ++_i28)
+          {
+            _elem27 = iprot.readString();
+            struct.fieldMask.add(_elem27);
+          }
+        }
+        struct.setFieldMaskIsSet(true);
+      }
+      if (incoming.get(7)) {
+        {
+          org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+          struct.fields = new java.util.ArrayList<CustomPair>(_list29.size);
+          CustomPair _elem30;
+          for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+          {
+            _elem30 = new CustomPair();
+            _elem30.read(iprot);
+            struct.fields.add(_elem30);
+          }
+        }
+        struct.setFieldsIsSet(true);
+      }
     }
   }
 
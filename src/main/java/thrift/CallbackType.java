@@ -14,7 +14,9 @@ import org.apache.thrift.TEnum;
 public enum CallbackType implements org.apache.thrift.TEnum {
   ADDED(0),
   CHANGED(1),
-  REMOVED(2);
+  REMOVED(2),
+  RESYNC(3),
+  EDITED(4);
 
   private final int value;
 
@@ -41,6 +43,10 @@ public enum CallbackType implements org.apache.thrift.TEnum {
         return CHANGED;
       case 2:
         return REMOVED;
+      case 3:
+        return RESYNC;
+      case 4:
+        return EDITED;
       default:
         return null;
     }
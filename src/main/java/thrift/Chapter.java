@@ -14,6 +14,7 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
   private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
   private static final org.apache.thrift.protocol.TField DESCRIPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("description", org.apache.thrift.protocol.TType.STRING, (short)2);
   private static final org.apache.thrift.protocol.TField TEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("text", org.apache.thrift.protocol.TType.STRING, (short)3);
+  private static final org.apache.thrift.protocol.TField UID_FIELD_DESC = new org.apache.thrift.protocol.TField("uid", org.apache.thrift.protocol.TType.STRING, (short)4);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new ChapterStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new ChapterTupleSchemeFactory();
@@ -21,12 +22,14 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
   public java.lang.String name; // required
   public java.lang.String description; // required
   public java.lang.String text; // required
+  public java.lang.String uid; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     NAME((short)1, "name"),
     DESCRIPTION((short)2, "description"),
-    TEXT((short)3, "text");
+    TEXT((short)3, "text"),
+    UID((short)4, "uid");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -47,6 +50,8 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
           return DESCRIPTION;
         case 3: // TEXT
           return TEXT;
+        case 4: // UID
+          return UID;
         default:
           return null;
       }
@@ -87,6 +92,7 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
   }
 
   // isset id assignments
+  private static final _Fields optionals[] = {_Fields.UID};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -96,6 +102,8 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     tmpMap.put(_Fields.TEXT, new org.apache.thrift.meta_data.FieldMetaData("text", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.UID, new org.apache.thrift.meta_data.FieldMetaData("uid", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(Chapter.class, metaDataMap);
   }
@@ -127,6 +135,9 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
     if (other.isSetText()) {
       this.text = other.text;
     }
+    if (other.isSetUid()) {
+      this.uid = other.uid;
+    }
   }
 
   public Chapter deepCopy() {
@@ -138,6 +149,7 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
     this.name = null;
     this.description = null;
     this.text = null;
+    this.uid = null;
   }
 
   public java.lang.String getName() {
@@ -212,6 +224,30 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
     }
   }
 
+  public java.lang.String getUid() {
+    return this.uid;
+  }
+
+  public Chapter setUid(java.lang.String uid) {
+    this.uid = uid;
+    return this;
+  }
+
+  public void unsetUid() {
+    this.uid = null;
+  }
+
+  /** Returns true if field uid is set (has been assigned a value) and false otherwise */
+  public boolean isSetUid() {
+    return this.uid != null;
+  }
+
+  public void setUidIsSet(boolean value) {
+    if (!value) {
+      this.uid = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, java.lang.Object value) {
     switch (field) {
     case NAME:
@@ -238,6 +274,14 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
       }
       break;
 
+    case UID:
+      if (value == null) {
+        unsetUid();
+      } else {
+        setUid((java.lang.String)value);
+      }
+      break;
+
     }
   }
 
@@ -252,6 +296,9 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
     case TEXT:
       return getText();
 
+    case UID:
+      return getUid();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -269,6 +316,8 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
       return isSetDescription();
     case TEXT:
       return isSetText();
+    case UID:
+      return isSetUid();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -315,6 +364,15 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
         return false;
     }
 
+    boolean this_present_uid = true && this.isSetUid();
+    boolean that_present_uid = true && that.isSetUid();
+    if (this_present_uid || that_present_uid) {
+      if (!(this_present_uid && that_present_uid))
+        return false;
+      if (!this.uid.equals(that.uid))
+        return false;
+    }
+
     return true;
   }
 
@@ -334,6 +392,10 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
     if (isSetText())
       hashCode = hashCode * 8191 + text.hashCode();
 
+    hashCode = hashCode * 8191 + ((isSetUid()) ? 131071 : 524287);
+    if (isSetUid())
+      hashCode = hashCode * 8191 + uid.hashCode();
+
     return hashCode;
   }
 
@@ -375,6 +437,16 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetUid()).compareTo(other.isSetUid());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetUid()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.uid, other.uid);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -418,6 +490,16 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
       sb.append(this.text);
     }
     first = false;
+    if (isSetUid()) {
+      if (!first) sb.append(", ");
+      sb.append("uid:");
+      if (this.uid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.uid);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -485,6 +567,14 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 4: // UID
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.uid = iprot.readString();
+              struct.setUidIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -515,6 +605,13 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
         oprot.writeString(struct.text);
         oprot.writeFieldEnd();
       }
+      if (struct.uid != null) {
+        if (struct.isSetUid()) {
+          oprot.writeFieldBegin(UID_FIELD_DESC);
+          oprot.writeString(struct.uid);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -542,7 +639,10 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
       if (struct.isSetText()) {
         optionals.set(2);
       }
-      oprot.writeBitSet(optionals, 3);
+      if (struct.isSetUid()) {
+        optionals.set(3);
+      }
+      oprot.writeBitSet(optionals, 4);
       if (struct.isSetName()) {
         oprot.writeString(struct.name);
       }
@@ -552,12 +652,15 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
       if (struct.isSetText()) {
         oprot.writeString(struct.text);
       }
+      if (struct.isSetUid()) {
+        oprot.writeString(struct.uid);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, Chapter struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(3);
+      java.util.BitSet incoming = iprot.readBitSet(4);
       if (incoming.get(0)) {
         struct.name = iprot.readString();
         struct.setNameIsSet(true);
@@ -570,6 +673,10 @@ public class Chapter implements org.apache.thrift.TBase<Chapter, Chapter._Fields
         struct.text = iprot.readString();
         struct.setTextIsSet(true);
       }
+      if (incoming.get(3)) {
+        struct.uid = iprot.readString();
+        struct.setUidIsSet(true);
+      }
     }
   }
 
@@ -13,17 +13,20 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
 
   private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
   private static final org.apache.thrift.protocol.TField CHAPTERS_FIELD_DESC = new org.apache.thrift.protocol.TField("chapters", org.apache.thrift.protocol.TType.LIST, (short)2);
+  private static final org.apache.thrift.protocol.TField UID_FIELD_DESC = new org.apache.thrift.protocol.TField("uid", org.apache.thrift.protocol.TType.STRING, (short)3);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new HandbookStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new HandbookTupleSchemeFactory();
 
   public java.lang.String name; // required
   public java.util.List<Chapter> chapters; // required
+  public java.lang.String uid; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     NAME((short)1, "name"),
-    CHAPTERS((short)2, "chapters");
+    CHAPTERS((short)2, "chapters"),
+    UID((short)3, "uid");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -42,6 +45,8 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
           return NAME;
         case 2: // CHAPTERS
           return CHAPTERS;
+        case 3: // UID
+          return UID;
         default:
           return null;
       }
@@ -82,6 +87,7 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
   }
 
   // isset id assignments
+  private static final _Fields optionals[] = {_Fields.UID};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -90,6 +96,8 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
     tmpMap.put(_Fields.CHAPTERS, new org.apache.thrift.meta_data.FieldMetaData("chapters", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT            , "Chapter"))));
+    tmpMap.put(_Fields.UID, new org.apache.thrift.meta_data.FieldMetaData("uid", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(Handbook.class, metaDataMap);
   }
@@ -120,6 +128,9 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
       }
       this.chapters = __this__chapters;
     }
+    if (other.isSetUid()) {
+      this.uid = other.uid;
+    }
   }
 
   public Handbook deepCopy() {
@@ -130,6 +141,7 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
   public void clear() {
     this.name = null;
     this.chapters = null;
+    this.uid = null;
   }
 
   public java.lang.String getName() {
@@ -195,6 +207,30 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
     }
   }
 
+  public java.lang.String getUid() {
+    return this.uid;
+  }
+
+  public Handbook setUid(java.lang.String uid) {
+    this.uid = uid;
+    return this;
+  }
+
+  public void unsetUid() {
+    this.uid = null;
+  }
+
+  /** Returns true if field uid is set (has been assigned a value) and false otherwise */
+  public boolean isSetUid() {
+    return this.uid != null;
+  }
+
+  public void setUidIsSet(boolean value) {
+    if (!value) {
+      this.uid = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, java.lang.Object value) {
     switch (field) {
     case NAME:
@@ -213,6 +249,14 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
       }
       break;
 
+    case UID:
+      if (value == null) {
+        unsetUid();
+      } else {
+        setUid((java.lang.String)value);
+      }
+      break;
+
     }
   }
 
@@ -224,6 +268,9 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
     case CHAPTERS:
       return getChapters();
 
+    case UID:
+      return getUid();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -239,6 +286,8 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
       return isSetName();
     case CHAPTERS:
       return isSetChapters();
+    case UID:
+      return isSetUid();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -276,6 +325,15 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
         return false;
     }
 
+    boolean this_present_uid = true && this.isSetUid();
+    boolean that_present_uid = true && that.isSetUid();
+    if (this_present_uid || that_present_uid) {
+      if (!(this_present_uid && that_present_uid))
+        return false;
+      if (!this.uid.equals(that.uid))
+        return false;
+    }
+
     return true;
   }
 
@@ -291,6 +349,10 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
     if (isSetChapters())
       hashCode = hashCode * 8191 + chapters.hashCode();
 
+    hashCode = hashCode * 8191 + ((isSetUid()) ? 131071 : 524287);
+    if (isSetUid())
+      hashCode = hashCode * 8191 + uid.hashCode();
+
     return hashCode;
   }
 
@@ -322,6 +384,16 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetUid()).compareTo(other.isSetUid());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetUid()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.uid, other.uid);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -357,6 +429,16 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
       sb.append(this.chapters);
     }
     first = false;
+    if (isSetUid()) {
+      if (!first) sb.append(", ");
+      sb.append("uid:");
+      if (this.uid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.uid);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -427,6 +509,14 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 3: // UID
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.uid = iprot.readString();
+              struct.setUidIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -459,6 +549,13 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
         }
         oprot.writeFieldEnd();
       }
+      if (struct.uid != null) {
+        if (struct.isSetUid()) {
+          oprot.writeFieldBegin(UID_FIELD_DESC);
+          oprot.writeString(struct.uid);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -483,7 +580,10 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
       if (struct.isSetChapters()) {
         optionals.set(1);
       }
-      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetUid()) {
+        optionals.set(2);
+      }
+      oprot.writeBitSet(optionals, 3);
       if (struct.isSetName()) {
         oprot.writeString(struct.name);
       }
@@ -496,12 +596,15 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
           }
         }
       }
+      if (struct.isSetUid()) {
+        oprot.writeString(struct.uid);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, Handbook struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(2);
+      java.util.BitSet incoming = iprot.readBitSet(3);
       if (incoming.get(0)) {
         struct.name = iprot.readString();
         struct.setNameIsSet(true);
@@ -520,6 +623,10 @@ public class Handbook implements org.apache.thrift.TBase<Handbook, Handbook._Fie
         }
         struct.setChaptersIsSet(true);
       }
+      if (incoming.get(2)) {
+        struct.uid = iprot.readString();
+        struct.setUidIsSet(true);
+      }
     }
   }
 
@@ -22,6 +22,8 @@ public class Storage {
 
     public Callback getChapter(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException;
 
+    public Callback watchChapter(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException;
+
     public void updateChapter(java.lang.String bookUid, java.lang.String chapterUid, Chapter chapter) throws org.apache.thrift.TException;
 
     public void removeBook(java.lang.String bookUid) throws org.apache.thrift.TException;
@@ -32,11 +34,39 @@ public class Storage {
 
     public void addChapter(java.lang.String bookUid, java.lang.String chapterName) throws org.apache.thrift.TException;
 
-    public java.util.List<Callback> subscribeForBookList() throws org.apache.thrift.TException;
+    public Page getBookListSnapshot(int pageSize) throws org.apache.thrift.TException;
+
+    public Page getBookChaptersSnapshot(java.lang.String bookUid, int pageSize) throws org.apache.thrift.TException;
+
+    public java.util.List<Callback> getChapterSnapshot(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException;
+
+    public Page getBookListPage(int pageSize, java.lang.String cursor) throws org.apache.thrift.TException;
+
+    public Page getBookChaptersPage(java.lang.String bookUid, int pageSize, java.lang.String cursor) throws org.apache.thrift.TException;
+
+    public java.util.List<ChapterResult> getChapters(java.util.List<ChapterRef> refs) throws org.apache.thrift.TException;
+
+    public Handbook getHandbook(java.lang.String bookUid) throws org.apache.thrift.TException;
+
+    public java.util.List<SearchHit> search(java.lang.String query, int limit) throws org.apache.thrift.TException;
 
-    public java.util.List<Callback> subscribeForBookChapters(java.lang.String bookUid) throws org.apache.thrift.TException;
+    public java.util.List<Suggestion> suggest(java.lang.String prefix, int limit) throws org.apache.thrift.TException;
 
-    public java.util.List<Callback> subscribeForChapter(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException;
+    public java.util.List<java.lang.String> applyBatch(java.util.List<Mutation> mutations) throws org.apache.thrift.TException;
+
+    public void patchChapter(java.lang.String bookUid, java.lang.String chapterUid, Chapter chapter, java.util.List<java.lang.String> fieldMask) throws org.apache.thrift.TException;
+
+    public ChapterText getChapterText(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException;
+
+    public long editChapterText(java.lang.String bookUid, java.lang.String chapterUid, long baseVersion, java.util.List<TextEdit> edits) throws VersionConflict, org.apache.thrift.TException;
+
+    public TextRange getChapterTextRange(java.lang.String bookUid, java.lang.String chapterUid, int offset, int length) throws org.apache.thrift.TException;
+
+    public java.util.List<Callback> subscribeForBookList(long timeoutMillis) throws org.apache.thrift.TException;
+
+    public java.util.List<Callback> subscribeForBookChapters(java.lang.String bookUid, long timeoutMillis) throws org.apache.thrift.TException;
+
+    public java.util.List<Callback> subscribeForChapter(java.lang.String bookUid, java.lang.String chapterUid, long timeoutMillis) throws org.apache.thrift.TException;
 
   }
 
@@ -52,6 +82,8 @@ public class Storage {
 
     public void getChapter(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<Callback> resultHandler) throws org.apache.thrift.TException;
 
+    public void watchChapter(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<Callback> resultHandler) throws org.apache.thrift.TException;
+
     public void updateChapter(java.lang.String bookUid, java.lang.String chapterUid, Chapter chapter, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void removeBook(java.lang.String bookUid, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
@@ -62,11 +94,39 @@ public class Storage {
 
     public void addChapter(java.lang.String bookUid, java.lang.String chapterName, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
-    public void subscribeForBookList(org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException;
+    public void getBookListSnapshot(int pageSize, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler) throws org.apache.thrift.TException;
 
-    public void subscribeForBookChapters(java.lang.String bookUid, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException;
+    public void getBookChaptersSnapshot(java.lang.String bookUid, int pageSize, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler) throws org.apache.thrift.TException;
 
-    public void subscribeForChapter(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException;
+    public void getChapterSnapshot(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException;
+
+    public void getBookListPage(int pageSize, java.lang.String cursor, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler) throws org.apache.thrift.TException;
+
+    public void getBookChaptersPage(java.lang.String bookUid, int pageSize, java.lang.String cursor, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler) throws org.apache.thrift.TException;
+
+    public void getChapters(java.util.List<ChapterRef> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ChapterResult>> resultHandler) throws org.apache.thrift.TException;
+
+    public void getHandbook(java.lang.String bookUid, org.apache.thrift.async.AsyncMethodCallback<Handbook> resultHandler) throws org.apache.thrift.TException;
+
+    public void search(java.lang.String query, int limit, org.apache.thrift.async.AsyncMethodCallback<java.util.List<SearchHit>> resultHandler) throws org.apache.thrift.TException;
+
+    public void suggest(java.lang.String prefix, int limit, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Suggestion>> resultHandler) throws org.apache.thrift.TException;
+
+    public void applyBatch(java.util.List<Mutation> mutations, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException;
+
+    public void patchChapter(java.lang.String bookUid, java.lang.String chapterUid, Chapter chapter, java.util.List<java.lang.String> fieldMask, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
+    public void getChapterText(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<ChapterText> resultHandler) throws org.apache.thrift.TException;
+
+    public void editChapterText(java.lang.String bookUid, java.lang.String chapterUid, long baseVersion, java.util.List<TextEdit> edits, org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> resultHandler) throws org.apache.thrift.TException;
+
+    public void getChapterTextRange(java.lang.String bookUid, java.lang.String chapterUid, int offset, int length, org.apache.thrift.async.AsyncMethodCallback<TextRange> resultHandler) throws org.apache.thrift.TException;
+
+    public void subscribeForBookList(long timeoutMillis, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException;
+
+    public void subscribeForBookChapters(java.lang.String bookUid, long timeoutMillis, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException;
+
+    public void subscribeForChapter(java.lang.String bookUid, java.lang.String chapterUid, long timeoutMillis, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException;
 
   }
 
@@ -200,6 +260,30 @@ public class Storage {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getChapter failed: unknown result");
     }
 
+    public Callback watchChapter(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException
+    {
+      send_watchChapter(bookUid, chapterUid);
+      return recv_watchChapter();
+    }
+
+    public void send_watchChapter(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException
+    {
+      watchChapter_args args = new watchChapter_args();
+      args.setBookUid(bookUid);
+      args.setChapterUid(chapterUid);
+      sendBase("watchChapter", args);
+    }
+
+    public Callback recv_watchChapter() throws org.apache.thrift.TException
+    {
+      watchChapter_result result = new watchChapter_result();
+      receiveBase(result, "watchChapter");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "watchChapter failed: unknown result");
+    }
+
     public void updateChapter(java.lang.String bookUid, java.lang.String chapterUid, Chapter chapter) throws org.apache.thrift.TException
     {
       send_updateChapter(bookUid, chapterUid, chapter);
@@ -304,15 +388,355 @@ public class Storage {
       return;
     }
 
-    public java.util.List<Callback> subscribeForBookList() throws org.apache.thrift.TException
+    public Page getBookListSnapshot(int pageSize) throws org.apache.thrift.TException
+    {
+      send_getBookListSnapshot(pageSize);
+      return recv_getBookListSnapshot();
+    }
+
+    public void send_getBookListSnapshot(int pageSize) throws org.apache.thrift.TException
+    {
+      getBookListSnapshot_args args = new getBookListSnapshot_args();
+      args.setPageSize(pageSize);
+      sendBase("getBookListSnapshot", args);
+    }
+
+    public Page recv_getBookListSnapshot() throws org.apache.thrift.TException
+    {
+      getBookListSnapshot_result result = new getBookListSnapshot_result();
+      receiveBase(result, "getBookListSnapshot");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getBookListSnapshot failed: unknown result");
+    }
+
+    public Page getBookChaptersSnapshot(java.lang.String bookUid, int pageSize) throws org.apache.thrift.TException
+    {
+      send_getBookChaptersSnapshot(bookUid, pageSize);
+      return recv_getBookChaptersSnapshot();
+    }
+
+    public void send_getBookChaptersSnapshot(java.lang.String bookUid, int pageSize) throws org.apache.thrift.TException
+    {
+      getBookChaptersSnapshot_args args = new getBookChaptersSnapshot_args();
+      args.setBookUid(bookUid);
+      args.setPageSize(pageSize);
+      sendBase("getBookChaptersSnapshot", args);
+    }
+
+    public Page recv_getBookChaptersSnapshot() throws org.apache.thrift.TException
+    {
+      getBookChaptersSnapshot_result result = new getBookChaptersSnapshot_result();
+      receiveBase(result, "getBookChaptersSnapshot");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getBookChaptersSnapshot failed: unknown result");
+    }
+
+    public java.util.List<Callback> getChapterSnapshot(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException
+    {
+      send_getChapterSnapshot(bookUid, chapterUid);
+      return recv_getChapterSnapshot();
+    }
+
+    public void send_getChapterSnapshot(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException
+    {
+      getChapterSnapshot_args args = new getChapterSnapshot_args();
+      args.setBookUid(bookUid);
+      args.setChapterUid(chapterUid);
+      sendBase("getChapterSnapshot", args);
+    }
+
+    public java.util.List<Callback> recv_getChapterSnapshot() throws org.apache.thrift.TException
+    {
+      getChapterSnapshot_result result = new getChapterSnapshot_result();
+      receiveBase(result, "getChapterSnapshot");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getChapterSnapshot failed: unknown result");
+    }
+
+    public Page getBookListPage(int pageSize, java.lang.String cursor) throws org.apache.thrift.TException
+    {
+      send_getBookListPage(pageSize, cursor);
+      return recv_getBookListPage();
+    }
+
+    public void send_getBookListPage(int pageSize, java.lang.String cursor) throws org.apache.thrift.TException
+    {
+      getBookListPage_args args = new getBookListPage_args();
+      args.setPageSize(pageSize);
+      args.setCursor(cursor);
+      sendBase("getBookListPage", args);
+    }
+
+    public Page recv_getBookListPage() throws org.apache.thrift.TException
+    {
+      getBookListPage_result result = new getBookListPage_result();
+      receiveBase(result, "getBookListPage");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getBookListPage failed: unknown result");
+    }
+
+    public Page getBookChaptersPage(java.lang.String bookUid, int pageSize, java.lang.String cursor) throws org.apache.thrift.TException
+    {
+      send_getBookChaptersPage(bookUid, pageSize, cursor);
+      return recv_getBookChaptersPage();
+    }
+
+    public void send_getBookChaptersPage(java.lang.String bookUid, int pageSize, java.lang.String cursor) throws org.apache.thrift.TException
+    {
+      getBookChaptersPage_args args = new getBookChaptersPage_args();
+      args.setBookUid(bookUid);
+      args.setPageSize(pageSize);
+      args.setCursor(cursor);
+      sendBase("getBookChaptersPage", args);
+    }
+
+    public Page recv_getBookChaptersPage() throws org.apache.thrift.TException
+    {
+      getBookChaptersPage_result result = new getBookChaptersPage_result();
+      receiveBase(result, "getBookChaptersPage");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getBookChaptersPage failed: unknown result");
+    }
+
+    public java.util.List<ChapterResult> getChapters(java.util.List<ChapterRef> refs) throws org.apache.thrift.TException
+    {
+      send_getChapters(refs);
+      return recv_getChapters();
+    }
+
+    public void send_getChapters(java.util.List<ChapterRef> refs) throws org.apache.thrift.TException
+    {
+      getChapters_args args = new getChapters_args();
+      args.setRefs(refs);
+      sendBase("getChapters", args);
+    }
+
+    public java.util.List<ChapterResult> recv_getChapters() throws org.apache.thrift.TException
+    {
+      getChapters_result result = new getChapters_result();
+      receiveBase(result, "getChapters");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getChapters failed: unknown result");
+    }
+
+    public Handbook getHandbook(java.lang.String bookUid) throws org.apache.thrift.TException
+    {
+      send_getHandbook(bookUid);
+      return recv_getHandbook();
+    }
+
+    public void send_getHandbook(java.lang.String bookUid) throws org.apache.thrift.TException
+    {
+      getHandbook_args args = new getHandbook_args();
+      args.setBookUid(bookUid);
+      sendBase("getHandbook", args);
+    }
+
+    public Handbook recv_getHandbook() throws org.apache.thrift.TException
+    {
+      getHandbook_result result = new getHandbook_result();
+      receiveBase(result, "getHandbook");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getHandbook failed: unknown result");
+    }
+
+    public java.util.List<SearchHit> search(java.lang.String query, int limit) throws org.apache.thrift.TException
+    {
+      send_search(query, limit);
+      return recv_search();
+    }
+
+    public void send_search(java.lang.String query, int limit) throws org.apache.thrift.TException
+    {
+      search_args args = new search_args();
+      args.setQuery(query);
+      args.setLimit(limit);
+      sendBase("search", args);
+    }
+
+    public java.util.List<SearchHit> recv_search() throws org.apache.thrift.TException
+    {
+      search_result result = new search_result();
+      receiveBase(result, "search");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "search failed: unknown result");
+    }
+
+    public java.util.List<Suggestion> suggest(java.lang.String prefix, int limit) throws org.apache.thrift.TException
+    {
+      send_suggest(prefix, limit);
+      return recv_suggest();
+    }
+
+    public void send_suggest(java.lang.String prefix, int limit) throws org.apache.thrift.TException
+    {
+      suggest_args args = new suggest_args();
+      args.setPrefix(prefix);
+      args.setLimit(limit);
+      sendBase("suggest", args);
+    }
+
+    public java.util.List<Suggestion> recv_suggest() throws org.apache.thrift.TException
+    {
+      suggest_result result = new suggest_result();
+      receiveBase(result, "suggest");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "suggest failed: unknown result");
+    }
+
+    public java.util.List<java.lang.String> applyBatch(java.util.List<Mutation> mutations) throws org.apache.thrift.TException
+    {
+      send_applyBatch(mutations);
+      return recv_applyBatch();
+    }
+
+    public void send_applyBatch(java.util.List<Mutation> mutations) throws org.apache.thrift.TException
+    {
+      applyBatch_args args = new applyBatch_args();
+      args.setMutations(mutations);
+      sendBase("applyBatch", args);
+    }
+
+    public java.util.List<java.lang.String> recv_applyBatch() throws org.apache.thrift.TException
+    {
+      applyBatch_result result = new applyBatch_result();
+      receiveBase(result, "applyBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "applyBatch failed: unknown result");
+    }
+
+    public void patchChapter(java.lang.String bookUid, java.lang.String chapterUid, Chapter chapter, java.util.List<java.lang.String> fieldMask) throws org.apache.thrift.TException
+    {
+      send_patchChapter(bookUid, chapterUid, chapter, fieldMask);
+      recv_patchChapter();
+    }
+
+    public void send_patchChapter(java.lang.String bookUid, java.lang.String chapterUid, Chapter chapter, java.util.List<java.lang.String> fieldMask) throws org.apache.thrift.TException
+    {
+      patchChapter_args args = new patchChapter_args();
+      args.setBookUid(bookUid);
+      args.setChapterUid(chapterUid);
+      args.setChapter(chapter);
+      args.setFieldMask(fieldMask);
+      sendBase("patchChapter", args);
+    }
+
+    public void recv_patchChapter() throws org.apache.thrift.TException
+    {
+      patchChapter_result result = new patchChapter_result();
+      receiveBase(result, "patchChapter");
+      return;
+    }
+
+    public ChapterText getChapterText(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException
+    {
+      send_getChapterText(bookUid, chapterUid);
+      return recv_getChapterText();
+    }
+
+    public void send_getChapterText(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException
+    {
+      getChapterText_args args = new getChapterText_args();
+      args.setBookUid(bookUid);
+      args.setChapterUid(chapterUid);
+      sendBase("getChapterText", args);
+    }
+
+    public ChapterText recv_getChapterText() throws org.apache.thrift.TException
+    {
+      getChapterText_result result = new getChapterText_result();
+      receiveBase(result, "getChapterText");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getChapterText failed: unknown result");
+    }
+
+    public long editChapterText(java.lang.String bookUid, java.lang.String chapterUid, long baseVersion, java.util.List<TextEdit> edits) throws VersionConflict, org.apache.thrift.TException
+    {
+      send_editChapterText(bookUid, chapterUid, baseVersion, edits);
+      return recv_editChapterText();
+    }
+
+    public void send_editChapterText(java.lang.String bookUid, java.lang.String chapterUid, long baseVersion, java.util.List<TextEdit> edits) throws org.apache.thrift.TException
+    {
+      editChapterText_args args = new editChapterText_args();
+      args.setBookUid(bookUid);
+      args.setChapterUid(chapterUid);
+      args.setBaseVersion(baseVersion);
+      args.setEdits(edits);
+      sendBase("editChapterText", args);
+    }
+
+    public long recv_editChapterText() throws VersionConflict, org.apache.thrift.TException
+    {
+      editChapterText_result result = new editChapterText_result();
+      receiveBase(result, "editChapterText");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.conflict != null) {
+        throw result.conflict;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "editChapterText failed: unknown result");
+    }
+
+    public TextRange getChapterTextRange(java.lang.String bookUid, java.lang.String chapterUid, int offset, int length) throws org.apache.thrift.TException
+    {
+      send_getChapterTextRange(bookUid, chapterUid, offset, length);
+      return recv_getChapterTextRange();
+    }
+
+    public void send_getChapterTextRange(java.lang.String bookUid, java.lang.String chapterUid, int offset, int length) throws org.apache.thrift.TException
+    {
+      getChapterTextRange_args args = new getChapterTextRange_args();
+      args.setBookUid(bookUid);
+      args.setChapterUid(chapterUid);
+      args.setOffset(offset);
+      args.setLength(length);
+      sendBase("getChapterTextRange", args);
+    }
+
+    public TextRange recv_getChapterTextRange() throws org.apache.thrift.TException
+    {
+      getChapterTextRange_result result = new getChapterTextRange_result();
+      receiveBase(result, "getChapterTextRange");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getChapterTextRange failed: unknown result");
+    }
+
+    public java.util.List<Callback> subscribeForBookList(long timeoutMillis) throws org.apache.thrift.TException
     {
-      send_subscribeForBookList();
+      send_subscribeForBookList(timeoutMillis);
       return recv_subscribeForBookList();
     }
 
-    public void send_subscribeForBookList() throws org.apache.thrift.TException
+    public void send_subscribeForBookList(long timeoutMillis) throws org.apache.thrift.TException
     {
       subscribeForBookList_args args = new subscribeForBookList_args();
+      args.setTimeoutMillis(timeoutMillis);
       sendBase("subscribeForBookList", args);
     }
 
@@ -326,16 +750,17 @@ public class Storage {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "subscribeForBookList failed: unknown result");
     }
 
-    public java.util.List<Callback> subscribeForBookChapters(java.lang.String bookUid) throws org.apache.thrift.TException
+    public java.util.List<Callback> subscribeForBookChapters(java.lang.String bookUid, long timeoutMillis) throws org.apache.thrift.TException
     {
-      send_subscribeForBookChapters(bookUid);
+      send_subscribeForBookChapters(bookUid, timeoutMillis);
       return recv_subscribeForBookChapters();
     }
 
-    public void send_subscribeForBookChapters(java.lang.String bookUid) throws org.apache.thrift.TException
+    public void send_subscribeForBookChapters(java.lang.String bookUid, long timeoutMillis) throws org.apache.thrift.TException
     {
       subscribeForBookChapters_args args = new subscribeForBookChapters_args();
       args.setBookUid(bookUid);
+      args.setTimeoutMillis(timeoutMillis);
       sendBase("subscribeForBookChapters", args);
     }
 
@@ -349,17 +774,18 @@ public class Storage {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "subscribeForBookChapters failed: unknown result");
     }
 
-    public java.util.List<Callback> subscribeForChapter(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException
+    public java.util.List<Callback> subscribeForChapter(java.lang.String bookUid, java.lang.String chapterUid, long timeoutMillis) throws org.apache.thrift.TException
     {
-      send_subscribeForChapter(bookUid, chapterUid);
+      send_subscribeForChapter(bookUid, chapterUid, timeoutMillis);
       return recv_subscribeForChapter();
     }
 
-    public void send_subscribeForChapter(java.lang.String bookUid, java.lang.String chapterUid) throws org.apache.thrift.TException
+    public void send_subscribeForChapter(java.lang.String bookUid, java.lang.String chapterUid, long timeoutMillis) throws org.apache.thrift.TException
     {
       subscribeForChapter_args args = new subscribeForChapter_args();
       args.setBookUid(bookUid);
       args.setChapterUid(chapterUid);
+      args.setTimeoutMillis(timeoutMillis);
       sendBase("subscribeForChapter", args);
     }
 
@@ -554,6 +980,41 @@ public class Storage {
       }
     }
 
+    public void watchChapter(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<Callback> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      watchChapter_call method_call = new watchChapter_call(bookUid, chapterUid, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class watchChapter_call extends org.apache.thrift.async.TAsyncMethodCall<Callback> {
+      private java.lang.String bookUid;
+      private java.lang.String chapterUid;
+      public watchChapter_call(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<Callback> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.bookUid = bookUid;
+        this.chapterUid = chapterUid;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("watchChapter", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        watchChapter_args args = new watchChapter_args();
+        args.setBookUid(bookUid);
+        args.setChapterUid(chapterUid);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Callback getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_watchChapter();
+      }
+    }
+
     public void updateChapter(java.lang.String bookUid, java.lang.String chapterUid, Chapter chapter, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       updateChapter_call method_call = new updateChapter_call(bookUid, chapterUid, chapter, resultHandler, this, ___protocolFactory, ___transport);
@@ -726,86 +1187,92 @@ public class Storage {
       }
     }
 
-    public void subscribeForBookList(org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
+    public void getBookListSnapshot(int pageSize, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      subscribeForBookList_call method_call = new subscribeForBookList_call(resultHandler, this, ___protocolFactory, ___transport);
+      getBookListSnapshot_call method_call = new getBookListSnapshot_call(pageSize, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class subscribeForBookList_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<Callback>> {
-      public subscribeForBookList_call(org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+    public static class getBookListSnapshot_call extends org.apache.thrift.async.TAsyncMethodCall<Page> {
+      private int pageSize;
+      public getBookListSnapshot_call(int pageSize, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
+        this.pageSize = pageSize;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("subscribeForBookList", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        subscribeForBookList_args args = new subscribeForBookList_args();
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getBookListSnapshot", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getBookListSnapshot_args args = new getBookListSnapshot_args();
+        args.setPageSize(pageSize);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public java.util.List<Callback> getResult() throws org.apache.thrift.TException {
+      public Page getResult() throws org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_subscribeForBookList();
+        return (new Client(prot)).recv_getBookListSnapshot();
       }
     }
 
-    public void subscribeForBookChapters(java.lang.String bookUid, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
+    public void getBookChaptersSnapshot(java.lang.String bookUid, int pageSize, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      subscribeForBookChapters_call method_call = new subscribeForBookChapters_call(bookUid, resultHandler, this, ___protocolFactory, ___transport);
+      getBookChaptersSnapshot_call method_call = new getBookChaptersSnapshot_call(bookUid, pageSize, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class subscribeForBookChapters_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<Callback>> {
+    public static class getBookChaptersSnapshot_call extends org.apache.thrift.async.TAsyncMethodCall<Page> {
       private java.lang.String bookUid;
-      public subscribeForBookChapters_call(java.lang.String bookUid, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private int pageSize;
+      public getBookChaptersSnapshot_call(java.lang.String bookUid, int pageSize, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.bookUid = bookUid;
+        this.pageSize = pageSize;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("subscribeForBookChapters", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        subscribeForBookChapters_args args = new subscribeForBookChapters_args();
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getBookChaptersSnapshot", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getBookChaptersSnapshot_args args = new getBookChaptersSnapshot_args();
         args.setBookUid(bookUid);
+        args.setPageSize(pageSize);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public java.util.List<Callback> getResult() throws org.apache.thrift.TException {
+      public Page getResult() throws org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_subscribeForBookChapters();
+        return (new Client(prot)).recv_getBookChaptersSnapshot();
       }
     }
 
-    public void subscribeForChapter(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
+    public void getChapterSnapshot(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      subscribeForChapter_call method_call = new subscribeForChapter_call(bookUid, chapterUid, resultHandler, this, ___protocolFactory, ___transport);
+      getChapterSnapshot_call method_call = new getChapterSnapshot_call(bookUid, chapterUid, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class subscribeForChapter_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<Callback>> {
+    public static class getChapterSnapshot_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<Callback>> {
       private java.lang.String bookUid;
       private java.lang.String chapterUid;
-      public subscribeForChapter_call(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      public getChapterSnapshot_call(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.bookUid = bookUid;
         this.chapterUid = chapterUid;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("subscribeForChapter", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        subscribeForChapter_args args = new subscribeForChapter_args();
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getChapterSnapshot", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getChapterSnapshot_args args = new getChapterSnapshot_args();
         args.setBookUid(bookUid);
         args.setChapterUid(chapterUid);
         args.write(prot);
@@ -818,329 +1285,557 @@ public class Storage {
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_subscribeForChapter();
+        return (new Client(prot)).recv_getChapterSnapshot();
       }
     }
 
-  }
-
-  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
-    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(Processor.class.getName());
-    public Processor(I iface) {
-      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
-    }
-
-    protected Processor(I iface, java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
-
-    private static <I extends Iface> java.util.Map<java.lang.String,  org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> getProcessMap(java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      processMap.put("getBookList", new getBookList());
-      processMap.put("getBookChapters", new getBookChapters());
-      processMap.put("renameBook", new renameBook());
-      processMap.put("renameBookChapter", new renameBookChapter());
-      processMap.put("getChapter", new getChapter());
-      processMap.put("updateChapter", new updateChapter());
-      processMap.put("removeBook", new removeBook());
-      processMap.put("removeChapter", new removeChapter());
-      processMap.put("addBook", new addBook());
-      processMap.put("addChapter", new addChapter());
-      processMap.put("subscribeForBookList", new subscribeForBookList());
-      processMap.put("subscribeForBookChapters", new subscribeForBookChapters());
-      processMap.put("subscribeForChapter", new subscribeForChapter());
-      return processMap;
+    public void getBookListPage(int pageSize, java.lang.String cursor, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getBookListPage_call method_call = new getBookListPage_call(pageSize, cursor, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    public static class getBookList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getBookList_args> {
-      public getBookList() {
-        super("getBookList");
-      }
-
-      public getBookList_args getEmptyArgsInstance() {
-        return new getBookList_args();
+    public static class getBookListPage_call extends org.apache.thrift.async.TAsyncMethodCall<Page> {
+      private int pageSize;
+      private java.lang.String cursor;
+      public getBookListPage_call(int pageSize, java.lang.String cursor, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.pageSize = pageSize;
+        this.cursor = cursor;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getBookListPage", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getBookListPage_args args = new getBookListPage_args();
+        args.setPageSize(pageSize);
+        args.setCursor(cursor);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public getBookList_result getResult(I iface, getBookList_args args) throws org.apache.thrift.TException {
-        getBookList_result result = new getBookList_result();
-        result.success = iface.getBookList();
-        return result;
+      public Page getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getBookListPage();
       }
     }
 
-    public static class getBookChapters<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getBookChapters_args> {
-      public getBookChapters() {
-        super("getBookChapters");
-      }
+    public void getBookChaptersPage(java.lang.String bookUid, int pageSize, java.lang.String cursor, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getBookChaptersPage_call method_call = new getBookChaptersPage_call(bookUid, pageSize, cursor, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public getBookChapters_args getEmptyArgsInstance() {
-        return new getBookChapters_args();
+    public static class getBookChaptersPage_call extends org.apache.thrift.async.TAsyncMethodCall<Page> {
+      private java.lang.String bookUid;
+      private int pageSize;
+      private java.lang.String cursor;
+      public getBookChaptersPage_call(java.lang.String bookUid, int pageSize, java.lang.String cursor, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.bookUid = bookUid;
+        this.pageSize = pageSize;
+        this.cursor = cursor;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getBookChaptersPage", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getBookChaptersPage_args args = new getBookChaptersPage_args();
+        args.setBookUid(bookUid);
+        args.setPageSize(pageSize);
+        args.setCursor(cursor);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public getBookChapters_result getResult(I iface, getBookChapters_args args) throws org.apache.thrift.TException {
-        getBookChapters_result result = new getBookChapters_result();
-        result.success = iface.getBookChapters(args.bookUid);
-        return result;
+      public Page getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getBookChaptersPage();
       }
     }
 
-    public static class renameBook<I extends Iface> extends org.apache.thrift.ProcessFunction<I, renameBook_args> {
-      public renameBook() {
-        super("renameBook");
-      }
+    public void getChapters(java.util.List<ChapterRef> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ChapterResult>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getChapters_call method_call = new getChapters_call(refs, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public renameBook_args getEmptyArgsInstance() {
-        return new renameBook_args();
+    public static class getChapters_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<ChapterResult>> {
+      private java.util.List<ChapterRef> refs;
+      public getChapters_call(java.util.List<ChapterRef> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ChapterResult>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.refs = refs;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getChapters", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getChapters_args args = new getChapters_args();
+        args.setRefs(refs);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public renameBook_result getResult(I iface, renameBook_args args) throws org.apache.thrift.TException {
-        renameBook_result result = new renameBook_result();
-        iface.renameBook(args.newValue);
-        return result;
+      public java.util.List<ChapterResult> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getChapters();
       }
     }
 
-    public static class renameBookChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, renameBookChapter_args> {
-      public renameBookChapter() {
-        super("renameBookChapter");
-      }
+    public void getHandbook(java.lang.String bookUid, org.apache.thrift.async.AsyncMethodCallback<Handbook> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getHandbook_call method_call = new getHandbook_call(bookUid, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public renameBookChapter_args getEmptyArgsInstance() {
-        return new renameBookChapter_args();
+    public static class getHandbook_call extends org.apache.thrift.async.TAsyncMethodCall<Handbook> {
+      private java.lang.String bookUid;
+      public getHandbook_call(java.lang.String bookUid, org.apache.thrift.async.AsyncMethodCallback<Handbook> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.bookUid = bookUid;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getHandbook", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getHandbook_args args = new getHandbook_args();
+        args.setBookUid(bookUid);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public renameBookChapter_result getResult(I iface, renameBookChapter_args args) throws org.apache.thrift.TException {
-        renameBookChapter_result result = new renameBookChapter_result();
-        iface.renameBookChapter(args.bookUid, args.newValue);
-        return result;
+      public Handbook getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getHandbook();
       }
     }
 
-    public static class getChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getChapter_args> {
-      public getChapter() {
-        super("getChapter");
-      }
+    public void search(java.lang.String query, int limit, org.apache.thrift.async.AsyncMethodCallback<java.util.List<SearchHit>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      search_call method_call = new search_call(query, limit, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public getChapter_args getEmptyArgsInstance() {
-        return new getChapter_args();
+    public static class search_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<SearchHit>> {
+      private java.lang.String query;
+      private int limit;
+      public search_call(java.lang.String query, int limit, org.apache.thrift.async.AsyncMethodCallback<java.util.List<SearchHit>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.query = query;
+        this.limit = limit;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("search", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        search_args args = new search_args();
+        args.setQuery(query);
+        args.setLimit(limit);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public getChapter_result getResult(I iface, getChapter_args args) throws org.apache.thrift.TException {
-        getChapter_result result = new getChapter_result();
-        result.success = iface.getChapter(args.bookUid, args.chapterUid);
-        return result;
+      public java.util.List<SearchHit> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_search();
       }
     }
 
-    public static class updateChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, updateChapter_args> {
-      public updateChapter() {
-        super("updateChapter");
-      }
+    public void suggest(java.lang.String prefix, int limit, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Suggestion>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      suggest_call method_call = new suggest_call(prefix, limit, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public updateChapter_args getEmptyArgsInstance() {
-        return new updateChapter_args();
+    public static class suggest_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<Suggestion>> {
+      private java.lang.String prefix;
+      private int limit;
+      public suggest_call(java.lang.String prefix, int limit, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Suggestion>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.prefix = prefix;
+        this.limit = limit;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("suggest", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        suggest_args args = new suggest_args();
+        args.setPrefix(prefix);
+        args.setLimit(limit);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public updateChapter_result getResult(I iface, updateChapter_args args) throws org.apache.thrift.TException {
-        updateChapter_result result = new updateChapter_result();
-        iface.updateChapter(args.bookUid, args.chapterUid, args.chapter);
-        return result;
+      public java.util.List<Suggestion> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_suggest();
       }
     }
 
-    public static class removeBook<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeBook_args> {
-      public removeBook() {
-        super("removeBook");
-      }
+    public void applyBatch(java.util.List<Mutation> mutations, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      applyBatch_call method_call = new applyBatch_call(mutations, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public removeBook_args getEmptyArgsInstance() {
-        return new removeBook_args();
+    public static class applyBatch_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<java.lang.String>> {
+      private java.util.List<Mutation> mutations;
+      public applyBatch_call(java.util.List<Mutation> mutations, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.mutations = mutations;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("applyBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        applyBatch_args args = new applyBatch_args();
+        args.setMutations(mutations);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public removeBook_result getResult(I iface, removeBook_args args) throws org.apache.thrift.TException {
-        removeBook_result result = new removeBook_result();
-        iface.removeBook(args.bookUid);
-        return result;
+      public java.util.List<java.lang.String> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_applyBatch();
       }
     }
 
-    public static class removeChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeChapter_args> {
-      public removeChapter() {
-        super("removeChapter");
-      }
+    public void patchChapter(java.lang.String bookUid, java.lang.String chapterUid, Chapter chapter, java.util.List<java.lang.String> fieldMask, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      patchChapter_call method_call = new patchChapter_call(bookUid, chapterUid, chapter, fieldMask, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public removeChapter_args getEmptyArgsInstance() {
-        return new removeChapter_args();
+    public static class patchChapter_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String bookUid;
+      private java.lang.String chapterUid;
+      private Chapter chapter;
+      private java.util.List<java.lang.String> fieldMask;
+      public patchChapter_call(java.lang.String bookUid, java.lang.String chapterUid, Chapter chapter, java.util.List<java.lang.String> fieldMask, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.bookUid = bookUid;
+        this.chapterUid = chapterUid;
+        this.chapter = chapter;
+        this.fieldMask = fieldMask;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("patchChapter", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        patchChapter_args args = new patchChapter_args();
+        args.setBookUid(bookUid);
+        args.setChapterUid(chapterUid);
+        args.setChapter(chapter);
+        args.setFieldMask(fieldMask);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public removeChapter_result getResult(I iface, removeChapter_args args) throws org.apache.thrift.TException {
-        removeChapter_result result = new removeChapter_result();
-        iface.removeChapter(args.bookUid, args.chapterUid);
-        return result;
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
       }
     }
 
-    public static class addBook<I extends Iface> extends org.apache.thrift.ProcessFunction<I, addBook_args> {
-      public addBook() {
-        super("addBook");
-      }
+    public void getChapterText(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<ChapterText> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getChapterText_call method_call = new getChapterText_call(bookUid, chapterUid, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public addBook_args getEmptyArgsInstance() {
-        return new addBook_args();
+    public static class getChapterText_call extends org.apache.thrift.async.TAsyncMethodCall<ChapterText> {
+      private java.lang.String bookUid;
+      private java.lang.String chapterUid;
+      public getChapterText_call(java.lang.String bookUid, java.lang.String chapterUid, org.apache.thrift.async.AsyncMethodCallback<ChapterText> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.bookUid = bookUid;
+        this.chapterUid = chapterUid;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getChapterText", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getChapterText_args args = new getChapterText_args();
+        args.setBookUid(bookUid);
+        args.setChapterUid(chapterUid);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public addBook_result getResult(I iface, addBook_args args) throws org.apache.thrift.TException {
-        addBook_result result = new addBook_result();
-        iface.addBook(args.bookName);
-        return result;
+      public ChapterText getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getChapterText();
       }
     }
 
-    public static class addChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, addChapter_args> {
-      public addChapter() {
-        super("addChapter");
-      }
+    public void editChapterText(java.lang.String bookUid, java.lang.String chapterUid, long baseVersion, java.util.List<TextEdit> edits, org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      editChapterText_call method_call = new editChapterText_call(bookUid, chapterUid, baseVersion, edits, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public addChapter_args getEmptyArgsInstance() {
-        return new addChapter_args();
+    public static class editChapterText_call extends org.apache.thrift.async.TAsyncMethodCall<java.lang.Long> {
+      private java.lang.String bookUid;
+      private java.lang.String chapterUid;
+      private long baseVersion;
+      private java.util.List<TextEdit> edits;
+      public editChapterText_call(java.lang.String bookUid, java.lang.String chapterUid, long baseVersion, java.util.List<TextEdit> edits, org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.bookUid = bookUid;
+        this.chapterUid = chapterUid;
+        this.baseVersion = baseVersion;
+        this.edits = edits;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("editChapterText", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        editChapterText_args args = new editChapterText_args();
+        args.setBookUid(bookUid);
+        args.setChapterUid(chapterUid);
+        args.setBaseVersion(baseVersion);
+        args.setEdits(edits);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public addChapter_result getResult(I iface, addChapter_args args) throws org.apache.thrift.TException {
-        addChapter_result result = new addChapter_result();
-        iface.addChapter(args.bookUid, args.chapterName);
-        return result;
+      public java.lang.Long getResult() throws VersionConflict, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_editChapterText();
       }
     }
 
-    public static class subscribeForBookList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, subscribeForBookList_args> {
-      public subscribeForBookList() {
-        super("subscribeForBookList");
-      }
+    public void getChapterTextRange(java.lang.String bookUid, java.lang.String chapterUid, int offset, int length, org.apache.thrift.async.AsyncMethodCallback<TextRange> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getChapterTextRange_call method_call = new getChapterTextRange_call(bookUid, chapterUid, offset, length, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public subscribeForBookList_args getEmptyArgsInstance() {
-        return new subscribeForBookList_args();
+    public static class getChapterTextRange_call extends org.apache.thrift.async.TAsyncMethodCall<TextRange> {
+      private java.lang.String bookUid;
+      private java.lang.String chapterUid;
+      private int offset;
+      private int length;
+      public getChapterTextRange_call(java.lang.String bookUid, java.lang.String chapterUid, int offset, int length, org.apache.thrift.async.AsyncMethodCallback<TextRange> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.bookUid = bookUid;
+        this.chapterUid = chapterUid;
+        this.offset = offset;
+        this.length = length;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getChapterTextRange", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getChapterTextRange_args args = new getChapterTextRange_args();
+        args.setBookUid(bookUid);
+        args.setChapterUid(chapterUid);
+        args.setOffset(offset);
+        args.setLength(length);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public subscribeForBookList_result getResult(I iface, subscribeForBookList_args args) throws org.apache.thrift.TException {
-        subscribeForBookList_result result = new subscribeForBookList_result();
-        result.success = iface.subscribeForBookList();
-        return result;
+      public TextRange getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getChapterTextRange();
       }
     }
 
-    public static class subscribeForBookChapters<I extends Iface> extends org.apache.thrift.ProcessFunction<I, subscribeForBookChapters_args> {
-      public subscribeForBookChapters() {
-        super("subscribeForBookChapters");
-      }
+    public void subscribeForBookList(long timeoutMillis, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      subscribeForBookList_call method_call = new subscribeForBookList_call(timeoutMillis, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public subscribeForBookChapters_args getEmptyArgsInstance() {
-        return new subscribeForBookChapters_args();
+    public static class subscribeForBookList_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<Callback>> {
+      private long timeoutMillis;
+      public subscribeForBookList_call(long timeoutMillis, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.timeoutMillis = timeoutMillis;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("subscribeForBookList", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        subscribeForBookList_args args = new subscribeForBookList_args();
+        args.setTimeoutMillis(timeoutMillis);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public subscribeForBookChapters_result getResult(I iface, subscribeForBookChapters_args args) throws org.apache.thrift.TException {
-        subscribeForBookChapters_result result = new subscribeForBookChapters_result();
-        result.success = iface.subscribeForBookChapters(args.bookUid);
-        return result;
+      public java.util.List<Callback> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_subscribeForBookList();
       }
     }
 
-    public static class subscribeForChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, subscribeForChapter_args> {
-      public subscribeForChapter() {
-        super("subscribeForChapter");
+    public void subscribeForBookChapters(java.lang.String bookUid, long timeoutMillis, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      subscribeForBookChapters_call method_call = new subscribeForBookChapters_call(bookUid, timeoutMillis, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class subscribeForBookChapters_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<Callback>> {
+      private java.lang.String bookUid;
+      private long timeoutMillis;
+      public subscribeForBookChapters_call(java.lang.String bookUid, long timeoutMillis, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.bookUid = bookUid;
+        this.timeoutMillis = timeoutMillis;
       }
 
-      public subscribeForChapter_args getEmptyArgsInstance() {
-        return new subscribeForChapter_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("subscribeForBookChapters", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        subscribeForBookChapters_args args = new subscribeForBookChapters_args();
+        args.setBookUid(bookUid);
+        args.setTimeoutMillis(timeoutMillis);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      protected boolean isOneway() {
-        return false;
+      public java.util.List<Callback> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_subscribeForBookChapters();
       }
+    }
 
-      public subscribeForChapter_result getResult(I iface, subscribeForChapter_args args) throws org.apache.thrift.TException {
-        subscribeForChapter_result result = new subscribeForChapter_result();
-        result.success = iface.subscribeForChapter(args.bookUid, args.chapterUid);
-        return result;
+    public void subscribeForChapter(java.lang.String bookUid, java.lang.String chapterUid, long timeoutMillis, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      subscribeForChapter_call method_call = new subscribeForChapter_call(bookUid, chapterUid, timeoutMillis, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class subscribeForChapter_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<Callback>> {
+      private java.lang.String bookUid;
+      private java.lang.String chapterUid;
+      private long timeoutMillis;
+      public subscribeForChapter_call(java.lang.String bookUid, java.lang.String chapterUid, long timeoutMillis, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.bookUid = bookUid;
+        this.chapterUid = chapterUid;
+        this.timeoutMillis = timeoutMillis;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("subscribeForChapter", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        subscribeForChapter_args args = new subscribeForChapter_args();
+        args.setBookUid(bookUid);
+        args.setChapterUid(chapterUid);
+        args.setTimeoutMillis(timeoutMillis);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.List<Callback> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_subscribeForChapter();
       }
     }
 
   }
 
-  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
-    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(AsyncProcessor.class.getName());
-    public AsyncProcessor(I iface) {
-      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
+    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(Processor.class.getName());
+    public Processor(I iface) {
+      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
     }
 
-    protected AsyncProcessor(I iface, java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+    protected Processor(I iface, java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> processMap) {
       super(iface, getProcessMap(processMap));
     }
 
-    private static <I extends AsyncIface> java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+    private static <I extends Iface> java.util.Map<java.lang.String,  org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> getProcessMap(java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("getBookList", new getBookList());
       processMap.put("getBookChapters", new getBookChapters());
       processMap.put("renameBook", new renameBook());
       processMap.put("renameBookChapter", new renameBookChapter());
       processMap.put("getChapter", new getChapter());
+      processMap.put("watchChapter", new watchChapter());
       processMap.put("updateChapter", new updateChapter());
       processMap.put("removeBook", new removeBook());
       processMap.put("removeChapter", new removeChapter());
       processMap.put("addBook", new addBook());
       processMap.put("addChapter", new addChapter());
+      processMap.put("getBookListSnapshot", new getBookListSnapshot());
+      processMap.put("getBookChaptersSnapshot", new getBookChaptersSnapshot());
+      processMap.put("getChapterSnapshot", new getChapterSnapshot());
+      processMap.put("getBookListPage", new getBookListPage());
+      processMap.put("getBookChaptersPage", new getBookChaptersPage());
+      processMap.put("getChapters", new getChapters());
+      processMap.put("getHandbook", new getHandbook());
+      processMap.put("search", new search());
+      processMap.put("suggest", new suggest());
+      processMap.put("applyBatch", new applyBatch());
+      processMap.put("patchChapter", new patchChapter());
+      processMap.put("getChapterText", new getChapterText());
+      processMap.put("editChapterText", new editChapterText());
+      processMap.put("getChapterTextRange", new getChapterTextRange());
       processMap.put("subscribeForBookList", new subscribeForBookList());
       processMap.put("subscribeForBookChapters", new subscribeForBookChapters());
       processMap.put("subscribeForChapter", new subscribeForChapter());
       return processMap;
     }
 
-    public static class getBookList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getBookList_args, Callback> {
+    public static class getBookList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getBookList_args> {
       public getBookList() {
         super("getBookList");
       }
@@ -1149,59 +1844,18 @@ public class Storage {
         return new getBookList_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Callback> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Callback>() { 
-          public void onComplete(Callback o) {
-            getBookList_result result = new getBookList_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            getBookList_result result = new getBookList_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, getBookList_args args, org.apache.thrift.async.AsyncMethodCallback<Callback> resultHandler) throws org.apache.thrift.TException {
-        iface.getBookList(resultHandler);
+      public getBookList_result getResult(I iface, getBookList_args args) throws org.apache.thrift.TException {
+        getBookList_result result = new getBookList_result();
+        result.success = iface.getBookList();
+        return result;
       }
     }
 
-    public static class getBookChapters<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getBookChapters_args, Callback> {
+    public static class getBookChapters<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getBookChapters_args> {
       public getBookChapters() {
         super("getBookChapters");
       }
@@ -1210,59 +1864,18 @@ public class Storage {
         return new getBookChapters_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Callback> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Callback>() { 
-          public void onComplete(Callback o) {
-            getBookChapters_result result = new getBookChapters_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            getBookChapters_result result = new getBookChapters_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, getBookChapters_args args, org.apache.thrift.async.AsyncMethodCallback<Callback> resultHandler) throws org.apache.thrift.TException {
-        iface.getBookChapters(args.bookUid,resultHandler);
+      public getBookChapters_result getResult(I iface, getBookChapters_args args) throws org.apache.thrift.TException {
+        getBookChapters_result result = new getBookChapters_result();
+        result.success = iface.getBookChapters(args.bookUid);
+        return result;
       }
     }
 
-    public static class renameBook<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, renameBook_args, Void> {
+    public static class renameBook<I extends Iface> extends org.apache.thrift.ProcessFunction<I, renameBook_args> {
       public renameBook() {
         super("renameBook");
       }
@@ -1271,58 +1884,18 @@ public class Storage {
         return new renameBook_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            renameBook_result result = new renameBook_result();
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            renameBook_result result = new renameBook_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, renameBook_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
-        iface.renameBook(args.newValue,resultHandler);
+      public renameBook_result getResult(I iface, renameBook_args args) throws org.apache.thrift.TException {
+        renameBook_result result = new renameBook_result();
+        iface.renameBook(args.newValue);
+        return result;
       }
     }
 
-    public static class renameBookChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, renameBookChapter_args, Void> {
+    public static class renameBookChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, renameBookChapter_args> {
       public renameBookChapter() {
         super("renameBookChapter");
       }
@@ -1331,58 +1904,18 @@ public class Storage {
         return new renameBookChapter_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            renameBookChapter_result result = new renameBookChapter_result();
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            renameBookChapter_result result = new renameBookChapter_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, renameBookChapter_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
-        iface.renameBookChapter(args.bookUid, args.newValue,resultHandler);
+      public renameBookChapter_result getResult(I iface, renameBookChapter_args args) throws org.apache.thrift.TException {
+        renameBookChapter_result result = new renameBookChapter_result();
+        iface.renameBookChapter(args.bookUid, args.newValue);
+        return result;
       }
     }
 
-    public static class getChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getChapter_args, Callback> {
+    public static class getChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getChapter_args> {
       public getChapter() {
         super("getChapter");
       }
@@ -1391,59 +1924,38 @@ public class Storage {
         return new getChapter_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Callback> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Callback>() { 
-          public void onComplete(Callback o) {
-            getChapter_result result = new getChapter_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            getChapter_result result = new getChapter_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getChapter_result getResult(I iface, getChapter_args args) throws org.apache.thrift.TException {
+        getChapter_result result = new getChapter_result();
+        result.success = iface.getChapter(args.bookUid, args.chapterUid);
+        return result;
+      }
+    }
+
+    public static class watchChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, watchChapter_args> {
+      public watchChapter() {
+        super("watchChapter");
+      }
+
+      public watchChapter_args getEmptyArgsInstance() {
+        return new watchChapter_args();
       }
 
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, getChapter_args args, org.apache.thrift.async.AsyncMethodCallback<Callback> resultHandler) throws org.apache.thrift.TException {
-        iface.getChapter(args.bookUid, args.chapterUid,resultHandler);
+      public watchChapter_result getResult(I iface, watchChapter_args args) throws org.apache.thrift.TException {
+        watchChapter_result result = new watchChapter_result();
+        result.success = iface.watchChapter(args.bookUid, args.chapterUid);
+        return result;
       }
     }
 
-    public static class updateChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateChapter_args, Void> {
+    public static class updateChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, updateChapter_args> {
       public updateChapter() {
         super("updateChapter");
       }
@@ -1452,58 +1964,18 @@ public class Storage {
         return new updateChapter_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            updateChapter_result result = new updateChapter_result();
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            updateChapter_result result = new updateChapter_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, updateChapter_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
-        iface.updateChapter(args.bookUid, args.chapterUid, args.chapter,resultHandler);
+      public updateChapter_result getResult(I iface, updateChapter_args args) throws org.apache.thrift.TException {
+        updateChapter_result result = new updateChapter_result();
+        iface.updateChapter(args.bookUid, args.chapterUid, args.chapter);
+        return result;
       }
     }
 
-    public static class removeBook<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeBook_args, Void> {
+    public static class removeBook<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeBook_args> {
       public removeBook() {
         super("removeBook");
       }
@@ -1512,58 +1984,18 @@ public class Storage {
         return new removeBook_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            removeBook_result result = new removeBook_result();
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            removeBook_result result = new removeBook_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, removeBook_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
-        iface.removeBook(args.bookUid,resultHandler);
+      public removeBook_result getResult(I iface, removeBook_args args) throws org.apache.thrift.TException {
+        removeBook_result result = new removeBook_result();
+        iface.removeBook(args.bookUid);
+        return result;
       }
     }
 
-    public static class removeChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeChapter_args, Void> {
+    public static class removeChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeChapter_args> {
       public removeChapter() {
         super("removeChapter");
       }
@@ -1572,58 +2004,18 @@ public class Storage {
         return new removeChapter_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            removeChapter_result result = new removeChapter_result();
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            removeChapter_result result = new removeChapter_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, removeChapter_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
-        iface.removeChapter(args.bookUid, args.chapterUid,resultHandler);
+      public removeChapter_result getResult(I iface, removeChapter_args args) throws org.apache.thrift.TException {
+        removeChapter_result result = new removeChapter_result();
+        iface.removeChapter(args.bookUid, args.chapterUid);
+        return result;
       }
     }
 
-    public static class addBook<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addBook_args, Void> {
+    public static class addBook<I extends Iface> extends org.apache.thrift.ProcessFunction<I, addBook_args> {
       public addBook() {
         super("addBook");
       }
@@ -1632,58 +2024,18 @@ public class Storage {
         return new addBook_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            addBook_result result = new addBook_result();
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            addBook_result result = new addBook_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, addBook_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
-        iface.addBook(args.bookName,resultHandler);
+      public addBook_result getResult(I iface, addBook_args args) throws org.apache.thrift.TException {
+        addBook_result result = new addBook_result();
+        iface.addBook(args.bookName);
+        return result;
       }
     }
 
-    public static class addChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addChapter_args, Void> {
+    public static class addChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, addChapter_args> {
       public addChapter() {
         super("addChapter");
       }
@@ -1692,132 +2044,420 @@ public class Storage {
         return new addChapter_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            addChapter_result result = new addChapter_result();
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            addChapter_result result = new addChapter_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, addChapter_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
-        iface.addChapter(args.bookUid, args.chapterName,resultHandler);
+      public addChapter_result getResult(I iface, addChapter_args args) throws org.apache.thrift.TException {
+        addChapter_result result = new addChapter_result();
+        iface.addChapter(args.bookUid, args.chapterName);
+        return result;
       }
     }
 
-    public static class subscribeForBookList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, subscribeForBookList_args, java.util.List<Callback>> {
-      public subscribeForBookList() {
-        super("subscribeForBookList");
+    public static class getBookListSnapshot<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getBookListSnapshot_args> {
+      public getBookListSnapshot() {
+        super("getBookListSnapshot");
       }
 
-      public subscribeForBookList_args getEmptyArgsInstance() {
-        return new subscribeForBookList_args();
+      public getBookListSnapshot_args getEmptyArgsInstance() {
+        return new getBookListSnapshot_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>>() { 
-          public void onComplete(java.util.List<Callback> o) {
-            subscribeForBookList_result result = new subscribeForBookList_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            subscribeForBookList_result result = new subscribeForBookList_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getBookListSnapshot_result getResult(I iface, getBookListSnapshot_args args) throws org.apache.thrift.TException {
+        getBookListSnapshot_result result = new getBookListSnapshot_result();
+        result.success = iface.getBookListSnapshot(args.pageSize);
+        return result;
+      }
+    }
+
+    public static class getBookChaptersSnapshot<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getBookChaptersSnapshot_args> {
+      public getBookChaptersSnapshot() {
+        super("getBookChaptersSnapshot");
+      }
+
+      public getBookChaptersSnapshot_args getEmptyArgsInstance() {
+        return new getBookChaptersSnapshot_args();
       }
 
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, subscribeForBookList_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
-        iface.subscribeForBookList(resultHandler);
+      public getBookChaptersSnapshot_result getResult(I iface, getBookChaptersSnapshot_args args) throws org.apache.thrift.TException {
+        getBookChaptersSnapshot_result result = new getBookChaptersSnapshot_result();
+        result.success = iface.getBookChaptersSnapshot(args.bookUid, args.pageSize);
+        return result;
       }
     }
 
-    public static class subscribeForBookChapters<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, subscribeForBookChapters_args, java.util.List<Callback>> {
-      public subscribeForBookChapters() {
-        super("subscribeForBookChapters");
+    public static class getChapterSnapshot<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getChapterSnapshot_args> {
+      public getChapterSnapshot() {
+        super("getChapterSnapshot");
       }
 
-      public subscribeForBookChapters_args getEmptyArgsInstance() {
-        return new subscribeForBookChapters_args();
+      public getChapterSnapshot_args getEmptyArgsInstance() {
+        return new getChapterSnapshot_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getChapterSnapshot_result getResult(I iface, getChapterSnapshot_args args) throws org.apache.thrift.TException {
+        getChapterSnapshot_result result = new getChapterSnapshot_result();
+        result.success = iface.getChapterSnapshot(args.bookUid, args.chapterUid);
+        return result;
+      }
+    }
+
+    public static class getBookListPage<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getBookListPage_args> {
+      public getBookListPage() {
+        super("getBookListPage");
+      }
+
+      public getBookListPage_args getEmptyArgsInstance() {
+        return new getBookListPage_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getBookListPage_result getResult(I iface, getBookListPage_args args) throws org.apache.thrift.TException {
+        getBookListPage_result result = new getBookListPage_result();
+        result.success = iface.getBookListPage(args.pageSize, args.cursor);
+        return result;
+      }
+    }
+
+    public static class getBookChaptersPage<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getBookChaptersPage_args> {
+      public getBookChaptersPage() {
+        super("getBookChaptersPage");
+      }
+
+      public getBookChaptersPage_args getEmptyArgsInstance() {
+        return new getBookChaptersPage_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getBookChaptersPage_result getResult(I iface, getBookChaptersPage_args args) throws org.apache.thrift.TException {
+        getBookChaptersPage_result result = new getBookChaptersPage_result();
+        result.success = iface.getBookChaptersPage(args.bookUid, args.pageSize, args.cursor);
+        return result;
+      }
+    }
+
+    public static class getChapters<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getChapters_args> {
+      public getChapters() {
+        super("getChapters");
+      }
+
+      public getChapters_args getEmptyArgsInstance() {
+        return new getChapters_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getChapters_result getResult(I iface, getChapters_args args) throws org.apache.thrift.TException {
+        getChapters_result result = new getChapters_result();
+        result.success = iface.getChapters(args.refs);
+        return result;
+      }
+    }
+
+    public static class getHandbook<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getHandbook_args> {
+      public getHandbook() {
+        super("getHandbook");
+      }
+
+      public getHandbook_args getEmptyArgsInstance() {
+        return new getHandbook_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getHandbook_result getResult(I iface, getHandbook_args args) throws org.apache.thrift.TException {
+        getHandbook_result result = new getHandbook_result();
+        result.success = iface.getHandbook(args.bookUid);
+        return result;
+      }
+    }
+
+    public static class search<I extends Iface> extends org.apache.thrift.ProcessFunction<I, search_args> {
+      public search() {
+        super("search");
+      }
+
+      public search_args getEmptyArgsInstance() {
+        return new search_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public search_result getResult(I iface, search_args args) throws org.apache.thrift.TException {
+        search_result result = new search_result();
+        result.success = iface.search(args.query, args.limit);
+        return result;
+      }
+    }
+
+    public static class suggest<I extends Iface> extends org.apache.thrift.ProcessFunction<I, suggest_args> {
+      public suggest() {
+        super("suggest");
+      }
+
+      public suggest_args getEmptyArgsInstance() {
+        return new suggest_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public suggest_result getResult(I iface, suggest_args args) throws org.apache.thrift.TException {
+        suggest_result result = new suggest_result();
+        result.success = iface.suggest(args.prefix, args.limit);
+        return result;
+      }
+    }
+
+    public static class applyBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, applyBatch_args> {
+      public applyBatch() {
+        super("applyBatch");
+      }
+
+      public applyBatch_args getEmptyArgsInstance() {
+        return new applyBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public applyBatch_result getResult(I iface, applyBatch_args args) throws org.apache.thrift.TException {
+        applyBatch_result result = new applyBatch_result();
+        result.success = iface.applyBatch(args.mutations);
+        return result;
+      }
+    }
+
+    public static class patchChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, patchChapter_args> {
+      public patchChapter() {
+        super("patchChapter");
+      }
+
+      public patchChapter_args getEmptyArgsInstance() {
+        return new patchChapter_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public patchChapter_result getResult(I iface, patchChapter_args args) throws org.apache.thrift.TException {
+        patchChapter_result result = new patchChapter_result();
+        iface.patchChapter(args.bookUid, args.chapterUid, args.chapter, args.fieldMask);
+        return result;
+      }
+    }
+
+    public static class getChapterText<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getChapterText_args> {
+      public getChapterText() {
+        super("getChapterText");
+      }
+
+      public getChapterText_args getEmptyArgsInstance() {
+        return new getChapterText_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getChapterText_result getResult(I iface, getChapterText_args args) throws org.apache.thrift.TException {
+        getChapterText_result result = new getChapterText_result();
+        result.success = iface.getChapterText(args.bookUid, args.chapterUid);
+        return result;
+      }
+    }
+
+    public static class editChapterText<I extends Iface> extends org.apache.thrift.ProcessFunction<I, editChapterText_args> {
+      public editChapterText() {
+        super("editChapterText");
+      }
+
+      public editChapterText_args getEmptyArgsInstance() {
+        return new editChapterText_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public editChapterText_result getResult(I iface, editChapterText_args args) throws org.apache.thrift.TException {
+        editChapterText_result result = new editChapterText_result();
+        try {
+          result.success = iface.editChapterText(args.bookUid, args.chapterUid, args.baseVersion, args.edits);
+          result.setSuccessIsSet(true);
+        } catch (VersionConflict conflict) {
+          result.conflict = conflict;
+        }
+        return result;
+      }
+    }
+
+    public static class getChapterTextRange<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getChapterTextRange_args> {
+      public getChapterTextRange() {
+        super("getChapterTextRange");
+      }
+
+      public getChapterTextRange_args getEmptyArgsInstance() {
+        return new getChapterTextRange_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getChapterTextRange_result getResult(I iface, getChapterTextRange_args args) throws org.apache.thrift.TException {
+        getChapterTextRange_result result = new getChapterTextRange_result();
+        result.success = iface.getChapterTextRange(args.bookUid, args.chapterUid, args.offset, args.length);
+        return result;
+      }
+    }
+
+    public static class subscribeForBookList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, subscribeForBookList_args> {
+      public subscribeForBookList() {
+        super("subscribeForBookList");
+      }
+
+      public subscribeForBookList_args getEmptyArgsInstance() {
+        return new subscribeForBookList_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public subscribeForBookList_result getResult(I iface, subscribeForBookList_args args) throws org.apache.thrift.TException {
+        subscribeForBookList_result result = new subscribeForBookList_result();
+        result.success = iface.subscribeForBookList(args.timeoutMillis);
+        return result;
+      }
+    }
+
+    public static class subscribeForBookChapters<I extends Iface> extends org.apache.thrift.ProcessFunction<I, subscribeForBookChapters_args> {
+      public subscribeForBookChapters() {
+        super("subscribeForBookChapters");
+      }
+
+      public subscribeForBookChapters_args getEmptyArgsInstance() {
+        return new subscribeForBookChapters_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public subscribeForBookChapters_result getResult(I iface, subscribeForBookChapters_args args) throws org.apache.thrift.TException {
+        subscribeForBookChapters_result result = new subscribeForBookChapters_result();
+        result.success = iface.subscribeForBookChapters(args.bookUid, args.timeoutMillis);
+        return result;
+      }
+    }
+
+    public static class subscribeForChapter<I extends Iface> extends org.apache.thrift.ProcessFunction<I, subscribeForChapter_args> {
+      public subscribeForChapter() {
+        super("subscribeForChapter");
+      }
+
+      public subscribeForChapter_args getEmptyArgsInstance() {
+        return new subscribeForChapter_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public subscribeForChapter_result getResult(I iface, subscribeForChapter_args args) throws org.apache.thrift.TException {
+        subscribeForChapter_result result = new subscribeForChapter_result();
+        result.success = iface.subscribeForChapter(args.bookUid, args.chapterUid, args.timeoutMillis);
+        return result;
+      }
+    }
+
+  }
+
+  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
+    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(AsyncProcessor.class.getName());
+    public AsyncProcessor(I iface) {
+      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+    }
+
+    protected AsyncProcessor(I iface, java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends AsyncIface> java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      processMap.put("getBookList", new getBookList());
+      processMap.put("getBookChapters", new getBookChapters());
+      processMap.put("renameBook", new renameBook());
+      processMap.put("renameBookChapter", new renameBookChapter());
+      processMap.put("getChapter", new getChapter());
+      processMap.put("watchChapter", new watchChapter());
+      processMap.put("updateChapter", new updateChapter());
+      processMap.put("removeBook", new removeBook());
+      processMap.put("removeChapter", new removeChapter());
+      processMap.put("addBook", new addBook());
+      processMap.put("addChapter", new addChapter());
+      processMap.put("getBookListSnapshot", new getBookListSnapshot());
+      processMap.put("getBookChaptersSnapshot", new getBookChaptersSnapshot());
+      processMap.put("getChapterSnapshot", new getChapterSnapshot());
+      processMap.put("getBookListPage", new getBookListPage());
+      processMap.put("getBookChaptersPage", new getBookChaptersPage());
+      processMap.put("getChapters", new getChapters());
+      processMap.put("getHandbook", new getHandbook());
+      processMap.put("search", new search());
+      processMap.put("suggest", new suggest());
+      processMap.put("applyBatch", new applyBatch());
+      processMap.put("patchChapter", new patchChapter());
+      processMap.put("getChapterText", new getChapterText());
+      processMap.put("editChapterText", new editChapterText());
+      processMap.put("getChapterTextRange", new getChapterTextRange());
+      processMap.put("subscribeForBookList", new subscribeForBookList());
+      processMap.put("subscribeForBookChapters", new subscribeForBookChapters());
+      processMap.put("subscribeForChapter", new subscribeForChapter());
+      return processMap;
+    }
+
+    public static class getBookList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getBookList_args, Callback> {
+      public getBookList() {
+        super("getBookList");
+      }
+
+      public getBookList_args getEmptyArgsInstance() {
+        return new getBookList_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Callback> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>>() { 
-          public void onComplete(java.util.List<Callback> o) {
-            subscribeForBookChapters_result result = new subscribeForBookChapters_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<Callback>() { 
+          public void onComplete(Callback o) {
+            getBookList_result result = new getBookList_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -1832,7 +2472,7 @@ public class Storage {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            subscribeForBookChapters_result result = new subscribeForBookChapters_result();
+            getBookList_result result = new getBookList_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -1860,25 +2500,25 @@ public class Storage {
         return false;
       }
 
-      public void start(I iface, subscribeForBookChapters_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
-        iface.subscribeForBookChapters(args.bookUid,resultHandler);
+      public void start(I iface, getBookList_args args, org.apache.thrift.async.AsyncMethodCallback<Callback> resultHandler) throws org.apache.thrift.TException {
+        iface.getBookList(resultHandler);
       }
     }
 
-    public static class subscribeForChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, subscribeForChapter_args, java.util.List<Callback>> {
-      public subscribeForChapter() {
-        super("subscribeForChapter");
+    public static class getBookChapters<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getBookChapters_args, Callback> {
+      public getBookChapters() {
+        super("getBookChapters");
       }
 
-      public subscribeForChapter_args getEmptyArgsInstance() {
-        return new subscribeForChapter_args();
+      public getBookChapters_args getEmptyArgsInstance() {
+        return new getBookChapters_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<Callback> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>>() { 
-          public void onComplete(java.util.List<Callback> o) {
-            subscribeForChapter_result result = new subscribeForChapter_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<Callback>() { 
+          public void onComplete(Callback o) {
+            getBookChapters_result result = new getBookChapters_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -1893,7 +2533,249 @@ public class Storage {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            subscribeForChapter_result result = new subscribeForChapter_result();
+            getBookChapters_result result = new getBookChapters_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getBookChapters_args args, org.apache.thrift.async.AsyncMethodCallback<Callback> resultHandler) throws org.apache.thrift.TException {
+        iface.getBookChapters(args.bookUid,resultHandler);
+      }
+    }
+
+    public static class renameBook<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, renameBook_args, Void> {
+      public renameBook() {
+        super("renameBook");
+      }
+
+      public renameBook_args getEmptyArgsInstance() {
+        return new renameBook_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            renameBook_result result = new renameBook_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            renameBook_result result = new renameBook_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, renameBook_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.renameBook(args.newValue,resultHandler);
+      }
+    }
+
+    public static class renameBookChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, renameBookChapter_args, Void> {
+      public renameBookChapter() {
+        super("renameBookChapter");
+      }
+
+      public renameBookChapter_args getEmptyArgsInstance() {
+        return new renameBookChapter_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            renameBookChapter_result result = new renameBookChapter_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            renameBookChapter_result result = new renameBookChapter_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, renameBookChapter_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.renameBookChapter(args.bookUid, args.newValue,resultHandler);
+      }
+    }
+
+    public static class getChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getChapter_args, Callback> {
+      public getChapter() {
+        super("getChapter");
+      }
+
+      public getChapter_args getEmptyArgsInstance() {
+        return new getChapter_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Callback> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Callback>() { 
+          public void onComplete(Callback o) {
+            getChapter_result result = new getChapter_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getChapter_result result = new getChapter_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getChapter_args args, org.apache.thrift.async.AsyncMethodCallback<Callback> resultHandler) throws org.apache.thrift.TException {
+        iface.getChapter(args.bookUid, args.chapterUid,resultHandler);
+      }
+    }
+
+    public static class watchChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, watchChapter_args, Callback> {
+      public watchChapter() {
+        super("watchChapter");
+      }
+
+      public watchChapter_args getEmptyArgsInstance() {
+        return new watchChapter_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Callback> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Callback>() { 
+          public void onComplete(Callback o) {
+            watchChapter_result result = new watchChapter_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            watchChapter_result result = new watchChapter_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -1917,28 +2799,12473 @@ public class Storage {
         };
       }
 
-      protected boolean isOneway() {
-        return false;
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, watchChapter_args args, org.apache.thrift.async.AsyncMethodCallback<Callback> resultHandler) throws org.apache.thrift.TException {
+        iface.watchChapter(args.bookUid, args.chapterUid,resultHandler);
+      }
+    }
+
+    public static class updateChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateChapter_args, Void> {
+      public updateChapter() {
+        super("updateChapter");
+      }
+
+      public updateChapter_args getEmptyArgsInstance() {
+        return new updateChapter_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            updateChapter_result result = new updateChapter_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            updateChapter_result result = new updateChapter_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, updateChapter_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.updateChapter(args.bookUid, args.chapterUid, args.chapter,resultHandler);
+      }
+    }
+
+    public static class removeBook<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeBook_args, Void> {
+      public removeBook() {
+        super("removeBook");
+      }
+
+      public removeBook_args getEmptyArgsInstance() {
+        return new removeBook_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            removeBook_result result = new removeBook_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            removeBook_result result = new removeBook_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, removeBook_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.removeBook(args.bookUid,resultHandler);
+      }
+    }
+
+    public static class removeChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeChapter_args, Void> {
+      public removeChapter() {
+        super("removeChapter");
+      }
+
+      public removeChapter_args getEmptyArgsInstance() {
+        return new removeChapter_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            removeChapter_result result = new removeChapter_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            removeChapter_result result = new removeChapter_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, removeChapter_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.removeChapter(args.bookUid, args.chapterUid,resultHandler);
+      }
+    }
+
+    public static class addBook<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addBook_args, Void> {
+      public addBook() {
+        super("addBook");
+      }
+
+      public addBook_args getEmptyArgsInstance() {
+        return new addBook_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            addBook_result result = new addBook_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            addBook_result result = new addBook_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, addBook_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.addBook(args.bookName,resultHandler);
+      }
+    }
+
+    public static class addChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addChapter_args, Void> {
+      public addChapter() {
+        super("addChapter");
+      }
+
+      public addChapter_args getEmptyArgsInstance() {
+        return new addChapter_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            addChapter_result result = new addChapter_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            addChapter_result result = new addChapter_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, addChapter_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.addChapter(args.bookUid, args.chapterName,resultHandler);
+      }
+    }
+
+    public static class getBookListSnapshot<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getBookListSnapshot_args, Page> {
+      public getBookListSnapshot() {
+        super("getBookListSnapshot");
+      }
+
+      public getBookListSnapshot_args getEmptyArgsInstance() {
+        return new getBookListSnapshot_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Page> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Page>() { 
+          public void onComplete(Page o) {
+            getBookListSnapshot_result result = new getBookListSnapshot_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getBookListSnapshot_result result = new getBookListSnapshot_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getBookListSnapshot_args args, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler) throws org.apache.thrift.TException {
+        iface.getBookListSnapshot(args.pageSize,resultHandler);
+      }
+    }
+
+    public static class getBookChaptersSnapshot<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getBookChaptersSnapshot_args, Page> {
+      public getBookChaptersSnapshot() {
+        super("getBookChaptersSnapshot");
+      }
+
+      public getBookChaptersSnapshot_args getEmptyArgsInstance() {
+        return new getBookChaptersSnapshot_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Page> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Page>() { 
+          public void onComplete(Page o) {
+            getBookChaptersSnapshot_result result = new getBookChaptersSnapshot_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getBookChaptersSnapshot_result result = new getBookChaptersSnapshot_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getBookChaptersSnapshot_args args, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler) throws org.apache.thrift.TException {
+        iface.getBookChaptersSnapshot(args.bookUid, args.pageSize,resultHandler);
+      }
+    }
+
+    public static class getChapterSnapshot<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getChapterSnapshot_args, java.util.List<Callback>> {
+      public getChapterSnapshot() {
+        super("getChapterSnapshot");
+      }
+
+      public getChapterSnapshot_args getEmptyArgsInstance() {
+        return new getChapterSnapshot_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>>() { 
+          public void onComplete(java.util.List<Callback> o) {
+            getChapterSnapshot_result result = new getChapterSnapshot_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getChapterSnapshot_result result = new getChapterSnapshot_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getChapterSnapshot_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
+        iface.getChapterSnapshot(args.bookUid, args.chapterUid,resultHandler);
+      }
+    }
+
+    public static class getBookListPage<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getBookListPage_args, Page> {
+      public getBookListPage() {
+        super("getBookListPage");
+      }
+
+      public getBookListPage_args getEmptyArgsInstance() {
+        return new getBookListPage_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Page> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Page>() { 
+          public void onComplete(Page o) {
+            getBookListPage_result result = new getBookListPage_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getBookListPage_result result = new getBookListPage_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getBookListPage_args args, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler) throws org.apache.thrift.TException {
+        iface.getBookListPage(args.pageSize, args.cursor,resultHandler);
+      }
+    }
+
+    public static class getBookChaptersPage<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getBookChaptersPage_args, Page> {
+      public getBookChaptersPage() {
+        super("getBookChaptersPage");
+      }
+
+      public getBookChaptersPage_args getEmptyArgsInstance() {
+        return new getBookChaptersPage_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Page> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Page>() { 
+          public void onComplete(Page o) {
+            getBookChaptersPage_result result = new getBookChaptersPage_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getBookChaptersPage_result result = new getBookChaptersPage_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getBookChaptersPage_args args, org.apache.thrift.async.AsyncMethodCallback<Page> resultHandler) throws org.apache.thrift.TException {
+        iface.getBookChaptersPage(args.bookUid, args.pageSize, args.cursor,resultHandler);
+      }
+    }
+
+    public static class getChapters<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getChapters_args, java.util.List<ChapterResult>> {
+      public getChapters() {
+        super("getChapters");
+      }
+
+      public getChapters_args getEmptyArgsInstance() {
+        return new getChapters_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<ChapterResult>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<ChapterResult>>() { 
+          public void onComplete(java.util.List<ChapterResult> o) {
+            getChapters_result result = new getChapters_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getChapters_result result = new getChapters_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getChapters_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ChapterResult>> resultHandler) throws org.apache.thrift.TException {
+        iface.getChapters(args.refs,resultHandler);
+      }
+    }
+
+    public static class getHandbook<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getHandbook_args, Handbook> {
+      public getHandbook() {
+        super("getHandbook");
+      }
+
+      public getHandbook_args getEmptyArgsInstance() {
+        return new getHandbook_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Handbook> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Handbook>() { 
+          public void onComplete(Handbook o) {
+            getHandbook_result result = new getHandbook_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getHandbook_result result = new getHandbook_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getHandbook_args args, org.apache.thrift.async.AsyncMethodCallback<Handbook> resultHandler) throws org.apache.thrift.TException {
+        iface.getHandbook(args.bookUid,resultHandler);
+      }
+    }
+
+    public static class search<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, search_args, java.util.List<SearchHit>> {
+      public search() {
+        super("search");
+      }
+
+      public search_args getEmptyArgsInstance() {
+        return new search_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<SearchHit>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<SearchHit>>() { 
+          public void onComplete(java.util.List<SearchHit> o) {
+            search_result result = new search_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            search_result result = new search_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, search_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<SearchHit>> resultHandler) throws org.apache.thrift.TException {
+        iface.search(args.query, args.limit,resultHandler);
+      }
+    }
+
+    public static class suggest<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, suggest_args, java.util.List<Suggestion>> {
+      public suggest() {
+        super("suggest");
+      }
+
+      public suggest_args getEmptyArgsInstance() {
+        return new suggest_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<Suggestion>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<Suggestion>>() { 
+          public void onComplete(java.util.List<Suggestion> o) {
+            suggest_result result = new suggest_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            suggest_result result = new suggest_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, suggest_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Suggestion>> resultHandler) throws org.apache.thrift.TException {
+        iface.suggest(args.prefix, args.limit,resultHandler);
+      }
+    }
+
+    public static class applyBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, applyBatch_args, java.util.List<java.lang.String>> {
+      public applyBatch() {
+        super("applyBatch");
+      }
+
+      public applyBatch_args getEmptyArgsInstance() {
+        return new applyBatch_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>>() { 
+          public void onComplete(java.util.List<java.lang.String> o) {
+            applyBatch_result result = new applyBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            applyBatch_result result = new applyBatch_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, applyBatch_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+        iface.applyBatch(args.mutations,resultHandler);
+      }
+    }
+
+    public static class patchChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, patchChapter_args, Void> {
+      public patchChapter() {
+        super("patchChapter");
+      }
+
+      public patchChapter_args getEmptyArgsInstance() {
+        return new patchChapter_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            patchChapter_result result = new patchChapter_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            patchChapter_result result = new patchChapter_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, patchChapter_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.patchChapter(args.bookUid, args.chapterUid, args.chapter, args.fieldMask,resultHandler);
+      }
+    }
+
+    public static class getChapterText<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getChapterText_args, ChapterText> {
+      public getChapterText() {
+        super("getChapterText");
+      }
+
+      public getChapterText_args getEmptyArgsInstance() {
+        return new getChapterText_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<ChapterText> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<ChapterText>() { 
+          public void onComplete(ChapterText o) {
+            getChapterText_result result = new getChapterText_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getChapterText_result result = new getChapterText_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getChapterText_args args, org.apache.thrift.async.AsyncMethodCallback<ChapterText> resultHandler) throws org.apache.thrift.TException {
+        iface.getChapterText(args.bookUid, args.chapterUid,resultHandler);
+      }
+    }
+
+    public static class editChapterText<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, editChapterText_args, java.lang.Long> {
+      public editChapterText() {
+        super("editChapterText");
+      }
+
+      public editChapterText_args getEmptyArgsInstance() {
+        return new editChapterText_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Long>() { 
+          public void onComplete(java.lang.Long o) {
+            editChapterText_result result = new editChapterText_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            editChapterText_result result = new editChapterText_result();
+            if (e instanceof VersionConflict) {
+              result.conflict = (VersionConflict) e;
+              result.setConflictIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, editChapterText_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> resultHandler) throws org.apache.thrift.TException {
+        iface.editChapterText(args.bookUid, args.chapterUid, args.baseVersion, args.edits,resultHandler);
+      }
+    }
+
+    public static class getChapterTextRange<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getChapterTextRange_args, TextRange> {
+      public getChapterTextRange() {
+        super("getChapterTextRange");
+      }
+
+      public getChapterTextRange_args getEmptyArgsInstance() {
+        return new getChapterTextRange_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<TextRange> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<TextRange>() { 
+          public void onComplete(TextRange o) {
+            getChapterTextRange_result result = new getChapterTextRange_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getChapterTextRange_result result = new getChapterTextRange_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getChapterTextRange_args args, org.apache.thrift.async.AsyncMethodCallback<TextRange> resultHandler) throws org.apache.thrift.TException {
+        iface.getChapterTextRange(args.bookUid, args.chapterUid, args.offset, args.length,resultHandler);
+      }
+    }
+
+    public static class subscribeForBookList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, subscribeForBookList_args, java.util.List<Callback>> {
+      public subscribeForBookList() {
+        super("subscribeForBookList");
+      }
+
+      public subscribeForBookList_args getEmptyArgsInstance() {
+        return new subscribeForBookList_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>>() { 
+          public void onComplete(java.util.List<Callback> o) {
+            subscribeForBookList_result result = new subscribeForBookList_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            subscribeForBookList_result result = new subscribeForBookList_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, subscribeForBookList_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
+        iface.subscribeForBookList(args.timeoutMillis,resultHandler);
+      }
+    }
+
+    public static class subscribeForBookChapters<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, subscribeForBookChapters_args, java.util.List<Callback>> {
+      public subscribeForBookChapters() {
+        super("subscribeForBookChapters");
+      }
+
+      public subscribeForBookChapters_args getEmptyArgsInstance() {
+        return new subscribeForBookChapters_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>>() { 
+          public void onComplete(java.util.List<Callback> o) {
+            subscribeForBookChapters_result result = new subscribeForBookChapters_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            subscribeForBookChapters_result result = new subscribeForBookChapters_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, subscribeForBookChapters_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
+        iface.subscribeForBookChapters(args.bookUid, args.timeoutMillis,resultHandler);
+      }
+    }
+
+    public static class subscribeForChapter<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, subscribeForChapter_args, java.util.List<Callback>> {
+      public subscribeForChapter() {
+        super("subscribeForChapter");
+      }
+
+      public subscribeForChapter_args getEmptyArgsInstance() {
+        return new subscribeForChapter_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>>() { 
+          public void onComplete(java.util.List<Callback> o) {
+            subscribeForChapter_result result = new subscribeForChapter_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            subscribeForChapter_result result = new subscribeForChapter_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, subscribeForChapter_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
+        iface.subscribeForChapter(args.bookUid, args.chapterUid, args.timeoutMillis,resultHandler);
+      }
+    }
+
+  }
+
+  public static class getBookList_args implements org.apache.thrift.TBase<getBookList_args, getBookList_args._Fields>, java.io.Serializable, Cloneable, Comparable<getBookList_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookList_args");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookList_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookList_argsTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookList_args.class, metaDataMap);
+    }
+
+    public getBookList_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBookList_args(getBookList_args other) {
+    }
+
+    public getBookList_args deepCopy() {
+      return new getBookList_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBookList_args)
+        return this.equals((getBookList_args)that);
+      return false;
+    }
+
+    public boolean equals(getBookList_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getBookList_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookList_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBookList_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookList_argsStandardScheme getScheme() {
+        return new getBookList_argsStandardScheme();
+      }
+    }
+
+    private static class getBookList_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookList_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookList_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookList_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBookList_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookList_argsTupleScheme getScheme() {
+        return new getBookList_argsTupleScheme();
+      }
+    }
+
+    private static class getBookList_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookList_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBookList_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBookList_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getBookList_result implements org.apache.thrift.TBase<getBookList_result, getBookList_result._Fields>, java.io.Serializable, Cloneable, Comparable<getBookList_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookList_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookList_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookList_resultTupleSchemeFactory();
+
+    public Callback success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Callback.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookList_result.class, metaDataMap);
+    }
+
+    public getBookList_result() {
+    }
+
+    public getBookList_result(
+      Callback success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBookList_result(getBookList_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new Callback(other.success);
+      }
+    }
+
+    public getBookList_result deepCopy() {
+      return new getBookList_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public Callback getSuccess() {
+      return this.success;
+    }
+
+    public getBookList_result setSuccess(Callback success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Callback)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBookList_result)
+        return this.equals((getBookList_result)that);
+      return false;
+    }
+
+    public boolean equals(getBookList_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getBookList_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookList_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBookList_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookList_resultStandardScheme getScheme() {
+        return new getBookList_resultStandardScheme();
+      }
+    }
+
+    private static class getBookList_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookList_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookList_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new Callback();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookList_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBookList_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookList_resultTupleScheme getScheme() {
+        return new getBookList_resultTupleScheme();
+      }
+    }
+
+    private static class getBookList_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookList_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBookList_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBookList_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new Callback();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getBookChapters_args implements org.apache.thrift.TBase<getBookChapters_args, getBookChapters_args._Fields>, java.io.Serializable, Cloneable, Comparable<getBookChapters_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookChapters_args");
+
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookChapters_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookChapters_argsTupleSchemeFactory();
+
+    public java.lang.String bookUid; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BOOK_UID((short)1, "bookUid");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BOOK_UID
+            return BOOK_UID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookChapters_args.class, metaDataMap);
+    }
+
+    public getBookChapters_args() {
+    }
+
+    public getBookChapters_args(
+      java.lang.String bookUid)
+    {
+      this();
+      this.bookUid = bookUid;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBookChapters_args(getBookChapters_args other) {
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
+      }
+    }
+
+    public getBookChapters_args deepCopy() {
+      return new getBookChapters_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.bookUid = null;
+    }
+
+    public java.lang.String getBookUid() {
+      return this.bookUid;
+    }
+
+    public getBookChapters_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
+      return this;
+    }
+
+    public void unsetBookUid() {
+      this.bookUid = null;
+    }
+
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
+    }
+
+    public void setBookUidIsSet(boolean value) {
+      if (!value) {
+        this.bookUid = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case BOOK_UID:
+        if (value == null) {
+          unsetBookUid();
+        } else {
+          setBookUid((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BOOK_UID:
+        return getBookUid();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BOOK_UID:
+        return isSetBookUid();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBookChapters_args)
+        return this.equals((getBookChapters_args)that);
+      return false;
+    }
+
+    public boolean equals(getBookChapters_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
+          return false;
+        if (!this.bookUid.equals(that.bookUid))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getBookChapters_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookChapters_args(");
+      boolean first = true;
+
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookUid);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBookChapters_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookChapters_argsStandardScheme getScheme() {
+        return new getBookChapters_argsStandardScheme();
+      }
+    }
+
+    private static class getBookChapters_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookChapters_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookChapters_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BOOK_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookChapters_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBookChapters_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookChapters_argsTupleScheme getScheme() {
+        return new getBookChapters_argsTupleScheme();
+      }
+    }
+
+    private static class getBookChapters_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookChapters_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBookChapters_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetBookUid()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBookChapters_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getBookChapters_result implements org.apache.thrift.TBase<getBookChapters_result, getBookChapters_result._Fields>, java.io.Serializable, Cloneable, Comparable<getBookChapters_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookChapters_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookChapters_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookChapters_resultTupleSchemeFactory();
+
+    public Callback success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Callback.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookChapters_result.class, metaDataMap);
+    }
+
+    public getBookChapters_result() {
+    }
+
+    public getBookChapters_result(
+      Callback success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBookChapters_result(getBookChapters_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new Callback(other.success);
+      }
+    }
+
+    public getBookChapters_result deepCopy() {
+      return new getBookChapters_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public Callback getSuccess() {
+      return this.success;
+    }
+
+    public getBookChapters_result setSuccess(Callback success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Callback)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBookChapters_result)
+        return this.equals((getBookChapters_result)that);
+      return false;
+    }
+
+    public boolean equals(getBookChapters_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getBookChapters_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookChapters_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBookChapters_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookChapters_resultStandardScheme getScheme() {
+        return new getBookChapters_resultStandardScheme();
+      }
+    }
+
+    private static class getBookChapters_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookChapters_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookChapters_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new Callback();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookChapters_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBookChapters_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookChapters_resultTupleScheme getScheme() {
+        return new getBookChapters_resultTupleScheme();
+      }
+    }
+
+    private static class getBookChapters_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookChapters_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBookChapters_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBookChapters_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new Callback();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class renameBook_args implements org.apache.thrift.TBase<renameBook_args, renameBook_args._Fields>, java.io.Serializable, Cloneable, Comparable<renameBook_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameBook_args");
+
+    private static final org.apache.thrift.protocol.TField NEW_VALUE_FIELD_DESC = new org.apache.thrift.protocol.TField("newValue", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new renameBook_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new renameBook_argsTupleSchemeFactory();
+
+    public CustomPair newValue; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      NEW_VALUE((short)1, "newValue");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NEW_VALUE
+            return NEW_VALUE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NEW_VALUE, new org.apache.thrift.meta_data.FieldMetaData("newValue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CustomPair.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameBook_args.class, metaDataMap);
+    }
+
+    public renameBook_args() {
+    }
+
+    public renameBook_args(
+      CustomPair newValue)
+    {
+      this();
+      this.newValue = newValue;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public renameBook_args(renameBook_args other) {
+      if (other.isSetNewValue()) {
+        this.newValue = new CustomPair(other.newValue);
+      }
+    }
+
+    public renameBook_args deepCopy() {
+      return new renameBook_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.newValue = null;
+    }
+
+    public CustomPair getNewValue() {
+      return this.newValue;
+    }
+
+    public renameBook_args setNewValue(CustomPair newValue) {
+      this.newValue = newValue;
+      return this;
+    }
+
+    public void unsetNewValue() {
+      this.newValue = null;
+    }
+
+    /** Returns true if field newValue is set (has been assigned a value) and false otherwise */
+    public boolean isSetNewValue() {
+      return this.newValue != null;
+    }
+
+    public void setNewValueIsSet(boolean value) {
+      if (!value) {
+        this.newValue = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case NEW_VALUE:
+        if (value == null) {
+          unsetNewValue();
+        } else {
+          setNewValue((CustomPair)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case NEW_VALUE:
+        return getNewValue();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case NEW_VALUE:
+        return isSetNewValue();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof renameBook_args)
+        return this.equals((renameBook_args)that);
+      return false;
+    }
+
+    public boolean equals(renameBook_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_newValue = true && this.isSetNewValue();
+      boolean that_present_newValue = true && that.isSetNewValue();
+      if (this_present_newValue || that_present_newValue) {
+        if (!(this_present_newValue && that_present_newValue))
+          return false;
+        if (!this.newValue.equals(that.newValue))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetNewValue()) ? 131071 : 524287);
+      if (isSetNewValue())
+        hashCode = hashCode * 8191 + newValue.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(renameBook_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetNewValue()).compareTo(other.isSetNewValue());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNewValue()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.newValue, other.newValue);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("renameBook_args(");
+      boolean first = true;
+
+      sb.append("newValue:");
+      if (this.newValue == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.newValue);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (newValue != null) {
+        newValue.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class renameBook_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public renameBook_argsStandardScheme getScheme() {
+        return new renameBook_argsStandardScheme();
+      }
+    }
+
+    private static class renameBook_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<renameBook_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, renameBook_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // NEW_VALUE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.newValue = new CustomPair();
+                struct.newValue.read(iprot);
+                struct.setNewValueIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, renameBook_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.newValue != null) {
+          oprot.writeFieldBegin(NEW_VALUE_FIELD_DESC);
+          struct.newValue.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class renameBook_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public renameBook_argsTupleScheme getScheme() {
+        return new renameBook_argsTupleScheme();
+      }
+    }
+
+    private static class renameBook_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<renameBook_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, renameBook_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetNewValue()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetNewValue()) {
+          struct.newValue.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, renameBook_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.newValue = new CustomPair();
+          struct.newValue.read(iprot);
+          struct.setNewValueIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class renameBook_result implements org.apache.thrift.TBase<renameBook_result, renameBook_result._Fields>, java.io.Serializable, Cloneable, Comparable<renameBook_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameBook_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new renameBook_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new renameBook_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameBook_result.class, metaDataMap);
+    }
+
+    public renameBook_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public renameBook_result(renameBook_result other) {
+    }
+
+    public renameBook_result deepCopy() {
+      return new renameBook_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof renameBook_result)
+        return this.equals((renameBook_result)that);
+      return false;
+    }
+
+    public boolean equals(renameBook_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(renameBook_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("renameBook_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class renameBook_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public renameBook_resultStandardScheme getScheme() {
+        return new renameBook_resultStandardScheme();
+      }
+    }
+
+    private static class renameBook_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<renameBook_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, renameBook_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, renameBook_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class renameBook_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public renameBook_resultTupleScheme getScheme() {
+        return new renameBook_resultTupleScheme();
+      }
+    }
+
+    private static class renameBook_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<renameBook_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, renameBook_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, renameBook_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class renameBookChapter_args implements org.apache.thrift.TBase<renameBookChapter_args, renameBookChapter_args._Fields>, java.io.Serializable, Cloneable, Comparable<renameBookChapter_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameBookChapter_args");
+
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField NEW_VALUE_FIELD_DESC = new org.apache.thrift.protocol.TField("newValue", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new renameBookChapter_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new renameBookChapter_argsTupleSchemeFactory();
+
+    public java.lang.String bookUid; // required
+    public CustomPair newValue; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BOOK_UID((short)1, "bookUid"),
+      NEW_VALUE((short)2, "newValue");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BOOK_UID
+            return BOOK_UID;
+          case 2: // NEW_VALUE
+            return NEW_VALUE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NEW_VALUE, new org.apache.thrift.meta_data.FieldMetaData("newValue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CustomPair.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameBookChapter_args.class, metaDataMap);
+    }
+
+    public renameBookChapter_args() {
+    }
+
+    public renameBookChapter_args(
+      java.lang.String bookUid,
+      CustomPair newValue)
+    {
+      this();
+      this.bookUid = bookUid;
+      this.newValue = newValue;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public renameBookChapter_args(renameBookChapter_args other) {
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
+      }
+      if (other.isSetNewValue()) {
+        this.newValue = new CustomPair(other.newValue);
+      }
+    }
+
+    public renameBookChapter_args deepCopy() {
+      return new renameBookChapter_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.bookUid = null;
+      this.newValue = null;
+    }
+
+    public java.lang.String getBookUid() {
+      return this.bookUid;
+    }
+
+    public renameBookChapter_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
+      return this;
+    }
+
+    public void unsetBookUid() {
+      this.bookUid = null;
+    }
+
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
+    }
+
+    public void setBookUidIsSet(boolean value) {
+      if (!value) {
+        this.bookUid = null;
+      }
+    }
+
+    public CustomPair getNewValue() {
+      return this.newValue;
+    }
+
+    public renameBookChapter_args setNewValue(CustomPair newValue) {
+      this.newValue = newValue;
+      return this;
+    }
+
+    public void unsetNewValue() {
+      this.newValue = null;
+    }
+
+    /** Returns true if field newValue is set (has been assigned a value) and false otherwise */
+    public boolean isSetNewValue() {
+      return this.newValue != null;
+    }
+
+    public void setNewValueIsSet(boolean value) {
+      if (!value) {
+        this.newValue = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case BOOK_UID:
+        if (value == null) {
+          unsetBookUid();
+        } else {
+          setBookUid((java.lang.String)value);
+        }
+        break;
+
+      case NEW_VALUE:
+        if (value == null) {
+          unsetNewValue();
+        } else {
+          setNewValue((CustomPair)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BOOK_UID:
+        return getBookUid();
+
+      case NEW_VALUE:
+        return getNewValue();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BOOK_UID:
+        return isSetBookUid();
+      case NEW_VALUE:
+        return isSetNewValue();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof renameBookChapter_args)
+        return this.equals((renameBookChapter_args)that);
+      return false;
+    }
+
+    public boolean equals(renameBookChapter_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
+          return false;
+        if (!this.bookUid.equals(that.bookUid))
+          return false;
+      }
+
+      boolean this_present_newValue = true && this.isSetNewValue();
+      boolean that_present_newValue = true && that.isSetNewValue();
+      if (this_present_newValue || that_present_newValue) {
+        if (!(this_present_newValue && that_present_newValue))
+          return false;
+        if (!this.newValue.equals(that.newValue))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetNewValue()) ? 131071 : 524287);
+      if (isSetNewValue())
+        hashCode = hashCode * 8191 + newValue.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(renameBookChapter_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetNewValue()).compareTo(other.isSetNewValue());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNewValue()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.newValue, other.newValue);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("renameBookChapter_args(");
+      boolean first = true;
+
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("newValue:");
+      if (this.newValue == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.newValue);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (newValue != null) {
+        newValue.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class renameBookChapter_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public renameBookChapter_argsStandardScheme getScheme() {
+        return new renameBookChapter_argsStandardScheme();
+      }
+    }
+
+    private static class renameBookChapter_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<renameBookChapter_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, renameBookChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BOOK_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // NEW_VALUE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.newValue = new CustomPair();
+                struct.newValue.read(iprot);
+                struct.setNewValueIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, renameBookChapter_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
+          oprot.writeFieldEnd();
+        }
+        if (struct.newValue != null) {
+          oprot.writeFieldBegin(NEW_VALUE_FIELD_DESC);
+          struct.newValue.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class renameBookChapter_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public renameBookChapter_argsTupleScheme getScheme() {
+        return new renameBookChapter_argsTupleScheme();
+      }
+    }
+
+    private static class renameBookChapter_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<renameBookChapter_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, renameBookChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetBookUid()) {
+          optionals.set(0);
+        }
+        if (struct.isSetNewValue()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
+        }
+        if (struct.isSetNewValue()) {
+          struct.newValue.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, renameBookChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.newValue = new CustomPair();
+          struct.newValue.read(iprot);
+          struct.setNewValueIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class renameBookChapter_result implements org.apache.thrift.TBase<renameBookChapter_result, renameBookChapter_result._Fields>, java.io.Serializable, Cloneable, Comparable<renameBookChapter_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameBookChapter_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new renameBookChapter_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new renameBookChapter_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameBookChapter_result.class, metaDataMap);
+    }
+
+    public renameBookChapter_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public renameBookChapter_result(renameBookChapter_result other) {
+    }
+
+    public renameBookChapter_result deepCopy() {
+      return new renameBookChapter_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof renameBookChapter_result)
+        return this.equals((renameBookChapter_result)that);
+      return false;
+    }
+
+    public boolean equals(renameBookChapter_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(renameBookChapter_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("renameBookChapter_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class renameBookChapter_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public renameBookChapter_resultStandardScheme getScheme() {
+        return new renameBookChapter_resultStandardScheme();
+      }
+    }
+
+    private static class renameBookChapter_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<renameBookChapter_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, renameBookChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, renameBookChapter_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class renameBookChapter_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public renameBookChapter_resultTupleScheme getScheme() {
+        return new renameBookChapter_resultTupleScheme();
+      }
+    }
+
+    private static class renameBookChapter_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<renameBookChapter_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, renameBookChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, renameBookChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getChapter_args implements org.apache.thrift.TBase<getChapter_args, getChapter_args._Fields>, java.io.Serializable, Cloneable, Comparable<getChapter_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChapter_args");
+
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CHAPTER_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterUid", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChapter_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChapter_argsTupleSchemeFactory();
+
+    public java.lang.String bookUid; // required
+    public java.lang.String chapterUid; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BOOK_UID((short)1, "bookUid"),
+      CHAPTER_UID((short)2, "chapterUid");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BOOK_UID
+            return BOOK_UID;
+          case 2: // CHAPTER_UID
+            return CHAPTER_UID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CHAPTER_UID, new org.apache.thrift.meta_data.FieldMetaData("chapterUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChapter_args.class, metaDataMap);
+    }
+
+    public getChapter_args() {
+    }
+
+    public getChapter_args(
+      java.lang.String bookUid,
+      java.lang.String chapterUid)
+    {
+      this();
+      this.bookUid = bookUid;
+      this.chapterUid = chapterUid;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getChapter_args(getChapter_args other) {
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
+      }
+      if (other.isSetChapterUid()) {
+        this.chapterUid = other.chapterUid;
+      }
+    }
+
+    public getChapter_args deepCopy() {
+      return new getChapter_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.bookUid = null;
+      this.chapterUid = null;
+    }
+
+    public java.lang.String getBookUid() {
+      return this.bookUid;
+    }
+
+    public getChapter_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
+      return this;
+    }
+
+    public void unsetBookUid() {
+      this.bookUid = null;
+    }
+
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
+    }
+
+    public void setBookUidIsSet(boolean value) {
+      if (!value) {
+        this.bookUid = null;
+      }
+    }
+
+    public java.lang.String getChapterUid() {
+      return this.chapterUid;
+    }
+
+    public getChapter_args setChapterUid(java.lang.String chapterUid) {
+      this.chapterUid = chapterUid;
+      return this;
+    }
+
+    public void unsetChapterUid() {
+      this.chapterUid = null;
+    }
+
+    /** Returns true if field chapterUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetChapterUid() {
+      return this.chapterUid != null;
+    }
+
+    public void setChapterUidIsSet(boolean value) {
+      if (!value) {
+        this.chapterUid = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case BOOK_UID:
+        if (value == null) {
+          unsetBookUid();
+        } else {
+          setBookUid((java.lang.String)value);
+        }
+        break;
+
+      case CHAPTER_UID:
+        if (value == null) {
+          unsetChapterUid();
+        } else {
+          setChapterUid((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BOOK_UID:
+        return getBookUid();
+
+      case CHAPTER_UID:
+        return getChapterUid();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BOOK_UID:
+        return isSetBookUid();
+      case CHAPTER_UID:
+        return isSetChapterUid();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getChapter_args)
+        return this.equals((getChapter_args)that);
+      return false;
+    }
+
+    public boolean equals(getChapter_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
+          return false;
+        if (!this.bookUid.equals(that.bookUid))
+          return false;
+      }
+
+      boolean this_present_chapterUid = true && this.isSetChapterUid();
+      boolean that_present_chapterUid = true && that.isSetChapterUid();
+      if (this_present_chapterUid || that_present_chapterUid) {
+        if (!(this_present_chapterUid && that_present_chapterUid))
+          return false;
+        if (!this.chapterUid.equals(that.chapterUid))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetChapterUid()) ? 131071 : 524287);
+      if (isSetChapterUid())
+        hashCode = hashCode * 8191 + chapterUid.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getChapter_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetChapterUid()).compareTo(other.isSetChapterUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChapterUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapterUid, other.chapterUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChapter_args(");
+      boolean first = true;
+
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("chapterUid:");
+      if (this.chapterUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.chapterUid);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getChapter_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapter_argsStandardScheme getScheme() {
+        return new getChapter_argsStandardScheme();
+      }
+    }
+
+    private static class getChapter_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChapter_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BOOK_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CHAPTER_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.chapterUid = iprot.readString();
+                struct.setChapterUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChapter_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
+          oprot.writeFieldEnd();
+        }
+        if (struct.chapterUid != null) {
+          oprot.writeFieldBegin(CHAPTER_UID_FIELD_DESC);
+          oprot.writeString(struct.chapterUid);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getChapter_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapter_argsTupleScheme getScheme() {
+        return new getChapter_argsTupleScheme();
+      }
+    }
+
+    private static class getChapter_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChapter_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetBookUid()) {
+          optionals.set(0);
+        }
+        if (struct.isSetChapterUid()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
+        }
+        if (struct.isSetChapterUid()) {
+          oprot.writeString(struct.chapterUid);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.chapterUid = iprot.readString();
+          struct.setChapterUidIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getChapter_result implements org.apache.thrift.TBase<getChapter_result, getChapter_result._Fields>, java.io.Serializable, Cloneable, Comparable<getChapter_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChapter_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChapter_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChapter_resultTupleSchemeFactory();
+
+    public Callback success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Callback.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChapter_result.class, metaDataMap);
+    }
+
+    public getChapter_result() {
+    }
+
+    public getChapter_result(
+      Callback success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getChapter_result(getChapter_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new Callback(other.success);
+      }
+    }
+
+    public getChapter_result deepCopy() {
+      return new getChapter_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public Callback getSuccess() {
+      return this.success;
+    }
+
+    public getChapter_result setSuccess(Callback success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Callback)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getChapter_result)
+        return this.equals((getChapter_result)that);
+      return false;
+    }
+
+    public boolean equals(getChapter_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getChapter_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChapter_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getChapter_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapter_resultStandardScheme getScheme() {
+        return new getChapter_resultStandardScheme();
+      }
+    }
+
+    private static class getChapter_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChapter_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new Callback();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChapter_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getChapter_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapter_resultTupleScheme getScheme() {
+        return new getChapter_resultTupleScheme();
+      }
+    }
+
+    private static class getChapter_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChapter_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new Callback();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class watchChapter_args implements org.apache.thrift.TBase<watchChapter_args, watchChapter_args._Fields>, java.io.Serializable, Cloneable, Comparable<watchChapter_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("watchChapter_args");
+
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CHAPTER_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterUid", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new watchChapter_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new watchChapter_argsTupleSchemeFactory();
+
+    public java.lang.String bookUid; // required
+    public java.lang.String chapterUid; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BOOK_UID((short)1, "bookUid"),
+      CHAPTER_UID((short)2, "chapterUid");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BOOK_UID
+            return BOOK_UID;
+          case 2: // CHAPTER_UID
+            return CHAPTER_UID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CHAPTER_UID, new org.apache.thrift.meta_data.FieldMetaData("chapterUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(watchChapter_args.class, metaDataMap);
+    }
+
+    public watchChapter_args() {
+    }
+
+    public watchChapter_args(
+      java.lang.String bookUid,
+      java.lang.String chapterUid)
+    {
+      this();
+      this.bookUid = bookUid;
+      this.chapterUid = chapterUid;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public watchChapter_args(watchChapter_args other) {
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
+      }
+      if (other.isSetChapterUid()) {
+        this.chapterUid = other.chapterUid;
+      }
+    }
+
+    public watchChapter_args deepCopy() {
+      return new watchChapter_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.bookUid = null;
+      this.chapterUid = null;
+    }
+
+    public java.lang.String getBookUid() {
+      return this.bookUid;
+    }
+
+    public watchChapter_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
+      return this;
+    }
+
+    public void unsetBookUid() {
+      this.bookUid = null;
+    }
+
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
+    }
+
+    public void setBookUidIsSet(boolean value) {
+      if (!value) {
+        this.bookUid = null;
+      }
+    }
+
+    public java.lang.String getChapterUid() {
+      return this.chapterUid;
+    }
+
+    public watchChapter_args setChapterUid(java.lang.String chapterUid) {
+      this.chapterUid = chapterUid;
+      return this;
+    }
+
+    public void unsetChapterUid() {
+      this.chapterUid = null;
+    }
+
+    /** Returns true if field chapterUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetChapterUid() {
+      return this.chapterUid != null;
+    }
+
+    public void setChapterUidIsSet(boolean value) {
+      if (!value) {
+        this.chapterUid = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case BOOK_UID:
+        if (value == null) {
+          unsetBookUid();
+        } else {
+          setBookUid((java.lang.String)value);
+        }
+        break;
+
+      case CHAPTER_UID:
+        if (value == null) {
+          unsetChapterUid();
+        } else {
+          setChapterUid((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BOOK_UID:
+        return getBookUid();
+
+      case CHAPTER_UID:
+        return getChapterUid();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BOOK_UID:
+        return isSetBookUid();
+      case CHAPTER_UID:
+        return isSetChapterUid();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof watchChapter_args)
+        return this.equals((watchChapter_args)that);
+      return false;
+    }
+
+    public boolean equals(watchChapter_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
+          return false;
+        if (!this.bookUid.equals(that.bookUid))
+          return false;
+      }
+
+      boolean this_present_chapterUid = true && this.isSetChapterUid();
+      boolean that_present_chapterUid = true && that.isSetChapterUid();
+      if (this_present_chapterUid || that_present_chapterUid) {
+        if (!(this_present_chapterUid && that_present_chapterUid))
+          return false;
+        if (!this.chapterUid.equals(that.chapterUid))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetChapterUid()) ? 131071 : 524287);
+      if (isSetChapterUid())
+        hashCode = hashCode * 8191 + chapterUid.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(watchChapter_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetChapterUid()).compareTo(other.isSetChapterUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChapterUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapterUid, other.chapterUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("watchChapter_args(");
+      boolean first = true;
+
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("chapterUid:");
+      if (this.chapterUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.chapterUid);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class watchChapter_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public watchChapter_argsStandardScheme getScheme() {
+        return new watchChapter_argsStandardScheme();
+      }
+    }
+
+    private static class watchChapter_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<watchChapter_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, watchChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BOOK_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CHAPTER_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.chapterUid = iprot.readString();
+                struct.setChapterUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, watchChapter_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
+          oprot.writeFieldEnd();
+        }
+        if (struct.chapterUid != null) {
+          oprot.writeFieldBegin(CHAPTER_UID_FIELD_DESC);
+          oprot.writeString(struct.chapterUid);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class watchChapter_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public watchChapter_argsTupleScheme getScheme() {
+        return new watchChapter_argsTupleScheme();
+      }
+    }
+
+    private static class watchChapter_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<watchChapter_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, watchChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetBookUid()) {
+          optionals.set(0);
+        }
+        if (struct.isSetChapterUid()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
+        }
+        if (struct.isSetChapterUid()) {
+          oprot.writeString(struct.chapterUid);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, watchChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.chapterUid = iprot.readString();
+          struct.setChapterUidIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class watchChapter_result implements org.apache.thrift.TBase<watchChapter_result, watchChapter_result._Fields>, java.io.Serializable, Cloneable, Comparable<watchChapter_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("watchChapter_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new watchChapter_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new watchChapter_resultTupleSchemeFactory();
+
+    public Callback success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Callback.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(watchChapter_result.class, metaDataMap);
+    }
+
+    public watchChapter_result() {
+    }
+
+    public watchChapter_result(
+      Callback success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public watchChapter_result(watchChapter_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new Callback(other.success);
+      }
+    }
+
+    public watchChapter_result deepCopy() {
+      return new watchChapter_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public Callback getSuccess() {
+      return this.success;
+    }
+
+    public watchChapter_result setSuccess(Callback success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Callback)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof watchChapter_result)
+        return this.equals((watchChapter_result)that);
+      return false;
+    }
+
+    public boolean equals(watchChapter_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(watchChapter_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("watchChapter_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class watchChapter_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public watchChapter_resultStandardScheme getScheme() {
+        return new watchChapter_resultStandardScheme();
+      }
+    }
+
+    private static class watchChapter_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<watchChapter_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, watchChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new Callback();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, watchChapter_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class watchChapter_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public watchChapter_resultTupleScheme getScheme() {
+        return new watchChapter_resultTupleScheme();
+      }
+    }
+
+    private static class watchChapter_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<watchChapter_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, watchChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, watchChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new Callback();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateChapter_args implements org.apache.thrift.TBase<updateChapter_args, updateChapter_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateChapter_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateChapter_args");
+
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CHAPTER_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterUid", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField CHAPTER_FIELD_DESC = new org.apache.thrift.protocol.TField("chapter", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateChapter_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateChapter_argsTupleSchemeFactory();
+
+    public java.lang.String bookUid; // required
+    public java.lang.String chapterUid; // required
+    public Chapter chapter; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BOOK_UID((short)1, "bookUid"),
+      CHAPTER_UID((short)2, "chapterUid"),
+      CHAPTER((short)3, "chapter");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BOOK_UID
+            return BOOK_UID;
+          case 2: // CHAPTER_UID
+            return CHAPTER_UID;
+          case 3: // CHAPTER
+            return CHAPTER;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CHAPTER_UID, new org.apache.thrift.meta_data.FieldMetaData("chapterUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CHAPTER, new org.apache.thrift.meta_data.FieldMetaData("chapter", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Chapter.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateChapter_args.class, metaDataMap);
+    }
+
+    public updateChapter_args() {
+    }
+
+    public updateChapter_args(
+      java.lang.String bookUid,
+      java.lang.String chapterUid,
+      Chapter chapter)
+    {
+      this();
+      this.bookUid = bookUid;
+      this.chapterUid = chapterUid;
+      this.chapter = chapter;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateChapter_args(updateChapter_args other) {
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
+      }
+      if (other.isSetChapterUid()) {
+        this.chapterUid = other.chapterUid;
+      }
+      if (other.isSetChapter()) {
+        this.chapter = new Chapter(other.chapter);
+      }
+    }
+
+    public updateChapter_args deepCopy() {
+      return new updateChapter_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.bookUid = null;
+      this.chapterUid = null;
+      this.chapter = null;
+    }
+
+    public java.lang.String getBookUid() {
+      return this.bookUid;
+    }
+
+    public updateChapter_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
+      return this;
+    }
+
+    public void unsetBookUid() {
+      this.bookUid = null;
+    }
+
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
+    }
+
+    public void setBookUidIsSet(boolean value) {
+      if (!value) {
+        this.bookUid = null;
+      }
+    }
+
+    public java.lang.String getChapterUid() {
+      return this.chapterUid;
+    }
+
+    public updateChapter_args setChapterUid(java.lang.String chapterUid) {
+      this.chapterUid = chapterUid;
+      return this;
+    }
+
+    public void unsetChapterUid() {
+      this.chapterUid = null;
+    }
+
+    /** Returns true if field chapterUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetChapterUid() {
+      return this.chapterUid != null;
+    }
+
+    public void setChapterUidIsSet(boolean value) {
+      if (!value) {
+        this.chapterUid = null;
+      }
+    }
+
+    public Chapter getChapter() {
+      return this.chapter;
+    }
+
+    public updateChapter_args setChapter(Chapter chapter) {
+      this.chapter = chapter;
+      return this;
+    }
+
+    public void unsetChapter() {
+      this.chapter = null;
+    }
+
+    /** Returns true if field chapter is set (has been assigned a value) and false otherwise */
+    public boolean isSetChapter() {
+      return this.chapter != null;
+    }
+
+    public void setChapterIsSet(boolean value) {
+      if (!value) {
+        this.chapter = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case BOOK_UID:
+        if (value == null) {
+          unsetBookUid();
+        } else {
+          setBookUid((java.lang.String)value);
+        }
+        break;
+
+      case CHAPTER_UID:
+        if (value == null) {
+          unsetChapterUid();
+        } else {
+          setChapterUid((java.lang.String)value);
+        }
+        break;
+
+      case CHAPTER:
+        if (value == null) {
+          unsetChapter();
+        } else {
+          setChapter((Chapter)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BOOK_UID:
+        return getBookUid();
+
+      case CHAPTER_UID:
+        return getChapterUid();
+
+      case CHAPTER:
+        return getChapter();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BOOK_UID:
+        return isSetBookUid();
+      case CHAPTER_UID:
+        return isSetChapterUid();
+      case CHAPTER:
+        return isSetChapter();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateChapter_args)
+        return this.equals((updateChapter_args)that);
+      return false;
+    }
+
+    public boolean equals(updateChapter_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
+          return false;
+        if (!this.bookUid.equals(that.bookUid))
+          return false;
+      }
+
+      boolean this_present_chapterUid = true && this.isSetChapterUid();
+      boolean that_present_chapterUid = true && that.isSetChapterUid();
+      if (this_present_chapterUid || that_present_chapterUid) {
+        if (!(this_present_chapterUid && that_present_chapterUid))
+          return false;
+        if (!this.chapterUid.equals(that.chapterUid))
+          return false;
+      }
+
+      boolean this_present_chapter = true && this.isSetChapter();
+      boolean that_present_chapter = true && that.isSetChapter();
+      if (this_present_chapter || that_present_chapter) {
+        if (!(this_present_chapter && that_present_chapter))
+          return false;
+        if (!this.chapter.equals(that.chapter))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetChapterUid()) ? 131071 : 524287);
+      if (isSetChapterUid())
+        hashCode = hashCode * 8191 + chapterUid.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetChapter()) ? 131071 : 524287);
+      if (isSetChapter())
+        hashCode = hashCode * 8191 + chapter.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateChapter_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetChapterUid()).compareTo(other.isSetChapterUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChapterUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapterUid, other.chapterUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetChapter()).compareTo(other.isSetChapter());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChapter()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapter, other.chapter);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateChapter_args(");
+      boolean first = true;
+
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("chapterUid:");
+      if (this.chapterUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.chapterUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("chapter:");
+      if (this.chapter == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.chapter);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (chapter != null) {
+        chapter.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateChapter_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateChapter_argsStandardScheme getScheme() {
+        return new updateChapter_argsStandardScheme();
+      }
+    }
+
+    private static class updateChapter_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateChapter_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BOOK_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CHAPTER_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.chapterUid = iprot.readString();
+                struct.setChapterUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // CHAPTER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.chapter = new Chapter();
+                struct.chapter.read(iprot);
+                struct.setChapterIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateChapter_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
+          oprot.writeFieldEnd();
+        }
+        if (struct.chapterUid != null) {
+          oprot.writeFieldBegin(CHAPTER_UID_FIELD_DESC);
+          oprot.writeString(struct.chapterUid);
+          oprot.writeFieldEnd();
+        }
+        if (struct.chapter != null) {
+          oprot.writeFieldBegin(CHAPTER_FIELD_DESC);
+          struct.chapter.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateChapter_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateChapter_argsTupleScheme getScheme() {
+        return new updateChapter_argsTupleScheme();
+      }
+    }
+
+    private static class updateChapter_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateChapter_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetBookUid()) {
+          optionals.set(0);
+        }
+        if (struct.isSetChapterUid()) {
+          optionals.set(1);
+        }
+        if (struct.isSetChapter()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
+        }
+        if (struct.isSetChapterUid()) {
+          oprot.writeString(struct.chapterUid);
+        }
+        if (struct.isSetChapter()) {
+          struct.chapter.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.chapterUid = iprot.readString();
+          struct.setChapterUidIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.chapter = new Chapter();
+          struct.chapter.read(iprot);
+          struct.setChapterIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateChapter_result implements org.apache.thrift.TBase<updateChapter_result, updateChapter_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateChapter_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateChapter_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateChapter_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateChapter_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateChapter_result.class, metaDataMap);
+    }
+
+    public updateChapter_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateChapter_result(updateChapter_result other) {
+    }
+
+    public updateChapter_result deepCopy() {
+      return new updateChapter_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateChapter_result)
+        return this.equals((updateChapter_result)that);
+      return false;
+    }
+
+    public boolean equals(updateChapter_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateChapter_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateChapter_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateChapter_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateChapter_resultStandardScheme getScheme() {
+        return new updateChapter_resultStandardScheme();
+      }
+    }
+
+    private static class updateChapter_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateChapter_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateChapter_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateChapter_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateChapter_resultTupleScheme getScheme() {
+        return new updateChapter_resultTupleScheme();
+      }
+    }
+
+    private static class updateChapter_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateChapter_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class removeBook_args implements org.apache.thrift.TBase<removeBook_args, removeBook_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeBook_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeBook_args");
+
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeBook_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeBook_argsTupleSchemeFactory();
+
+    public java.lang.String bookUid; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BOOK_UID((short)1, "bookUid");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BOOK_UID
+            return BOOK_UID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeBook_args.class, metaDataMap);
+    }
+
+    public removeBook_args() {
+    }
+
+    public removeBook_args(
+      java.lang.String bookUid)
+    {
+      this();
+      this.bookUid = bookUid;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public removeBook_args(removeBook_args other) {
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
+      }
+    }
+
+    public removeBook_args deepCopy() {
+      return new removeBook_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.bookUid = null;
+    }
+
+    public java.lang.String getBookUid() {
+      return this.bookUid;
+    }
+
+    public removeBook_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
+      return this;
+    }
+
+    public void unsetBookUid() {
+      this.bookUid = null;
+    }
+
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
+    }
+
+    public void setBookUidIsSet(boolean value) {
+      if (!value) {
+        this.bookUid = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case BOOK_UID:
+        if (value == null) {
+          unsetBookUid();
+        } else {
+          setBookUid((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BOOK_UID:
+        return getBookUid();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BOOK_UID:
+        return isSetBookUid();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof removeBook_args)
+        return this.equals((removeBook_args)that);
+      return false;
+    }
+
+    public boolean equals(removeBook_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
+          return false;
+        if (!this.bookUid.equals(that.bookUid))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(removeBook_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeBook_args(");
+      boolean first = true;
+
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookUid);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class removeBook_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeBook_argsStandardScheme getScheme() {
+        return new removeBook_argsStandardScheme();
+      }
+    }
+
+    private static class removeBook_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeBook_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeBook_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BOOK_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeBook_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class removeBook_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeBook_argsTupleScheme getScheme() {
+        return new removeBook_argsTupleScheme();
+      }
+    }
+
+    private static class removeBook_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeBook_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeBook_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetBookUid()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeBook_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class removeBook_result implements org.apache.thrift.TBase<removeBook_result, removeBook_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeBook_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeBook_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeBook_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeBook_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeBook_result.class, metaDataMap);
+    }
+
+    public removeBook_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public removeBook_result(removeBook_result other) {
+    }
+
+    public removeBook_result deepCopy() {
+      return new removeBook_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof removeBook_result)
+        return this.equals((removeBook_result)that);
+      return false;
+    }
+
+    public boolean equals(removeBook_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(removeBook_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeBook_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class removeBook_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeBook_resultStandardScheme getScheme() {
+        return new removeBook_resultStandardScheme();
+      }
+    }
+
+    private static class removeBook_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeBook_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeBook_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeBook_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class removeBook_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeBook_resultTupleScheme getScheme() {
+        return new removeBook_resultTupleScheme();
+      }
+    }
+
+    private static class removeBook_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeBook_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeBook_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeBook_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class removeChapter_args implements org.apache.thrift.TBase<removeChapter_args, removeChapter_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeChapter_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeChapter_args");
+
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CHAPTER_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterUid", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeChapter_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeChapter_argsTupleSchemeFactory();
+
+    public java.lang.String bookUid; // required
+    public java.lang.String chapterUid; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BOOK_UID((short)1, "bookUid"),
+      CHAPTER_UID((short)2, "chapterUid");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BOOK_UID
+            return BOOK_UID;
+          case 2: // CHAPTER_UID
+            return CHAPTER_UID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CHAPTER_UID, new org.apache.thrift.meta_data.FieldMetaData("chapterUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeChapter_args.class, metaDataMap);
+    }
+
+    public removeChapter_args() {
+    }
+
+    public removeChapter_args(
+      java.lang.String bookUid,
+      java.lang.String chapterUid)
+    {
+      this();
+      this.bookUid = bookUid;
+      this.chapterUid = chapterUid;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public removeChapter_args(removeChapter_args other) {
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
+      }
+      if (other.isSetChapterUid()) {
+        this.chapterUid = other.chapterUid;
+      }
+    }
+
+    public removeChapter_args deepCopy() {
+      return new removeChapter_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.bookUid = null;
+      this.chapterUid = null;
+    }
+
+    public java.lang.String getBookUid() {
+      return this.bookUid;
+    }
+
+    public removeChapter_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
+      return this;
+    }
+
+    public void unsetBookUid() {
+      this.bookUid = null;
+    }
+
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
+    }
+
+    public void setBookUidIsSet(boolean value) {
+      if (!value) {
+        this.bookUid = null;
+      }
+    }
+
+    public java.lang.String getChapterUid() {
+      return this.chapterUid;
+    }
+
+    public removeChapter_args setChapterUid(java.lang.String chapterUid) {
+      this.chapterUid = chapterUid;
+      return this;
+    }
+
+    public void unsetChapterUid() {
+      this.chapterUid = null;
+    }
+
+    /** Returns true if field chapterUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetChapterUid() {
+      return this.chapterUid != null;
+    }
+
+    public void setChapterUidIsSet(boolean value) {
+      if (!value) {
+        this.chapterUid = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case BOOK_UID:
+        if (value == null) {
+          unsetBookUid();
+        } else {
+          setBookUid((java.lang.String)value);
+        }
+        break;
+
+      case CHAPTER_UID:
+        if (value == null) {
+          unsetChapterUid();
+        } else {
+          setChapterUid((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BOOK_UID:
+        return getBookUid();
+
+      case CHAPTER_UID:
+        return getChapterUid();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BOOK_UID:
+        return isSetBookUid();
+      case CHAPTER_UID:
+        return isSetChapterUid();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof removeChapter_args)
+        return this.equals((removeChapter_args)that);
+      return false;
+    }
+
+    public boolean equals(removeChapter_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
+          return false;
+        if (!this.bookUid.equals(that.bookUid))
+          return false;
+      }
+
+      boolean this_present_chapterUid = true && this.isSetChapterUid();
+      boolean that_present_chapterUid = true && that.isSetChapterUid();
+      if (this_present_chapterUid || that_present_chapterUid) {
+        if (!(this_present_chapterUid && that_present_chapterUid))
+          return false;
+        if (!this.chapterUid.equals(that.chapterUid))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetChapterUid()) ? 131071 : 524287);
+      if (isSetChapterUid())
+        hashCode = hashCode * 8191 + chapterUid.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(removeChapter_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetChapterUid()).compareTo(other.isSetChapterUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChapterUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapterUid, other.chapterUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeChapter_args(");
+      boolean first = true;
+
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("chapterUid:");
+      if (this.chapterUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.chapterUid);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class removeChapter_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeChapter_argsStandardScheme getScheme() {
+        return new removeChapter_argsStandardScheme();
+      }
+    }
+
+    private static class removeChapter_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeChapter_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BOOK_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CHAPTER_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.chapterUid = iprot.readString();
+                struct.setChapterUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeChapter_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
+          oprot.writeFieldEnd();
+        }
+        if (struct.chapterUid != null) {
+          oprot.writeFieldBegin(CHAPTER_UID_FIELD_DESC);
+          oprot.writeString(struct.chapterUid);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class removeChapter_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeChapter_argsTupleScheme getScheme() {
+        return new removeChapter_argsTupleScheme();
+      }
+    }
+
+    private static class removeChapter_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeChapter_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetBookUid()) {
+          optionals.set(0);
+        }
+        if (struct.isSetChapterUid()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
+        }
+        if (struct.isSetChapterUid()) {
+          oprot.writeString(struct.chapterUid);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.chapterUid = iprot.readString();
+          struct.setChapterUidIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class removeChapter_result implements org.apache.thrift.TBase<removeChapter_result, removeChapter_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeChapter_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeChapter_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeChapter_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeChapter_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeChapter_result.class, metaDataMap);
+    }
+
+    public removeChapter_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public removeChapter_result(removeChapter_result other) {
+    }
+
+    public removeChapter_result deepCopy() {
+      return new removeChapter_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof removeChapter_result)
+        return this.equals((removeChapter_result)that);
+      return false;
+    }
+
+    public boolean equals(removeChapter_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(removeChapter_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeChapter_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class removeChapter_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeChapter_resultStandardScheme getScheme() {
+        return new removeChapter_resultStandardScheme();
+      }
+    }
+
+    private static class removeChapter_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeChapter_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeChapter_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class removeChapter_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeChapter_resultTupleScheme getScheme() {
+        return new removeChapter_resultTupleScheme();
+      }
+    }
+
+    private static class removeChapter_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeChapter_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class addBook_args implements org.apache.thrift.TBase<addBook_args, addBook_args._Fields>, java.io.Serializable, Cloneable, Comparable<addBook_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addBook_args");
+
+    private static final org.apache.thrift.protocol.TField BOOK_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("bookName", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addBook_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addBook_argsTupleSchemeFactory();
+
+    public java.lang.String bookName; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BOOK_NAME((short)1, "bookName");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BOOK_NAME
+            return BOOK_NAME;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BOOK_NAME, new org.apache.thrift.meta_data.FieldMetaData("bookName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addBook_args.class, metaDataMap);
+    }
+
+    public addBook_args() {
+    }
+
+    public addBook_args(
+      java.lang.String bookName)
+    {
+      this();
+      this.bookName = bookName;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addBook_args(addBook_args other) {
+      if (other.isSetBookName()) {
+        this.bookName = other.bookName;
+      }
+    }
+
+    public addBook_args deepCopy() {
+      return new addBook_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.bookName = null;
+    }
+
+    public java.lang.String getBookName() {
+      return this.bookName;
+    }
+
+    public addBook_args setBookName(java.lang.String bookName) {
+      this.bookName = bookName;
+      return this;
+    }
+
+    public void unsetBookName() {
+      this.bookName = null;
+    }
+
+    /** Returns true if field bookName is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookName() {
+      return this.bookName != null;
+    }
+
+    public void setBookNameIsSet(boolean value) {
+      if (!value) {
+        this.bookName = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case BOOK_NAME:
+        if (value == null) {
+          unsetBookName();
+        } else {
+          setBookName((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BOOK_NAME:
+        return getBookName();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BOOK_NAME:
+        return isSetBookName();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof addBook_args)
+        return this.equals((addBook_args)that);
+      return false;
+    }
+
+    public boolean equals(addBook_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_bookName = true && this.isSetBookName();
+      boolean that_present_bookName = true && that.isSetBookName();
+      if (this_present_bookName || that_present_bookName) {
+        if (!(this_present_bookName && that_present_bookName))
+          return false;
+        if (!this.bookName.equals(that.bookName))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetBookName()) ? 131071 : 524287);
+      if (isSetBookName())
+        hashCode = hashCode * 8191 + bookName.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(addBook_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetBookName()).compareTo(other.isSetBookName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBookName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookName, other.bookName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addBook_args(");
+      boolean first = true;
+
+      sb.append("bookName:");
+      if (this.bookName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookName);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class addBook_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addBook_argsStandardScheme getScheme() {
+        return new addBook_argsStandardScheme();
+      }
+    }
+
+    private static class addBook_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<addBook_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addBook_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BOOK_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookName = iprot.readString();
+                struct.setBookNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addBook_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.bookName != null) {
+          oprot.writeFieldBegin(BOOK_NAME_FIELD_DESC);
+          oprot.writeString(struct.bookName);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class addBook_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addBook_argsTupleScheme getScheme() {
+        return new addBook_argsTupleScheme();
+      }
+    }
+
+    private static class addBook_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<addBook_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, addBook_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetBookName()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBookName()) {
+          oprot.writeString(struct.bookName);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, addBook_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.bookName = iprot.readString();
+          struct.setBookNameIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class addBook_result implements org.apache.thrift.TBase<addBook_result, addBook_result._Fields>, java.io.Serializable, Cloneable, Comparable<addBook_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addBook_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addBook_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addBook_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addBook_result.class, metaDataMap);
+    }
+
+    public addBook_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addBook_result(addBook_result other) {
+    }
+
+    public addBook_result deepCopy() {
+      return new addBook_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof addBook_result)
+        return this.equals((addBook_result)that);
+      return false;
+    }
+
+    public boolean equals(addBook_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(addBook_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addBook_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class addBook_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addBook_resultStandardScheme getScheme() {
+        return new addBook_resultStandardScheme();
+      }
+    }
+
+    private static class addBook_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<addBook_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addBook_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addBook_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class addBook_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addBook_resultTupleScheme getScheme() {
+        return new addBook_resultTupleScheme();
+      }
+    }
+
+    private static class addBook_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<addBook_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, addBook_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, addBook_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class addChapter_args implements org.apache.thrift.TBase<addChapter_args, addChapter_args._Fields>, java.io.Serializable, Cloneable, Comparable<addChapter_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addChapter_args");
+
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CHAPTER_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterName", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addChapter_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addChapter_argsTupleSchemeFactory();
+
+    public java.lang.String bookUid; // required
+    public java.lang.String chapterName; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BOOK_UID((short)1, "bookUid"),
+      CHAPTER_NAME((short)2, "chapterName");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BOOK_UID
+            return BOOK_UID;
+          case 2: // CHAPTER_NAME
+            return CHAPTER_NAME;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CHAPTER_NAME, new org.apache.thrift.meta_data.FieldMetaData("chapterName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addChapter_args.class, metaDataMap);
+    }
+
+    public addChapter_args() {
+    }
+
+    public addChapter_args(
+      java.lang.String bookUid,
+      java.lang.String chapterName)
+    {
+      this();
+      this.bookUid = bookUid;
+      this.chapterName = chapterName;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addChapter_args(addChapter_args other) {
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
+      }
+      if (other.isSetChapterName()) {
+        this.chapterName = other.chapterName;
+      }
+    }
+
+    public addChapter_args deepCopy() {
+      return new addChapter_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.bookUid = null;
+      this.chapterName = null;
+    }
+
+    public java.lang.String getBookUid() {
+      return this.bookUid;
+    }
+
+    public addChapter_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
+      return this;
+    }
+
+    public void unsetBookUid() {
+      this.bookUid = null;
+    }
+
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
+    }
+
+    public void setBookUidIsSet(boolean value) {
+      if (!value) {
+        this.bookUid = null;
+      }
+    }
+
+    public java.lang.String getChapterName() {
+      return this.chapterName;
+    }
+
+    public addChapter_args setChapterName(java.lang.String chapterName) {
+      this.chapterName = chapterName;
+      return this;
+    }
+
+    public void unsetChapterName() {
+      this.chapterName = null;
+    }
+
+    /** Returns true if field chapterName is set (has been assigned a value) and false otherwise */
+    public boolean isSetChapterName() {
+      return this.chapterName != null;
+    }
+
+    public void setChapterNameIsSet(boolean value) {
+      if (!value) {
+        this.chapterName = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case BOOK_UID:
+        if (value == null) {
+          unsetBookUid();
+        } else {
+          setBookUid((java.lang.String)value);
+        }
+        break;
+
+      case CHAPTER_NAME:
+        if (value == null) {
+          unsetChapterName();
+        } else {
+          setChapterName((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BOOK_UID:
+        return getBookUid();
+
+      case CHAPTER_NAME:
+        return getChapterName();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BOOK_UID:
+        return isSetBookUid();
+      case CHAPTER_NAME:
+        return isSetChapterName();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof addChapter_args)
+        return this.equals((addChapter_args)that);
+      return false;
+    }
+
+    public boolean equals(addChapter_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
+          return false;
+        if (!this.bookUid.equals(that.bookUid))
+          return false;
+      }
+
+      boolean this_present_chapterName = true && this.isSetChapterName();
+      boolean that_present_chapterName = true && that.isSetChapterName();
+      if (this_present_chapterName || that_present_chapterName) {
+        if (!(this_present_chapterName && that_present_chapterName))
+          return false;
+        if (!this.chapterName.equals(that.chapterName))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetChapterName()) ? 131071 : 524287);
+      if (isSetChapterName())
+        hashCode = hashCode * 8191 + chapterName.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(addChapter_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetChapterName()).compareTo(other.isSetChapterName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChapterName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapterName, other.chapterName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addChapter_args(");
+      boolean first = true;
+
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("chapterName:");
+      if (this.chapterName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.chapterName);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class addChapter_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addChapter_argsStandardScheme getScheme() {
+        return new addChapter_argsStandardScheme();
+      }
+    }
+
+    private static class addChapter_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<addChapter_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BOOK_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CHAPTER_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.chapterName = iprot.readString();
+                struct.setChapterNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addChapter_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
+          oprot.writeFieldEnd();
+        }
+        if (struct.chapterName != null) {
+          oprot.writeFieldBegin(CHAPTER_NAME_FIELD_DESC);
+          oprot.writeString(struct.chapterName);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class addChapter_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addChapter_argsTupleScheme getScheme() {
+        return new addChapter_argsTupleScheme();
+      }
+    }
+
+    private static class addChapter_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<addChapter_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, addChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetBookUid()) {
+          optionals.set(0);
+        }
+        if (struct.isSetChapterName()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
+        }
+        if (struct.isSetChapterName()) {
+          oprot.writeString(struct.chapterName);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, addChapter_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.chapterName = iprot.readString();
+          struct.setChapterNameIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class addChapter_result implements org.apache.thrift.TBase<addChapter_result, addChapter_result._Fields>, java.io.Serializable, Cloneable, Comparable<addChapter_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addChapter_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addChapter_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addChapter_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addChapter_result.class, metaDataMap);
+    }
+
+    public addChapter_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addChapter_result(addChapter_result other) {
+    }
+
+    public addChapter_result deepCopy() {
+      return new addChapter_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof addChapter_result)
+        return this.equals((addChapter_result)that);
+      return false;
+    }
+
+    public boolean equals(addChapter_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(addChapter_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addChapter_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class addChapter_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addChapter_resultStandardScheme getScheme() {
+        return new addChapter_resultStandardScheme();
+      }
+    }
+
+    private static class addChapter_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<addChapter_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addChapter_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class addChapter_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addChapter_resultTupleScheme getScheme() {
+        return new addChapter_resultTupleScheme();
+      }
+    }
+
+    private static class addChapter_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<addChapter_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, addChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, addChapter_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getBookListSnapshot_args implements org.apache.thrift.TBase<getBookListSnapshot_args, getBookListSnapshot_args._Fields>, java.io.Serializable, Cloneable, Comparable<getBookListSnapshot_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookListSnapshot_args");
+
+    private static final org.apache.thrift.protocol.TField PAGE_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("pageSize", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookListSnapshot_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookListSnapshot_argsTupleSchemeFactory();
+
+    public int pageSize; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      PAGE_SIZE((short)1, "pageSize");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PAGE_SIZE
+            return PAGE_SIZE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __PAGESIZE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PAGE_SIZE, new org.apache.thrift.meta_data.FieldMetaData("pageSize", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookListSnapshot_args.class, metaDataMap);
+    }
+
+    public getBookListSnapshot_args() {
+    }
+
+    public getBookListSnapshot_args(
+      int pageSize)
+    {
+      this();
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBookListSnapshot_args(getBookListSnapshot_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.pageSize = other.pageSize;
+    }
+
+    public getBookListSnapshot_args deepCopy() {
+      return new getBookListSnapshot_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setPageSizeIsSet(false);
+      this.pageSize = 0;
+    }
+
+    public int getPageSize() {
+      return this.pageSize;
+    }
+
+    public getBookListSnapshot_args setPageSize(int pageSize) {
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+      return this;
+    }
+
+    public void unsetPageSize() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    /** Returns true if field pageSize is set (has been assigned a value) and false otherwise */
+    public boolean isSetPageSize() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    public void setPageSizeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __PAGESIZE_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case PAGE_SIZE:
+        if (value == null) {
+          unsetPageSize();
+        } else {
+          setPageSize((java.lang.Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PAGE_SIZE:
+        return getPageSize();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PAGE_SIZE:
+        return isSetPageSize();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBookListSnapshot_args)
+        return this.equals((getBookListSnapshot_args)that);
+      return false;
+    }
+
+    public boolean equals(getBookListSnapshot_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_pageSize = true;
+      boolean that_present_pageSize = true;
+      if (this_present_pageSize || that_present_pageSize) {
+        if (!(this_present_pageSize && that_present_pageSize))
+          return false;
+        if (this.pageSize != that.pageSize)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + pageSize;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getBookListSnapshot_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetPageSize()).compareTo(other.isSetPageSize());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPageSize()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.pageSize, other.pageSize);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookListSnapshot_args(");
+      boolean first = true;
+
+      sb.append("pageSize:");
+      sb.append(this.pageSize);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBookListSnapshot_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookListSnapshot_argsStandardScheme getScheme() {
+        return new getBookListSnapshot_argsStandardScheme();
+      }
+    }
+
+    private static class getBookListSnapshot_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookListSnapshot_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookListSnapshot_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PAGE_SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.pageSize = iprot.readI32();
+                struct.setPageSizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookListSnapshot_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(PAGE_SIZE_FIELD_DESC);
+        oprot.writeI32(struct.pageSize);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBookListSnapshot_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookListSnapshot_argsTupleScheme getScheme() {
+        return new getBookListSnapshot_argsTupleScheme();
+      }
+    }
+
+    private static class getBookListSnapshot_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookListSnapshot_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBookListSnapshot_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetPageSize()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetPageSize()) {
+          oprot.writeI32(struct.pageSize);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBookListSnapshot_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.pageSize = iprot.readI32();
+          struct.setPageSizeIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getBookListSnapshot_result implements org.apache.thrift.TBase<getBookListSnapshot_result, getBookListSnapshot_result._Fields>, java.io.Serializable, Cloneable, Comparable<getBookListSnapshot_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookListSnapshot_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookListSnapshot_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookListSnapshot_resultTupleSchemeFactory();
+
+    public Page success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Page.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookListSnapshot_result.class, metaDataMap);
+    }
+
+    public getBookListSnapshot_result() {
+    }
+
+    public getBookListSnapshot_result(
+      Page success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBookListSnapshot_result(getBookListSnapshot_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new Page(other.success);
+      }
+    }
+
+    public getBookListSnapshot_result deepCopy() {
+      return new getBookListSnapshot_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public Page getSuccess() {
+      return this.success;
+    }
+
+    public getBookListSnapshot_result setSuccess(Page success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Page)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBookListSnapshot_result)
+        return this.equals((getBookListSnapshot_result)that);
+      return false;
+    }
+
+    public boolean equals(getBookListSnapshot_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getBookListSnapshot_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookListSnapshot_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBookListSnapshot_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookListSnapshot_resultStandardScheme getScheme() {
+        return new getBookListSnapshot_resultStandardScheme();
+      }
+    }
+
+    private static class getBookListSnapshot_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookListSnapshot_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookListSnapshot_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new Page();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookListSnapshot_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBookListSnapshot_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookListSnapshot_resultTupleScheme getScheme() {
+        return new getBookListSnapshot_resultTupleScheme();
+      }
+    }
+
+    private static class getBookListSnapshot_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookListSnapshot_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBookListSnapshot_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBookListSnapshot_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new Page();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getBookChaptersSnapshot_args implements org.apache.thrift.TBase<getBookChaptersSnapshot_args, getBookChaptersSnapshot_args._Fields>, java.io.Serializable, Cloneable, Comparable<getBookChaptersSnapshot_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookChaptersSnapshot_args");
+
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PAGE_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("pageSize", org.apache.thrift.protocol.TType.I32, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookChaptersSnapshot_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookChaptersSnapshot_argsTupleSchemeFactory();
+
+    public java.lang.String bookUid; // required
+    public int pageSize; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BOOK_UID((short)1, "bookUid"),
+      PAGE_SIZE((short)2, "pageSize");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BOOK_UID
+            return BOOK_UID;
+          case 2: // PAGE_SIZE
+            return PAGE_SIZE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __PAGESIZE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PAGE_SIZE, new org.apache.thrift.meta_data.FieldMetaData("pageSize", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookChaptersSnapshot_args.class, metaDataMap);
+    }
+
+    public getBookChaptersSnapshot_args() {
+    }
+
+    public getBookChaptersSnapshot_args(
+      java.lang.String bookUid,
+      int pageSize)
+    {
+      this();
+      this.bookUid = bookUid;
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBookChaptersSnapshot_args(getBookChaptersSnapshot_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
+      }
+      this.pageSize = other.pageSize;
+    }
+
+    public getBookChaptersSnapshot_args deepCopy() {
+      return new getBookChaptersSnapshot_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.bookUid = null;
+      setPageSizeIsSet(false);
+      this.pageSize = 0;
+    }
+
+    public java.lang.String getBookUid() {
+      return this.bookUid;
+    }
+
+    public getBookChaptersSnapshot_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
+      return this;
+    }
+
+    public void unsetBookUid() {
+      this.bookUid = null;
+    }
+
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
+    }
+
+    public void setBookUidIsSet(boolean value) {
+      if (!value) {
+        this.bookUid = null;
+      }
+    }
+
+    public int getPageSize() {
+      return this.pageSize;
+    }
+
+    public getBookChaptersSnapshot_args setPageSize(int pageSize) {
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+      return this;
+    }
+
+    public void unsetPageSize() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    /** Returns true if field pageSize is set (has been assigned a value) and false otherwise */
+    public boolean isSetPageSize() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    public void setPageSizeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __PAGESIZE_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case BOOK_UID:
+        if (value == null) {
+          unsetBookUid();
+        } else {
+          setBookUid((java.lang.String)value);
+        }
+        break;
+
+      case PAGE_SIZE:
+        if (value == null) {
+          unsetPageSize();
+        } else {
+          setPageSize((java.lang.Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BOOK_UID:
+        return getBookUid();
+
+      case PAGE_SIZE:
+        return getPageSize();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BOOK_UID:
+        return isSetBookUid();
+      case PAGE_SIZE:
+        return isSetPageSize();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBookChaptersSnapshot_args)
+        return this.equals((getBookChaptersSnapshot_args)that);
+      return false;
+    }
+
+    public boolean equals(getBookChaptersSnapshot_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
+          return false;
+        if (!this.bookUid.equals(that.bookUid))
+          return false;
+      }
+
+      boolean this_present_pageSize = true;
+      boolean that_present_pageSize = true;
+      if (this_present_pageSize || that_present_pageSize) {
+        if (!(this_present_pageSize && that_present_pageSize))
+          return false;
+        if (this.pageSize != that.pageSize)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
+
+      hashCode = hashCode * 8191 + pageSize;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getBookChaptersSnapshot_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetPageSize()).compareTo(other.isSetPageSize());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPageSize()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.pageSize, other.pageSize);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookChaptersSnapshot_args(");
+      boolean first = true;
+
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("pageSize:");
+      sb.append(this.pageSize);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBookChaptersSnapshot_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookChaptersSnapshot_argsStandardScheme getScheme() {
+        return new getBookChaptersSnapshot_argsStandardScheme();
+      }
+    }
+
+    private static class getBookChaptersSnapshot_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookChaptersSnapshot_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookChaptersSnapshot_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BOOK_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PAGE_SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.pageSize = iprot.readI32();
+                struct.setPageSizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookChaptersSnapshot_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(PAGE_SIZE_FIELD_DESC);
+        oprot.writeI32(struct.pageSize);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBookChaptersSnapshot_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookChaptersSnapshot_argsTupleScheme getScheme() {
+        return new getBookChaptersSnapshot_argsTupleScheme();
+      }
+    }
+
+    private static class getBookChaptersSnapshot_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookChaptersSnapshot_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBookChaptersSnapshot_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetBookUid()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPageSize()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
+        }
+        if (struct.isSetPageSize()) {
+          oprot.writeI32(struct.pageSize);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBookChaptersSnapshot_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.pageSize = iprot.readI32();
+          struct.setPageSizeIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getBookChaptersSnapshot_result implements org.apache.thrift.TBase<getBookChaptersSnapshot_result, getBookChaptersSnapshot_result._Fields>, java.io.Serializable, Cloneable, Comparable<getBookChaptersSnapshot_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookChaptersSnapshot_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookChaptersSnapshot_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookChaptersSnapshot_resultTupleSchemeFactory();
+
+    public Page success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Page.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookChaptersSnapshot_result.class, metaDataMap);
+    }
+
+    public getBookChaptersSnapshot_result() {
+    }
+
+    public getBookChaptersSnapshot_result(
+      Page success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBookChaptersSnapshot_result(getBookChaptersSnapshot_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new Page(other.success);
+      }
+    }
+
+    public getBookChaptersSnapshot_result deepCopy() {
+      return new getBookChaptersSnapshot_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public Page getSuccess() {
+      return this.success;
+    }
+
+    public getBookChaptersSnapshot_result setSuccess(Page success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Page)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBookChaptersSnapshot_result)
+        return this.equals((getBookChaptersSnapshot_result)that);
+      return false;
+    }
+
+    public boolean equals(getBookChaptersSnapshot_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getBookChaptersSnapshot_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookChaptersSnapshot_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBookChaptersSnapshot_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookChaptersSnapshot_resultStandardScheme getScheme() {
+        return new getBookChaptersSnapshot_resultStandardScheme();
+      }
+    }
+
+    private static class getBookChaptersSnapshot_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookChaptersSnapshot_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookChaptersSnapshot_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new Page();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookChaptersSnapshot_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBookChaptersSnapshot_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookChaptersSnapshot_resultTupleScheme getScheme() {
+        return new getBookChaptersSnapshot_resultTupleScheme();
+      }
+    }
+
+    private static class getBookChaptersSnapshot_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookChaptersSnapshot_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBookChaptersSnapshot_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBookChaptersSnapshot_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new Page();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getChapterSnapshot_args implements org.apache.thrift.TBase<getChapterSnapshot_args, getChapterSnapshot_args._Fields>, java.io.Serializable, Cloneable, Comparable<getChapterSnapshot_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChapterSnapshot_args");
+
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CHAPTER_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterUid", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChapterSnapshot_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChapterSnapshot_argsTupleSchemeFactory();
+
+    public java.lang.String bookUid; // required
+    public java.lang.String chapterUid; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BOOK_UID((short)1, "bookUid"),
+      CHAPTER_UID((short)2, "chapterUid");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BOOK_UID
+            return BOOK_UID;
+          case 2: // CHAPTER_UID
+            return CHAPTER_UID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CHAPTER_UID, new org.apache.thrift.meta_data.FieldMetaData("chapterUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChapterSnapshot_args.class, metaDataMap);
+    }
+
+    public getChapterSnapshot_args() {
+    }
+
+    public getChapterSnapshot_args(
+      java.lang.String bookUid,
+      java.lang.String chapterUid)
+    {
+      this();
+      this.bookUid = bookUid;
+      this.chapterUid = chapterUid;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getChapterSnapshot_args(getChapterSnapshot_args other) {
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
+      }
+      if (other.isSetChapterUid()) {
+        this.chapterUid = other.chapterUid;
+      }
+    }
+
+    public getChapterSnapshot_args deepCopy() {
+      return new getChapterSnapshot_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.bookUid = null;
+      this.chapterUid = null;
+    }
+
+    public java.lang.String getBookUid() {
+      return this.bookUid;
+    }
+
+    public getChapterSnapshot_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
+      return this;
+    }
+
+    public void unsetBookUid() {
+      this.bookUid = null;
+    }
+
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
+    }
+
+    public void setBookUidIsSet(boolean value) {
+      if (!value) {
+        this.bookUid = null;
+      }
+    }
+
+    public java.lang.String getChapterUid() {
+      return this.chapterUid;
+    }
+
+    public getChapterSnapshot_args setChapterUid(java.lang.String chapterUid) {
+      this.chapterUid = chapterUid;
+      return this;
+    }
+
+    public void unsetChapterUid() {
+      this.chapterUid = null;
+    }
+
+    /** Returns true if field chapterUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetChapterUid() {
+      return this.chapterUid != null;
+    }
+
+    public void setChapterUidIsSet(boolean value) {
+      if (!value) {
+        this.chapterUid = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case BOOK_UID:
+        if (value == null) {
+          unsetBookUid();
+        } else {
+          setBookUid((java.lang.String)value);
+        }
+        break;
+
+      case CHAPTER_UID:
+        if (value == null) {
+          unsetChapterUid();
+        } else {
+          setChapterUid((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BOOK_UID:
+        return getBookUid();
+
+      case CHAPTER_UID:
+        return getChapterUid();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BOOK_UID:
+        return isSetBookUid();
+      case CHAPTER_UID:
+        return isSetChapterUid();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getChapterSnapshot_args)
+        return this.equals((getChapterSnapshot_args)that);
+      return false;
+    }
+
+    public boolean equals(getChapterSnapshot_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
+          return false;
+        if (!this.bookUid.equals(that.bookUid))
+          return false;
+      }
+
+      boolean this_present_chapterUid = true && this.isSetChapterUid();
+      boolean that_present_chapterUid = true && that.isSetChapterUid();
+      if (this_present_chapterUid || that_present_chapterUid) {
+        if (!(this_present_chapterUid && that_present_chapterUid))
+          return false;
+        if (!this.chapterUid.equals(that.chapterUid))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetChapterUid()) ? 131071 : 524287);
+      if (isSetChapterUid())
+        hashCode = hashCode * 8191 + chapterUid.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getChapterSnapshot_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetChapterUid()).compareTo(other.isSetChapterUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChapterUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapterUid, other.chapterUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChapterSnapshot_args(");
+      boolean first = true;
+
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("chapterUid:");
+      if (this.chapterUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.chapterUid);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getChapterSnapshot_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapterSnapshot_argsStandardScheme getScheme() {
+        return new getChapterSnapshot_argsStandardScheme();
+      }
+    }
+
+    private static class getChapterSnapshot_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChapterSnapshot_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChapterSnapshot_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BOOK_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CHAPTER_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.chapterUid = iprot.readString();
+                struct.setChapterUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChapterSnapshot_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
+          oprot.writeFieldEnd();
+        }
+        if (struct.chapterUid != null) {
+          oprot.writeFieldBegin(CHAPTER_UID_FIELD_DESC);
+          oprot.writeString(struct.chapterUid);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getChapterSnapshot_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapterSnapshot_argsTupleScheme getScheme() {
+        return new getChapterSnapshot_argsTupleScheme();
+      }
+    }
+
+    private static class getChapterSnapshot_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChapterSnapshot_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChapterSnapshot_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetBookUid()) {
+          optionals.set(0);
+        }
+        if (struct.isSetChapterUid()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
+        }
+        if (struct.isSetChapterUid()) {
+          oprot.writeString(struct.chapterUid);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChapterSnapshot_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.chapterUid = iprot.readString();
+          struct.setChapterUidIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getChapterSnapshot_result implements org.apache.thrift.TBase<getChapterSnapshot_result, getChapterSnapshot_result._Fields>, java.io.Serializable, Cloneable, Comparable<getChapterSnapshot_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChapterSnapshot_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChapterSnapshot_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChapterSnapshot_resultTupleSchemeFactory();
+
+    public java.util.List<Callback> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Callback.class))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChapterSnapshot_result.class, metaDataMap);
+    }
+
+    public getChapterSnapshot_result() {
+    }
+
+    public getChapterSnapshot_result(
+      java.util.List<Callback> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getChapterSnapshot_result(getChapterSnapshot_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<Callback> __this__success = new java.util.ArrayList<Callback>(other.success.size());
+        for (Callback other_element : other.success) {
+          __this__success.add(new Callback(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public getChapterSnapshot_result deepCopy() {
+      return new getChapterSnapshot_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<Callback> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(Callback elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<Callback>();
+      }
+      this.success.add(elem);
+    }
+
+    public java.util.List<Callback> getSuccess() {
+      return this.success;
+    }
+
+    public getChapterSnapshot_result setSuccess(java.util.List<Callback> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<Callback>)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getChapterSnapshot_result)
+        return this.equals((getChapterSnapshot_result)that);
+      return false;
+    }
+
+    public boolean equals(getChapterSnapshot_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getChapterSnapshot_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChapterSnapshot_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getChapterSnapshot_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapterSnapshot_resultStandardScheme getScheme() {
+        return new getChapterSnapshot_resultStandardScheme();
+      }
+    }
+
+    private static class getChapterSnapshot_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChapterSnapshot_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChapterSnapshot_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<Callback>(_list40.size);
+                  Callback _elem41;
+                  for (int _i42 = 0; _i42 < _list40.size; ++_i42)
+                  {
+                    _elem41 = new Callback();
+                    _elem41.read(iprot);
+                    struct.success.add(_elem41);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChapterSnapshot_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (Callback _iter43 : struct.success)
+            {
+              _iter43.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getChapterSnapshot_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapterSnapshot_resultTupleScheme getScheme() {
+        return new getChapterSnapshot_resultTupleScheme();
+      }
+    }
+
+    private static class getChapterSnapshot_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChapterSnapshot_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChapterSnapshot_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (Callback _iter44 : struct.success)
+            {
+              _iter44.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChapterSnapshot_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list45 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<Callback>(_list45.size);
+            Callback _elem46;
+            for (int _i47 = 0; _i47 < _list45.size; ++_i47)
+            {
+              _elem46 = new Callback();
+              _elem46.read(iprot);
+              struct.success.add(_elem46);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getBookListPage_args implements org.apache.thrift.TBase<getBookListPage_args, getBookListPage_args._Fields>, java.io.Serializable, Cloneable, Comparable<getBookListPage_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookListPage_args");
+
+    private static final org.apache.thrift.protocol.TField PAGE_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("pageSize", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField CURSOR_FIELD_DESC = new org.apache.thrift.protocol.TField("cursor", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookListPage_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookListPage_argsTupleSchemeFactory();
+
+    public int pageSize; // required
+    public java.lang.String cursor; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      PAGE_SIZE((short)1, "pageSize"),
+      CURSOR((short)2, "cursor");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PAGE_SIZE
+            return PAGE_SIZE;
+          case 2: // CURSOR
+            return CURSOR;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __PAGESIZE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PAGE_SIZE, new org.apache.thrift.meta_data.FieldMetaData("pageSize", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.CURSOR, new org.apache.thrift.meta_data.FieldMetaData("cursor", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookListPage_args.class, metaDataMap);
+    }
+
+    public getBookListPage_args() {
+    }
+
+    public getBookListPage_args(
+      int pageSize,
+      java.lang.String cursor)
+    {
+      this();
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+      this.cursor = cursor;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBookListPage_args(getBookListPage_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.pageSize = other.pageSize;
+      if (other.isSetCursor()) {
+        this.cursor = other.cursor;
+      }
+    }
+
+    public getBookListPage_args deepCopy() {
+      return new getBookListPage_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setPageSizeIsSet(false);
+      this.pageSize = 0;
+      this.cursor = null;
+    }
+
+    public int getPageSize() {
+      return this.pageSize;
+    }
+
+    public getBookListPage_args setPageSize(int pageSize) {
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+      return this;
+    }
+
+    public void unsetPageSize() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    /** Returns true if field pageSize is set (has been assigned a value) and false otherwise */
+    public boolean isSetPageSize() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    public void setPageSizeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __PAGESIZE_ISSET_ID, value);
+    }
+
+    public java.lang.String getCursor() {
+      return this.cursor;
+    }
+
+    public getBookListPage_args setCursor(java.lang.String cursor) {
+      this.cursor = cursor;
+      return this;
+    }
+
+    public void unsetCursor() {
+      this.cursor = null;
+    }
+
+    /** Returns true if field cursor is set (has been assigned a value) and false otherwise */
+    public boolean isSetCursor() {
+      return this.cursor != null;
+    }
+
+    public void setCursorIsSet(boolean value) {
+      if (!value) {
+        this.cursor = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case PAGE_SIZE:
+        if (value == null) {
+          unsetPageSize();
+        } else {
+          setPageSize((java.lang.Integer)value);
+        }
+        break;
+
+      case CURSOR:
+        if (value == null) {
+          unsetCursor();
+        } else {
+          setCursor((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PAGE_SIZE:
+        return getPageSize();
+
+      case CURSOR:
+        return getCursor();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PAGE_SIZE:
+        return isSetPageSize();
+      case CURSOR:
+        return isSetCursor();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBookListPage_args)
+        return this.equals((getBookListPage_args)that);
+      return false;
+    }
+
+    public boolean equals(getBookListPage_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_pageSize = true;
+      boolean that_present_pageSize = true;
+      if (this_present_pageSize || that_present_pageSize) {
+        if (!(this_present_pageSize && that_present_pageSize))
+          return false;
+        if (this.pageSize != that.pageSize)
+          return false;
+      }
+
+      boolean this_present_cursor = true && this.isSetCursor();
+      boolean that_present_cursor = true && that.isSetCursor();
+      if (this_present_cursor || that_present_cursor) {
+        if (!(this_present_cursor && that_present_cursor))
+          return false;
+        if (!this.cursor.equals(that.cursor))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + pageSize;
+
+      hashCode = hashCode * 8191 + ((isSetCursor()) ? 131071 : 524287);
+      if (isSetCursor())
+        hashCode = hashCode * 8191 + cursor.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getBookListPage_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetPageSize()).compareTo(other.isSetPageSize());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPageSize()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.pageSize, other.pageSize);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetCursor()).compareTo(other.isSetCursor());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCursor()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cursor, other.cursor);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookListPage_args(");
+      boolean first = true;
+
+      sb.append("pageSize:");
+      sb.append(this.pageSize);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("cursor:");
+      if (this.cursor == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.cursor);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBookListPage_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookListPage_argsStandardScheme getScheme() {
+        return new getBookListPage_argsStandardScheme();
+      }
+    }
+
+    private static class getBookListPage_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookListPage_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookListPage_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PAGE_SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.pageSize = iprot.readI32();
+                struct.setPageSizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CURSOR
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.cursor = iprot.readString();
+                struct.setCursorIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookListPage_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(PAGE_SIZE_FIELD_DESC);
+        oprot.writeI32(struct.pageSize);
+        oprot.writeFieldEnd();
+        if (struct.cursor != null) {
+          oprot.writeFieldBegin(CURSOR_FIELD_DESC);
+          oprot.writeString(struct.cursor);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBookListPage_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookListPage_argsTupleScheme getScheme() {
+        return new getBookListPage_argsTupleScheme();
+      }
+    }
+
+    private static class getBookListPage_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookListPage_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBookListPage_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetPageSize()) {
+          optionals.set(0);
+        }
+        if (struct.isSetCursor()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPageSize()) {
+          oprot.writeI32(struct.pageSize);
+        }
+        if (struct.isSetCursor()) {
+          oprot.writeString(struct.cursor);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBookListPage_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.pageSize = iprot.readI32();
+          struct.setPageSizeIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.cursor = iprot.readString();
+          struct.setCursorIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getBookListPage_result implements org.apache.thrift.TBase<getBookListPage_result, getBookListPage_result._Fields>, java.io.Serializable, Cloneable, Comparable<getBookListPage_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookListPage_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookListPage_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookListPage_resultTupleSchemeFactory();
+
+    public Page success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Page.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookListPage_result.class, metaDataMap);
+    }
+
+    public getBookListPage_result() {
+    }
+
+    public getBookListPage_result(
+      Page success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBookListPage_result(getBookListPage_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new Page(other.success);
+      }
+    }
+
+    public getBookListPage_result deepCopy() {
+      return new getBookListPage_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public Page getSuccess() {
+      return this.success;
+    }
+
+    public getBookListPage_result setSuccess(Page success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Page)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBookListPage_result)
+        return this.equals((getBookListPage_result)that);
+      return false;
+    }
+
+    public boolean equals(getBookListPage_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getBookListPage_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookListPage_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBookListPage_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookListPage_resultStandardScheme getScheme() {
+        return new getBookListPage_resultStandardScheme();
+      }
+    }
+
+    private static class getBookListPage_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookListPage_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookListPage_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new Page();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookListPage_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBookListPage_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookListPage_resultTupleScheme getScheme() {
+        return new getBookListPage_resultTupleScheme();
       }
+    }
 
-      public void start(I iface, subscribeForChapter_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Callback>> resultHandler) throws org.apache.thrift.TException {
-        iface.subscribeForChapter(args.bookUid, args.chapterUid,resultHandler);
+    private static class getBookListPage_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookListPage_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBookListPage_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBookListPage_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new Page();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
   }
 
-  public static class getBookList_args implements org.apache.thrift.TBase<getBookList_args, getBookList_args._Fields>, java.io.Serializable, Cloneable, Comparable<getBookList_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookList_args");
+  public static class getBookChaptersPage_args implements org.apache.thrift.TBase<getBookChaptersPage_args, getBookChaptersPage_args._Fields>, java.io.Serializable, Cloneable, Comparable<getBookChaptersPage_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookChaptersPage_args");
 
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PAGE_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("pageSize", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField CURSOR_FIELD_DESC = new org.apache.thrift.protocol.TField("cursor", org.apache.thrift.protocol.TType.STRING, (short)3);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookList_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookList_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookChaptersPage_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookChaptersPage_argsTupleSchemeFactory();
 
+    public java.lang.String bookUid; // required
+    public int pageSize; // required
+    public java.lang.String cursor; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      BOOK_UID((short)1, "bookUid"),
+      PAGE_SIZE((short)2, "pageSize"),
+      CURSOR((short)3, "cursor");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -1953,6 +15280,12 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // BOOK_UID
+            return BOOK_UID;
+          case 2: // PAGE_SIZE
+            return PAGE_SIZE;
+          case 3: // CURSOR
+            return CURSOR;
           default:
             return null;
         }
@@ -1991,37 +15324,175 @@ public class Storage {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+    private static final int __PAGESIZE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PAGE_SIZE, new org.apache.thrift.meta_data.FieldMetaData("pageSize", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.CURSOR, new org.apache.thrift.meta_data.FieldMetaData("cursor", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookList_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookChaptersPage_args.class, metaDataMap);
     }
 
-    public getBookList_args() {
+    public getBookChaptersPage_args() {
+    }
+
+    public getBookChaptersPage_args(
+      java.lang.String bookUid,
+      int pageSize,
+      java.lang.String cursor)
+    {
+      this();
+      this.bookUid = bookUid;
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+      this.cursor = cursor;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getBookList_args(getBookList_args other) {
+    public getBookChaptersPage_args(getBookChaptersPage_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
+      }
+      this.pageSize = other.pageSize;
+      if (other.isSetCursor()) {
+        this.cursor = other.cursor;
+      }
     }
 
-    public getBookList_args deepCopy() {
-      return new getBookList_args(this);
+    public getBookChaptersPage_args deepCopy() {
+      return new getBookChaptersPage_args(this);
     }
 
     @Override
     public void clear() {
+      this.bookUid = null;
+      setPageSizeIsSet(false);
+      this.pageSize = 0;
+      this.cursor = null;
+    }
+
+    public java.lang.String getBookUid() {
+      return this.bookUid;
+    }
+
+    public getBookChaptersPage_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
+      return this;
+    }
+
+    public void unsetBookUid() {
+      this.bookUid = null;
+    }
+
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
+    }
+
+    public void setBookUidIsSet(boolean value) {
+      if (!value) {
+        this.bookUid = null;
+      }
+    }
+
+    public int getPageSize() {
+      return this.pageSize;
+    }
+
+    public getBookChaptersPage_args setPageSize(int pageSize) {
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+      return this;
+    }
+
+    public void unsetPageSize() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    /** Returns true if field pageSize is set (has been assigned a value) and false otherwise */
+    public boolean isSetPageSize() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    public void setPageSizeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __PAGESIZE_ISSET_ID, value);
+    }
+
+    public java.lang.String getCursor() {
+      return this.cursor;
+    }
+
+    public getBookChaptersPage_args setCursor(java.lang.String cursor) {
+      this.cursor = cursor;
+      return this;
+    }
+
+    public void unsetCursor() {
+      this.cursor = null;
+    }
+
+    /** Returns true if field cursor is set (has been assigned a value) and false otherwise */
+    public boolean isSetCursor() {
+      return this.cursor != null;
+    }
+
+    public void setCursorIsSet(boolean value) {
+      if (!value) {
+        this.cursor = null;
+      }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
+      case BOOK_UID:
+        if (value == null) {
+          unsetBookUid();
+        } else {
+          setBookUid((java.lang.String)value);
+        }
+        break;
+
+      case PAGE_SIZE:
+        if (value == null) {
+          unsetPageSize();
+        } else {
+          setPageSize((java.lang.Integer)value);
+        }
+        break;
+
+      case CURSOR:
+        if (value == null) {
+          unsetCursor();
+        } else {
+          setCursor((java.lang.String)value);
+        }
+        break;
+
       }
     }
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case BOOK_UID:
+        return getBookUid();
+
+      case PAGE_SIZE:
+        return getPageSize();
+
+      case CURSOR:
+        return getCursor();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -2033,6 +15504,12 @@ public class Storage {
       }
 
       switch (field) {
+      case BOOK_UID:
+        return isSetBookUid();
+      case PAGE_SIZE:
+        return isSetPageSize();
+      case CURSOR:
+        return isSetCursor();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -2041,17 +15518,44 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getBookList_args)
-        return this.equals((getBookList_args)that);
+      if (that instanceof getBookChaptersPage_args)
+        return this.equals((getBookChaptersPage_args)that);
       return false;
     }
 
-    public boolean equals(getBookList_args that) {
+    public boolean equals(getBookChaptersPage_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
+          return false;
+        if (!this.bookUid.equals(that.bookUid))
+          return false;
+      }
+
+      boolean this_present_pageSize = true;
+      boolean that_present_pageSize = true;
+      if (this_present_pageSize || that_present_pageSize) {
+        if (!(this_present_pageSize && that_present_pageSize))
+          return false;
+        if (this.pageSize != that.pageSize)
+          return false;
+      }
+
+      boolean this_present_cursor = true && this.isSetCursor();
+      boolean that_present_cursor = true && that.isSetCursor();
+      if (this_present_cursor || that_present_cursor) {
+        if (!(this_present_cursor && that_present_cursor))
+          return false;
+        if (!this.cursor.equals(that.cursor))
+          return false;
+      }
+
       return true;
     }
 
@@ -2059,17 +15563,57 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
+
+      hashCode = hashCode * 8191 + pageSize;
+
+      hashCode = hashCode * 8191 + ((isSetCursor()) ? 131071 : 524287);
+      if (isSetCursor())
+        hashCode = hashCode * 8191 + cursor.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(getBookList_args other) {
+    public int compareTo(getBookChaptersPage_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetPageSize()).compareTo(other.isSetPageSize());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPageSize()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.pageSize, other.pageSize);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetCursor()).compareTo(other.isSetCursor());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCursor()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cursor, other.cursor);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -2087,9 +15631,28 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookList_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookChaptersPage_args(");
       boolean first = true;
 
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("pageSize:");
+      sb.append(this.pageSize);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("cursor:");
+      if (this.cursor == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.cursor);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -2109,21 +15672,23 @@ public class Storage {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getBookList_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getBookList_argsStandardScheme getScheme() {
-        return new getBookList_argsStandardScheme();
+    private static class getBookChaptersPage_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookChaptersPage_argsStandardScheme getScheme() {
+        return new getBookChaptersPage_argsStandardScheme();
       }
     }
 
-    private static class getBookList_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookList_args> {
+    private static class getBookChaptersPage_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookChaptersPage_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookChaptersPage_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2133,6 +15698,30 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
+            case 1: // BOOK_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PAGE_SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.pageSize = iprot.readI32();
+                struct.setPageSizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // CURSOR
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.cursor = iprot.readString();
+                struct.setCursorIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -2144,32 +15733,78 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookChaptersPage_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(PAGE_SIZE_FIELD_DESC);
+        oprot.writeI32(struct.pageSize);
+        oprot.writeFieldEnd();
+        if (struct.cursor != null) {
+          oprot.writeFieldBegin(CURSOR_FIELD_DESC);
+          oprot.writeString(struct.cursor);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getBookList_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getBookList_argsTupleScheme getScheme() {
-        return new getBookList_argsTupleScheme();
+    private static class getBookChaptersPage_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookChaptersPage_argsTupleScheme getScheme() {
+        return new getBookChaptersPage_argsTupleScheme();
       }
     }
 
-    private static class getBookList_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookList_args> {
+    private static class getBookChaptersPage_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookChaptersPage_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getBookList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBookChaptersPage_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetBookUid()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPageSize()) {
+          optionals.set(1);
+        }
+        if (struct.isSetCursor()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
+        }
+        if (struct.isSetPageSize()) {
+          oprot.writeI32(struct.pageSize);
+        }
+        if (struct.isSetCursor()) {
+          oprot.writeString(struct.cursor);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getBookList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBookChaptersPage_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.pageSize = iprot.readI32();
+          struct.setPageSizeIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.cursor = iprot.readString();
+          struct.setCursorIsSet(true);
+        }
       }
     }
 
@@ -2178,15 +15813,15 @@ public class Storage {
     }
   }
 
-  public static class getBookList_result implements org.apache.thrift.TBase<getBookList_result, getBookList_result._Fields>, java.io.Serializable, Cloneable, Comparable<getBookList_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookList_result");
+  public static class getBookChaptersPage_result implements org.apache.thrift.TBase<getBookChaptersPage_result, getBookChaptersPage_result._Fields>, java.io.Serializable, Cloneable, Comparable<getBookChaptersPage_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookChaptersPage_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookList_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookList_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookChaptersPage_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookChaptersPage_resultTupleSchemeFactory();
 
-    public Callback success; // required
+    public Page success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -2251,16 +15886,16 @@ public class Storage {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Callback.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Page.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookList_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookChaptersPage_result.class, metaDataMap);
     }
 
-    public getBookList_result() {
+    public getBookChaptersPage_result() {
     }
 
-    public getBookList_result(
-      Callback success)
+    public getBookChaptersPage_result(
+      Page success)
     {
       this();
       this.success = success;
@@ -2269,14 +15904,14 @@ public class Storage {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getBookList_result(getBookList_result other) {
+    public getBookChaptersPage_result(getBookChaptersPage_result other) {
       if (other.isSetSuccess()) {
-        this.success = new Callback(other.success);
+        this.success = new Page(other.success);
       }
     }
 
-    public getBookList_result deepCopy() {
-      return new getBookList_result(this);
+    public getBookChaptersPage_result deepCopy() {
+      return new getBookChaptersPage_result(this);
     }
 
     @Override
@@ -2284,11 +15919,11 @@ public class Storage {
       this.success = null;
     }
 
-    public Callback getSuccess() {
+    public Page getSuccess() {
       return this.success;
     }
 
-    public getBookList_result setSuccess(Callback success) {
+    public getBookChaptersPage_result setSuccess(Page success) {
       this.success = success;
       return this;
     }
@@ -2314,7 +15949,7 @@ public class Storage {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Callback)value);
+          setSuccess((Page)value);
         }
         break;
 
@@ -2347,12 +15982,12 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getBookList_result)
-        return this.equals((getBookList_result)that);
+      if (that instanceof getBookChaptersPage_result)
+        return this.equals((getBookChaptersPage_result)that);
       return false;
     }
 
-    public boolean equals(getBookList_result that) {
+    public boolean equals(getBookChaptersPage_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -2382,7 +16017,7 @@ public class Storage {
     }
 
     @Override
-    public int compareTo(getBookList_result other) {
+    public int compareTo(getBookChaptersPage_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2416,7 +16051,7 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookList_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookChaptersPage_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -2454,15 +16089,15 @@ public class Storage {
       }
     }
 
-    private static class getBookList_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getBookList_resultStandardScheme getScheme() {
-        return new getBookList_resultStandardScheme();
+    private static class getBookChaptersPage_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookChaptersPage_resultStandardScheme getScheme() {
+        return new getBookChaptersPage_resultStandardScheme();
       }
     }
 
-    private static class getBookList_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookList_result> {
+    private static class getBookChaptersPage_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookChaptersPage_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookChaptersPage_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2474,7 +16109,7 @@ public class Storage {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new Callback();
+                struct.success = new Page();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -2492,7 +16127,7 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookChaptersPage_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -2507,16 +16142,16 @@ public class Storage {
 
     }
 
-    private static class getBookList_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getBookList_resultTupleScheme getScheme() {
-        return new getBookList_resultTupleScheme();
+    private static class getBookChaptersPage_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getBookChaptersPage_resultTupleScheme getScheme() {
+        return new getBookChaptersPage_resultTupleScheme();
       }
     }
 
-    private static class getBookList_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookList_result> {
+    private static class getBookChaptersPage_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookChaptersPage_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getBookList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBookChaptersPage_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -2529,11 +16164,11 @@ public class Storage {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getBookList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBookChaptersPage_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new Callback();
+          struct.success = new Page();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -2545,19 +16180,19 @@ public class Storage {
     }
   }
 
-  public static class getBookChapters_args implements org.apache.thrift.TBase<getBookChapters_args, getBookChapters_args._Fields>, java.io.Serializable, Cloneable, Comparable<getBookChapters_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookChapters_args");
+  public static class getChapters_args implements org.apache.thrift.TBase<getChapters_args, getChapters_args._Fields>, java.io.Serializable, Cloneable, Comparable<getChapters_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChapters_args");
 
-    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField REFS_FIELD_DESC = new org.apache.thrift.protocol.TField("refs", org.apache.thrift.protocol.TType.LIST, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookChapters_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookChapters_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChapters_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChapters_argsTupleSchemeFactory();
 
-    public java.lang.String bookUid; // required
+    public java.util.List<ChapterRef> refs; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BOOK_UID((short)1, "bookUid");
+      REFS((short)1, "refs");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -2572,8 +16207,8 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BOOK_UID
-            return BOOK_UID;
+          case 1: // REFS
+            return REFS;
           default:
             return null;
         }
@@ -2617,71 +16252,91 @@ public class Storage {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.REFS, new org.apache.thrift.meta_data.FieldMetaData("refs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChapterRef.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookChapters_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChapters_args.class, metaDataMap);
     }
 
-    public getBookChapters_args() {
+    public getChapters_args() {
     }
 
-    public getBookChapters_args(
-      java.lang.String bookUid)
+    public getChapters_args(
+      java.util.List<ChapterRef> refs)
     {
       this();
-      this.bookUid = bookUid;
+      this.refs = refs;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getBookChapters_args(getBookChapters_args other) {
-      if (other.isSetBookUid()) {
-        this.bookUid = other.bookUid;
+    public getChapters_args(getChapters_args other) {
+      if (other.isSetRefs()) {
+        java.util.List<ChapterRef> __this__refs = new java.util.ArrayList<ChapterRef>(other.refs.size());
+        for (ChapterRef other_element : other.refs) {
+          __this__refs.add(new ChapterRef(other_element));
+        }
+        this.refs = __this__refs;
       }
     }
 
-    public getBookChapters_args deepCopy() {
-      return new getBookChapters_args(this);
+    public getChapters_args deepCopy() {
+      return new getChapters_args(this);
     }
 
     @Override
     public void clear() {
-      this.bookUid = null;
+      this.refs = null;
     }
 
-    public java.lang.String getBookUid() {
-      return this.bookUid;
+    public int getRefsSize() {
+      return (this.refs == null) ? 0 : this.refs.size();
     }
 
-    public getBookChapters_args setBookUid(java.lang.String bookUid) {
-      this.bookUid = bookUid;
+    public java.util.Iterator<ChapterRef> getRefsIterator() {
+      return (this.refs == null) ? null : this.refs.iterator();
+    }
+
+    public void addToRefs(ChapterRef elem) {
+      if (this.refs == null) {
+        this.refs = new java.util.ArrayList<ChapterRef>();
+      }
+      this.refs.add(elem);
+    }
+
+    public java.util.List<ChapterRef> getRefs() {
+      return this.refs;
+    }
+
+    public getChapters_args setRefs(java.util.List<ChapterRef> refs) {
+      this.refs = refs;
       return this;
     }
 
-    public void unsetBookUid() {
-      this.bookUid = null;
+    public void unsetRefs() {
+      this.refs = null;
     }
 
-    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
-    public boolean isSetBookUid() {
-      return this.bookUid != null;
+    /** Returns true if field refs is set (has been assigned a value) and false otherwise */
+    public boolean isSetRefs() {
+      return this.refs != null;
     }
 
-    public void setBookUidIsSet(boolean value) {
+    public void setRefsIsSet(boolean value) {
       if (!value) {
-        this.bookUid = null;
+        this.refs = null;
       }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case BOOK_UID:
+      case REFS:
         if (value == null) {
-          unsetBookUid();
+          unsetRefs();
         } else {
-          setBookUid((java.lang.String)value);
+          setRefs((java.util.List<ChapterRef>)value);
         }
         break;
 
@@ -2690,8 +16345,8 @@ public class Storage {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case BOOK_UID:
-        return getBookUid();
+      case REFS:
+        return getRefs();
 
       }
       throw new java.lang.IllegalStateException();
@@ -2704,8 +16359,8 @@ public class Storage {
       }
 
       switch (field) {
-      case BOOK_UID:
-        return isSetBookUid();
+      case REFS:
+        return isSetRefs();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -2714,23 +16369,23 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getBookChapters_args)
-        return this.equals((getBookChapters_args)that);
+      if (that instanceof getChapters_args)
+        return this.equals((getChapters_args)that);
       return false;
     }
 
-    public boolean equals(getBookChapters_args that) {
+    public boolean equals(getChapters_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_bookUid = true && this.isSetBookUid();
-      boolean that_present_bookUid = true && that.isSetBookUid();
-      if (this_present_bookUid || that_present_bookUid) {
-        if (!(this_present_bookUid && that_present_bookUid))
+      boolean this_present_refs = true && this.isSetRefs();
+      boolean that_present_refs = true && that.isSetRefs();
+      if (this_present_refs || that_present_refs) {
+        if (!(this_present_refs && that_present_refs))
           return false;
-        if (!this.bookUid.equals(that.bookUid))
+        if (!this.refs.equals(that.refs))
           return false;
       }
 
@@ -2741,27 +16396,27 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
-      if (isSetBookUid())
-        hashCode = hashCode * 8191 + bookUid.hashCode();
+      hashCode = hashCode * 8191 + ((isSetRefs()) ? 131071 : 524287);
+      if (isSetRefs())
+        hashCode = hashCode * 8191 + refs.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getBookChapters_args other) {
+    public int compareTo(getChapters_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      lastComparison = java.lang.Boolean.valueOf(isSetRefs()).compareTo(other.isSetRefs());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBookUid()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+      if (isSetRefs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.refs, other.refs);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2783,14 +16438,14 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookChapters_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChapters_args(");
       boolean first = true;
 
-      sb.append("bookUid:");
-      if (this.bookUid == null) {
+      sb.append("refs:");
+      if (this.refs == null) {
         sb.append("null");
       } else {
-        sb.append(this.bookUid);
+        sb.append(this.refs);
       }
       first = false;
       sb.append(")");
@@ -2818,15 +16473,15 @@ public class Storage {
       }
     }
 
-    private static class getBookChapters_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getBookChapters_argsStandardScheme getScheme() {
-        return new getBookChapters_argsStandardScheme();
+    private static class getChapters_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapters_argsStandardScheme getScheme() {
+        return new getChapters_argsStandardScheme();
       }
     }
 
-    private static class getBookChapters_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookChapters_args> {
+    private static class getChapters_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChapters_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookChapters_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChapters_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2836,10 +16491,21 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BOOK_UID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.bookUid = iprot.readString();
-                struct.setBookUidIsSet(true);
+            case 1: // REFS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list48 = iprot.readListBegin();
+                  struct.refs = new java.util.ArrayList<ChapterRef>(_list48.size);
+                  ChapterRef _elem49;
+                  for (int _i50 = 0; _i50 < _list48.size; ++_i50)
+                  {
+                    _elem49 = new ChapterRef();
+                    _elem49.read(iprot);
+                    struct.refs.add(_elem49);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setRefsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2855,13 +16521,20 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookChapters_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChapters_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.bookUid != null) {
-          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
-          oprot.writeString(struct.bookUid);
+        if (struct.refs != null) {
+          oprot.writeFieldBegin(REFS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.refs.size()));
+            for (ChapterRef _iter51 : struct.refs)
+            {
+              _iter51.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -2870,34 +16543,50 @@ public class Storage {
 
     }
 
-    private static class getBookChapters_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getBookChapters_argsTupleScheme getScheme() {
-        return new getBookChapters_argsTupleScheme();
+    private static class getChapters_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapters_argsTupleScheme getScheme() {
+        return new getChapters_argsTupleScheme();
       }
     }
 
-    private static class getBookChapters_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookChapters_args> {
+    private static class getChapters_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChapters_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getBookChapters_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChapters_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetBookUid()) {
+        if (struct.isSetRefs()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetBookUid()) {
-          oprot.writeString(struct.bookUid);
+        if (struct.isSetRefs()) {
+          {
+            oprot.writeI32(struct.refs.size());
+            for (ChapterRef _iter52 : struct.refs)
+            {
+              _iter52.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getBookChapters_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChapters_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.bookUid = iprot.readString();
-          struct.setBookUidIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list53 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.refs = new java.util.ArrayList<ChapterRef>(_list53.size);
+            ChapterRef _elem54;
+            for (int _i55 = 0; _i55 < _list53.size; ++_i55)
+            {
+              _elem54 = new ChapterRef();
+              _elem54.read(iprot);
+              struct.refs.add(_elem54);
+            }
+          }
+          struct.setRefsIsSet(true);
         }
       }
     }
@@ -2907,15 +16596,15 @@ public class Storage {
     }
   }
 
-  public static class getBookChapters_result implements org.apache.thrift.TBase<getBookChapters_result, getBookChapters_result._Fields>, java.io.Serializable, Cloneable, Comparable<getBookChapters_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBookChapters_result");
+  public static class getChapters_result implements org.apache.thrift.TBase<getChapters_result, getChapters_result._Fields>, java.io.Serializable, Cloneable, Comparable<getChapters_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChapters_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getBookChapters_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getBookChapters_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChapters_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChapters_resultTupleSchemeFactory();
 
-    public Callback success; // required
+    public java.util.List<ChapterResult> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -2980,16 +16669,17 @@ public class Storage {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Callback.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChapterResult.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBookChapters_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChapters_result.class, metaDataMap);
     }
 
-    public getBookChapters_result() {
+    public getChapters_result() {
     }
 
-    public getBookChapters_result(
-      Callback success)
+    public getChapters_result(
+      java.util.List<ChapterResult> success)
     {
       this();
       this.success = success;
@@ -2998,14 +16688,18 @@ public class Storage {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getBookChapters_result(getBookChapters_result other) {
+    public getChapters_result(getChapters_result other) {
       if (other.isSetSuccess()) {
-        this.success = new Callback(other.success);
+        java.util.List<ChapterResult> __this__success = new java.util.ArrayList<ChapterResult>(other.success.size());
+        for (ChapterResult other_element : other.success) {
+          __this__success.add(new ChapterResult(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public getBookChapters_result deepCopy() {
-      return new getBookChapters_result(this);
+    public getChapters_result deepCopy() {
+      return new getChapters_result(this);
     }
 
     @Override
@@ -3013,11 +16707,26 @@ public class Storage {
       this.success = null;
     }
 
-    public Callback getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<ChapterResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(ChapterResult elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<ChapterResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public java.util.List<ChapterResult> getSuccess() {
       return this.success;
     }
 
-    public getBookChapters_result setSuccess(Callback success) {
+    public getChapters_result setSuccess(java.util.List<ChapterResult> success) {
       this.success = success;
       return this;
     }
@@ -3043,7 +16752,7 @@ public class Storage {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Callback)value);
+          setSuccess((java.util.List<ChapterResult>)value);
         }
         break;
 
@@ -3076,12 +16785,12 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getBookChapters_result)
-        return this.equals((getBookChapters_result)that);
+      if (that instanceof getChapters_result)
+        return this.equals((getChapters_result)that);
       return false;
     }
 
-    public boolean equals(getBookChapters_result that) {
+    public boolean equals(getChapters_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -3111,7 +16820,7 @@ public class Storage {
     }
 
     @Override
-    public int compareTo(getBookChapters_result other) {
+    public int compareTo(getChapters_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3145,7 +16854,7 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getBookChapters_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChapters_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -3162,9 +16871,6 @@ public class Storage {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3183,15 +16889,15 @@ public class Storage {
       }
     }
 
-    private static class getBookChapters_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getBookChapters_resultStandardScheme getScheme() {
-        return new getBookChapters_resultStandardScheme();
+    private static class getChapters_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapters_resultStandardScheme getScheme() {
+        return new getChapters_resultStandardScheme();
       }
     }
 
-    private static class getBookChapters_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getBookChapters_result> {
+    private static class getChapters_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChapters_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getBookChapters_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChapters_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3202,9 +16908,19 @@ public class Storage {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new Callback();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list56 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<ChapterResult>(_list56.size);
+                  ChapterResult _elem57;
+                  for (int _i58 = 0; _i58 < _list56.size; ++_i58)
+                  {
+                    _elem57 = new ChapterResult();
+                    _elem57.read(iprot);
+                    struct.success.add(_elem57);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -3221,13 +16937,20 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getBookChapters_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChapters_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (ChapterResult _iter59 : struct.success)
+            {
+              _iter59.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3236,16 +16959,16 @@ public class Storage {
 
     }
 
-    private static class getBookChapters_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getBookChapters_resultTupleScheme getScheme() {
-        return new getBookChapters_resultTupleScheme();
+    private static class getChapters_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapters_resultTupleScheme getScheme() {
+        return new getChapters_resultTupleScheme();
       }
     }
 
-    private static class getBookChapters_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getBookChapters_result> {
+    private static class getChapters_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChapters_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getBookChapters_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChapters_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -3253,17 +16976,32 @@ public class Storage {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (ChapterResult _iter60 : struct.success)
+            {
+              _iter60.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getBookChapters_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChapters_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new Callback();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list61 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<ChapterResult>(_list61.size);
+            ChapterResult _elem62;
+            for (int _i63 = 0; _i63 < _list61.size; ++_i63)
+            {
+              _elem62 = new ChapterResult();
+              _elem62.read(iprot);
+              struct.success.add(_elem62);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
       }
@@ -3274,19 +17012,19 @@ public class Storage {
     }
   }
 
-  public static class renameBook_args implements org.apache.thrift.TBase<renameBook_args, renameBook_args._Fields>, java.io.Serializable, Cloneable, Comparable<renameBook_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameBook_args");
+  public static class getHandbook_args implements org.apache.thrift.TBase<getHandbook_args, getHandbook_args._Fields>, java.io.Serializable, Cloneable, Comparable<getHandbook_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getHandbook_args");
 
-    private static final org.apache.thrift.protocol.TField NEW_VALUE_FIELD_DESC = new org.apache.thrift.protocol.TField("newValue", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new renameBook_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new renameBook_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getHandbook_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getHandbook_argsTupleSchemeFactory();
 
-    public CustomPair newValue; // required
+    public java.lang.String bookUid; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      NEW_VALUE((short)1, "newValue");
+      BOOK_UID((short)1, "bookUid");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3301,8 +17039,8 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // NEW_VALUE
-            return NEW_VALUE;
+          case 1: // BOOK_UID
+            return BOOK_UID;
           default:
             return null;
         }
@@ -3346,71 +17084,71 @@ public class Storage {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.NEW_VALUE, new org.apache.thrift.meta_data.FieldMetaData("newValue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CustomPair.class)));
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameBook_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getHandbook_args.class, metaDataMap);
     }
 
-    public renameBook_args() {
+    public getHandbook_args() {
     }
-
-    public renameBook_args(
-      CustomPair newValue)
+
+    public getHandbook_args(
+      java.lang.String bookUid)
     {
       this();
-      this.newValue = newValue;
+      this.bookUid = bookUid;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public renameBook_args(renameBook_args other) {
-      if (other.isSetNewValue()) {
-        this.newValue = new CustomPair(other.newValue);
+    public getHandbook_args(getHandbook_args other) {
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
       }
     }
 
-    public renameBook_args deepCopy() {
-      return new renameBook_args(this);
+    public getHandbook_args deepCopy() {
+      return new getHandbook_args(this);
     }
 
     @Override
     public void clear() {
-      this.newValue = null;
+      this.bookUid = null;
     }
 
-    public CustomPair getNewValue() {
-      return this.newValue;
+    public java.lang.String getBookUid() {
+      return this.bookUid;
     }
 
-    public renameBook_args setNewValue(CustomPair newValue) {
-      this.newValue = newValue;
+    public getHandbook_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
       return this;
     }
 
-    public void unsetNewValue() {
-      this.newValue = null;
+    public void unsetBookUid() {
+      this.bookUid = null;
     }
 
-    /** Returns true if field newValue is set (has been assigned a value) and false otherwise */
-    public boolean isSetNewValue() {
-      return this.newValue != null;
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
     }
 
-    public void setNewValueIsSet(boolean value) {
+    public void setBookUidIsSet(boolean value) {
       if (!value) {
-        this.newValue = null;
+        this.bookUid = null;
       }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case NEW_VALUE:
+      case BOOK_UID:
         if (value == null) {
-          unsetNewValue();
+          unsetBookUid();
         } else {
-          setNewValue((CustomPair)value);
+          setBookUid((java.lang.String)value);
         }
         break;
 
@@ -3419,8 +17157,8 @@ public class Storage {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case NEW_VALUE:
-        return getNewValue();
+      case BOOK_UID:
+        return getBookUid();
 
       }
       throw new java.lang.IllegalStateException();
@@ -3433,8 +17171,8 @@ public class Storage {
       }
 
       switch (field) {
-      case NEW_VALUE:
-        return isSetNewValue();
+      case BOOK_UID:
+        return isSetBookUid();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -3443,23 +17181,23 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof renameBook_args)
-        return this.equals((renameBook_args)that);
+      if (that instanceof getHandbook_args)
+        return this.equals((getHandbook_args)that);
       return false;
     }
 
-    public boolean equals(renameBook_args that) {
+    public boolean equals(getHandbook_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_newValue = true && this.isSetNewValue();
-      boolean that_present_newValue = true && that.isSetNewValue();
-      if (this_present_newValue || that_present_newValue) {
-        if (!(this_present_newValue && that_present_newValue))
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
           return false;
-        if (!this.newValue.equals(that.newValue))
+        if (!this.bookUid.equals(that.bookUid))
           return false;
       }
 
@@ -3470,27 +17208,27 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetNewValue()) ? 131071 : 524287);
-      if (isSetNewValue())
-        hashCode = hashCode * 8191 + newValue.hashCode();
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(renameBook_args other) {
+    public int compareTo(getHandbook_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetNewValue()).compareTo(other.isSetNewValue());
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetNewValue()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.newValue, other.newValue);
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3512,14 +17250,14 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("renameBook_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getHandbook_args(");
       boolean first = true;
 
-      sb.append("newValue:");
-      if (this.newValue == null) {
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
         sb.append("null");
       } else {
-        sb.append(this.newValue);
+        sb.append(this.bookUid);
       }
       first = false;
       sb.append(")");
@@ -3529,9 +17267,6 @@ public class Storage {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (newValue != null) {
-        newValue.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3550,15 +17285,15 @@ public class Storage {
       }
     }
 
-    private static class renameBook_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public renameBook_argsStandardScheme getScheme() {
-        return new renameBook_argsStandardScheme();
+    private static class getHandbook_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getHandbook_argsStandardScheme getScheme() {
+        return new getHandbook_argsStandardScheme();
       }
     }
 
-    private static class renameBook_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<renameBook_args> {
+    private static class getHandbook_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getHandbook_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, renameBook_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getHandbook_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3568,11 +17303,10 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
-            case 1: // NEW_VALUE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.newValue = new CustomPair();
-                struct.newValue.read(iprot);
-                struct.setNewValueIsSet(true);
+            case 1: // BOOK_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3588,13 +17322,13 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, renameBook_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getHandbook_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.newValue != null) {
-          oprot.writeFieldBegin(NEW_VALUE_FIELD_DESC);
-          struct.newValue.write(oprot);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3603,35 +17337,34 @@ public class Storage {
 
     }
 
-    private static class renameBook_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public renameBook_argsTupleScheme getScheme() {
-        return new renameBook_argsTupleScheme();
+    private static class getHandbook_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getHandbook_argsTupleScheme getScheme() {
+        return new getHandbook_argsTupleScheme();
       }
     }
 
-    private static class renameBook_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<renameBook_args> {
+    private static class getHandbook_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getHandbook_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, renameBook_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getHandbook_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetNewValue()) {
+        if (struct.isSetBookUid()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetNewValue()) {
-          struct.newValue.write(oprot);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, renameBook_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getHandbook_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.newValue = new CustomPair();
-          struct.newValue.read(iprot);
-          struct.setNewValueIsSet(true);
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
         }
       }
     }
@@ -3641,17 +17374,19 @@ public class Storage {
     }
   }
 
-  public static class renameBook_result implements org.apache.thrift.TBase<renameBook_result, renameBook_result._Fields>, java.io.Serializable, Cloneable, Comparable<renameBook_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameBook_result");
+  public static class getHandbook_result implements org.apache.thrift.TBase<getHandbook_result, getHandbook_result._Fields>, java.io.Serializable, Cloneable, Comparable<getHandbook_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getHandbook_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new renameBook_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new renameBook_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getHandbook_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getHandbook_resultTupleSchemeFactory();
 
+    public Handbook success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3666,6 +17401,8 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -3704,37 +17441,87 @@ public class Storage {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Handbook.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameBook_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getHandbook_result.class, metaDataMap);
     }
 
-    public renameBook_result() {
+    public getHandbook_result() {
+    }
+
+    public getHandbook_result(
+      Handbook success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public renameBook_result(renameBook_result other) {
+    public getHandbook_result(getHandbook_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new Handbook(other.success);
+      }
     }
 
-    public renameBook_result deepCopy() {
-      return new renameBook_result(this);
+    public getHandbook_result deepCopy() {
+      return new getHandbook_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public Handbook getSuccess() {
+      return this.success;
+    }
+
+    public getHandbook_result setSuccess(Handbook success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Handbook)value);
+        }
+        break;
+
       }
     }
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -3746,6 +17533,8 @@ public class Storage {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -3754,17 +17543,26 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof renameBook_result)
-        return this.equals((renameBook_result)that);
+      if (that instanceof getHandbook_result)
+        return this.equals((getHandbook_result)that);
       return false;
     }
 
-    public boolean equals(renameBook_result that) {
+    public boolean equals(getHandbook_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -3772,17 +17570,31 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(renameBook_result other) {
+    public int compareTo(getHandbook_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -3800,9 +17612,16 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("renameBook_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getHandbook_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -3810,6 +17629,9 @@ public class Storage {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3828,15 +17650,15 @@ public class Storage {
       }
     }
 
-    private static class renameBook_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public renameBook_resultStandardScheme getScheme() {
-        return new renameBook_resultStandardScheme();
+    private static class getHandbook_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getHandbook_resultStandardScheme getScheme() {
+        return new getHandbook_resultStandardScheme();
       }
     }
 
-    private static class renameBook_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<renameBook_result> {
+    private static class getHandbook_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getHandbook_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, renameBook_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getHandbook_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3846,6 +17668,15 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new Handbook();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -3857,32 +17688,51 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, renameBook_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getHandbook_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class renameBook_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public renameBook_resultTupleScheme getScheme() {
-        return new renameBook_resultTupleScheme();
+    private static class getHandbook_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getHandbook_resultTupleScheme getScheme() {
+        return new getHandbook_resultTupleScheme();
       }
     }
 
-    private static class renameBook_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<renameBook_result> {
+    private static class getHandbook_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getHandbook_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, renameBook_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getHandbook_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, renameBook_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getHandbook_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new Handbook();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -3891,22 +17741,22 @@ public class Storage {
     }
   }
 
-  public static class renameBookChapter_args implements org.apache.thrift.TBase<renameBookChapter_args, renameBookChapter_args._Fields>, java.io.Serializable, Cloneable, Comparable<renameBookChapter_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameBookChapter_args");
+  public static class search_args implements org.apache.thrift.TBase<search_args, search_args._Fields>, java.io.Serializable, Cloneable, Comparable<search_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("search_args");
 
-    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField NEW_VALUE_FIELD_DESC = new org.apache.thrift.protocol.TField("newValue", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField QUERY_FIELD_DESC = new org.apache.thrift.protocol.TField("query", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField LIMIT_FIELD_DESC = new org.apache.thrift.protocol.TField("limit", org.apache.thrift.protocol.TType.I32, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new renameBookChapter_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new renameBookChapter_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new search_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new search_argsTupleSchemeFactory();
 
-    public java.lang.String bookUid; // required
-    public CustomPair newValue; // required
+    public java.lang.String query; // required
+    public int limit; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BOOK_UID((short)1, "bookUid"),
-      NEW_VALUE((short)2, "newValue");
+      QUERY((short)1, "query"),
+      LIMIT((short)2, "limit");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3921,10 +17771,10 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BOOK_UID
-            return BOOK_UID;
-          case 2: // NEW_VALUE
-            return NEW_VALUE;
+          case 1: // QUERY
+            return QUERY;
+          case 2: // LIMIT
+            return LIMIT;
           default:
             return null;
         }
@@ -3965,114 +17815,116 @@ public class Storage {
     }
 
     // isset id assignments
+    private static final int __LIMIT_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.QUERY, new org.apache.thrift.meta_data.FieldMetaData("query", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.NEW_VALUE, new org.apache.thrift.meta_data.FieldMetaData("newValue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CustomPair.class)));
+      tmpMap.put(_Fields.LIMIT, new org.apache.thrift.meta_data.FieldMetaData("limit", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameBookChapter_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(search_args.class, metaDataMap);
     }
 
-    public renameBookChapter_args() {
+    public search_args() {
     }
 
-    public renameBookChapter_args(
-      java.lang.String bookUid,
-      CustomPair newValue)
+    public search_args(
+      java.lang.String query,
+      int limit)
     {
       this();
-      this.bookUid = bookUid;
-      this.newValue = newValue;
+      this.query = query;
+      this.limit = limit;
+      setLimitIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public renameBookChapter_args(renameBookChapter_args other) {
-      if (other.isSetBookUid()) {
-        this.bookUid = other.bookUid;
-      }
-      if (other.isSetNewValue()) {
-        this.newValue = new CustomPair(other.newValue);
+    public search_args(search_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetQuery()) {
+        this.query = other.query;
       }
+      this.limit = other.limit;
     }
 
-    public renameBookChapter_args deepCopy() {
-      return new renameBookChapter_args(this);
+    public search_args deepCopy() {
+      return new search_args(this);
     }
 
     @Override
     public void clear() {
-      this.bookUid = null;
-      this.newValue = null;
+      this.query = null;
+      setLimitIsSet(false);
+      this.limit = 0;
     }
 
-    public java.lang.String getBookUid() {
-      return this.bookUid;
+    public java.lang.String getQuery() {
+      return this.query;
     }
 
-    public renameBookChapter_args setBookUid(java.lang.String bookUid) {
-      this.bookUid = bookUid;
+    public search_args setQuery(java.lang.String query) {
+      this.query = query;
       return this;
     }
 
-    public void unsetBookUid() {
-      this.bookUid = null;
+    public void unsetQuery() {
+      this.query = null;
     }
 
-    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
-    public boolean isSetBookUid() {
-      return this.bookUid != null;
+    /** Returns true if field query is set (has been assigned a value) and false otherwise */
+    public boolean isSetQuery() {
+      return this.query != null;
     }
 
-    public void setBookUidIsSet(boolean value) {
+    public void setQueryIsSet(boolean value) {
       if (!value) {
-        this.bookUid = null;
+        this.query = null;
       }
     }
 
-    public CustomPair getNewValue() {
-      return this.newValue;
+    public int getLimit() {
+      return this.limit;
     }
 
-    public renameBookChapter_args setNewValue(CustomPair newValue) {
-      this.newValue = newValue;
+    public search_args setLimit(int limit) {
+      this.limit = limit;
+      setLimitIsSet(true);
       return this;
     }
 
-    public void unsetNewValue() {
-      this.newValue = null;
+    public void unsetLimit() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LIMIT_ISSET_ID);
     }
 
-    /** Returns true if field newValue is set (has been assigned a value) and false otherwise */
-    public boolean isSetNewValue() {
-      return this.newValue != null;
+    /** Returns true if field limit is set (has been assigned a value) and false otherwise */
+    public boolean isSetLimit() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LIMIT_ISSET_ID);
     }
 
-    public void setNewValueIsSet(boolean value) {
-      if (!value) {
-        this.newValue = null;
-      }
+    public void setLimitIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LIMIT_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case BOOK_UID:
+      case QUERY:
         if (value == null) {
-          unsetBookUid();
+          unsetQuery();
         } else {
-          setBookUid((java.lang.String)value);
+          setQuery((java.lang.String)value);
         }
         break;
 
-      case NEW_VALUE:
+      case LIMIT:
         if (value == null) {
-          unsetNewValue();
+          unsetLimit();
         } else {
-          setNewValue((CustomPair)value);
+          setLimit((java.lang.Integer)value);
         }
         break;
 
@@ -4081,11 +17933,11 @@ public class Storage {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case BOOK_UID:
-        return getBookUid();
+      case QUERY:
+        return getQuery();
 
-      case NEW_VALUE:
-        return getNewValue();
+      case LIMIT:
+        return getLimit();
 
       }
       throw new java.lang.IllegalStateException();
@@ -4098,10 +17950,10 @@ public class Storage {
       }
 
       switch (field) {
-      case BOOK_UID:
-        return isSetBookUid();
-      case NEW_VALUE:
-        return isSetNewValue();
+      case QUERY:
+        return isSetQuery();
+      case LIMIT:
+        return isSetLimit();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -4110,32 +17962,32 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof renameBookChapter_args)
-        return this.equals((renameBookChapter_args)that);
+      if (that instanceof search_args)
+        return this.equals((search_args)that);
       return false;
     }
 
-    public boolean equals(renameBookChapter_args that) {
+    public boolean equals(search_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_bookUid = true && this.isSetBookUid();
-      boolean that_present_bookUid = true && that.isSetBookUid();
-      if (this_present_bookUid || that_present_bookUid) {
-        if (!(this_present_bookUid && that_present_bookUid))
+      boolean this_present_query = true && this.isSetQuery();
+      boolean that_present_query = true && that.isSetQuery();
+      if (this_present_query || that_present_query) {
+        if (!(this_present_query && that_present_query))
           return false;
-        if (!this.bookUid.equals(that.bookUid))
+        if (!this.query.equals(that.query))
           return false;
       }
 
-      boolean this_present_newValue = true && this.isSetNewValue();
-      boolean that_present_newValue = true && that.isSetNewValue();
-      if (this_present_newValue || that_present_newValue) {
-        if (!(this_present_newValue && that_present_newValue))
+      boolean this_present_limit = true;
+      boolean that_present_limit = true;
+      if (this_present_limit || that_present_limit) {
+        if (!(this_present_limit && that_present_limit))
           return false;
-        if (!this.newValue.equals(that.newValue))
+        if (this.limit != that.limit)
           return false;
       }
 
@@ -4146,41 +17998,39 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
-      if (isSetBookUid())
-        hashCode = hashCode * 8191 + bookUid.hashCode();
+      hashCode = hashCode * 8191 + ((isSetQuery()) ? 131071 : 524287);
+      if (isSetQuery())
+        hashCode = hashCode * 8191 + query.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetNewValue()) ? 131071 : 524287);
-      if (isSetNewValue())
-        hashCode = hashCode * 8191 + newValue.hashCode();
+      hashCode = hashCode * 8191 + limit;
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(renameBookChapter_args other) {
+    public int compareTo(search_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      lastComparison = java.lang.Boolean.valueOf(isSetQuery()).compareTo(other.isSetQuery());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBookUid()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+      if (isSetQuery()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.query, other.query);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetNewValue()).compareTo(other.isSetNewValue());
+      lastComparison = java.lang.Boolean.valueOf(isSetLimit()).compareTo(other.isSetLimit());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetNewValue()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.newValue, other.newValue);
+      if (isSetLimit()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.limit, other.limit);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4202,23 +18052,19 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("renameBookChapter_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("search_args(");
       boolean first = true;
 
-      sb.append("bookUid:");
-      if (this.bookUid == null) {
+      sb.append("query:");
+      if (this.query == null) {
         sb.append("null");
       } else {
-        sb.append(this.bookUid);
+        sb.append(this.query);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("newValue:");
-      if (this.newValue == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.newValue);
-      }
+      sb.append("limit:");
+      sb.append(this.limit);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -4227,9 +18073,6 @@ public class Storage {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (newValue != null) {
-        newValue.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -4242,21 +18085,23 @@ public class Storage {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class renameBookChapter_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public renameBookChapter_argsStandardScheme getScheme() {
-        return new renameBookChapter_argsStandardScheme();
+    private static class search_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public search_argsStandardScheme getScheme() {
+        return new search_argsStandardScheme();
       }
     }
 
-    private static class renameBookChapter_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<renameBookChapter_args> {
+    private static class search_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<search_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, renameBookChapter_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, search_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4266,19 +18111,18 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BOOK_UID
+            case 1: // QUERY
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.bookUid = iprot.readString();
-                struct.setBookUidIsSet(true);
+                struct.query = iprot.readString();
+                struct.setQueryIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // NEW_VALUE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.newValue = new CustomPair();
-                struct.newValue.read(iprot);
-                struct.setNewValueIsSet(true);
+            case 2: // LIMIT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.limit = iprot.readI32();
+                struct.setLimitIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4294,65 +18138,62 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, renameBookChapter_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, search_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.bookUid != null) {
-          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
-          oprot.writeString(struct.bookUid);
-          oprot.writeFieldEnd();
-        }
-        if (struct.newValue != null) {
-          oprot.writeFieldBegin(NEW_VALUE_FIELD_DESC);
-          struct.newValue.write(oprot);
+        if (struct.query != null) {
+          oprot.writeFieldBegin(QUERY_FIELD_DESC);
+          oprot.writeString(struct.query);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(LIMIT_FIELD_DESC);
+        oprot.writeI32(struct.limit);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class renameBookChapter_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public renameBookChapter_argsTupleScheme getScheme() {
-        return new renameBookChapter_argsTupleScheme();
+    private static class search_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public search_argsTupleScheme getScheme() {
+        return new search_argsTupleScheme();
       }
     }
 
-    private static class renameBookChapter_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<renameBookChapter_args> {
+    private static class search_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<search_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, renameBookChapter_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, search_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetBookUid()) {
+        if (struct.isSetQuery()) {
           optionals.set(0);
         }
-        if (struct.isSetNewValue()) {
+        if (struct.isSetLimit()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetBookUid()) {
-          oprot.writeString(struct.bookUid);
+        if (struct.isSetQuery()) {
+          oprot.writeString(struct.query);
         }
-        if (struct.isSetNewValue()) {
-          struct.newValue.write(oprot);
+        if (struct.isSetLimit()) {
+          oprot.writeI32(struct.limit);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, renameBookChapter_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, search_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.bookUid = iprot.readString();
-          struct.setBookUidIsSet(true);
+          struct.query = iprot.readString();
+          struct.setQueryIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.newValue = new CustomPair();
-          struct.newValue.read(iprot);
-          struct.setNewValueIsSet(true);
+          struct.limit = iprot.readI32();
+          struct.setLimitIsSet(true);
         }
       }
     }
@@ -4362,17 +18203,19 @@ public class Storage {
     }
   }
 
-  public static class renameBookChapter_result implements org.apache.thrift.TBase<renameBookChapter_result, renameBookChapter_result._Fields>, java.io.Serializable, Cloneable, Comparable<renameBookChapter_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameBookChapter_result");
+  public static class search_result implements org.apache.thrift.TBase<search_result, search_result._Fields>, java.io.Serializable, Cloneable, Comparable<search_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("search_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new renameBookChapter_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new renameBookChapter_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new search_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new search_resultTupleSchemeFactory();
 
+    public java.util.List<SearchHit> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -4387,6 +18230,8 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -4425,37 +18270,107 @@ public class Storage {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, SearchHit.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameBookChapter_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(search_result.class, metaDataMap);
     }
 
-    public renameBookChapter_result() {
+    public search_result() {
+    }
+
+    public search_result(
+      java.util.List<SearchHit> success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public renameBookChapter_result(renameBookChapter_result other) {
+    public search_result(search_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<SearchHit> __this__success = new java.util.ArrayList<SearchHit>(other.success.size());
+        for (SearchHit other_element : other.success) {
+          __this__success.add(new SearchHit(other_element));
+        }
+        this.success = __this__success;
+      }
     }
 
-    public renameBookChapter_result deepCopy() {
-      return new renameBookChapter_result(this);
+    public search_result deepCopy() {
+      return new search_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<SearchHit> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(SearchHit elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<SearchHit>();
+      }
+      this.success.add(elem);
+    }
+
+    public java.util.List<SearchHit> getSuccess() {
+      return this.success;
+    }
+
+    public search_result setSuccess(java.util.List<SearchHit> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<SearchHit>)value);
+        }
+        break;
+
       }
     }
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -4467,6 +18382,8 @@ public class Storage {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -4475,17 +18392,26 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof renameBookChapter_result)
-        return this.equals((renameBookChapter_result)that);
+      if (that instanceof search_result)
+        return this.equals((search_result)that);
       return false;
     }
 
-    public boolean equals(renameBookChapter_result that) {
+    public boolean equals(search_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -4493,17 +18419,31 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(renameBookChapter_result other) {
+    public int compareTo(search_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -4521,9 +18461,16 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("renameBookChapter_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("search_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -4549,15 +18496,15 @@ public class Storage {
       }
     }
 
-    private static class renameBookChapter_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public renameBookChapter_resultStandardScheme getScheme() {
-        return new renameBookChapter_resultStandardScheme();
+    private static class search_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public search_resultStandardScheme getScheme() {
+        return new search_resultStandardScheme();
       }
     }
 
-    private static class renameBookChapter_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<renameBookChapter_result> {
+    private static class search_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<search_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, renameBookChapter_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, search_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4567,6 +18514,25 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list64 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<SearchHit>(_list64.size);
+                  SearchHit _elem65;
+                  for (int _i66 = 0; _i66 < _list64.size; ++_i66)
+                  {
+                    _elem65 = new SearchHit();
+                    _elem65.read(iprot);
+                    struct.success.add(_elem65);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -4578,32 +18544,73 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, renameBookChapter_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, search_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (SearchHit _iter67 : struct.success)
+            {
+              _iter67.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class renameBookChapter_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public renameBookChapter_resultTupleScheme getScheme() {
-        return new renameBookChapter_resultTupleScheme();
+    private static class search_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public search_resultTupleScheme getScheme() {
+        return new search_resultTupleScheme();
       }
     }
 
-    private static class renameBookChapter_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<renameBookChapter_result> {
+    private static class search_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<search_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, renameBookChapter_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, search_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (SearchHit _iter68 : struct.success)
+            {
+              _iter68.write(oprot);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, renameBookChapter_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, search_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list69 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<SearchHit>(_list69.size);
+            SearchHit _elem70;
+            for (int _i71 = 0; _i71 < _list69.size; ++_i71)
+            {
+              _elem70 = new SearchHit();
+              _elem70.read(iprot);
+              struct.success.add(_elem70);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -4612,22 +18619,22 @@ public class Storage {
     }
   }
 
-  public static class getChapter_args implements org.apache.thrift.TBase<getChapter_args, getChapter_args._Fields>, java.io.Serializable, Cloneable, Comparable<getChapter_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChapter_args");
+  public static class suggest_args implements org.apache.thrift.TBase<suggest_args, suggest_args._Fields>, java.io.Serializable, Cloneable, Comparable<suggest_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("suggest_args");
 
-    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField CHAPTER_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterUid", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PREFIX_FIELD_DESC = new org.apache.thrift.protocol.TField("prefix", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField LIMIT_FIELD_DESC = new org.apache.thrift.protocol.TField("limit", org.apache.thrift.protocol.TType.I32, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChapter_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChapter_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new suggest_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new suggest_argsTupleSchemeFactory();
 
-    public java.lang.String bookUid; // required
-    public java.lang.String chapterUid; // required
+    public java.lang.String prefix; // required
+    public int limit; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BOOK_UID((short)1, "bookUid"),
-      CHAPTER_UID((short)2, "chapterUid");
+      PREFIX((short)1, "prefix"),
+      LIMIT((short)2, "limit");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -4642,10 +18649,10 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BOOK_UID
-            return BOOK_UID;
-          case 2: // CHAPTER_UID
-            return CHAPTER_UID;
+          case 1: // PREFIX
+            return PREFIX;
+          case 2: // LIMIT
+            return LIMIT;
           default:
             return null;
         }
@@ -4686,114 +18693,116 @@ public class Storage {
     }
 
     // isset id assignments
+    private static final int __LIMIT_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CHAPTER_UID, new org.apache.thrift.meta_data.FieldMetaData("chapterUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.PREFIX, new org.apache.thrift.meta_data.FieldMetaData("prefix", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.LIMIT, new org.apache.thrift.meta_data.FieldMetaData("limit", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChapter_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(suggest_args.class, metaDataMap);
     }
 
-    public getChapter_args() {
+    public suggest_args() {
     }
 
-    public getChapter_args(
-      java.lang.String bookUid,
-      java.lang.String chapterUid)
+    public suggest_args(
+      java.lang.String prefix,
+      int limit)
     {
       this();
-      this.bookUid = bookUid;
-      this.chapterUid = chapterUid;
+      this.prefix = prefix;
+      this.limit = limit;
+      setLimitIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getChapter_args(getChapter_args other) {
-      if (other.isSetBookUid()) {
-        this.bookUid = other.bookUid;
-      }
-      if (other.isSetChapterUid()) {
-        this.chapterUid = other.chapterUid;
+    public suggest_args(suggest_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetPrefix()) {
+        this.prefix = other.prefix;
       }
+      this.limit = other.limit;
     }
 
-    public getChapter_args deepCopy() {
-      return new getChapter_args(this);
+    public suggest_args deepCopy() {
+      return new suggest_args(this);
     }
 
     @Override
     public void clear() {
-      this.bookUid = null;
-      this.chapterUid = null;
+      this.prefix = null;
+      setLimitIsSet(false);
+      this.limit = 0;
     }
 
-    public java.lang.String getBookUid() {
-      return this.bookUid;
+    public java.lang.String getPrefix() {
+      return this.prefix;
     }
 
-    public getChapter_args setBookUid(java.lang.String bookUid) {
-      this.bookUid = bookUid;
+    public suggest_args setPrefix(java.lang.String prefix) {
+      this.prefix = prefix;
       return this;
     }
 
-    public void unsetBookUid() {
-      this.bookUid = null;
+    public void unsetPrefix() {
+      this.prefix = null;
     }
 
-    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
-    public boolean isSetBookUid() {
-      return this.bookUid != null;
+    /** Returns true if field prefix is set (has been assigned a value) and false otherwise */
+    public boolean isSetPrefix() {
+      return this.prefix != null;
     }
 
-    public void setBookUidIsSet(boolean value) {
+    public void setPrefixIsSet(boolean value) {
       if (!value) {
-        this.bookUid = null;
+        this.prefix = null;
       }
     }
 
-    public java.lang.String getChapterUid() {
-      return this.chapterUid;
+    public int getLimit() {
+      return this.limit;
     }
 
-    public getChapter_args setChapterUid(java.lang.String chapterUid) {
-      this.chapterUid = chapterUid;
+    public suggest_args setLimit(int limit) {
+      this.limit = limit;
+      setLimitIsSet(true);
       return this;
     }
 
-    public void unsetChapterUid() {
-      this.chapterUid = null;
+    public void unsetLimit() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LIMIT_ISSET_ID);
     }
 
-    /** Returns true if field chapterUid is set (has been assigned a value) and false otherwise */
-    public boolean isSetChapterUid() {
-      return this.chapterUid != null;
+    /** Returns true if field limit is set (has been assigned a value) and false otherwise */
+    public boolean isSetLimit() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LIMIT_ISSET_ID);
     }
 
-    public void setChapterUidIsSet(boolean value) {
-      if (!value) {
-        this.chapterUid = null;
-      }
+    public void setLimitIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LIMIT_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case BOOK_UID:
+      case PREFIX:
         if (value == null) {
-          unsetBookUid();
+          unsetPrefix();
         } else {
-          setBookUid((java.lang.String)value);
+          setPrefix((java.lang.String)value);
         }
         break;
 
-      case CHAPTER_UID:
+      case LIMIT:
         if (value == null) {
-          unsetChapterUid();
+          unsetLimit();
         } else {
-          setChapterUid((java.lang.String)value);
+          setLimit((java.lang.Integer)value);
         }
         break;
 
@@ -4802,11 +18811,11 @@ public class Storage {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case BOOK_UID:
-        return getBookUid();
+      case PREFIX:
+        return getPrefix();
 
-      case CHAPTER_UID:
-        return getChapterUid();
+      case LIMIT:
+        return getLimit();
 
       }
       throw new java.lang.IllegalStateException();
@@ -4819,10 +18828,10 @@ public class Storage {
       }
 
       switch (field) {
-      case BOOK_UID:
-        return isSetBookUid();
-      case CHAPTER_UID:
-        return isSetChapterUid();
+      case PREFIX:
+        return isSetPrefix();
+      case LIMIT:
+        return isSetLimit();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -4831,32 +18840,32 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getChapter_args)
-        return this.equals((getChapter_args)that);
+      if (that instanceof suggest_args)
+        return this.equals((suggest_args)that);
       return false;
     }
 
-    public boolean equals(getChapter_args that) {
+    public boolean equals(suggest_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_bookUid = true && this.isSetBookUid();
-      boolean that_present_bookUid = true && that.isSetBookUid();
-      if (this_present_bookUid || that_present_bookUid) {
-        if (!(this_present_bookUid && that_present_bookUid))
+      boolean this_present_prefix = true && this.isSetPrefix();
+      boolean that_present_prefix = true && that.isSetPrefix();
+      if (this_present_prefix || that_present_prefix) {
+        if (!(this_present_prefix && that_present_prefix))
           return false;
-        if (!this.bookUid.equals(that.bookUid))
+        if (!this.prefix.equals(that.prefix))
           return false;
       }
 
-      boolean this_present_chapterUid = true && this.isSetChapterUid();
-      boolean that_present_chapterUid = true && that.isSetChapterUid();
-      if (this_present_chapterUid || that_present_chapterUid) {
-        if (!(this_present_chapterUid && that_present_chapterUid))
+      boolean this_present_limit = true;
+      boolean that_present_limit = true;
+      if (this_present_limit || that_present_limit) {
+        if (!(this_present_limit && that_present_limit))
           return false;
-        if (!this.chapterUid.equals(that.chapterUid))
+        if (this.limit != that.limit)
           return false;
       }
 
@@ -4867,41 +18876,39 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
-      if (isSetBookUid())
-        hashCode = hashCode * 8191 + bookUid.hashCode();
+      hashCode = hashCode * 8191 + ((isSetPrefix()) ? 131071 : 524287);
+      if (isSetPrefix())
+        hashCode = hashCode * 8191 + prefix.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetChapterUid()) ? 131071 : 524287);
-      if (isSetChapterUid())
-        hashCode = hashCode * 8191 + chapterUid.hashCode();
+      hashCode = hashCode * 8191 + limit;
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getChapter_args other) {
+    public int compareTo(suggest_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
+      lastComparison = java.lang.Boolean.valueOf(isSetPrefix()).compareTo(other.isSetPrefix());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBookUid()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+      if (isSetPrefix()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.prefix, other.prefix);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetChapterUid()).compareTo(other.isSetChapterUid());
+      lastComparison = java.lang.Boolean.valueOf(isSetLimit()).compareTo(other.isSetLimit());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetChapterUid()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapterUid, other.chapterUid);
+      if (isSetLimit()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.limit, other.limit);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4923,23 +18930,19 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChapter_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("suggest_args(");
       boolean first = true;
 
-      sb.append("bookUid:");
-      if (this.bookUid == null) {
+      sb.append("prefix:");
+      if (this.prefix == null) {
         sb.append("null");
       } else {
-        sb.append(this.bookUid);
+        sb.append(this.prefix);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("chapterUid:");
-      if (this.chapterUid == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.chapterUid);
-      }
+      sb.append("limit:");
+      sb.append(this.limit);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -4960,21 +18963,23 @@ public class Storage {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getChapter_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getChapter_argsStandardScheme getScheme() {
-        return new getChapter_argsStandardScheme();
+    private static class suggest_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public suggest_argsStandardScheme getScheme() {
+        return new suggest_argsStandardScheme();
       }
     }
 
-    private static class getChapter_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChapter_args> {
+    private static class suggest_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<suggest_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getChapter_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, suggest_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4984,18 +18989,18 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BOOK_UID
+            case 1: // PREFIX
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.bookUid = iprot.readString();
-                struct.setBookUidIsSet(true);
+                struct.prefix = iprot.readString();
+                struct.setPrefixIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // CHAPTER_UID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.chapterUid = iprot.readString();
-                struct.setChapterUidIsSet(true);
+            case 2: // LIMIT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.limit = iprot.readI32();
+                struct.setLimitIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5011,64 +19016,62 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getChapter_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, suggest_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.bookUid != null) {
-          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
-          oprot.writeString(struct.bookUid);
-          oprot.writeFieldEnd();
-        }
-        if (struct.chapterUid != null) {
-          oprot.writeFieldBegin(CHAPTER_UID_FIELD_DESC);
-          oprot.writeString(struct.chapterUid);
+        if (struct.prefix != null) {
+          oprot.writeFieldBegin(PREFIX_FIELD_DESC);
+          oprot.writeString(struct.prefix);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(LIMIT_FIELD_DESC);
+        oprot.writeI32(struct.limit);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getChapter_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getChapter_argsTupleScheme getScheme() {
-        return new getChapter_argsTupleScheme();
+    private static class suggest_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public suggest_argsTupleScheme getScheme() {
+        return new suggest_argsTupleScheme();
       }
     }
 
-    private static class getChapter_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChapter_args> {
+    private static class suggest_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<suggest_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getChapter_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, suggest_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetBookUid()) {
+        if (struct.isSetPrefix()) {
           optionals.set(0);
         }
-        if (struct.isSetChapterUid()) {
+        if (struct.isSetLimit()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetBookUid()) {
-          oprot.writeString(struct.bookUid);
+        if (struct.isSetPrefix()) {
+          oprot.writeString(struct.prefix);
         }
-        if (struct.isSetChapterUid()) {
-          oprot.writeString(struct.chapterUid);
+        if (struct.isSetLimit()) {
+          oprot.writeI32(struct.limit);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getChapter_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, suggest_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.bookUid = iprot.readString();
-          struct.setBookUidIsSet(true);
+          struct.prefix = iprot.readString();
+          struct.setPrefixIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.chapterUid = iprot.readString();
-          struct.setChapterUidIsSet(true);
+          struct.limit = iprot.readI32();
+          struct.setLimitIsSet(true);
         }
       }
     }
@@ -5078,15 +19081,15 @@ public class Storage {
     }
   }
 
-  public static class getChapter_result implements org.apache.thrift.TBase<getChapter_result, getChapter_result._Fields>, java.io.Serializable, Cloneable, Comparable<getChapter_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChapter_result");
+  public static class suggest_result implements org.apache.thrift.TBase<suggest_result, suggest_result._Fields>, java.io.Serializable, Cloneable, Comparable<suggest_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("suggest_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChapter_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChapter_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new suggest_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new suggest_resultTupleSchemeFactory();
 
-    public Callback success; // required
+    public java.util.List<Suggestion> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -5151,16 +19154,17 @@ public class Storage {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Callback.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Suggestion.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChapter_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(suggest_result.class, metaDataMap);
     }
 
-    public getChapter_result() {
+    public suggest_result() {
     }
 
-    public getChapter_result(
-      Callback success)
+    public suggest_result(
+      java.util.List<Suggestion> success)
     {
       this();
       this.success = success;
@@ -5169,14 +19173,18 @@ public class Storage {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getChapter_result(getChapter_result other) {
+    public suggest_result(suggest_result other) {
       if (other.isSetSuccess()) {
-        this.success = new Callback(other.success);
+        java.util.List<Suggestion> __this__success = new java.util.ArrayList<Suggestion>(other.success.size());
+        for (Suggestion other_element : other.success) {
+          __this__success.add(new Suggestion(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public getChapter_result deepCopy() {
-      return new getChapter_result(this);
+    public suggest_result deepCopy() {
+      return new suggest_result(this);
     }
 
     @Override
@@ -5184,11 +19192,26 @@ public class Storage {
       this.success = null;
     }
 
-    public Callback getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<Suggestion> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(Suggestion elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<Suggestion>();
+      }
+      this.success.add(elem);
+    }
+
+    public java.util.List<Suggestion> getSuccess() {
       return this.success;
     }
 
-    public getChapter_result setSuccess(Callback success) {
+    public suggest_result setSuccess(java.util.List<Suggestion> success) {
       this.success = success;
       return this;
     }
@@ -5214,7 +19237,7 @@ public class Storage {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Callback)value);
+          setSuccess((java.util.List<Suggestion>)value);
         }
         break;
 
@@ -5247,12 +19270,12 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getChapter_result)
-        return this.equals((getChapter_result)that);
+      if (that instanceof suggest_result)
+        return this.equals((suggest_result)that);
       return false;
     }
 
-    public boolean equals(getChapter_result that) {
+    public boolean equals(suggest_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -5282,7 +19305,7 @@ public class Storage {
     }
 
     @Override
-    public int compareTo(getChapter_result other) {
+    public int compareTo(suggest_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5316,7 +19339,7 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChapter_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("suggest_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -5333,9 +19356,6 @@ public class Storage {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -5354,15 +19374,15 @@ public class Storage {
       }
     }
 
-    private static class getChapter_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getChapter_resultStandardScheme getScheme() {
-        return new getChapter_resultStandardScheme();
+    private static class suggest_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public suggest_resultStandardScheme getScheme() {
+        return new suggest_resultStandardScheme();
       }
     }
 
-    private static class getChapter_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChapter_result> {
+    private static class suggest_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<suggest_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getChapter_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, suggest_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5373,9 +19393,19 @@ public class Storage {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new Callback();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list72 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<Suggestion>(_list72.size);
+                  Suggestion _elem73;
+                  for (int _i74 = 0; _i74 < _list72.size; ++_i74)
+                  {
+                    _elem73 = new Suggestion();
+                    _elem73.read(iprot);
+                    struct.success.add(_elem73);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -5392,13 +19422,20 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getChapter_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, suggest_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (Suggestion _iter75 : struct.success)
+            {
+              _iter75.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -5407,16 +19444,16 @@ public class Storage {
 
     }
 
-    private static class getChapter_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getChapter_resultTupleScheme getScheme() {
-        return new getChapter_resultTupleScheme();
+    private static class suggest_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public suggest_resultTupleScheme getScheme() {
+        return new suggest_resultTupleScheme();
       }
     }
 
-    private static class getChapter_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChapter_result> {
+    private static class suggest_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<suggest_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getChapter_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, suggest_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -5424,17 +19461,32 @@ public class Storage {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (Suggestion _iter76 : struct.success)
+            {
+              _iter76.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getChapter_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, suggest_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new Callback();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list77 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<Suggestion>(_list77.size);
+            Suggestion _elem78;
+            for (int _i79 = 0; _i79 < _list77.size; ++_i79)
+            {
+              _elem78 = new Suggestion();
+              _elem78.read(iprot);
+              struct.success.add(_elem78);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
       }
@@ -5445,25 +19497,19 @@ public class Storage {
     }
   }
 
-  public static class updateChapter_args implements org.apache.thrift.TBase<updateChapter_args, updateChapter_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateChapter_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateChapter_args");
+  public static class applyBatch_args implements org.apache.thrift.TBase<applyBatch_args, applyBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<applyBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("applyBatch_args");
 
-    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField CHAPTER_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterUid", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField CHAPTER_FIELD_DESC = new org.apache.thrift.protocol.TField("chapter", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField MUTATIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("mutations", org.apache.thrift.protocol.TType.LIST, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateChapter_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateChapter_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new applyBatch_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new applyBatch_argsTupleSchemeFactory();
 
-    public java.lang.String bookUid; // required
-    public java.lang.String chapterUid; // required
-    public Chapter chapter; // required
+    public java.util.List<Mutation> mutations; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BOOK_UID((short)1, "bookUid"),
-      CHAPTER_UID((short)2, "chapterUid"),
-      CHAPTER((short)3, "chapter");
+      MUTATIONS((short)1, "mutations");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -5478,12 +19524,8 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BOOK_UID
-            return BOOK_UID;
-          case 2: // CHAPTER_UID
-            return CHAPTER_UID;
-          case 3: // CHAPTER
-            return CHAPTER;
+          case 1: // MUTATIONS
+            return MUTATIONS;
           default:
             return null;
         }
@@ -5527,151 +19569,91 @@ public class Storage {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CHAPTER_UID, new org.apache.thrift.meta_data.FieldMetaData("chapterUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CHAPTER, new org.apache.thrift.meta_data.FieldMetaData("chapter", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Chapter.class)));
+      tmpMap.put(_Fields.MUTATIONS, new org.apache.thrift.meta_data.FieldMetaData("mutations", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Mutation.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateChapter_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(applyBatch_args.class, metaDataMap);
     }
 
-    public updateChapter_args() {
+    public applyBatch_args() {
     }
 
-    public updateChapter_args(
-      java.lang.String bookUid,
-      java.lang.String chapterUid,
-      Chapter chapter)
+    public applyBatch_args(
+      java.util.List<Mutation> mutations)
     {
       this();
-      this.bookUid = bookUid;
-      this.chapterUid = chapterUid;
-      this.chapter = chapter;
+      this.mutations = mutations;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateChapter_args(updateChapter_args other) {
-      if (other.isSetBookUid()) {
-        this.bookUid = other.bookUid;
-      }
-      if (other.isSetChapterUid()) {
-        this.chapterUid = other.chapterUid;
-      }
-      if (other.isSetChapter()) {
-        this.chapter = new Chapter(other.chapter);
+    public applyBatch_args(applyBatch_args other) {
+      if (other.isSetMutations()) {
+        java.util.List<Mutation> __this__mutations = new java.util.ArrayList<Mutation>(other.mutations.size());
+        for (Mutation other_element : other.mutations) {
+          __this__mutations.add(new Mutation(other_element));
+        }
+        this.mutations = __this__mutations;
       }
     }
 
-    public updateChapter_args deepCopy() {
-      return new updateChapter_args(this);
+    public applyBatch_args deepCopy() {
+      return new applyBatch_args(this);
     }
 
     @Override
     public void clear() {
-      this.bookUid = null;
-      this.chapterUid = null;
-      this.chapter = null;
-    }
-
-    public java.lang.String getBookUid() {
-      return this.bookUid;
-    }
-
-    public updateChapter_args setBookUid(java.lang.String bookUid) {
-      this.bookUid = bookUid;
-      return this;
-    }
-
-    public void unsetBookUid() {
-      this.bookUid = null;
-    }
-
-    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
-    public boolean isSetBookUid() {
-      return this.bookUid != null;
-    }
-
-    public void setBookUidIsSet(boolean value) {
-      if (!value) {
-        this.bookUid = null;
-      }
-    }
-
-    public java.lang.String getChapterUid() {
-      return this.chapterUid;
-    }
-
-    public updateChapter_args setChapterUid(java.lang.String chapterUid) {
-      this.chapterUid = chapterUid;
-      return this;
+      this.mutations = null;
     }
 
-    public void unsetChapterUid() {
-      this.chapterUid = null;
+    public int getMutationsSize() {
+      return (this.mutations == null) ? 0 : this.mutations.size();
     }
 
-    /** Returns true if field chapterUid is set (has been assigned a value) and false otherwise */
-    public boolean isSetChapterUid() {
-      return this.chapterUid != null;
+    public java.util.Iterator<Mutation> getMutationsIterator() {
+      return (this.mutations == null) ? null : this.mutations.iterator();
     }
 
-    public void setChapterUidIsSet(boolean value) {
-      if (!value) {
-        this.chapterUid = null;
+    public void addToMutations(Mutation elem) {
+      if (this.mutations == null) {
+        this.mutations = new java.util.ArrayList<Mutation>();
       }
+      this.mutations.add(elem);
     }
 
-    public Chapter getChapter() {
-      return this.chapter;
+    public java.util.List<Mutation> getMutations() {
+      return this.mutations;
     }
 
-    public updateChapter_args setChapter(Chapter chapter) {
-      this.chapter = chapter;
+    public applyBatch_args setMutations(java.util.List<Mutation> mutations) {
+      this.mutations = mutations;
       return this;
     }
 
-    public void unsetChapter() {
-      this.chapter = null;
+    public void unsetMutations() {
+      this.mutations = null;
     }
 
-    /** Returns true if field chapter is set (has been assigned a value) and false otherwise */
-    public boolean isSetChapter() {
-      return this.chapter != null;
+    /** Returns true if field mutations is set (has been assigned a value) and false otherwise */
+    public boolean isSetMutations() {
+      return this.mutations != null;
     }
 
-    public void setChapterIsSet(boolean value) {
+    public void setMutationsIsSet(boolean value) {
       if (!value) {
-        this.chapter = null;
+        this.mutations = null;
       }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case BOOK_UID:
-        if (value == null) {
-          unsetBookUid();
-        } else {
-          setBookUid((java.lang.String)value);
-        }
-        break;
-
-      case CHAPTER_UID:
-        if (value == null) {
-          unsetChapterUid();
-        } else {
-          setChapterUid((java.lang.String)value);
-        }
-        break;
-
-      case CHAPTER:
+      case MUTATIONS:
         if (value == null) {
-          unsetChapter();
+          unsetMutations();
         } else {
-          setChapter((Chapter)value);
+          setMutations((java.util.List<Mutation>)value);
         }
         break;
 
@@ -5680,14 +19662,8 @@ public class Storage {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case BOOK_UID:
-        return getBookUid();
-
-      case CHAPTER_UID:
-        return getChapterUid();
-
-      case CHAPTER:
-        return getChapter();
+      case MUTATIONS:
+        return getMutations();
 
       }
       throw new java.lang.IllegalStateException();
@@ -5700,12 +19676,8 @@ public class Storage {
       }
 
       switch (field) {
-      case BOOK_UID:
-        return isSetBookUid();
-      case CHAPTER_UID:
-        return isSetChapterUid();
-      case CHAPTER:
-        return isSetChapter();
+      case MUTATIONS:
+        return isSetMutations();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -5714,41 +19686,23 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateChapter_args)
-        return this.equals((updateChapter_args)that);
+      if (that instanceof applyBatch_args)
+        return this.equals((applyBatch_args)that);
       return false;
     }
 
-    public boolean equals(updateChapter_args that) {
+    public boolean equals(applyBatch_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_bookUid = true && this.isSetBookUid();
-      boolean that_present_bookUid = true && that.isSetBookUid();
-      if (this_present_bookUid || that_present_bookUid) {
-        if (!(this_present_bookUid && that_present_bookUid))
-          return false;
-        if (!this.bookUid.equals(that.bookUid))
-          return false;
-      }
-
-      boolean this_present_chapterUid = true && this.isSetChapterUid();
-      boolean that_present_chapterUid = true && that.isSetChapterUid();
-      if (this_present_chapterUid || that_present_chapterUid) {
-        if (!(this_present_chapterUid && that_present_chapterUid))
-          return false;
-        if (!this.chapterUid.equals(that.chapterUid))
-          return false;
-      }
-
-      boolean this_present_chapter = true && this.isSetChapter();
-      boolean that_present_chapter = true && that.isSetChapter();
-      if (this_present_chapter || that_present_chapter) {
-        if (!(this_present_chapter && that_present_chapter))
+      boolean this_present_mutations = true && this.isSetMutations();
+      boolean that_present_mutations = true && that.isSetMutations();
+      if (this_present_mutations || that_present_mutations) {
+        if (!(this_present_mutations && that_present_mutations))
           return false;
-        if (!this.chapter.equals(that.chapter))
+        if (!this.mutations.equals(that.mutations))
           return false;
       }
 
@@ -5759,55 +19713,27 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
-      if (isSetBookUid())
-        hashCode = hashCode * 8191 + bookUid.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetChapterUid()) ? 131071 : 524287);
-      if (isSetChapterUid())
-        hashCode = hashCode * 8191 + chapterUid.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetChapter()) ? 131071 : 524287);
-      if (isSetChapter())
-        hashCode = hashCode * 8191 + chapter.hashCode();
+      hashCode = hashCode * 8191 + ((isSetMutations()) ? 131071 : 524287);
+      if (isSetMutations())
+        hashCode = hashCode * 8191 + mutations.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(updateChapter_args other) {
+    public int compareTo(applyBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetBookUid()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetChapterUid()).compareTo(other.isSetChapterUid());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetChapterUid()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapterUid, other.chapterUid);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetChapter()).compareTo(other.isSetChapter());
+      lastComparison = java.lang.Boolean.valueOf(isSetMutations()).compareTo(other.isSetMutations());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetChapter()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapter, other.chapter);
+      if (isSetMutations()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.mutations, other.mutations);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5819,40 +19745,24 @@ public class Storage {
       return _Fields.findByThriftId(fieldId);
     }
 
-    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
-      scheme(iprot).read(iprot, this);
-    }
-
-    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
-      scheme(oprot).write(oprot, this);
-    }
-
-    @Override
-    public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateChapter_args(");
-      boolean first = true;
-
-      sb.append("bookUid:");
-      if (this.bookUid == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.bookUid);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("chapterUid:");
-      if (this.chapterUid == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.chapterUid);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("chapter:");
-      if (this.chapter == null) {
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("applyBatch_args(");
+      boolean first = true;
+
+      sb.append("mutations:");
+      if (this.mutations == null) {
         sb.append("null");
       } else {
-        sb.append(this.chapter);
+        sb.append(this.mutations);
       }
       first = false;
       sb.append(")");
@@ -5862,9 +19772,6 @@ public class Storage {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (chapter != null) {
-        chapter.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -5883,15 +19790,15 @@ public class Storage {
       }
     }
 
-    private static class updateChapter_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateChapter_argsStandardScheme getScheme() {
-        return new updateChapter_argsStandardScheme();
+    private static class applyBatch_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public applyBatch_argsStandardScheme getScheme() {
+        return new applyBatch_argsStandardScheme();
       }
     }
 
-    private static class updateChapter_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateChapter_args> {
+    private static class applyBatch_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<applyBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateChapter_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, applyBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5901,27 +19808,21 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BOOK_UID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.bookUid = iprot.readString();
-                struct.setBookUidIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // CHAPTER_UID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.chapterUid = iprot.readString();
-                struct.setChapterUidIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // CHAPTER
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.chapter = new Chapter();
-                struct.chapter.read(iprot);
-                struct.setChapterIsSet(true);
+            case 1: // MUTATIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list80 = iprot.readListBegin();
+                  struct.mutations = new java.util.ArrayList<Mutation>(_list80.size);
+                  Mutation _elem81;
+                  for (int _i82 = 0; _i82 < _list80.size; ++_i82)
+                  {
+                    _elem81 = new Mutation();
+                    _elem81.read(iprot);
+                    struct.mutations.add(_elem81);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setMutationsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5937,23 +19838,20 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateChapter_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, applyBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.bookUid != null) {
-          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
-          oprot.writeString(struct.bookUid);
-          oprot.writeFieldEnd();
-        }
-        if (struct.chapterUid != null) {
-          oprot.writeFieldBegin(CHAPTER_UID_FIELD_DESC);
-          oprot.writeString(struct.chapterUid);
-          oprot.writeFieldEnd();
-        }
-        if (struct.chapter != null) {
-          oprot.writeFieldBegin(CHAPTER_FIELD_DESC);
-          struct.chapter.write(oprot);
+        if (struct.mutations != null) {
+          oprot.writeFieldBegin(MUTATIONS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.mutations.size()));
+            for (Mutation _iter83 : struct.mutations)
+            {
+              _iter83.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -5962,55 +19860,50 @@ public class Storage {
 
     }
 
-    private static class updateChapter_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateChapter_argsTupleScheme getScheme() {
-        return new updateChapter_argsTupleScheme();
+    private static class applyBatch_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public applyBatch_argsTupleScheme getScheme() {
+        return new applyBatch_argsTupleScheme();
       }
     }
 
-    private static class updateChapter_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateChapter_args> {
+    private static class applyBatch_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<applyBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateChapter_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, applyBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetBookUid()) {
+        if (struct.isSetMutations()) {
           optionals.set(0);
         }
-        if (struct.isSetChapterUid()) {
-          optionals.set(1);
-        }
-        if (struct.isSetChapter()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetBookUid()) {
-          oprot.writeString(struct.bookUid);
-        }
-        if (struct.isSetChapterUid()) {
-          oprot.writeString(struct.chapterUid);
-        }
-        if (struct.isSetChapter()) {
-          struct.chapter.write(oprot);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetMutations()) {
+          {
+            oprot.writeI32(struct.mutations.size());
+            for (Mutation _iter84 : struct.mutations)
+            {
+              _iter84.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateChapter_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, applyBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(3);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.bookUid = iprot.readString();
-          struct.setBookUidIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.chapterUid = iprot.readString();
-          struct.setChapterUidIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.chapter = new Chapter();
-          struct.chapter.read(iprot);
-          struct.setChapterIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list85 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.mutations = new java.util.ArrayList<Mutation>(_list85.size);
+            Mutation _elem86;
+            for (int _i87 = 0; _i87 < _list85.size; ++_i87)
+            {
+              _elem86 = new Mutation();
+              _elem86.read(iprot);
+              struct.mutations.add(_elem86);
+            }
+          }
+          struct.setMutationsIsSet(true);
         }
       }
     }
@@ -6020,17 +19913,19 @@ public class Storage {
     }
   }
 
-  public static class updateChapter_result implements org.apache.thrift.TBase<updateChapter_result, updateChapter_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateChapter_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateChapter_result");
+  public static class applyBatch_result implements org.apache.thrift.TBase<applyBatch_result, applyBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<applyBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("applyBatch_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateChapter_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateChapter_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new applyBatch_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new applyBatch_resultTupleSchemeFactory();
 
+    public java.util.List<java.lang.String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -6045,6 +19940,8 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -6083,37 +19980,104 @@ public class Storage {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateChapter_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(applyBatch_result.class, metaDataMap);
     }
 
-    public updateChapter_result() {
+    public applyBatch_result() {
+    }
+
+    public applyBatch_result(
+      java.util.List<java.lang.String> success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateChapter_result(updateChapter_result other) {
+    public applyBatch_result(applyBatch_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
+        this.success = __this__success;
+      }
     }
 
-    public updateChapter_result deepCopy() {
-      return new updateChapter_result(this);
+    public applyBatch_result deepCopy() {
+      return new applyBatch_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<java.lang.String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(java.lang.String elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<java.lang.String>();
+      }
+      this.success.add(elem);
+    }
+
+    public java.util.List<java.lang.String> getSuccess() {
+      return this.success;
+    }
+
+    public applyBatch_result setSuccess(java.util.List<java.lang.String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<java.lang.String>)value);
+        }
+        break;
+
       }
     }
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -6125,6 +20089,8 @@ public class Storage {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -6133,17 +20099,26 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateChapter_result)
-        return this.equals((updateChapter_result)that);
+      if (that instanceof applyBatch_result)
+        return this.equals((applyBatch_result)that);
       return false;
     }
 
-    public boolean equals(updateChapter_result that) {
+    public boolean equals(applyBatch_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -6151,17 +20126,31 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(updateChapter_result other) {
+    public int compareTo(applyBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -6179,9 +20168,16 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateChapter_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("applyBatch_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -6207,15 +20203,15 @@ public class Storage {
       }
     }
 
-    private static class updateChapter_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateChapter_resultStandardScheme getScheme() {
-        return new updateChapter_resultStandardScheme();
+    private static class applyBatch_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public applyBatch_resultStandardScheme getScheme() {
+        return new applyBatch_resultStandardScheme();
       }
     }
 
-    private static class updateChapter_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateChapter_result> {
+    private static class applyBatch_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<applyBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateChapter_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, applyBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6225,6 +20221,24 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list88 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.String>(_list88.size);
+                  java.lang.String _elem89;
+                  for (int _i90 = 0; _i90 < _list88.size; ++_i90)
+                  {
+                    _elem89 = iprot.readString();
+                    struct.success.add(_elem89);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -6236,32 +20250,72 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateChapter_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, applyBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (java.lang.String _iter91 : struct.success)
+            {
+              oprot.writeString(_iter91);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class updateChapter_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateChapter_resultTupleScheme getScheme() {
-        return new updateChapter_resultTupleScheme();
+    private static class applyBatch_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public applyBatch_resultTupleScheme getScheme() {
+        return new applyBatch_resultTupleScheme();
       }
     }
 
-    private static class updateChapter_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateChapter_result> {
+    private static class applyBatch_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<applyBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateChapter_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, applyBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (java.lang.String _iter92 : struct.success)
+            {
+              oprot.writeString(_iter92);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateChapter_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, applyBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list93 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.String>(_list93.size);
+            java.lang.String _elem94;
+            for (int _i95 = 0; _i95 < _list93.size; ++_i95)
+            {
+              _elem94 = iprot.readString();
+              struct.success.add(_elem94);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -6270,19 +20324,28 @@ public class Storage {
     }
   }
 
-  public static class removeBook_args implements org.apache.thrift.TBase<removeBook_args, removeBook_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeBook_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeBook_args");
+  public static class patchChapter_args implements org.apache.thrift.TBase<patchChapter_args, patchChapter_args._Fields>, java.io.Serializable, Cloneable, Comparable<patchChapter_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("patchChapter_args");
 
     private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CHAPTER_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterUid", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField CHAPTER_FIELD_DESC = new org.apache.thrift.protocol.TField("chapter", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField FIELD_MASK_FIELD_DESC = new org.apache.thrift.protocol.TField("fieldMask", org.apache.thrift.protocol.TType.LIST, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeBook_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeBook_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new patchChapter_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new patchChapter_argsTupleSchemeFactory();
 
     public java.lang.String bookUid; // required
+    public java.lang.String chapterUid; // required
+    public Chapter chapter; // required
+    public java.util.List<java.lang.String> fieldMask; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BOOK_UID((short)1, "bookUid");
+      BOOK_UID((short)1, "bookUid"),
+      CHAPTER_UID((short)2, "chapterUid"),
+      CHAPTER((short)3, "chapter"),
+      FIELD_MASK((short)4, "fieldMask");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -6299,6 +20362,12 @@ public class Storage {
         switch(fieldId) {
           case 1: // BOOK_UID
             return BOOK_UID;
+          case 2: // CHAPTER_UID
+            return CHAPTER_UID;
+          case 3: // CHAPTER
+            return CHAPTER;
+          case 4: // FIELD_MASK
+            return FIELD_MASK;
           default:
             return null;
         }
@@ -6344,43 +20413,69 @@ public class Storage {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CHAPTER_UID, new org.apache.thrift.meta_data.FieldMetaData("chapterUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CHAPTER, new org.apache.thrift.meta_data.FieldMetaData("chapter", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Chapter.class)));
+      tmpMap.put(_Fields.FIELD_MASK, new org.apache.thrift.meta_data.FieldMetaData("fieldMask", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeBook_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(patchChapter_args.class, metaDataMap);
     }
 
-    public removeBook_args() {
+    public patchChapter_args() {
     }
 
-    public removeBook_args(
-      java.lang.String bookUid)
+    public patchChapter_args(
+      java.lang.String bookUid,
+      java.lang.String chapterUid,
+      Chapter chapter,
+      java.util.List<java.lang.String> fieldMask)
     {
       this();
       this.bookUid = bookUid;
+      this.chapterUid = chapterUid;
+      this.chapter = chapter;
+      this.fieldMask = fieldMask;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeBook_args(removeBook_args other) {
+    public patchChapter_args(patchChapter_args other) {
       if (other.isSetBookUid()) {
         this.bookUid = other.bookUid;
       }
+      if (other.isSetChapterUid()) {
+        this.chapterUid = other.chapterUid;
+      }
+      if (other.isSetChapter()) {
+        this.chapter = new Chapter(other.chapter);
+      }
+      if (other.isSetFieldMask()) {
+        java.util.List<java.lang.String> __this__fieldMask = new java.util.ArrayList<java.lang.String>(other.fieldMask);
+        this.fieldMask = __this__fieldMask;
+      }
     }
 
-    public removeBook_args deepCopy() {
-      return new removeBook_args(this);
+    public patchChapter_args deepCopy() {
+      return new patchChapter_args(this);
     }
 
     @Override
     public void clear() {
       this.bookUid = null;
+      this.chapterUid = null;
+      this.chapter = null;
+      this.fieldMask = null;
     }
 
     public java.lang.String getBookUid() {
       return this.bookUid;
     }
 
-    public removeBook_args setBookUid(java.lang.String bookUid) {
+    public patchChapter_args setBookUid(java.lang.String bookUid) {
       this.bookUid = bookUid;
       return this;
     }
@@ -6400,6 +20495,93 @@ public class Storage {
       }
     }
 
+    public java.lang.String getChapterUid() {
+      return this.chapterUid;
+    }
+
+    public patchChapter_args setChapterUid(java.lang.String chapterUid) {
+      this.chapterUid = chapterUid;
+      return this;
+    }
+
+    public void unsetChapterUid() {
+      this.chapterUid = null;
+    }
+
+    /** Returns true if field chapterUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetChapterUid() {
+      return this.chapterUid != null;
+    }
+
+    public void setChapterUidIsSet(boolean value) {
+      if (!value) {
+        this.chapterUid = null;
+      }
+    }
+
+    public Chapter getChapter() {
+      return this.chapter;
+    }
+
+    public patchChapter_args setChapter(Chapter chapter) {
+      this.chapter = chapter;
+      return this;
+    }
+
+    public void unsetChapter() {
+      this.chapter = null;
+    }
+
+    /** Returns true if field chapter is set (has been assigned a value) and false otherwise */
+    public boolean isSetChapter() {
+      return this.chapter != null;
+    }
+
+    public void setChapterIsSet(boolean value) {
+      if (!value) {
+        this.chapter = null;
+      }
+    }
+
+    public int getFieldMaskSize() {
+      return (this.fieldMask == null) ? 0 : this.fieldMask.size();
+    }
+
+    public java.util.Iterator<java.lang.String> getFieldMaskIterator() {
+      return (this.fieldMask == null) ? null : this.fieldMask.iterator();
+    }
+
+    public void addToFieldMask(java.lang.String elem) {
+      if (this.fieldMask == null) {
+        this.fieldMask = new java.util.ArrayList<java.lang.String>();
+      }
+      this.fieldMask.add(elem);
+    }
+
+    public java.util.List<java.lang.String> getFieldMask() {
+      return this.fieldMask;
+    }
+
+    public patchChapter_args setFieldMask(java.util.List<java.lang.String> fieldMask) {
+      this.fieldMask = fieldMask;
+      return this;
+    }
+
+    public void unsetFieldMask() {
+      this.fieldMask = null;
+    }
+
+    /** Returns true if field fieldMask is set (has been assigned a value) and false otherwise */
+    public boolean isSetFieldMask() {
+      return this.fieldMask != null;
+    }
+
+    public void setFieldMaskIsSet(boolean value) {
+      if (!value) {
+        this.fieldMask = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
       case BOOK_UID:
@@ -6410,6 +20592,30 @@ public class Storage {
         }
         break;
 
+      case CHAPTER_UID:
+        if (value == null) {
+          unsetChapterUid();
+        } else {
+          setChapterUid((java.lang.String)value);
+        }
+        break;
+
+      case CHAPTER:
+        if (value == null) {
+          unsetChapter();
+        } else {
+          setChapter((Chapter)value);
+        }
+        break;
+
+      case FIELD_MASK:
+        if (value == null) {
+          unsetFieldMask();
+        } else {
+          setFieldMask((java.util.List<java.lang.String>)value);
+        }
+        break;
+
       }
     }
 
@@ -6418,6 +20624,15 @@ public class Storage {
       case BOOK_UID:
         return getBookUid();
 
+      case CHAPTER_UID:
+        return getChapterUid();
+
+      case CHAPTER:
+        return getChapter();
+
+      case FIELD_MASK:
+        return getFieldMask();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -6431,6 +20646,12 @@ public class Storage {
       switch (field) {
       case BOOK_UID:
         return isSetBookUid();
+      case CHAPTER_UID:
+        return isSetChapterUid();
+      case CHAPTER:
+        return isSetChapter();
+      case FIELD_MASK:
+        return isSetFieldMask();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -6439,12 +20660,12 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeBook_args)
-        return this.equals((removeBook_args)that);
+      if (that instanceof patchChapter_args)
+        return this.equals((patchChapter_args)that);
       return false;
     }
 
-    public boolean equals(removeBook_args that) {
+    public boolean equals(patchChapter_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -6459,6 +20680,33 @@ public class Storage {
           return false;
       }
 
+      boolean this_present_chapterUid = true && this.isSetChapterUid();
+      boolean that_present_chapterUid = true && that.isSetChapterUid();
+      if (this_present_chapterUid || that_present_chapterUid) {
+        if (!(this_present_chapterUid && that_present_chapterUid))
+          return false;
+        if (!this.chapterUid.equals(that.chapterUid))
+          return false;
+      }
+
+      boolean this_present_chapter = true && this.isSetChapter();
+      boolean that_present_chapter = true && that.isSetChapter();
+      if (this_present_chapter || that_present_chapter) {
+        if (!(this_present_chapter && that_present_chapter))
+          return false;
+        if (!this.chapter.equals(that.chapter))
+          return false;
+      }
+
+      boolean this_present_fieldMask = true && this.isSetFieldMask();
+      boolean that_present_fieldMask = true && that.isSetFieldMask();
+      if (this_present_fieldMask || that_present_fieldMask) {
+        if (!(this_present_fieldMask && that_present_fieldMask))
+          return false;
+        if (!this.fieldMask.equals(that.fieldMask))
+          return false;
+      }
+
       return true;
     }
 
@@ -6470,11 +20718,23 @@ public class Storage {
       if (isSetBookUid())
         hashCode = hashCode * 8191 + bookUid.hashCode();
 
+      hashCode = hashCode * 8191 + ((isSetChapterUid()) ? 131071 : 524287);
+      if (isSetChapterUid())
+        hashCode = hashCode * 8191 + chapterUid.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetChapter()) ? 131071 : 524287);
+      if (isSetChapter())
+        hashCode = hashCode * 8191 + chapter.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetFieldMask()) ? 131071 : 524287);
+      if (isSetFieldMask())
+        hashCode = hashCode * 8191 + fieldMask.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(removeBook_args other) {
+    public int compareTo(patchChapter_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6491,6 +20751,36 @@ public class Storage {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetChapterUid()).compareTo(other.isSetChapterUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChapterUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapterUid, other.chapterUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetChapter()).compareTo(other.isSetChapter());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChapter()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapter, other.chapter);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetFieldMask()).compareTo(other.isSetFieldMask());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFieldMask()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fieldMask, other.fieldMask);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -6508,7 +20798,7 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeBook_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("patchChapter_args(");
       boolean first = true;
 
       sb.append("bookUid:");
@@ -6518,6 +20808,30 @@ public class Storage {
         sb.append(this.bookUid);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("chapterUid:");
+      if (this.chapterUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.chapterUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("chapter:");
+      if (this.chapter == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.chapter);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("fieldMask:");
+      if (this.fieldMask == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.fieldMask);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -6525,6 +20839,9 @@ public class Storage {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (chapter != null) {
+        chapter.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -6543,15 +20860,15 @@ public class Storage {
       }
     }
 
-    private static class removeBook_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeBook_argsStandardScheme getScheme() {
-        return new removeBook_argsStandardScheme();
+    private static class patchChapter_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public patchChapter_argsStandardScheme getScheme() {
+        return new patchChapter_argsStandardScheme();
       }
     }
 
-    private static class removeBook_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeBook_args> {
+    private static class patchChapter_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<patchChapter_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeBook_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, patchChapter_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6569,6 +20886,41 @@ public class Storage {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // CHAPTER_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.chapterUid = iprot.readString();
+                struct.setChapterUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // CHAPTER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.chapter = new Chapter();
+                struct.chapter.read(iprot);
+                struct.setChapterIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // FIELD_MASK
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list96 = iprot.readListBegin();
+                  struct.fieldMask = new java.util.ArrayList<java.lang.String>(_list96.size);
+                  java.lang.String _elem97;
+                  for (int _i98 = 0; _i98 < _list96.size; ++_i98)
+                  {
+                    _elem97 = iprot.readString();
+                    struct.fieldMask.add(_elem97);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setFieldMaskIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -6580,7 +20932,7 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeBook_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, patchChapter_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6589,41 +20941,109 @@ public class Storage {
           oprot.writeString(struct.bookUid);
           oprot.writeFieldEnd();
         }
+        if (struct.chapterUid != null) {
+          oprot.writeFieldBegin(CHAPTER_UID_FIELD_DESC);
+          oprot.writeString(struct.chapterUid);
+          oprot.writeFieldEnd();
+        }
+        if (struct.chapter != null) {
+          oprot.writeFieldBegin(CHAPTER_FIELD_DESC);
+          struct.chapter.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.fieldMask != null) {
+          oprot.writeFieldBegin(FIELD_MASK_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.fieldMask.size()));
+            for (java.lang.String _iter99 : struct.fieldMask)
+            {
+              oprot.writeString(_iter99);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class removeBook_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeBook_argsTupleScheme getScheme() {
-        return new removeBook_argsTupleScheme();
+    private static class patchChapter_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public patchChapter_argsTupleScheme getScheme() {
+        return new patchChapter_argsTupleScheme();
       }
     }
 
-    private static class removeBook_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeBook_args> {
+    private static class patchChapter_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<patchChapter_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeBook_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, patchChapter_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetBookUid()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetChapterUid()) {
+          optionals.set(1);
+        }
+        if (struct.isSetChapter()) {
+          optionals.set(2);
+        }
+        if (struct.isSetFieldMask()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
         if (struct.isSetBookUid()) {
           oprot.writeString(struct.bookUid);
         }
+        if (struct.isSetChapterUid()) {
+          oprot.writeString(struct.chapterUid);
+        }
+        if (struct.isSetChapter()) {
+          struct.chapter.write(oprot);
+        }
+        if (struct.isSetFieldMask()) {
+          {
+            oprot.writeI32(struct.fieldMask.size());
+            for (java.lang.String _iter100 : struct.fieldMask)
+            {
+              oprot.writeString(_iter100);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeBook_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, patchChapter_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
           struct.bookUid = iprot.readString();
           struct.setBookUidIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.chapterUid = iprot.readString();
+          struct.setChapterUidIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.chapter = new Chapter();
+          struct.chapter.read(iprot);
+          struct.setChapterIsSet(true);
+        }
+        if (incoming.get(3)) {
+          {
+            org.apache.thrift.protocol.TList _list101 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.fieldMask = new java.util.ArrayList<java.lang.String>(_list101.size);
+            java.lang.String _elem102;
+            for (int _i103 = 0; _i103 < _list101.size; ++_i103)
+            {
+              _elem102 = iprot.readString();
+              struct.fieldMask.add(_elem102);
+            }
+          }
+          struct.setFieldMaskIsSet(true);
+        }
       }
     }
 
@@ -6632,12 +21052,12 @@ public class Storage {
     }
   }
 
-  public static class removeBook_result implements org.apache.thrift.TBase<removeBook_result, removeBook_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeBook_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeBook_result");
+  public static class patchChapter_result implements org.apache.thrift.TBase<patchChapter_result, patchChapter_result._Fields>, java.io.Serializable, Cloneable, Comparable<patchChapter_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("patchChapter_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeBook_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeBook_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new patchChapter_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new patchChapter_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -6699,20 +21119,20 @@ public class Storage {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeBook_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(patchChapter_result.class, metaDataMap);
     }
 
-    public removeBook_result() {
+    public patchChapter_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeBook_result(removeBook_result other) {
+    public patchChapter_result(patchChapter_result other) {
     }
 
-    public removeBook_result deepCopy() {
-      return new removeBook_result(this);
+    public patchChapter_result deepCopy() {
+      return new patchChapter_result(this);
     }
 
     @Override
@@ -6745,12 +21165,12 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeBook_result)
-        return this.equals((removeBook_result)that);
+      if (that instanceof patchChapter_result)
+        return this.equals((patchChapter_result)that);
       return false;
     }
 
-    public boolean equals(removeBook_result that) {
+    public boolean equals(patchChapter_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -6767,7 +21187,7 @@ public class Storage {
     }
 
     @Override
-    public int compareTo(removeBook_result other) {
+    public int compareTo(patchChapter_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6791,7 +21211,7 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeBook_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("patchChapter_result(");
       boolean first = true;
 
       sb.append(")");
@@ -6819,15 +21239,15 @@ public class Storage {
       }
     }
 
-    private static class removeBook_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeBook_resultStandardScheme getScheme() {
-        return new removeBook_resultStandardScheme();
+    private static class patchChapter_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public patchChapter_resultStandardScheme getScheme() {
+        return new patchChapter_resultStandardScheme();
       }
     }
 
-    private static class removeBook_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeBook_result> {
+    private static class patchChapter_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<patchChapter_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeBook_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, patchChapter_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6848,7 +21268,7 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeBook_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, patchChapter_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6858,21 +21278,21 @@ public class Storage {
 
     }
 
-    private static class removeBook_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeBook_resultTupleScheme getScheme() {
-        return new removeBook_resultTupleScheme();
+    private static class patchChapter_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public patchChapter_resultTupleScheme getScheme() {
+        return new patchChapter_resultTupleScheme();
       }
     }
 
-    private static class removeBook_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeBook_result> {
+    private static class patchChapter_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<patchChapter_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeBook_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, patchChapter_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeBook_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, patchChapter_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -6882,14 +21302,14 @@ public class Storage {
     }
   }
 
-  public static class removeChapter_args implements org.apache.thrift.TBase<removeChapter_args, removeChapter_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeChapter_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeChapter_args");
+  public static class getChapterText_args implements org.apache.thrift.TBase<getChapterText_args, getChapterText_args._Fields>, java.io.Serializable, Cloneable, Comparable<getChapterText_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChapterText_args");
 
     private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField CHAPTER_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterUid", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeChapter_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeChapter_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChapterText_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChapterText_argsTupleSchemeFactory();
 
     public java.lang.String bookUid; // required
     public java.lang.String chapterUid; // required
@@ -6964,13 +21384,13 @@ public class Storage {
       tmpMap.put(_Fields.CHAPTER_UID, new org.apache.thrift.meta_data.FieldMetaData("chapterUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeChapter_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChapterText_args.class, metaDataMap);
     }
 
-    public removeChapter_args() {
+    public getChapterText_args() {
     }
 
-    public removeChapter_args(
+    public getChapterText_args(
       java.lang.String bookUid,
       java.lang.String chapterUid)
     {
@@ -6982,7 +21402,7 @@ public class Storage {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeChapter_args(removeChapter_args other) {
+    public getChapterText_args(getChapterText_args other) {
       if (other.isSetBookUid()) {
         this.bookUid = other.bookUid;
       }
@@ -6991,8 +21411,8 @@ public class Storage {
       }
     }
 
-    public removeChapter_args deepCopy() {
-      return new removeChapter_args(this);
+    public getChapterText_args deepCopy() {
+      return new getChapterText_args(this);
     }
 
     @Override
@@ -7005,7 +21425,7 @@ public class Storage {
       return this.bookUid;
     }
 
-    public removeChapter_args setBookUid(java.lang.String bookUid) {
+    public getChapterText_args setBookUid(java.lang.String bookUid) {
       this.bookUid = bookUid;
       return this;
     }
@@ -7029,7 +21449,7 @@ public class Storage {
       return this.chapterUid;
     }
 
-    public removeChapter_args setChapterUid(java.lang.String chapterUid) {
+    public getChapterText_args setChapterUid(java.lang.String chapterUid) {
       this.chapterUid = chapterUid;
       return this;
     }
@@ -7101,12 +21521,12 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeChapter_args)
-        return this.equals((removeChapter_args)that);
+      if (that instanceof getChapterText_args)
+        return this.equals((getChapterText_args)that);
       return false;
     }
 
-    public boolean equals(removeChapter_args that) {
+    public boolean equals(getChapterText_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -7149,7 +21569,7 @@ public class Storage {
     }
 
     @Override
-    public int compareTo(removeChapter_args other) {
+    public int compareTo(getChapterText_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7193,7 +21613,7 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeChapter_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChapterText_args(");
       boolean first = true;
 
       sb.append("bookUid:");
@@ -7236,15 +21656,15 @@ public class Storage {
       }
     }
 
-    private static class removeChapter_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeChapter_argsStandardScheme getScheme() {
-        return new removeChapter_argsStandardScheme();
+    private static class getChapterText_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapterText_argsStandardScheme getScheme() {
+        return new getChapterText_argsStandardScheme();
       }
     }
 
-    private static class removeChapter_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeChapter_args> {
+    private static class getChapterText_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChapterText_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeChapter_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChapterText_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7281,7 +21701,7 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeChapter_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChapterText_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7301,16 +21721,16 @@ public class Storage {
 
     }
 
-    private static class removeChapter_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeChapter_argsTupleScheme getScheme() {
-        return new removeChapter_argsTupleScheme();
+    private static class getChapterText_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapterText_argsTupleScheme getScheme() {
+        return new getChapterText_argsTupleScheme();
       }
     }
 
-    private static class removeChapter_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeChapter_args> {
+    private static class getChapterText_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChapterText_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeChapter_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChapterText_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetBookUid()) {
@@ -7329,7 +21749,7 @@ public class Storage {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeChapter_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChapterText_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -7348,17 +21768,19 @@ public class Storage {
     }
   }
 
-  public static class removeChapter_result implements org.apache.thrift.TBase<removeChapter_result, removeChapter_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeChapter_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeChapter_result");
+  public static class getChapterText_result implements org.apache.thrift.TBase<getChapterText_result, getChapterText_result._Fields>, java.io.Serializable, Cloneable, Comparable<getChapterText_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChapterText_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeChapter_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeChapter_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChapterText_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChapterText_resultTupleSchemeFactory();
 
+    public ChapterText success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -7373,6 +21795,8 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -7411,37 +21835,87 @@ public class Storage {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChapterText.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeChapter_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChapterText_result.class, metaDataMap);
     }
 
-    public removeChapter_result() {
+    public getChapterText_result() {
+    }
+
+    public getChapterText_result(
+      ChapterText success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeChapter_result(removeChapter_result other) {
+    public getChapterText_result(getChapterText_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ChapterText(other.success);
+      }
     }
 
-    public removeChapter_result deepCopy() {
-      return new removeChapter_result(this);
+    public getChapterText_result deepCopy() {
+      return new getChapterText_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public ChapterText getSuccess() {
+      return this.success;
+    }
+
+    public getChapterText_result setSuccess(ChapterText success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ChapterText)value);
+        }
+        break;
+
       }
     }
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7453,6 +21927,8 @@ public class Storage {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7461,17 +21937,26 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeChapter_result)
-        return this.equals((removeChapter_result)that);
+      if (that instanceof getChapterText_result)
+        return this.equals((getChapterText_result)that);
       return false;
     }
 
-    public boolean equals(removeChapter_result that) {
+    public boolean equals(getChapterText_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -7479,17 +21964,31 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(removeChapter_result other) {
+    public int compareTo(getChapterText_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -7507,9 +22006,16 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeChapter_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChapterText_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -7517,6 +22023,9 @@ public class Storage {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -7535,15 +22044,15 @@ public class Storage {
       }
     }
 
-    private static class removeChapter_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeChapter_resultStandardScheme getScheme() {
-        return new removeChapter_resultStandardScheme();
+    private static class getChapterText_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapterText_resultStandardScheme getScheme() {
+        return new getChapterText_resultStandardScheme();
       }
     }
 
-    private static class removeChapter_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeChapter_result> {
+    private static class getChapterText_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChapterText_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeChapter_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChapterText_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7553,6 +22062,15 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ChapterText();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -7564,32 +22082,51 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeChapter_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChapterText_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class removeChapter_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeChapter_resultTupleScheme getScheme() {
-        return new removeChapter_resultTupleScheme();
+    private static class getChapterText_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapterText_resultTupleScheme getScheme() {
+        return new getChapterText_resultTupleScheme();
       }
     }
 
-    private static class removeChapter_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeChapter_result> {
+    private static class getChapterText_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChapterText_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeChapter_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChapterText_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeChapter_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChapterText_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new ChapterText();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -7598,19 +22135,28 @@ public class Storage {
     }
   }
 
-  public static class addBook_args implements org.apache.thrift.TBase<addBook_args, addBook_args._Fields>, java.io.Serializable, Cloneable, Comparable<addBook_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addBook_args");
+  public static class editChapterText_args implements org.apache.thrift.TBase<editChapterText_args, editChapterText_args._Fields>, java.io.Serializable, Cloneable, Comparable<editChapterText_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("editChapterText_args");
 
-    private static final org.apache.thrift.protocol.TField BOOK_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("bookName", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CHAPTER_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterUid", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField BASE_VERSION_FIELD_DESC = new org.apache.thrift.protocol.TField("baseVersion", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField EDITS_FIELD_DESC = new org.apache.thrift.protocol.TField("edits", org.apache.thrift.protocol.TType.LIST, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addBook_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addBook_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new editChapterText_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new editChapterText_argsTupleSchemeFactory();
 
-    public java.lang.String bookName; // required
+    public java.lang.String bookUid; // required
+    public java.lang.String chapterUid; // required
+    public long baseVersion; // required
+    public java.util.List<TextEdit> edits; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BOOK_NAME((short)1, "bookName");
+      BOOK_UID((short)1, "bookUid"),
+      CHAPTER_UID((short)2, "chapterUid"),
+      BASE_VERSION((short)3, "baseVersion"),
+      EDITS((short)4, "edits");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -7625,8 +22171,14 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BOOK_NAME
-            return BOOK_NAME;
+          case 1: // BOOK_UID
+            return BOOK_UID;
+          case 2: // CHAPTER_UID
+            return CHAPTER_UID;
+          case 3: // BASE_VERSION
+            return BASE_VERSION;
+          case 4: // EDITS
+            return EDITS;
           default:
             return null;
         }
@@ -7667,74 +22219,216 @@ public class Storage {
     }
 
     // isset id assignments
+    private static final int __BASEVERSION_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.BOOK_NAME, new org.apache.thrift.meta_data.FieldMetaData("bookName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CHAPTER_UID, new org.apache.thrift.meta_data.FieldMetaData("chapterUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.BASE_VERSION, new org.apache.thrift.meta_data.FieldMetaData("baseVersion", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.EDITS, new org.apache.thrift.meta_data.FieldMetaData("edits", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TextEdit.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addBook_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(editChapterText_args.class, metaDataMap);
     }
 
-    public addBook_args() {
+    public editChapterText_args() {
     }
 
-    public addBook_args(
-      java.lang.String bookName)
+    public editChapterText_args(
+      java.lang.String bookUid,
+      java.lang.String chapterUid,
+      long baseVersion,
+      java.util.List<TextEdit> edits)
     {
       this();
-      this.bookName = bookName;
+      this.bookUid = bookUid;
+      this.chapterUid = chapterUid;
+      this.baseVersion = baseVersion;
+      setBaseVersionIsSet(true);
+      this.edits = edits;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addBook_args(addBook_args other) {
-      if (other.isSetBookName()) {
-        this.bookName = other.bookName;
+    public editChapterText_args(editChapterText_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetBookUid()) {
+        this.bookUid = other.bookUid;
+      }
+      if (other.isSetChapterUid()) {
+        this.chapterUid = other.chapterUid;
+      }
+      this.baseVersion = other.baseVersion;
+      if (other.isSetEdits()) {
+        java.util.List<TextEdit> __this__edits = new java.util.ArrayList<TextEdit>(other.edits.size());
+        for (TextEdit other_element : other.edits) {
+          __this__edits.add(new TextEdit(other_element));
+        }
+        this.edits = __this__edits;
       }
     }
 
-    public addBook_args deepCopy() {
-      return new addBook_args(this);
+    public editChapterText_args deepCopy() {
+      return new editChapterText_args(this);
     }
 
     @Override
     public void clear() {
-      this.bookName = null;
+      this.bookUid = null;
+      this.chapterUid = null;
+      setBaseVersionIsSet(false);
+      this.baseVersion = 0;
+      this.edits = null;
     }
 
-    public java.lang.String getBookName() {
-      return this.bookName;
+    public java.lang.String getBookUid() {
+      return this.bookUid;
     }
 
-    public addBook_args setBookName(java.lang.String bookName) {
-      this.bookName = bookName;
+    public editChapterText_args setBookUid(java.lang.String bookUid) {
+      this.bookUid = bookUid;
       return this;
     }
 
-    public void unsetBookName() {
-      this.bookName = null;
+    public void unsetBookUid() {
+      this.bookUid = null;
     }
 
-    /** Returns true if field bookName is set (has been assigned a value) and false otherwise */
-    public boolean isSetBookName() {
-      return this.bookName != null;
+    /** Returns true if field bookUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetBookUid() {
+      return this.bookUid != null;
     }
 
-    public void setBookNameIsSet(boolean value) {
+    public void setBookUidIsSet(boolean value) {
       if (!value) {
-        this.bookName = null;
+        this.bookUid = null;
+      }
+    }
+
+    public java.lang.String getChapterUid() {
+      return this.chapterUid;
+    }
+
+    public editChapterText_args setChapterUid(java.lang.String chapterUid) {
+      this.chapterUid = chapterUid;
+      return this;
+    }
+
+    public void unsetChapterUid() {
+      this.chapterUid = null;
+    }
+
+    /** Returns true if field chapterUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetChapterUid() {
+      return this.chapterUid != null;
+    }
+
+    public void setChapterUidIsSet(boolean value) {
+      if (!value) {
+        this.chapterUid = null;
+      }
+    }
+
+    public long getBaseVersion() {
+      return this.baseVersion;
+    }
+
+    public editChapterText_args setBaseVersion(long baseVersion) {
+      this.baseVersion = baseVersion;
+      setBaseVersionIsSet(true);
+      return this;
+    }
+
+    public void unsetBaseVersion() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __BASEVERSION_ISSET_ID);
+    }
+
+    /** Returns true if field baseVersion is set (has been assigned a value) and false otherwise */
+    public boolean isSetBaseVersion() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __BASEVERSION_ISSET_ID);
+    }
+
+    public void setBaseVersionIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __BASEVERSION_ISSET_ID, value);
+    }
+
+    public int getEditsSize() {
+      return (this.edits == null) ? 0 : this.edits.size();
+    }
+
+    public java.util.Iterator<TextEdit> getEditsIterator() {
+      return (this.edits == null) ? null : this.edits.iterator();
+    }
+
+    public void addToEdits(TextEdit elem) {
+      if (this.edits == null) {
+        this.edits = new java.util.ArrayList<TextEdit>();
+      }
+      this.edits.add(elem);
+    }
+
+    public java.util.List<TextEdit> getEdits() {
+      return this.edits;
+    }
+
+    public editChapterText_args setEdits(java.util.List<TextEdit> edits) {
+      this.edits = edits;
+      return this;
+    }
+
+    public void unsetEdits() {
+      this.edits = null;
+    }
+
+    /** Returns true if field edits is set (has been assigned a value) and false otherwise */
+    public boolean isSetEdits() {
+      return this.edits != null;
+    }
+
+    public void setEditsIsSet(boolean value) {
+      if (!value) {
+        this.edits = null;
       }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case BOOK_NAME:
+      case BOOK_UID:
         if (value == null) {
-          unsetBookName();
+          unsetBookUid();
         } else {
-          setBookName((java.lang.String)value);
+          setBookUid((java.lang.String)value);
+        }
+        break;
+
+      case CHAPTER_UID:
+        if (value == null) {
+          unsetChapterUid();
+        } else {
+          setChapterUid((java.lang.String)value);
+        }
+        break;
+
+      case BASE_VERSION:
+        if (value == null) {
+          unsetBaseVersion();
+        } else {
+          setBaseVersion((java.lang.Long)value);
+        }
+        break;
+
+      case EDITS:
+        if (value == null) {
+          unsetEdits();
+        } else {
+          setEdits((java.util.List<TextEdit>)value);
         }
         break;
 
@@ -7743,8 +22437,17 @@ public class Storage {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case BOOK_NAME:
-        return getBookName();
+      case BOOK_UID:
+        return getBookUid();
+
+      case CHAPTER_UID:
+        return getChapterUid();
+
+      case BASE_VERSION:
+        return getBaseVersion();
+
+      case EDITS:
+        return getEdits();
 
       }
       throw new java.lang.IllegalStateException();
@@ -7757,8 +22460,14 @@ public class Storage {
       }
 
       switch (field) {
-      case BOOK_NAME:
-        return isSetBookName();
+      case BOOK_UID:
+        return isSetBookUid();
+      case CHAPTER_UID:
+        return isSetChapterUid();
+      case BASE_VERSION:
+        return isSetBaseVersion();
+      case EDITS:
+        return isSetEdits();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7767,23 +22476,50 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof addBook_args)
-        return this.equals((addBook_args)that);
+      if (that instanceof editChapterText_args)
+        return this.equals((editChapterText_args)that);
       return false;
     }
 
-    public boolean equals(addBook_args that) {
+    public boolean equals(editChapterText_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_bookName = true && this.isSetBookName();
-      boolean that_present_bookName = true && that.isSetBookName();
-      if (this_present_bookName || that_present_bookName) {
-        if (!(this_present_bookName && that_present_bookName))
+      boolean this_present_bookUid = true && this.isSetBookUid();
+      boolean that_present_bookUid = true && that.isSetBookUid();
+      if (this_present_bookUid || that_present_bookUid) {
+        if (!(this_present_bookUid && that_present_bookUid))
           return false;
-        if (!this.bookName.equals(that.bookName))
+        if (!this.bookUid.equals(that.bookUid))
+          return false;
+      }
+
+      boolean this_present_chapterUid = true && this.isSetChapterUid();
+      boolean that_present_chapterUid = true && that.isSetChapterUid();
+      if (this_present_chapterUid || that_present_chapterUid) {
+        if (!(this_present_chapterUid && that_present_chapterUid))
+          return false;
+        if (!this.chapterUid.equals(that.chapterUid))
+          return false;
+      }
+
+      boolean this_present_baseVersion = true;
+      boolean that_present_baseVersion = true;
+      if (this_present_baseVersion || that_present_baseVersion) {
+        if (!(this_present_baseVersion && that_present_baseVersion))
+          return false;
+        if (this.baseVersion != that.baseVersion)
+          return false;
+      }
+
+      boolean this_present_edits = true && this.isSetEdits();
+      boolean that_present_edits = true && that.isSetEdits();
+      if (this_present_edits || that_present_edits) {
+        if (!(this_present_edits && that_present_edits))
+          return false;
+        if (!this.edits.equals(that.edits))
           return false;
       }
 
@@ -7794,27 +22530,67 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetBookName()) ? 131071 : 524287);
-      if (isSetBookName())
-        hashCode = hashCode * 8191 + bookName.hashCode();
+      hashCode = hashCode * 8191 + ((isSetBookUid()) ? 131071 : 524287);
+      if (isSetBookUid())
+        hashCode = hashCode * 8191 + bookUid.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetChapterUid()) ? 131071 : 524287);
+      if (isSetChapterUid())
+        hashCode = hashCode * 8191 + chapterUid.hashCode();
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(baseVersion);
+
+      hashCode = hashCode * 8191 + ((isSetEdits()) ? 131071 : 524287);
+      if (isSetEdits())
+        hashCode = hashCode * 8191 + edits.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(addBook_args other) {
+    public int compareTo(editChapterText_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetBookName()).compareTo(other.isSetBookName());
+      lastComparison = java.lang.Boolean.valueOf(isSetBookUid()).compareTo(other.isSetBookUid());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBookName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookName, other.bookName);
+      if (isSetBookUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.bookUid, other.bookUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetChapterUid()).compareTo(other.isSetChapterUid());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChapterUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapterUid, other.chapterUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetBaseVersion()).compareTo(other.isSetBaseVersion());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBaseVersion()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.baseVersion, other.baseVersion);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEdits()).compareTo(other.isSetEdits());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEdits()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.edits, other.edits);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7836,14 +22612,34 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("addBook_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("editChapterText_args(");
       boolean first = true;
 
-      sb.append("bookName:");
-      if (this.bookName == null) {
+      sb.append("bookUid:");
+      if (this.bookUid == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.bookUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("chapterUid:");
+      if (this.chapterUid == null) {
         sb.append("null");
       } else {
-        sb.append(this.bookName);
+        sb.append(this.chapterUid);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("baseVersion:");
+      sb.append(this.baseVersion);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("edits:");
+      if (this.edits == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.edits);
       }
       first = false;
       sb.append(")");
@@ -7865,21 +22661,23 @@ public class Storage {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class addBook_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addBook_argsStandardScheme getScheme() {
-        return new addBook_argsStandardScheme();
+    private static class editChapterText_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public editChapterText_argsStandardScheme getScheme() {
+        return new editChapterText_argsStandardScheme();
       }
     }
 
-    private static class addBook_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<addBook_args> {
+    private static class editChapterText_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<editChapterText_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addBook_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, editChapterText_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7889,10 +22687,45 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BOOK_NAME
+            case 1: // BOOK_UID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.bookName = iprot.readString();
-                struct.setBookNameIsSet(true);
+                struct.bookUid = iprot.readString();
+                struct.setBookUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CHAPTER_UID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.chapterUid = iprot.readString();
+                struct.setChapterUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // BASE_VERSION
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.baseVersion = iprot.readI64();
+                struct.setBaseVersionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // EDITS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list104 = iprot.readListBegin();
+                  struct.edits = new java.util.ArrayList<TextEdit>(_list104.size);
+                  TextEdit _elem105;
+                  for (int _i106 = 0; _i106 < _list104.size; ++_i106)
+                  {
+                    _elem105 = new TextEdit();
+                    _elem105.read(iprot);
+                    struct.edits.add(_elem105);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setEditsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -7908,13 +22741,33 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addBook_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, editChapterText_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.bookName != null) {
-          oprot.writeFieldBegin(BOOK_NAME_FIELD_DESC);
-          oprot.writeString(struct.bookName);
+        if (struct.bookUid != null) {
+          oprot.writeFieldBegin(BOOK_UID_FIELD_DESC);
+          oprot.writeString(struct.bookUid);
+          oprot.writeFieldEnd();
+        }
+        if (struct.chapterUid != null) {
+          oprot.writeFieldBegin(CHAPTER_UID_FIELD_DESC);
+          oprot.writeString(struct.chapterUid);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(BASE_VERSION_FIELD_DESC);
+        oprot.writeI64(struct.baseVersion);
+        oprot.writeFieldEnd();
+        if (struct.edits != null) {
+          oprot.writeFieldBegin(EDITS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.edits.size()));
+            for (TextEdit _iter107 : struct.edits)
+            {
+              _iter107.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -7923,34 +22776,80 @@ public class Storage {
 
     }
 
-    private static class addBook_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addBook_argsTupleScheme getScheme() {
-        return new addBook_argsTupleScheme();
+    private static class editChapterText_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public editChapterText_argsTupleScheme getScheme() {
+        return new editChapterText_argsTupleScheme();
       }
     }
 
-    private static class addBook_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<addBook_args> {
+    private static class editChapterText_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<editChapterText_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addBook_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, editChapterText_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetBookName()) {
+        if (struct.isSetBookUid()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetBookName()) {
-          oprot.writeString(struct.bookName);
+        if (struct.isSetChapterUid()) {
+          optionals.set(1);
+        }
+        if (struct.isSetBaseVersion()) {
+          optionals.set(2);
+        }
+        if (struct.isSetEdits()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetBookUid()) {
+          oprot.writeString(struct.bookUid);
+        }
+        if (struct.isSetChapterUid()) {
+          oprot.writeString(struct.chapterUid);
+        }
+        if (struct.isSetBaseVersion()) {
+          oprot.writeI64(struct.baseVersion);
+        }
+        if (struct.isSetEdits()) {
+          {
+            oprot.writeI32(struct.edits.size());
+            for (TextEdit _iter108 : struct.edits)
+            {
+              _iter108.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addBook_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, editChapterText_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
-          struct.bookName = iprot.readString();
-          struct.setBookNameIsSet(true);
+          struct.bookUid = iprot.readString();
+          struct.setBookUidIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.chapterUid = iprot.readString();
+          struct.setChapterUidIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.baseVersion = iprot.readI64();
+          struct.setBaseVersionIsSet(true);
+        }
+        if (incoming.get(3)) {
+          {
+            org.apache.thrift.protocol.TList _list109 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.edits = new java.util.ArrayList<TextEdit>(_list109.size);
+            TextEdit _elem110;
+            for (int _i111 = 0; _i111 < _list109.size; ++_i111)
+            {
+              _elem110 = new TextEdit();
+              _elem110.read(iprot);
+              struct.edits.add(_elem110);
+            }
+          }
+          struct.setEditsIsSet(true);
         }
       }
     }
@@ -7960,17 +22859,22 @@ public class Storage {
     }
   }
 
-  public static class addBook_result implements org.apache.thrift.TBase<addBook_result, addBook_result._Fields>, java.io.Serializable, Cloneable, Comparable<addBook_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addBook_result");
+  public static class editChapterText_result implements org.apache.thrift.TBase<editChapterText_result, editChapterText_result._Fields>, java.io.Serializable, Cloneable, Comparable<editChapterText_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("editChapterText_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField CONFLICT_FIELD_DESC = new org.apache.thrift.protocol.TField("conflict", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addBook_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addBook_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new editChapterText_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new editChapterText_resultTupleSchemeFactory();
 
+    public long success; // required
+    public VersionConflict conflict; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success"),
+      CONFLICT((short)1, "conflict");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -7985,6 +22889,10 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // CONFLICT
+            return CONFLICT;
           default:
             return null;
         }
@@ -8023,37 +22931,132 @@ public class Storage {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.CONFLICT, new org.apache.thrift.meta_data.FieldMetaData("conflict", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, VersionConflict.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addBook_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(editChapterText_result.class, metaDataMap);
     }
 
-    public addBook_result() {
+    public editChapterText_result() {
+    }
+
+    public editChapterText_result(
+      long success,
+      VersionConflict conflict)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.conflict = conflict;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addBook_result(addBook_result other) {
+    public editChapterText_result(editChapterText_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetConflict()) {
+        this.conflict = new VersionConflict(other.conflict);
+      }
     }
 
-    public addBook_result deepCopy() {
-      return new addBook_result(this);
+    public editChapterText_result deepCopy() {
+      return new editChapterText_result(this);
     }
 
     @Override
     public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+      this.conflict = null;
+    }
+
+    public long getSuccess() {
+      return this.success;
+    }
+
+    public editChapterText_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public VersionConflict getConflict() {
+      return this.conflict;
+    }
+
+    public editChapterText_result setConflict(VersionConflict conflict) {
+      this.conflict = conflict;
+      return this;
+    }
+
+    public void unsetConflict() {
+      this.conflict = null;
+    }
+
+    /** Returns true if field conflict is set (has been assigned a value) and false otherwise */
+    public boolean isSetConflict() {
+      return this.conflict != null;
+    }
+
+    public void setConflictIsSet(boolean value) {
+      if (!value) {
+        this.conflict = null;
+      }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.Long)value);
+        }
+        break;
+
+      case CONFLICT:
+        if (value == null) {
+          unsetConflict();
+        } else {
+          setConflict((VersionConflict)value);
+        }
+        break;
+
       }
     }
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case CONFLICT:
+        return getConflict();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -8065,6 +23068,10 @@ public class Storage {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case CONFLICT:
+        return isSetConflict();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -8073,17 +23080,35 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof addBook_result)
-        return this.equals((addBook_result)that);
+      if (that instanceof editChapterText_result)
+        return this.equals((editChapterText_result)that);
       return false;
     }
 
-    public boolean equals(addBook_result that) {
+    public boolean equals(editChapterText_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_conflict = true && this.isSetConflict();
+      boolean that_present_conflict = true && that.isSetConflict();
+      if (this_present_conflict || that_present_conflict) {
+        if (!(this_present_conflict && that_present_conflict))
+          return false;
+        if (!this.conflict.equals(that.conflict))
+          return false;
+      }
+
       return true;
     }
 
@@ -8091,17 +23116,43 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
+
+      hashCode = hashCode * 8191 + ((isSetConflict()) ? 131071 : 524287);
+      if (isSetConflict())
+        hashCode = hashCode * 8191 + conflict.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(addBook_result other) {
+    public int compareTo(editChapterText_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetConflict()).compareTo(other.isSetConflict());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetConflict()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.conflict, other.conflict);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -8119,9 +23170,20 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("addBook_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("editChapterText_result(");
       boolean first = true;
 
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("conflict:");
+      if (this.conflict == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.conflict);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8129,6 +23191,9 @@ public class Storage {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (conflict != null) {
+        conflict.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8141,21 +23206,23 @@ public class Storage {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class addBook_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addBook_resultStandardScheme getScheme() {
-        return new addBook_resultStandardScheme();
+    private static class editChapterText_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public editChapterText_resultStandardScheme getScheme() {
+        return new editChapterText_resultStandardScheme();
       }
     }
 
-    private static class addBook_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<addBook_result> {
+    private static class editChapterText_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<editChapterText_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addBook_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, editChapterText_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8165,6 +23232,23 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // CONFLICT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.conflict = new VersionConflict();
+                struct.conflict.read(iprot);
+                struct.setConflictIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8176,32 +23260,66 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addBook_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, editChapterText_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI64(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.conflict != null) {
+          oprot.writeFieldBegin(CONFLICT_FIELD_DESC);
+          struct.conflict.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class addBook_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addBook_resultTupleScheme getScheme() {
-        return new addBook_resultTupleScheme();
+    private static class editChapterText_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public editChapterText_resultTupleScheme getScheme() {
+        return new editChapterText_resultTupleScheme();
       }
     }
 
-    private static class addBook_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<addBook_result> {
+    private static class editChapterText_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<editChapterText_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addBook_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, editChapterText_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetConflict()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
+        }
+        if (struct.isSetConflict()) {
+          struct.conflict.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addBook_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, editChapterText_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.conflict = new VersionConflict();
+          struct.conflict.read(iprot);
+          struct.setConflictIsSet(true);
+        }
       }
     }
 
@@ -8210,22 +23328,28 @@ public class Storage {
     }
   }
 
-  public static class addChapter_args implements org.apache.thrift.TBase<addChapter_args, addChapter_args._Fields>, java.io.Serializable, Cloneable, Comparable<addChapter_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addChapter_args");
+  public static class getChapterTextRange_args implements org.apache.thrift.TBase<getChapterTextRange_args, getChapterTextRange_args._Fields>, java.io.Serializable, Cloneable, Comparable<getChapterTextRange_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChapterTextRange_args");
 
     private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField CHAPTER_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterName", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField CHAPTER_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterUid", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I32, (short)3);
+    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I32, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addChapter_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addChapter_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChapterTextRange_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChapterTextRange_argsTupleSchemeFactory();
 
     public java.lang.String bookUid; // required
-    public java.lang.String chapterName; // required
+    public java.lang.String chapterUid; // required
+    public int offset; // required
+    public int length; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       BOOK_UID((short)1, "bookUid"),
-      CHAPTER_NAME((short)2, "chapterName");
+      CHAPTER_UID((short)2, "chapterUid"),
+      OFFSET((short)3, "offset"),
+      LENGTH((short)4, "length");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -8242,8 +23366,12 @@ public class Storage {
         switch(fieldId) {
           case 1: // BOOK_UID
             return BOOK_UID;
-          case 2: // CHAPTER_NAME
-            return CHAPTER_NAME;
+          case 2: // CHAPTER_UID
+            return CHAPTER_UID;
+          case 3: // OFFSET
+            return OFFSET;
+          case 4: // LENGTH
+            return LENGTH;
           default:
             return null;
         }
@@ -8284,56 +23412,76 @@ public class Storage {
     }
 
     // isset id assignments
+    private static final int __OFFSET_ISSET_ID = 0;
+    private static final int __LENGTH_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CHAPTER_NAME, new org.apache.thrift.meta_data.FieldMetaData("chapterName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.CHAPTER_UID, new org.apache.thrift.meta_data.FieldMetaData("chapterUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addChapter_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChapterTextRange_args.class, metaDataMap);
     }
 
-    public addChapter_args() {
+    public getChapterTextRange_args() {
     }
 
-    public addChapter_args(
+    public getChapterTextRange_args(
       java.lang.String bookUid,
-      java.lang.String chapterName)
+      java.lang.String chapterUid,
+      int offset,
+      int length)
     {
       this();
       this.bookUid = bookUid;
-      this.chapterName = chapterName;
+      this.chapterUid = chapterUid;
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.length = length;
+      setLengthIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addChapter_args(addChapter_args other) {
+    public getChapterTextRange_args(getChapterTextRange_args other) {
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetBookUid()) {
         this.bookUid = other.bookUid;
       }
-      if (other.isSetChapterName()) {
-        this.chapterName = other.chapterName;
+      if (other.isSetChapterUid()) {
+        this.chapterUid = other.chapterUid;
       }
+      this.offset = other.offset;
+      this.length = other.length;
     }
 
-    public addChapter_args deepCopy() {
-      return new addChapter_args(this);
+    public getChapterTextRange_args deepCopy() {
+      return new getChapterTextRange_args(this);
     }
 
     @Override
     public void clear() {
       this.bookUid = null;
-      this.chapterName = null;
+      this.chapterUid = null;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      setLengthIsSet(false);
+      this.length = 0;
     }
 
     public java.lang.String getBookUid() {
       return this.bookUid;
     }
 
-    public addChapter_args setBookUid(java.lang.String bookUid) {
+    public getChapterTextRange_args setBookUid(java.lang.String bookUid) {
       this.bookUid = bookUid;
       return this;
     }
@@ -8353,30 +23501,76 @@ public class Storage {
       }
     }
 
-    public java.lang.String getChapterName() {
-      return this.chapterName;
+    public java.lang.String getChapterUid() {
+      return this.chapterUid;
     }
 
-    public addChapter_args setChapterName(java.lang.String chapterName) {
-      this.chapterName = chapterName;
+    public getChapterTextRange_args setChapterUid(java.lang.String chapterUid) {
+      this.chapterUid = chapterUid;
       return this;
     }
 
-    public void unsetChapterName() {
-      this.chapterName = null;
+    public void unsetChapterUid() {
+      this.chapterUid = null;
     }
 
-    /** Returns true if field chapterName is set (has been assigned a value) and false otherwise */
-    public boolean isSetChapterName() {
-      return this.chapterName != null;
+    /** Returns true if field chapterUid is set (has been assigned a value) and false otherwise */
+    public boolean isSetChapterUid() {
+      return this.chapterUid != null;
     }
 
-    public void setChapterNameIsSet(boolean value) {
+    public void setChapterUidIsSet(boolean value) {
       if (!value) {
-        this.chapterName = null;
+        this.chapterUid = null;
       }
     }
 
+    public int getOffset() {
+      return this.offset;
+    }
+
+    public getChapterTextRange_args setOffset(int offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
+    }
+
+    public void unsetOffset() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public int getLength() {
+      return this.length;
+    }
+
+    public getChapterTextRange_args setLength(int length) {
+      this.length = length;
+      setLengthIsSet(true);
+      return this;
+    }
+
+    public void unsetLength() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    /** Returns true if field length is set (has been assigned a value) and false otherwise */
+    public boolean isSetLength() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    public void setLengthIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
       case BOOK_UID:
@@ -8387,11 +23581,27 @@ public class Storage {
         }
         break;
 
-      case CHAPTER_NAME:
+      case CHAPTER_UID:
         if (value == null) {
-          unsetChapterName();
+          unsetChapterUid();
         } else {
-          setChapterName((java.lang.String)value);
+          setChapterUid((java.lang.String)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((java.lang.Integer)value);
+        }
+        break;
+
+      case LENGTH:
+        if (value == null) {
+          unsetLength();
+        } else {
+          setLength((java.lang.Integer)value);
         }
         break;
 
@@ -8403,8 +23613,14 @@ public class Storage {
       case BOOK_UID:
         return getBookUid();
 
-      case CHAPTER_NAME:
-        return getChapterName();
+      case CHAPTER_UID:
+        return getChapterUid();
+
+      case OFFSET:
+        return getOffset();
+
+      case LENGTH:
+        return getLength();
 
       }
       throw new java.lang.IllegalStateException();
@@ -8419,8 +23635,12 @@ public class Storage {
       switch (field) {
       case BOOK_UID:
         return isSetBookUid();
-      case CHAPTER_NAME:
-        return isSetChapterName();
+      case CHAPTER_UID:
+        return isSetChapterUid();
+      case OFFSET:
+        return isSetOffset();
+      case LENGTH:
+        return isSetLength();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -8429,12 +23649,12 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof addChapter_args)
-        return this.equals((addChapter_args)that);
+      if (that instanceof getChapterTextRange_args)
+        return this.equals((getChapterTextRange_args)that);
       return false;
     }
 
-    public boolean equals(addChapter_args that) {
+    public boolean equals(getChapterTextRange_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -8449,12 +23669,30 @@ public class Storage {
           return false;
       }
 
-      boolean this_present_chapterName = true && this.isSetChapterName();
-      boolean that_present_chapterName = true && that.isSetChapterName();
-      if (this_present_chapterName || that_present_chapterName) {
-        if (!(this_present_chapterName && that_present_chapterName))
+      boolean this_present_chapterUid = true && this.isSetChapterUid();
+      boolean that_present_chapterUid = true && that.isSetChapterUid();
+      if (this_present_chapterUid || that_present_chapterUid) {
+        if (!(this_present_chapterUid && that_present_chapterUid))
           return false;
-        if (!this.chapterName.equals(that.chapterName))
+        if (!this.chapterUid.equals(that.chapterUid))
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_length = true;
+      boolean that_present_length = true;
+      if (this_present_length || that_present_length) {
+        if (!(this_present_length && that_present_length))
+          return false;
+        if (this.length != that.length)
           return false;
       }
 
@@ -8469,15 +23707,19 @@ public class Storage {
       if (isSetBookUid())
         hashCode = hashCode * 8191 + bookUid.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetChapterName()) ? 131071 : 524287);
-      if (isSetChapterName())
-        hashCode = hashCode * 8191 + chapterName.hashCode();
+      hashCode = hashCode * 8191 + ((isSetChapterUid()) ? 131071 : 524287);
+      if (isSetChapterUid())
+        hashCode = hashCode * 8191 + chapterUid.hashCode();
+
+      hashCode = hashCode * 8191 + offset;
+
+      hashCode = hashCode * 8191 + length;
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(addChapter_args other) {
+    public int compareTo(getChapterTextRange_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8494,12 +23736,32 @@ public class Storage {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetChapterName()).compareTo(other.isSetChapterName());
+      lastComparison = java.lang.Boolean.valueOf(isSetChapterUid()).compareTo(other.isSetChapterUid());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetChapterName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapterName, other.chapterName);
+      if (isSetChapterUid()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chapterUid, other.chapterUid);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetLength()).compareTo(other.isSetLength());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLength()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.length, other.length);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -8521,7 +23783,7 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("addChapter_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChapterTextRange_args(");
       boolean first = true;
 
       sb.append("bookUid:");
@@ -8532,13 +23794,21 @@ public class Storage {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("chapterName:");
-      if (this.chapterName == null) {
+      sb.append("chapterUid:");
+      if (this.chapterUid == null) {
         sb.append("null");
       } else {
-        sb.append(this.chapterName);
+        sb.append(this.chapterUid);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("length:");
+      sb.append(this.length);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8558,21 +23828,23 @@ public class Storage {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class addChapter_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addChapter_argsStandardScheme getScheme() {
-        return new addChapter_argsStandardScheme();
+    private static class getChapterTextRange_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapterTextRange_argsStandardScheme getScheme() {
+        return new getChapterTextRange_argsStandardScheme();
       }
     }
 
-    private static class addChapter_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<addChapter_args> {
+    private static class getChapterTextRange_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChapterTextRange_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addChapter_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChapterTextRange_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8590,10 +23862,26 @@ public class Storage {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // CHAPTER_NAME
+            case 2: // CHAPTER_UID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.chapterName = iprot.readString();
-                struct.setChapterNameIsSet(true);
+                struct.chapterUid = iprot.readString();
+                struct.setChapterUidIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.offset = iprot.readI32();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // LENGTH
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.length = iprot.readI32();
+                struct.setLengthIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -8609,7 +23897,7 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addChapter_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChapterTextRange_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8618,55 +23906,81 @@ public class Storage {
           oprot.writeString(struct.bookUid);
           oprot.writeFieldEnd();
         }
-        if (struct.chapterName != null) {
-          oprot.writeFieldBegin(CHAPTER_NAME_FIELD_DESC);
-          oprot.writeString(struct.chapterName);
+        if (struct.chapterUid != null) {
+          oprot.writeFieldBegin(CHAPTER_UID_FIELD_DESC);
+          oprot.writeString(struct.chapterUid);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI32(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LENGTH_FIELD_DESC);
+        oprot.writeI32(struct.length);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class addChapter_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addChapter_argsTupleScheme getScheme() {
-        return new addChapter_argsTupleScheme();
+    private static class getChapterTextRange_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapterTextRange_argsTupleScheme getScheme() {
+        return new getChapterTextRange_argsTupleScheme();
       }
     }
 
-    private static class addChapter_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<addChapter_args> {
+    private static class getChapterTextRange_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChapterTextRange_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addChapter_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChapterTextRange_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetBookUid()) {
           optionals.set(0);
         }
-        if (struct.isSetChapterName()) {
+        if (struct.isSetChapterUid()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetOffset()) {
+          optionals.set(2);
+        }
+        if (struct.isSetLength()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
         if (struct.isSetBookUid()) {
           oprot.writeString(struct.bookUid);
         }
-        if (struct.isSetChapterName()) {
-          oprot.writeString(struct.chapterName);
+        if (struct.isSetChapterUid()) {
+          oprot.writeString(struct.chapterUid);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI32(struct.offset);
+        }
+        if (struct.isSetLength()) {
+          oprot.writeI32(struct.length);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addChapter_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChapterTextRange_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
           struct.bookUid = iprot.readString();
           struct.setBookUidIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.chapterName = iprot.readString();
-          struct.setChapterNameIsSet(true);
+          struct.chapterUid = iprot.readString();
+          struct.setChapterUidIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.offset = iprot.readI32();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.length = iprot.readI32();
+          struct.setLengthIsSet(true);
         }
       }
     }
@@ -8676,17 +23990,19 @@ public class Storage {
     }
   }
 
-  public static class addChapter_result implements org.apache.thrift.TBase<addChapter_result, addChapter_result._Fields>, java.io.Serializable, Cloneable, Comparable<addChapter_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addChapter_result");
+  public static class getChapterTextRange_result implements org.apache.thrift.TBase<getChapterTextRange_result, getChapterTextRange_result._Fields>, java.io.Serializable, Cloneable, Comparable<getChapterTextRange_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChapterTextRange_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addChapter_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addChapter_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChapterTextRange_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChapterTextRange_resultTupleSchemeFactory();
 
+    public TextRange success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -8701,6 +24017,8 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -8739,37 +24057,87 @@ public class Storage {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TextRange.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addChapter_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChapterTextRange_result.class, metaDataMap);
+    }
+
+    public getChapterTextRange_result() {
+    }
+
+    public getChapterTextRange_result(
+      TextRange success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getChapterTextRange_result(getChapterTextRange_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new TextRange(other.success);
+      }
+    }
+
+    public getChapterTextRange_result deepCopy() {
+      return new getChapterTextRange_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
     }
 
-    public addChapter_result() {
+    public TextRange getSuccess() {
+      return this.success;
     }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public addChapter_result(addChapter_result other) {
+    public getChapterTextRange_result setSuccess(TextRange success) {
+      this.success = success;
+      return this;
     }
 
-    public addChapter_result deepCopy() {
-      return new addChapter_result(this);
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    @Override
-    public void clear() {
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((TextRange)value);
+        }
+        break;
+
       }
     }
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -8781,6 +24149,8 @@ public class Storage {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -8789,17 +24159,26 @@ public class Storage {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof addChapter_result)
-        return this.equals((addChapter_result)that);
+      if (that instanceof getChapterTextRange_result)
+        return this.equals((getChapterTextRange_result)that);
       return false;
     }
 
-    public boolean equals(addChapter_result that) {
+    public boolean equals(getChapterTextRange_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -8807,17 +24186,31 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(addChapter_result other) {
+    public int compareTo(getChapterTextRange_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -8835,9 +24228,16 @@ public class Storage {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("addChapter_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChapterTextRange_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8845,6 +24245,9 @@ public class Storage {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8863,15 +24266,15 @@ public class Storage {
       }
     }
 
-    private static class addChapter_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addChapter_resultStandardScheme getScheme() {
-        return new addChapter_resultStandardScheme();
+    private static class getChapterTextRange_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapterTextRange_resultStandardScheme getScheme() {
+        return new getChapterTextRange_resultStandardScheme();
       }
     }
 
-    private static class addChapter_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<addChapter_result> {
+    private static class getChapterTextRange_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChapterTextRange_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addChapter_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChapterTextRange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8881,6 +24284,15 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new TextRange();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8892,32 +24304,51 @@ public class Storage {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addChapter_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChapterTextRange_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class addChapter_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addChapter_resultTupleScheme getScheme() {
-        return new addChapter_resultTupleScheme();
+    private static class getChapterTextRange_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChapterTextRange_resultTupleScheme getScheme() {
+        return new getChapterTextRange_resultTupleScheme();
       }
     }
 
-    private static class addChapter_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<addChapter_result> {
+    private static class getChapterTextRange_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChapterTextRange_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addChapter_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChapterTextRange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addChapter_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChapterTextRange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new TextRange();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -8929,14 +24360,16 @@ public class Storage {
   public static class subscribeForBookList_args implements org.apache.thrift.TBase<subscribeForBookList_args, subscribeForBookList_args._Fields>, java.io.Serializable, Cloneable, Comparable<subscribeForBookList_args>   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("subscribeForBookList_args");
 
+    private static final org.apache.thrift.protocol.TField TIMEOUT_MILLIS_FIELD_DESC = new org.apache.thrift.protocol.TField("timeoutMillis", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new subscribeForBookList_argsStandardSchemeFactory();
     private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new subscribeForBookList_argsTupleSchemeFactory();
 
+    public long timeoutMillis; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      TIMEOUT_MILLIS((short)1, "timeoutMillis");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -8951,6 +24384,8 @@ public class Storage {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // TIMEOUT_MILLIS
+            return TIMEOUT_MILLIS;
           default:
             return null;
         }
@@ -8989,9 +24424,15 @@ public class Storage {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+    private static final int __TIMEOUTMILLIS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TIMEOUT_MILLIS, new org.apache.thrift.meta_data.FieldMetaData("timeoutMillis", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(subscribeForBookList_args.class, metaDataMap);
     }
@@ -8999,10 +24440,20 @@ public class Storage {
     public subscribeForBookList_args() {
     }
 
+    public subscribeForBookList_args(
+      long timeoutMillis)
+    {
+      this();
+      this.timeoutMillis = timeoutMillis;
+      setTimeoutMillisIsSet(true);
+    }
+
     /**
      * Performs a deep copy on <i>other</i>.
      */
     public subscribeForBookList_args(subscribeForBookList_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.timeoutMillis = other.timeoutMillis;
     }
 
     public subscribeForBookList_args deepCopy() {
@@ -9011,15 +24462,51 @@ public class Storage {
 
     @Override
     public void clear() {
+      setTimeoutMillisIsSet(false);
+      this.timeoutMillis = 0;
+    }
+
+    public long getTimeoutMillis() {
+      return this.timeoutMillis;
+    }
+
+    public subscribeForBookList_args setTimeoutMillis(long timeoutMillis) {
+      this.timeoutMillis = timeoutMillis;
+      setTimeoutMillisIsSet(true);
+      return this;
+    }
+
+    public void unsetTimeoutMillis() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __TIMEOUTMILLIS_ISSET_ID);
+    }
+
+    /** Returns true if field timeoutMillis is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimeoutMillis() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __TIMEOUTMILLIS_ISSET_ID);
+    }
+
+    public void setTimeoutMillisIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __TIMEOUTMILLIS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
+      case TIMEOUT_MILLIS:
+        if (value == null) {
+          unsetTimeoutMillis();
+        } else {
+          setTimeoutMillis((java.lang.Long)value);
+        }
+        break;
+
       }
     }
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case TIMEOUT_MILLIS:
+        return getTimeoutMillis();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -9031,6 +24518,8 @@ public class Storage {
       }
 
       switch (field) {
+      case TIMEOUT_MILLIS:
+        return isSetTimeoutMillis();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -9050,6 +24539,15 @@ public class Storage {
       if (this == that)
         return true;
 
+      boolean this_present_timeoutMillis = true;
+      boolean that_present_timeoutMillis = true;
+      if (this_present_timeoutMillis || that_present_timeoutMillis) {
+        if (!(this_present_timeoutMillis && that_present_timeoutMillis))
+          return false;
+        if (this.timeoutMillis != that.timeoutMillis)
+          return false;
+      }
+
       return true;
     }
 
@@ -9057,6 +24555,8 @@ public class Storage {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(timeoutMillis);
+
       return hashCode;
     }
 
@@ -9068,6 +24568,16 @@ public class Storage {
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetTimeoutMillis()).compareTo(other.isSetTimeoutMillis());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimeoutMillis()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timeoutMillis, other.timeoutMillis);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -9088,6 +24598,9 @@ public class Storage {
       java.lang.StringBuilder sb = new java.lang.StringBuilder("subscribeForBookList_args(");
       boolean first = true;
 
+      sb.append("timeoutMillis:");
+      sb.append(this.timeoutMillis);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9107,6 +24620,8 @@ public class Storage {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
@@ -9131,6 +24646,14 @@ public class Storage {
             break;
           }
           switch (schemeField.id) {
+            case 1: // TIMEOUT_MILLIS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timeoutMillis = iprot.readI64();
+                struct.setTimeoutMillisIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -9146,6 +24669,9 @@ public class Storage {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(TIMEOUT_MILLIS_FIELD_DESC);
+        oprot.writeI64(struct.timeoutMillis);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -9163,11 +24689,24 @@ public class Storage {
       @Override
       public void write(org.apache.thrift.protocol.TProtocol prot, subscribeForBookList_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetTimeoutMillis()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetTimeoutMillis()) {
+          oprot.writeI64(struct.timeoutMillis);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, subscribeForBookList_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.timeoutMillis = iprot.readI64();
+          struct.setTimeoutMillisIsSet(true);
+        }
       }
     }
 
@@ -9490,14 +25029,14 @@ public class Storage {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<Callback>(_list8.size);
-                  Callback _elem9;
-                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
+                  org.apache.thrift.protocol.TList _list112 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<Callback>(_list112.size);
+                  Callback _elem113;
+                  for (int _i114 = 0; _i114 < _list112.size; ++_i114)
                   {
-                    _elem9 = new Callback();
-                    _elem9.read(iprot);
-                    struct.success.add(_elem9);
+                    _elem113 = new Callback();
+                    _elem113.read(iprot);
+                    struct.success.add(_elem113);
                   }
                   iprot.readListEnd();
                 }
@@ -9525,9 +25064,9 @@ public class Storage {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (Callback _iter11 : struct.success)
+            for (Callback _iter115 : struct.success)
             {
-              _iter11.write(oprot);
+              _iter115.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -9558,9 +25097,9 @@ public class Storage {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (Callback _iter12 : struct.success)
+            for (Callback _iter116 : struct.success)
             {
-              _iter12.write(oprot);
+              _iter116.write(oprot);
             }
           }
         }
@@ -9572,14 +25111,14 @@ public class Storage {
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new java.util.ArrayList<Callback>(_list13.size);
-            Callback _elem14;
-            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+            org.apache.thrift.protocol.TList _list117 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<Callback>(_list117.size);
+            Callback _elem118;
+            for (int _i119 = 0; _i119 < _list117.size; ++_i119)
             {
-              _elem14 = new Callback();
-              _elem14.read(iprot);
-              struct.success.add(_elem14);
+              _elem118 = new Callback();
+              _elem118.read(iprot);
+              struct.success.add(_elem118);
             }
           }
           struct.setSuccessIsSet(true);
@@ -9596,15 +25135,18 @@ public class Storage {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("subscribeForBookChapters_args");
 
     private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TIMEOUT_MILLIS_FIELD_DESC = new org.apache.thrift.protocol.TField("timeoutMillis", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new subscribeForBookChapters_argsStandardSchemeFactory();
     private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new subscribeForBookChapters_argsTupleSchemeFactory();
 
     public java.lang.String bookUid; // required
+    public long timeoutMillis; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BOOK_UID((short)1, "bookUid");
+      BOOK_UID((short)1, "bookUid"),
+      TIMEOUT_MILLIS((short)2, "timeoutMillis");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -9621,6 +25163,8 @@ public class Storage {
         switch(fieldId) {
           case 1: // BOOK_UID
             return BOOK_UID;
+          case 2: // TIMEOUT_MILLIS
+            return TIMEOUT_MILLIS;
           default:
             return null;
         }
@@ -9661,11 +25205,15 @@ public class Storage {
     }
 
     // isset id assignments
+    private static final int __TIMEOUTMILLIS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.BOOK_UID, new org.apache.thrift.meta_data.FieldMetaData("bookUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TIMEOUT_MILLIS, new org.apache.thrift.meta_data.FieldMetaData("timeoutMillis", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(subscribeForBookChapters_args.class, metaDataMap);
     }
@@ -9674,19 +25222,24 @@ public class Storage {
     }
 
     public subscribeForBookChapters_args(
-      java.lang.String bookUid)
+      java.lang.String bookUid,
+      long timeoutMillis)
     {
       this();
       this.bookUid = bookUid;
+      this.timeoutMillis = timeoutMillis;
+      setTimeoutMillisIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
     public subscribeForBookChapters_args(subscribeForBookChapters_args other) {
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetBookUid()) {
         this.bookUid = other.bookUid;
       }
+      this.timeoutMillis = other.timeoutMillis;
     }
 
     public subscribeForBookChapters_args deepCopy() {
@@ -9696,6 +25249,8 @@ public class Storage {
     @Override
     public void clear() {
       this.bookUid = null;
+      setTimeoutMillisIsSet(false);
+      this.timeoutMillis = 0;
     }
 
     public java.lang.String getBookUid() {
@@ -9722,6 +25277,29 @@ public class Storage {
       }
     }
 
+    public long getTimeoutMillis() {
+      return this.timeoutMillis;
+    }
+
+    public subscribeForBookChapters_args setTimeoutMillis(long timeoutMillis) {
+      this.timeoutMillis = timeoutMillis;
+      setTimeoutMillisIsSet(true);
+      return this;
+    }
+
+    public void unsetTimeoutMillis() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __TIMEOUTMILLIS_ISSET_ID);
+    }
+
+    /** Returns true if field timeoutMillis is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimeoutMillis() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __TIMEOUTMILLIS_ISSET_ID);
+    }
+
+    public void setTimeoutMillisIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __TIMEOUTMILLIS_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
       case BOOK_UID:
@@ -9732,6 +25310,14 @@ public class Storage {
         }
         break;
 
+      case TIMEOUT_MILLIS:
+        if (value == null) {
+          unsetTimeoutMillis();
+        } else {
+          setTimeoutMillis((java.lang.Long)value);
+        }
+        break;
+
       }
     }
 
@@ -9740,6 +25326,9 @@ public class Storage {
       case BOOK_UID:
         return getBookUid();
 
+      case TIMEOUT_MILLIS:
+        return getTimeoutMillis();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -9753,6 +25342,8 @@ public class Storage {
       switch (field) {
       case BOOK_UID:
         return isSetBookUid();
+      case TIMEOUT_MILLIS:
+        return isSetTimeoutMillis();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -9781,6 +25372,15 @@ public class Storage {
           return false;
       }
 
+      boolean this_present_timeoutMillis = true;
+      boolean that_present_timeoutMillis = true;
+      if (this_present_timeoutMillis || that_present_timeoutMillis) {
+        if (!(this_present_timeoutMillis && that_present_timeoutMillis))
+          return false;
+        if (this.timeoutMillis != that.timeoutMillis)
+          return false;
+      }
+
       return true;
     }
 
@@ -9792,6 +25392,8 @@ public class Storage {
       if (isSetBookUid())
         hashCode = hashCode * 8191 + bookUid.hashCode();
 
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(timeoutMillis);
+
       return hashCode;
     }
 
@@ -9813,6 +25415,16 @@ public class Storage {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetTimeoutMillis()).compareTo(other.isSetTimeoutMillis());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimeoutMillis()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timeoutMillis, other.timeoutMillis);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -9840,6 +25452,10 @@ public class Storage {
         sb.append(this.bookUid);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("timeoutMillis:");
+      sb.append(this.timeoutMillis);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9859,6 +25475,8 @@ public class Storage {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
@@ -9891,6 +25509,14 @@ public class Storage {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // TIMEOUT_MILLIS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timeoutMillis = iprot.readI64();
+                struct.setTimeoutMillisIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -9911,6 +25537,9 @@ public class Storage {
           oprot.writeString(struct.bookUid);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(TIMEOUT_MILLIS_FIELD_DESC);
+        oprot.writeI64(struct.timeoutMillis);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -9932,20 +25561,30 @@ public class Storage {
         if (struct.isSetBookUid()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetTimeoutMillis()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetBookUid()) {
           oprot.writeString(struct.bookUid);
         }
+        if (struct.isSetTimeoutMillis()) {
+          oprot.writeI64(struct.timeoutMillis);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, subscribeForBookChapters_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.bookUid = iprot.readString();
           struct.setBookUidIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.timeoutMillis = iprot.readI64();
+          struct.setTimeoutMillisIsSet(true);
+        }
       }
     }
 
@@ -10268,14 +25907,14 @@ public class Storage {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<Callback>(_list16.size);
-                  Callback _elem17;
-                  for (int _i18 = 0; _i18 < _list16.size; ++_i18)
+                  org.apache.thrift.protocol.TList _list120 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<Callback>(_list120.size);
+                  Callback _elem121;
+                  for (int _i122 = 0; _i122 < _list120.size; ++_i122)
                   {
-                    _elem17 = new Callback();
-                    _elem17.read(iprot);
-                    struct.success.add(_elem17);
+                    _elem121 = new Callback();
+                    _elem121.read(iprot);
+                    struct.success.add(_elem121);
                   }
                   iprot.readListEnd();
                 }
@@ -10303,9 +25942,9 @@ public class Storage {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (Callback _iter19 : struct.success)
+            for (Callback _iter123 : struct.success)
             {
-              _iter19.write(oprot);
+              _iter123.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -10336,9 +25975,9 @@ public class Storage {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (Callback _iter20 : struct.success)
+            for (Callback _iter124 : struct.success)
             {
-              _iter20.write(oprot);
+              _iter124.write(oprot);
             }
           }
         }
@@ -10350,14 +25989,14 @@ public class Storage {
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new java.util.ArrayList<Callback>(_list21.size);
-            Callback _elem22;
-            for (int _i23 = 0; _i23 < _list21.size; ++_i23)
+            org.apache.thrift.protocol.TList _list125 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<Callback>(_list125.size);
+            Callback _elem126;
+            for (int _i127 = 0; _i127 < _list125.size; ++_i127)
             {
-              _elem22 = new Callback();
-              _elem22.read(iprot);
-              struct.success.add(_elem22);
+              _elem126 = new Callback();
+              _elem126.read(iprot);
+              struct.success.add(_elem126);
             }
           }
           struct.setSuccessIsSet(true);
@@ -10375,17 +26014,20 @@ public class Storage {
 
     private static final org.apache.thrift.protocol.TField BOOK_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("bookUid", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField CHAPTER_UID_FIELD_DESC = new org.apache.thrift.protocol.TField("chapterUid", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField TIMEOUT_MILLIS_FIELD_DESC = new org.apache.thrift.protocol.TField("timeoutMillis", org.apache.thrift.protocol.TType.I64, (short)3);
 
     private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new subscribeForChapter_argsStandardSchemeFactory();
     private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new subscribeForChapter_argsTupleSchemeFactory();
 
     public java.lang.String bookUid; // required
     public java.lang.String chapterUid; // required
+    public long timeoutMillis; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       BOOK_UID((short)1, "bookUid"),
-      CHAPTER_UID((short)2, "chapterUid");
+      CHAPTER_UID((short)2, "chapterUid"),
+      TIMEOUT_MILLIS((short)3, "timeoutMillis");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -10404,6 +26046,8 @@ public class Storage {
             return BOOK_UID;
           case 2: // CHAPTER_UID
             return CHAPTER_UID;
+          case 3: // TIMEOUT_MILLIS
+            return TIMEOUT_MILLIS;
           default:
             return null;
         }
@@ -10444,6 +26088,8 @@ public class Storage {
     }
 
     // isset id assignments
+    private static final int __TIMEOUTMILLIS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -10451,6 +26097,8 @@ public class Storage {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.CHAPTER_UID, new org.apache.thrift.meta_data.FieldMetaData("chapterUid", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TIMEOUT_MILLIS, new org.apache.thrift.meta_data.FieldMetaData("timeoutMillis", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(subscribeForChapter_args.class, metaDataMap);
     }
@@ -10460,23 +26108,28 @@ public class Storage {
 
     public subscribeForChapter_args(
       java.lang.String bookUid,
-      java.lang.String chapterUid)
+      java.lang.String chapterUid,
+      long timeoutMillis)
     {
       this();
       this.bookUid = bookUid;
       this.chapterUid = chapterUid;
+      this.timeoutMillis = timeoutMillis;
+      setTimeoutMillisIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
     public subscribeForChapter_args(subscribeForChapter_args other) {
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetBookUid()) {
         this.bookUid = other.bookUid;
       }
       if (other.isSetChapterUid()) {
         this.chapterUid = other.chapterUid;
       }
+      this.timeoutMillis = other.timeoutMillis;
     }
 
     public subscribeForChapter_args deepCopy() {
@@ -10487,6 +26140,8 @@ public class Storage {
     public void clear() {
       this.bookUid = null;
       this.chapterUid = null;
+      setTimeoutMillisIsSet(false);
+      this.timeoutMillis = 0;
     }
 
     public java.lang.String getBookUid() {
@@ -10537,6 +26192,29 @@ public class Storage {
       }
     }
 
+    public long getTimeoutMillis() {
+      return this.timeoutMillis;
+    }
+
+    public subscribeForChapter_args setTimeoutMillis(long timeoutMillis) {
+      this.timeoutMillis = timeoutMillis;
+      setTimeoutMillisIsSet(true);
+      return this;
+    }
+
+    public void unsetTimeoutMillis() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __TIMEOUTMILLIS_ISSET_ID);
+    }
+
+    /** Returns true if field timeoutMillis is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimeoutMillis() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __TIMEOUTMILLIS_ISSET_ID);
+    }
+
+    public void setTimeoutMillisIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __TIMEOUTMILLIS_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
       case BOOK_UID:
@@ -10555,6 +26233,14 @@ public class Storage {
         }
         break;
 
+      case TIMEOUT_MILLIS:
+        if (value == null) {
+          unsetTimeoutMillis();
+        } else {
+          setTimeoutMillis((java.lang.Long)value);
+        }
+        break;
+
       }
     }
 
@@ -10566,6 +26252,9 @@ public class Storage {
       case CHAPTER_UID:
         return getChapterUid();
 
+      case TIMEOUT_MILLIS:
+        return getTimeoutMillis();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10581,6 +26270,8 @@ public class Storage {
         return isSetBookUid();
       case CHAPTER_UID:
         return isSetChapterUid();
+      case TIMEOUT_MILLIS:
+        return isSetTimeoutMillis();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10618,6 +26309,15 @@ public class Storage {
           return false;
       }
 
+      boolean this_present_timeoutMillis = true;
+      boolean that_present_timeoutMillis = true;
+      if (this_present_timeoutMillis || that_present_timeoutMillis) {
+        if (!(this_present_timeoutMillis && that_present_timeoutMillis))
+          return false;
+        if (this.timeoutMillis != that.timeoutMillis)
+          return false;
+      }
+
       return true;
     }
 
@@ -10633,6 +26333,8 @@ public class Storage {
       if (isSetChapterUid())
         hashCode = hashCode * 8191 + chapterUid.hashCode();
 
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(timeoutMillis);
+
       return hashCode;
     }
 
@@ -10664,6 +26366,16 @@ public class Storage {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetTimeoutMillis()).compareTo(other.isSetTimeoutMillis());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimeoutMillis()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timeoutMillis, other.timeoutMillis);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -10699,6 +26411,10 @@ public class Storage {
         sb.append(this.chapterUid);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("timeoutMillis:");
+      sb.append(this.timeoutMillis);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10718,6 +26434,8 @@ public class Storage {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
@@ -10758,6 +26476,14 @@ public class Storage {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 3: // TIMEOUT_MILLIS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timeoutMillis = iprot.readI64();
+                struct.setTimeoutMillisIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10783,6 +26509,9 @@ public class Storage {
           oprot.writeString(struct.chapterUid);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(TIMEOUT_MILLIS_FIELD_DESC);
+        oprot.writeI64(struct.timeoutMillis);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -10807,19 +26536,25 @@ public class Storage {
         if (struct.isSetChapterUid()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetTimeoutMillis()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetBookUid()) {
           oprot.writeString(struct.bookUid);
         }
         if (struct.isSetChapterUid()) {
           oprot.writeString(struct.chapterUid);
         }
+        if (struct.isSetTimeoutMillis()) {
+          oprot.writeI64(struct.timeoutMillis);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, subscribeForChapter_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.bookUid = iprot.readString();
           struct.setBookUidIsSet(true);
@@ -10828,6 +26563,10 @@ public class Storage {
           struct.chapterUid = iprot.readString();
           struct.setChapterUidIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.timeoutMillis = iprot.readI64();
+          struct.setTimeoutMillisIsSet(true);
+        }
       }
     }
 
@@ -11150,14 +26889,14 @@ public class Storage {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<Callback>(_list24.size);
-                  Callback _elem25;
-                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
+                  org.apache.thrift.protocol.TList _list128 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<Callback>(_list128.size);
+                  Callback _elem129;
+                  for (int _i130 = 0; _i130 < _list128.size; ++_i130)
                   {
-                    _elem25 = new Callback();
-                    _elem25.read(iprot);
-                    struct.success.add(_elem25);
+                    _elem129 = new Callback();
+                    _elem129.read(iprot);
+                    struct.success.add(_elem129);
                   }
                   iprot.readListEnd();
                 }
@@ -11185,9 +26924,9 @@ public class Storage {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (Callback _iter27 : struct.success)
+            for (Callback _iter131 : struct.success)
             {
-              _iter27.write(oprot);
+              _iter131.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -11218,9 +26957,9 @@ public class Storage {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (Callback _iter28 : struct.success)
+            for (Callback _iter132 : struct.success)
             {
-              _iter28.write(oprot);
+              _iter132.write(oprot);
             }
           }
         }
@@ -11232,14 +26971,14 @@ public class Storage {
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new java.util.ArrayList<Callback>(_list29.size);
-            Callback _elem30;
-            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+            org.apache.thrift.protocol.TList _list133 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<Callback>(_list133.size);
+            Callback _elem134;
+            for (int _i135 = 0; _i135 < _list133.size; ++_i135)
             {
-              _elem30 = new Callback();
-              _elem30.read(iprot);
-              struct.success.add(_elem30);
+              _elem134 = new Callback();
+              _elem134.read(iprot);
+              struct.success.add(_elem134);
             }
           }
           struct.setSuccessIsSet(true);
@@ -0,0 +1,81 @@
+package transfer;
+
+import com.google.api.core.ApiFuture;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import storage.Snapshot;
+import storage.StorageBackend;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Writes every book to a {@link HandbookFile} in key order. Books are read a
+ * page at a time and the next page is requested before the current one is
+ * written, so at most two pages are held in memory.
+ */
+public class CatalogExporter {
+
+    private static final Logger log = LogManager.getLogger(CatalogExporter.class);
+    private static final String BOOKS = "books";
+
+    private final StorageBackend backend;
+    private final int pageSize;
+
+    public CatalogExporter(StorageBackend backend, int pageSize) {
+        this.backend = backend;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @param resume continue an interrupted export of the file after its last complete book
+     * @return the number of books written
+     */
+    public long export(File file, boolean resume) throws IOException, InterruptedException {
+        String startAfter = null;
+        if (resume && file.exists()) {
+            startAfter = HandbookFile.truncateToLastRecord(file);
+            log.info("Resuming export to " + file + " after book " + startAfter);
+        }
+        return export(file, resume, startAfter);
+    }
+
+    /**
+     * @param startAfter the key of the last book not to export, null to start at the first
+     */
+    public long export(File file, boolean append, String startAfter) throws IOException, InterruptedException {
+        long books = 0;
+        try (HandbookFile.Writer writer = new HandbookFile.Writer(file, append)) {
+            ApiFuture<List<Snapshot>> next = backend.getChildren(BOOKS, startAfter, pageSize);
+            while (true) {
+                List<Snapshot> page = await(next);
+                if (page.isEmpty()) {
+                    break;
+                }
+                next = page.size() < pageSize
+                        ? null
+                        : backend.getChildren(BOOKS, page.get(page.size() - 1).getKey(), pageSize);
+                for (Snapshot book : page) {
+                    writer.write(Handbooks.fromSnapshot(book));
+                }
+                books += page.size();
+                log.info("Exported " + books + " books, last " + page.get(page.size() - 1).getKey());
+                if (next == null) {
+                    break;
+                }
+            }
+        }
+        return books;
+    }
+
+    private static List<Snapshot> await(ApiFuture<List<Snapshot>> page) throws IOException, InterruptedException {
+        try {
+            return page.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Cannot read books", e.getCause());
+        }
+    }
+
+}
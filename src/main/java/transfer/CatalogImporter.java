@@ -0,0 +1,95 @@
+package transfer;
+
+import com.google.api.core.ApiFuture;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import storage.Paths;
+import storage.StorageBackend;
+import thrift.Chapter;
+import thrift.Handbook;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Loads a {@link HandbookFile} back into storage. The books of a batch are
+ * sent as one multi-path update and the next batch is read while the
+ * previous one is written, so at most two batches are held in memory.
+ * Books and chapters without a uid get a new one.
+ */
+public class CatalogImporter {
+
+    private static final Logger log = LogManager.getLogger(CatalogImporter.class);
+    private static final String BOOKS = "books";
+
+    private final StorageBackend backend;
+    private final int batchSize;
+
+    public CatalogImporter(StorageBackend backend, int batchSize) {
+        this.backend = backend;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return the number of books loaded
+     */
+    public long load(File file) throws IOException, InterruptedException {
+        long books = 0;
+        ApiFuture<Void> pending = null;
+        Map<String, Object> batch = new HashMap<>();
+        int batched = 0;
+        try (HandbookFile.Reader reader = new HandbookFile.Reader(file)) {
+            Handbook handbook;
+            while ((handbook = reader.next()) != null) {
+                addBook(batch, handbook);
+                batched++;
+                if (batched == batchSize) {
+                    await(pending);
+                    pending = backend.updateChildren("", batch);
+                    books += batched;
+                    log.info("Imported " + books + " books");
+                    batch = new HashMap<>();
+                    batched = 0;
+                }
+            }
+        }
+        await(pending);
+        if (batched > 0) {
+            await(backend.updateChildren("", batch));
+            books += batched;
+        }
+        log.info("Imported " + books + " books from " + file);
+        return books;
+    }
+
+    private void addBook(Map<String, Object> batch, Handbook handbook) {
+        String uid = handbook.getUid() != null ? handbook.getUid() : backend.push(BOOKS);
+        String bookPath = Paths.join(BOOKS, uid);
+        if (handbook.getName() != null) {
+            batch.put(Paths.join(bookPath, "name"), handbook.getName());
+        }
+        if (handbook.getChapters() == null) {
+            return;
+        }
+        String chaptersPath = Paths.join(bookPath, "chapters");
+        for (Chapter chapter : handbook.getChapters()) {
+            String chapterUid = chapter.getUid() != null ? chapter.getUid() : backend.push(chaptersPath);
+            batch.put(Paths.join(chaptersPath, chapterUid), Handbooks.chapterValue(chapter));
+        }
+    }
+
+    private static void await(ApiFuture<Void> write) throws IOException, InterruptedException {
+        if (write == null) {
+            return;
+        }
+        try {
+            write.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Cannot write books", e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package transfer;
+
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TCompactProtocol;
+import thrift.Handbook;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * File of Handbook records, each an int length followed by the Handbook in
+ * the compact protocol. Records are written in book key order, so an
+ * interrupted export resumes after the book of the last complete record.
+ */
+public final class HandbookFile {
+
+    // larger lengths are taken for a corrupt file rather than allocated
+    private static final int MAX_RECORD_BYTES = 512 * 1024 * 1024;
+
+    private HandbookFile() {
+    }
+
+    /**
+     * Cuts off a torn record at the end of the file.
+     *
+     * @return the uid of the last complete record, null when there is none
+     */
+    public static String truncateToLastRecord(File file) throws IOException {
+        String lastUid = null;
+        long valid = 0;
+        try (Reader reader = new Reader(file)) {
+            Handbook handbook;
+            while ((handbook = reader.next()) != null) {
+                lastUid = handbook.getUid();
+                valid = reader.position;
+            }
+        } catch (IOException e) {
+            // a torn or corrupt tail, keep what was read up to it
+        }
+        try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+            raw.setLength(valid);
+        }
+        return lastUid;
+    }
+
+    public static class Writer implements Closeable {
+
+        private final DataOutputStream out;
+        private final TSerializer serializer = new TSerializer(new TCompactProtocol.Factory());
+
+        public Writer(File file, boolean append) throws IOException {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, append), 64 * 1024));
+        }
+
+        public void write(Handbook handbook) throws IOException {
+            byte[] record;
+            try {
+                record = serializer.serialize(handbook);
+            } catch (TException e) {
+                throw new IOException("Cannot encode book " + handbook.getUid(), e);
+            }
+            out.writeInt(record.length);
+            out.write(record);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    public static class Reader implements Closeable {
+
+        private final DataInputStream in;
+        private final TDeserializer deserializer = new TDeserializer(new TCompactProtocol.Factory());
+        // offset after the last record read
+        long position;
+
+        public Reader(File file) throws IOException {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 64 * 1024));
+        }
+
+        /**
+         * @return the next record, null at the end of the file
+         */
+        public Handbook next() throws IOException {
+            int length;
+            try {
+                length = in.readInt();
+            } catch (EOFException e) {
+                return null;
+            }
+            if (length < 0 || length > MAX_RECORD_BYTES) {
+                throw new IOException("Corrupt record length " + length + " at offset " + position);
+            }
+            byte[] record = new byte[length];
+            in.readFully(record);
+            Handbook handbook = new Handbook();
+            try {
+                deserializer.deserialize(handbook, record);
+            } catch (TException e) {
+                throw new IOException("Corrupt record at offset " + position, e);
+            }
+            position += 4 + length;
+            return handbook;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+package transfer;
+
+import storage.IndexedStorageBackend;
+import storage.Snapshot;
+import thrift.Chapter;
+import thrift.CustomPair;
+import thrift.Handbook;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversions between stored books and Handbook structs. A book is stored
+ * as {@code books/<uid>/name} and {@code books/<uid>/chapters/<uid>/{name, description, text}}.
+ * <p>
+ * The fields are copied by hand, Firebase's bean mapper would find them by
+ * reflection on every event and also map the isSet accessors of the
+ * generated classes.
+ */
+public final class Handbooks {
+
+    private Handbooks() {
+    }
+
+    /**
+     * @param book the snapshot of a book node, keyed by the book uid
+     */
+    public static Handbook fromSnapshot(Snapshot book) {
+        return toHandbook(book.getKey(), book.getValue());
+    }
+
+    /**
+     * @param value the stored value of a book node
+     */
+    public static Handbook toHandbook(String uid, Object value) {
+        Handbook handbook = new Handbook();
+        handbook.setUid(uid);
+        handbook.setChapters(new ArrayList<Chapter>());
+        if (!(value instanceof Map)) {
+            return handbook;
+        }
+        Map<?, ?> book = (Map<?, ?>) value;
+        handbook.setName(asString(book.get("name")));
+        Object chapters = book.get("chapters");
+        if (chapters instanceof Map) {
+            for (Map.Entry<?, ?> chapter : ((Map<?, ?>) chapters).entrySet()) {
+                handbook.addToChapters(toChapter((String) chapter.getKey(), chapter.getValue()));
+            }
+        }
+        return handbook;
+    }
+
+    /**
+     * @param children the children of a book node
+     */
+    public static Handbook fromChildren(String uid, List<Snapshot> children) {
+        Handbook handbook = new Handbook();
+        handbook.setUid(uid);
+        handbook.setChapters(new ArrayList<Chapter>());
+        for (Snapshot child : children) {
+            if ("name".equals(child.getKey())) {
+                handbook.setName(asString(child.getValue()));
+            } else if ("chapters".equals(child.getKey())) {
+                for (Snapshot chapter : child.getChildren()) {
+                    handbook.addToChapters(toChapter(chapter.getKey(), chapter.getChildren()));
+                }
+            }
+        }
+        return handbook;
+    }
+
+    /**
+     * @param children the fields of a chapter node
+     */
+    public static Chapter toChapter(String uid, List<Snapshot> children) {
+        Chapter chapter = new Chapter();
+        chapter.setUid(uid);
+        for (Snapshot child : children) {
+            String value = asString(child.getValue());
+            switch (child.getKey()) {
+                case "name":
+                    chapter.setName(value);
+                    break;
+                case "description":
+                    chapter.setDescription(value);
+                    break;
+                case "text":
+                    chapter.setText(value);
+                    break;
+            }
+        }
+        return chapter;
+    }
+
+    /**
+     * @param value the stored value of a chapter node
+     */
+    public static Chapter toChapter(String uid, Object value) {
+        Chapter chapter = new Chapter();
+        chapter.setUid(uid);
+        if (value instanceof Map) {
+            Map<?, ?> fields = (Map<?, ?>) value;
+            chapter.setName(asString(fields.get("name")));
+            chapter.setDescription(asString(fields.get("description")));
+            chapter.setText(asString(fields.get("text")));
+        }
+        return chapter;
+    }
+
+    /**
+     * The stored value of a chapter, unset fields are left out.
+     */
+    public static Map<String, Object> chapterValue(Chapter chapter) {
+        Map<String, Object> value = new HashMap<>();
+        if (chapter.name != null) {
+            value.put("name", chapter.name);
+        }
+        if (chapter.description != null) {
+            value.put("description", chapter.description);
+        }
+        if (chapter.text != null) {
+            value.put("text", chapter.text);
+        }
+        return value;
+    }
+
+    /**
+     * The stored value replacing a chapter, unset fields are removed.
+     */
+    public static Map<String, Object> chapterReplacement(Chapter chapter) {
+        Map<String, Object> value = new HashMap<>();
+        value.put("name", chapter.name);
+        value.put("description", chapter.description);
+        value.put("text", chapter.text);
+        return value;
+    }
+
+    /**
+     * A listed book or chapter as its key and name.
+     */
+    public static CustomPair toNamePair(Snapshot child) {
+        return new CustomPair(child.getKey(), IndexedStorageBackend.nameOf(child));
+    }
+
+    private static String asString(Object value) {
+        return value == null ? null : String.valueOf(value);
+    }
+
+}
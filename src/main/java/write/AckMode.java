@@ -0,0 +1,24 @@
+package write;
+
+/**
+ * When a write call is answered.
+ */
+public enum AckMode {
+
+    /** Right after the write was handed to the backend. */
+    FIRE_AND_FORGET,
+
+    /** Once the backend has accepted the write. */
+    ACKNOWLEDGED,
+
+    /** Once the write is synced to the local journal, which replays it after a crash. */
+    DURABLE;
+
+    /**
+     * Parses the config.properties spelling, e.g. "fire-and-forget".
+     */
+    public static AckMode parse(String value) {
+        return valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+
+}
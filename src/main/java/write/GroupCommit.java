@@ -0,0 +1,167 @@
+package write;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import storage.Paths;
+import storage.StorageBackend;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merges updates submitted within a short window into one multi-path update
+ * of the storage root, so concurrent writers share a backend round trip.
+ * A group is sent when the window since its first update has passed or it
+ * holds the maximum number of updates, and every update of the group
+ * completes with the result of that one write.
+ * <p>
+ * Updates to the same path are merged in submission order, the later value
+ * wins. An update that touches an ancestor or descendant of a grouped path
+ * cannot share the group and flushes it first. A window of zero sends every
+ * update on its own.
+ */
+class GroupCommit {
+
+    private final StorageBackend backend;
+    private final long windowMicros;
+    private final int maxUpdates;
+    private final ScheduledExecutorService timer;
+
+    // guarded by this
+    private TreeMap<String, Object> paths = new TreeMap<>();
+    private List<SettableApiFuture<Void>> waiting = new ArrayList<>();
+    private ScheduledFuture<?> scheduled;
+
+    GroupCommit(StorageBackend backend, long windowMicros, int maxUpdates) {
+        this.backend = backend;
+        this.windowMicros = windowMicros;
+        this.maxUpdates = Math.max(1, maxUpdates);
+        this.timer = windowMicros <= 0 ? null : Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "group-commit");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    ApiFuture<Void> submit(Map<String, Object> update) {
+        if (timer == null) {
+            return write(update);
+        }
+        TreeMap<String, Object> normalized = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : update.entrySet()) {
+            normalized.put(Paths.normalize(entry.getKey()), entry.getValue());
+        }
+        if (overlaps(normalized, normalized)) {
+            // invalid on its own, the backend rejects it without failing a group
+            return write(update);
+        }
+
+        SettableApiFuture<Void> result = SettableApiFuture.create();
+        synchronized (this) {
+            if (overlaps(normalized, paths)) {
+                send();
+            }
+            paths.putAll(normalized);
+            waiting.add(result);
+            if (waiting.size() >= maxUpdates) {
+                send();
+            } else if (scheduled == null) {
+                scheduled = timer.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        flush();
+                    }
+                }, windowMicros, TimeUnit.MICROSECONDS);
+            }
+        }
+        return result;
+    }
+
+    private synchronized void flush() {
+        if (!waiting.isEmpty()) {
+            send();
+        }
+    }
+
+    /**
+     * Sends the pending group. Groups are handed to the backend under the
+     * lock, so they are applied in the order their updates were submitted.
+     * The group is taken out first, a backend that throws fails it and the
+     * next group starts empty.
+     */
+    private void send() {
+        final List<SettableApiFuture<Void>> group = waiting;
+        TreeMap<String, Object> update = paths;
+        paths = new TreeMap<>();
+        waiting = new ArrayList<>();
+        if (scheduled != null) {
+            scheduled.cancel(false);
+            scheduled = null;
+        }
+        ApiFutures.addCallback(write(update), new ApiFutureCallback<Void>() {
+            @Override
+            public void onSuccess(Void ignored) {
+                for (SettableApiFuture<Void> future : group) {
+                    future.set(null);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                for (SettableApiFuture<Void> future : group) {
+                    future.setException(t);
+                }
+            }
+        });
+    }
+
+    /**
+     * Firebase checks the paths of an update before it returns a future,
+     * an update it throws on fails the future instead.
+     */
+    private ApiFuture<Void> write(Map<String, Object> update) {
+        try {
+            return backend.updateChildren("", update);
+        } catch (RuntimeException e) {
+            return ApiFutures.immediateFailedFuture(e);
+        }
+    }
+
+    /**
+     * Whether a path of the update is empty or an ancestor or descendant of
+     * a path in the target. Equal paths do not overlap, they are merged.
+     */
+    private static boolean overlaps(TreeMap<String, Object> update, TreeMap<String, Object> target) {
+        if (target.isEmpty()) {
+            return false;
+        }
+        for (String path : update.keySet()) {
+            if (path.isEmpty()) {
+                return true;
+            }
+            for (int slash = path.lastIndexOf('/'); slash > 0; slash = path.lastIndexOf('/', slash - 1)) {
+                if (target.containsKey(path.substring(0, slash))) {
+                    return true;
+                }
+            }
+            String descendant = target.ceilingKey(path + "/");
+            if (descendant != null && descendant.startsWith(path + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,79 @@
+package write;
+
+import com.google.api.core.ApiFuture;
+import storage.Paths;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latest pending value per path of writes that are sent later. A value put
+ * for a buffered path replaces the earlier one, which never reaches the
+ * backend. The journal records of replaced values are committed together
+ * with the value that superseded them.
+ */
+class WriteBehindBuffer {
+
+    // guarded by this, in order of the first put of each path
+    private Map<String, Object> values = new LinkedHashMap<>();
+    private List<ApiFuture<Long>> journaled = new ArrayList<>();
+    private long superseded;
+
+    synchronized void put(String path, Object value, ApiFuture<Long> sequence) {
+        String normalized = Paths.normalize(path);
+        if (values.containsKey(normalized)) {
+            superseded++;
+        }
+        values.put(normalized, value);
+        journaled.add(sequence);
+    }
+
+    /**
+     * Whether a path of the update is, contains or is contained in a
+     * buffered path.
+     */
+    synchronized boolean overlaps(Map<String, Object> update) {
+        if (values.isEmpty()) {
+            return false;
+        }
+        for (String path : update.keySet()) {
+            String normalized = Paths.normalize(path);
+            for (String buffered : values.keySet()) {
+                if (buffered.equals(normalized)
+                        || buffered.startsWith(normalized + "/")
+                        || normalized.startsWith(buffered + "/")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes everything buffered, the caller writes it.
+     */
+    synchronized Drained drain() {
+        Drained drained = new Drained(values, journaled);
+        values = new LinkedHashMap<>();
+        journaled = new ArrayList<>();
+        return drained;
+    }
+
+    synchronized long getSuperseded() {
+        return superseded;
+    }
+
+    static class Drained {
+
+        final Map<String, Object> values;
+        final List<ApiFuture<Long>> journaled;
+
+        Drained(Map<String, Object> values, List<ApiFuture<Long>> journaled) {
+            this.values = values;
+            this.journaled = journaled;
+        }
+    }
+
+}
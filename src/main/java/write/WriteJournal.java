@@ -0,0 +1,416 @@
+package write;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import org.apache.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only local log of multi-path updates. An update is journaled before
+ * it is sent to the backend and marked committed once the backend accepted
+ * it, so updates without a commit mark are replayed after a crash.
+ * <p>
+ * Records are written by a single journal thread that syncs the file once
+ * per batch of queued records, so concurrent writers share one fsync.
+ * Every record is {@code [int length][int crc][byte type][long sequence][payload]},
+ * the CRC32 covering everything after itself. Recovery stops at the first
+ * torn record, or record whose checksum does not match, and drops it and
+ * everything after it.
+ * <p>
+ * Once the file passes a size limit and is mostly committed records, it is
+ * rewritten with only the uncommitted updates, into a new file that then
+ * replaces it, so a crash while compacting loses nothing.
+ */
+public class WriteJournal {
+
+    private final static Logger logger = Logger.getLogger(WriteJournal.class);
+
+    private static final byte UPDATE = 1;
+    private static final byte COMMIT = 2;
+    // never written, tells the journal thread to stop
+    private static final byte CLOSE = 3;
+
+    // a journal larger than this is compacted once at least half of it is committed
+    private static final long COMPACT_BYTES = 64L * 1024 * 1024;
+    // a longer length is a torn or corrupt record
+    private static final int MAX_RECORD_BYTES = 512 * 1024 * 1024;
+    // checksum, type and sequence
+    private static final int HEADER_BYTES = 4 + 1 + 8;
+
+    private final File file;
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+    private final TreeMap<Long, Map<String, Object>> recovered;
+    private final Thread thread;
+
+    // owned by the journal thread after construction
+    private FileOutputStream fileStream;
+    private DataOutputStream out;
+    private long nextSequence;
+    private long size;
+    // payloads of the updates not committed yet, by sequence
+    private final TreeMap<Long, byte[]> uncommitted = new TreeMap<>();
+    private long uncommittedBytes;
+    private volatile boolean closed;
+
+    public WriteJournal(File file) throws IOException {
+        this.file = file;
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Cannot create journal directory " + parent);
+        }
+        recovered = read(file);
+        nextSequence = recovered.isEmpty() ? 1 : recovered.lastKey() + 1;
+
+        // start over with only the uncommitted updates
+        for (Map.Entry<Long, Map<String, Object>> entry : recovered.entrySet()) {
+            byte[] payload = encode(entry.getValue());
+            uncommitted.put(entry.getKey(), payload);
+            uncommittedBytes += recordBytes(payload);
+        }
+        rewrite();
+        if (!recovered.isEmpty()) {
+            logger.info("Recovered " + recovered.size() + " uncommitted updates from " + file);
+        }
+
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                drain();
+            }
+        }, "write-journal");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Updates journaled before the last shutdown that were never committed,
+     * by sequence number.
+     */
+    public Map<Long, Map<String, Object>> getRecovered() {
+        return Collections.unmodifiableMap(recovered);
+    }
+
+    /**
+     * Journals an update. The future completes with its sequence number once
+     * the record is synced to disk.
+     */
+    public ApiFuture<Long> append(Map<String, Object> update) {
+        Request request = new Request(UPDATE, 0, encode(update));
+        enqueue(request);
+        return request.synced;
+    }
+
+    /**
+     * Marks an update as accepted by the backend, it will not be replayed.
+     */
+    public void commit(long sequence) {
+        enqueue(new Request(COMMIT, sequence, new byte[0]));
+    }
+
+    /**
+     * Syncs outstanding records and stops the journal thread.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.add(new Request(CLOSE, 0, new byte[0]));
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(Request request) {
+        if (closed) {
+            request.synced.setException(new IOException("Journal is closed"));
+            return;
+        }
+        queue.add(request);
+    }
+
+    private void drain() {
+        List<Request> batch = new ArrayList<>();
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch);
+            if (batch.get(batch.size() - 1).type == CLOSE) {
+                batch.remove(batch.size() - 1);
+                stopping = true;
+            }
+            write(batch);
+            batch.clear();
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            logger.error("Cannot close journal " + file + ": " + e.getLocalizedMessage());
+        }
+    }
+
+    private void write(List<Request> batch) {
+        try {
+            for (Request request : batch) {
+                if (request.type == UPDATE) {
+                    request.sequence = nextSequence++;
+                    uncommitted.put(request.sequence, request.payload);
+                    uncommittedBytes += recordBytes(request.payload);
+                } else {
+                    byte[] committed = uncommitted.remove(request.sequence);
+                    if (committed != null) {
+                        uncommittedBytes -= recordBytes(committed);
+                    }
+                }
+                size += writeRecord(out, request.type, request.sequence, request.payload);
+            }
+            sync();
+        } catch (IOException e) {
+            logger.error("Journal write failed: " + e.getLocalizedMessage(), e);
+            for (Request request : batch) {
+                request.synced.setException(e);
+            }
+            return;
+        }
+        for (Request request : batch) {
+            request.synced.set(request.sequence);
+        }
+        if (size > COMPACT_BYTES && uncommittedBytes < size / 2) {
+            try {
+                long before = size;
+                rewrite();
+                logger.info("Compacted journal " + file + " from " + before + " to " + size + " bytes");
+            } catch (IOException e) {
+                logger.warn("Cannot compact journal " + file + ": " + e.getLocalizedMessage());
+            }
+        }
+    }
+
+    /**
+     * Replaces the file with one holding only the uncommitted updates and
+     * continues appending to it.
+     */
+    private void rewrite() throws IOException {
+        File rewritten = new File(file.getPath() + ".compact");
+        long rewrittenSize = 0;
+        try (FileOutputStream stream = new FileOutputStream(rewritten, false)) {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(stream));
+            for (Map.Entry<Long, byte[]> entry : uncommitted.entrySet()) {
+                rewrittenSize += writeRecord(data, UPDATE, entry.getKey(), entry.getValue());
+            }
+            data.flush();
+            stream.getFD().sync();
+        }
+        Files.move(rewritten.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        if (out != null) {
+            out.close();
+        }
+        fileStream = new FileOutputStream(file, true);
+        out = new DataOutputStream(new BufferedOutputStream(fileStream));
+        size = rewrittenSize;
+    }
+
+    private static long writeRecord(DataOutputStream out, byte type, long sequence, byte[] payload) throws IOException {
+        byte[] header = ByteBuffer.allocate(1 + 8).put(type).putLong(sequence).array();
+        CRC32 crc = new CRC32();
+        crc.update(header);
+        crc.update(payload);
+        out.writeInt(HEADER_BYTES + payload.length);
+        out.writeInt((int) crc.getValue());
+        out.write(header);
+        out.write(payload);
+        return recordBytes(payload);
+    }
+
+    private static long recordBytes(byte[] payload) {
+        return 4 + HEADER_BYTES + payload.length;
+    }
+
+    private void sync() throws IOException {
+        out.flush();
+        fileStream.getFD().sync();
+    }
+
+    private static TreeMap<Long, Map<String, Object>> read(File file) throws IOException {
+        TreeMap<Long, Map<String, Object>> updates = new TreeMap<>();
+        if (!file.exists()) {
+            return updates;
+        }
+        long position = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (true) {
+                byte[] record;
+                try {
+                    int length = in.readInt();
+                    if (length < HEADER_BYTES || length > MAX_RECORD_BYTES) {
+                        throw new IOException("Corrupt record length " + length);
+                    }
+                    record = new byte[length];
+                    in.readFully(record);
+                    DataInputStream recordIn = new DataInputStream(new ByteArrayInputStream(record));
+                    int checksum = recordIn.readInt();
+                    CRC32 crc = new CRC32();
+                    crc.update(record, 4, record.length - 4);
+                    if (checksum != (int) crc.getValue()) {
+                        throw new IOException("Checksum mismatch");
+                    }
+                    byte type = recordIn.readByte();
+                    long sequence = recordIn.readLong();
+                    if (type == UPDATE) {
+                        Object update = readValue(recordIn);
+                        if (!(update instanceof Map)) {
+                            throw new IOException("Corrupt update " + sequence);
+                        }
+                        @SuppressWarnings("unchecked")
+                        Map<String, Object> map = (Map<String, Object>) update;
+                        updates.put(sequence, map);
+                    } else if (type == COMMIT) {
+                        updates.remove(sequence);
+                    } else {
+                        throw new IOException("Corrupt record type " + type);
+                    }
+                } catch (EOFException e) {
+                    if (position < file.length()) {
+                        logger.warn("Torn record at offset " + position + " of " + file + ", dropped");
+                    }
+                    break;
+                } catch (IOException e) {
+                    logger.warn("Journal " + file + " is cut at offset " + position + ": " + e.getLocalizedMessage());
+                    break;
+                }
+                position += 4 + record.length;
+            }
+        }
+        return updates;
+    }
+
+    static byte[] encode(Map<String, Object> update) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            writeValue(new DataOutputStream(bytes), update);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte('N');
+        } else if (value instanceof String) {
+            out.writeByte('S');
+            writeString(out, (String) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte('B');
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte('D');
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            out.writeByte('L');
+            out.writeLong(((Number) value).longValue());
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte('M');
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, String.valueOf(entry.getKey()));
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case 'N':
+                return null;
+            case 'S':
+                return readString(in);
+            case 'B':
+                return in.readBoolean();
+            case 'D':
+                return in.readDouble();
+            case 'L':
+                return in.readLong();
+            case 'M':
+                int size = in.readInt();
+                if (size < 0 || size > in.available()) {
+                    throw new IOException("Corrupt journal record, map of " + size + " entries");
+                }
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = readString(in);
+                    map.put(key, readValue(in));
+                }
+                return map;
+            default:
+                throw new IOException("Corrupt journal record, unknown tag " + tag);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        // records are read from memory, available() is what is left of the record
+        if (length < 0 || length > in.available()) {
+            throw new IOException("Corrupt journal record, string of " + length + " bytes");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static class Request {
+
+        final byte type;
+        final byte[] payload;
+        final SettableApiFuture<Long> synced = SettableApiFuture.create();
+        long sequence;
+
+        Request(byte type, long sequence, byte[] payload) {
+            this.type = type;
+            this.sequence = sequence;
+            this.payload = payload;
+        }
+    }
+
+}
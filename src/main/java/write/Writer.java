@@ -0,0 +1,367 @@
+package write;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import org.apache.log4j.Logger;
+import org.apache.thrift.async.AsyncMethodCallback;
+import storage.Paths;
+import storage.StorageBackend;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single write path of the service. Every write is a multi-path update of
+ * the storage root, grouped with concurrent writes and answered according
+ * to the acknowledgement mode.
+ * Callbacks are completed from future callbacks, a write never blocks the
+ * calling thread.
+ * <p>
+ * Whole values that are saved over and over, e.g. chapter autosaves, can be
+ * written behind: they are journaled, answered and buffered, and only the
+ * latest value per path is sent at the next flush. Until then readers see
+ * the previous value. Any other write touching a buffered path flushes the
+ * buffer first, so writes still reach the backend in order.
+ */
+public class Writer {
+
+    private final static Logger logger = Logger.getLogger(Writer.class);
+
+    // close waits this long for outstanding writes
+    private static final long CLOSE_MILLIS = 5000;
+
+    private final GroupCommit commits;
+    private final AckMode mode;
+    private final WriteJournal journal;
+    private final WriteBehindBuffer behind;
+    private final ScheduledExecutorService flusher;
+    // held from draining the buffer until its values are submitted, so no write passes a drained value
+    private final Object submitLock = new Object();
+    // guarded by itself, journaled writes sent to the backend whose commit is not journaled yet
+    private final int[] committing = new int[1];
+
+    /**
+     * @param journal           required for {@link AckMode#DURABLE} and write-behind, ignored otherwise
+     * @param groupWindowMillis updates submitted within this window are sent as one, 0 sends each on its own
+     * @param groupMaxUpdates   a group is sent early once it holds this many updates
+     * @param writeBehindMillis interval of write-behind flushes, 0 writes through
+     */
+    public Writer(StorageBackend backend, AckMode mode, WriteJournal journal,
+                  int groupWindowMillis, int groupMaxUpdates, int writeBehindMillis) {
+        if ((mode == AckMode.DURABLE || writeBehindMillis > 0) && journal == null) {
+            throw new IllegalArgumentException("Durable and write-behind writes need a journal");
+        }
+        this.commits = new GroupCommit(backend, groupWindowMillis * 1000L, groupMaxUpdates);
+        this.mode = mode;
+        this.journal = journal;
+        if (writeBehindMillis > 0) {
+            behind = new WriteBehindBuffer();
+            flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "write-behind");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            flusher.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    // a throw would cancel the periodic flush for good
+                    try {
+                        flushBehind();
+                    } catch (RuntimeException e) {
+                        logger.error("Write-behind flush failed", e);
+                    }
+                }
+            }, writeBehindMillis, writeBehindMillis, TimeUnit.MILLISECONDS);
+        } else {
+            behind = null;
+            flusher = null;
+        }
+    }
+
+    public AckMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Sends the updates a previous run journaled but never saw committed.
+     * An update the backend would reject is logged and committed, it would
+     * fail again on every start.
+     */
+    public void replay() {
+        if (journal == null) {
+            return;
+        }
+        for (Map.Entry<Long, Map<String, Object>> entry : journal.getRecovered().entrySet()) {
+            try {
+                Paths.checkUpdate(entry.getValue());
+            } catch (IllegalArgumentException e) {
+                logger.error("Skipping journaled write " + entry.getKey() + " of " + entry.getValue().keySet()
+                        + ": " + e.getLocalizedMessage());
+                journal.commit(entry.getKey());
+                continue;
+            }
+            send(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public <T> void write(Map<String, Object> update, T result, AsyncMethodCallback<T> callback) {
+        write(update, result, callback, mode);
+    }
+
+    /**
+     * Writes a whole value behind when write-behind is enabled, the call is
+     * answered once the value is journaled. Writes through otherwise.
+     */
+    public void writeBehind(String path, Object value, final AsyncMethodCallback<Void> callback) {
+        if (behind == null) {
+            write(Collections.singletonMap(path, value), null, callback);
+            return;
+        }
+        try {
+            Paths.checkUpdate(Collections.singletonMap(path, value));
+        } catch (IllegalArgumentException e) {
+            callback.onError(e);
+            return;
+        }
+        ApiFuture<Long> sequence = journal.append(Collections.singletonMap(path, value));
+        behind.put(path, value, sequence);
+        ApiFutures.addCallback(sequence, new ApiFutureCallback<Long>() {
+            @Override
+            public void onSuccess(Long ignored) {
+                callback.onComplete(null);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                callback.onError(asException(t));
+            }
+        });
+    }
+
+    /**
+     * Whether a write-behind value is buffered at, above or below the path.
+     */
+    public boolean isBuffered(String path) {
+        return behind != null && behind.overlaps(Collections.<String, Object>singletonMap(path, null));
+    }
+
+    /**
+     * Flushes the write-behind buffer and waits a few seconds for the backend
+     * to accept the journaled writes, so their commits reach the journal
+     * before it is closed. Writes not acknowledged by then are replayed on
+     * the next start.
+     */
+    public void close() {
+        long deadline = System.currentTimeMillis() + CLOSE_MILLIS;
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flushBehind().get(CLOSE_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                logger.warn("Write-behind flush on close failed: " + e.getLocalizedMessage());
+            }
+        }
+        if (journal != null) {
+            synchronized (committing) {
+                long left;
+                while (committing[0] > 0 && (left = deadline - System.currentTimeMillis()) > 0) {
+                    try {
+                        committing.wait(left);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                if (committing[0] > 0) {
+                    logger.warn(committing[0] + " journaled writes unacknowledged on close, replayed on the next start");
+                }
+            }
+            journal.close();
+        }
+    }
+
+    private void commitWhenJournaled(ApiFuture<Long> appended) {
+        committing(1);
+        ApiFutures.addCallback(appended, new ApiFutureCallback<Long>() {
+            @Override
+            public void onSuccess(Long sequence) {
+                journal.commit(sequence);
+                committing(-1);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                // the write was answered with this error already, it is not in the journal
+                committing(-1);
+            }
+        });
+    }
+
+    private void committing(int delta) {
+        synchronized (committing) {
+            committing[0] += delta;
+            if (committing[0] == 0) {
+                committing.notifyAll();
+            }
+        }
+    }
+
+    private ApiFuture<Void> flushBehind() {
+        final WriteBehindBuffer.Drained drained;
+        ApiFuture<Void> written;
+        synchronized (submitLock) {
+            drained = behind.drain();
+            if (drained.values.isEmpty()) {
+                return ApiFutures.immediateFuture(null);
+            }
+            committing(1);
+            try {
+                written = commits.submit(drained.values);
+            } catch (RuntimeException e) {
+                // failed like a rejected write, the callback below releases committing
+                written = ApiFutures.immediateFailedFuture(e);
+            }
+        }
+        ApiFutures.addCallback(written, new ApiFutureCallback<Void>() {
+            @Override
+            public void onSuccess(Void ignored) {
+                for (ApiFuture<Long> sequence : drained.journaled) {
+                    commitWhenJournaled(sequence);
+                }
+                committing(-1);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                // stays in the journal and is sent again on the next start
+                logger.error("Write-behind flush of " + drained.values.keySet() + " failed: "
+                        + t.getLocalizedMessage());
+                committing(-1);
+            }
+        });
+        logger.debug("Flushed " + drained.values.size() + " write-behind values, "
+                + behind.getSuperseded() + " superseded so far");
+        return written;
+    }
+
+    /**
+     * Hands an update to the group commit, after the buffered values it
+     * overlaps. An update the backend throws on fails the returned future.
+     */
+    private ApiFuture<Void> submit(Map<String, Object> update) {
+        synchronized (submitLock) {
+            if (behind != null && behind.overlaps(update)) {
+                flushBehind();
+            }
+            try {
+                return commits.submit(update);
+            } catch (RuntimeException e) {
+                return ApiFutures.immediateFailedFuture(e);
+            }
+        }
+    }
+
+    /**
+     * Writes with at least the given acknowledgement mode, e.g. a batch whose
+     * result tells the client whether it was applied.
+     */
+    public <T> void write(Map<String, Object> update, T result, AsyncMethodCallback<T> callback, AckMode atLeast) {
+        try {
+            // checked before it is journaled, a durable write is answered before it is sent
+            Paths.checkUpdate(update);
+        } catch (IllegalArgumentException e) {
+            callback.onError(e);
+            return;
+        }
+        AckMode effective = mode.compareTo(atLeast) < 0 ? atLeast : mode;
+        if (effective == AckMode.DURABLE && journal == null) {
+            effective = AckMode.ACKNOWLEDGED;
+        }
+        switch (effective) {
+            case FIRE_AND_FORGET:
+                ApiFutures.addCallback(submit(update), logFailure(update));
+                callback.onComplete(result);
+                break;
+            case ACKNOWLEDGED:
+                ApiFutures.addCallback(submit(update), complete(result, callback));
+                break;
+            case DURABLE:
+                journaled(update, result, callback);
+                break;
+        }
+    }
+
+    private <T> void journaled(final Map<String, Object> update, final T result,
+                               final AsyncMethodCallback<T> callback) {
+        ApiFutures.addCallback(journal.append(update), new ApiFutureCallback<Long>() {
+            @Override
+            public void onSuccess(Long sequence) {
+                callback.onComplete(result);
+                send(sequence, update);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                callback.onError(asException(t));
+            }
+        });
+    }
+
+    private void send(final long sequence, final Map<String, Object> update) {
+        committing(1);
+        ApiFutures.addCallback(submit(update), new ApiFutureCallback<Void>() {
+            @Override
+            public void onSuccess(Void ignored) {
+                journal.commit(sequence);
+                committing(-1);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                // stays in the journal and is sent again on the next start
+                logger.error("Journaled write " + sequence + " failed: " + t.getLocalizedMessage());
+                committing(-1);
+            }
+        });
+    }
+
+    private static <T> ApiFutureCallback<Void> complete(final T result, final AsyncMethodCallback<T> callback) {
+        return new ApiFutureCallback<Void>() {
+            @Override
+            public void onSuccess(Void ignored) {
+                callback.onComplete(result);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                callback.onError(asException(t));
+            }
+        };
+    }
+
+    private static ApiFutureCallback<Void> logFailure(final Map<String, Object> update) {
+        return new ApiFutureCallback<Void>() {
+            @Override
+            public void onSuccess(Void ignored) {
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                logger.error("Write of " + update.keySet() + " failed: " + t.getLocalizedMessage());
+            }
+        };
+    }
+
+    private static Exception asException(Throwable t) {
+        return t instanceof Exception ? (Exception) t : new Exception(t);
+    }
+
+}
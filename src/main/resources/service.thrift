@@ -3,12 +3,16 @@ namespace java thrift
 struct Handbook {
     1: string name;
     2: list<Chapter> chapters;
+    // storage key, set on export records and getHandbook
+    3: optional string uid;
 }
 
 struct Chapter {
     1: string name;
     2: string description
     3: string text;
+    // storage key, set on export records and getHandbook
+    4: optional string uid;
 }
 
 struct CustomPair {
@@ -16,17 +20,101 @@ struct CustomPair {
     2: string value;
 }
 
+// replaces deleteCount characters at offset with text, offsets count UTF-16 units
+struct TextEdit {
+    1: i32 offset;
+    2: i32 deleteCount;
+    3: string text;
+}
+
 struct Callback {
     1: CustomPair pair;
     2: string event;
     3: CallbackType type;
     4: ValidUpdate update;
+    // set on EDITED events, the edits that turned version - 1 into version
+    5: optional list<TextEdit> edits;
+    6: optional i64 version;
+    // set on watchChapter events, the fields that changed and the new values,
+    // a field in the mask without a value was removed
+    7: optional list<string> fieldMask;
+    8: optional list<CustomPair> fields;
+}
+
+// chapter text at a version, the base of later text edits
+struct ChapterText {
+    1: string text;
+    2: i64 version;
+}
+
+// the text has moved past the base version of the edits, read it again or
+// rebase the edits onto currentVersion
+exception VersionConflict {
+    1: i64 currentVersion;
+    2: string message;
+}
+
+// part of a chapter text, offsets and lengths count UTF-16 units
+struct TextRange {
+    1: string text;
+    2: i32 offset;
+    3: i32 totalLength;
+    4: i64 version;
+    // offset of the next chunk, -1 when the range reaches the end of the text
+    5: i32 nextOffset;
+}
+
+struct Page {
+    1: list<Callback> items;
+    // pass to the next call to continue, unset on the last page
+    2: string nextCursor;
+}
+
+struct ChapterRef {
+    1: string bookUid;
+    2: string chapterUid;
+}
+
+// the chapter, or the error that kept it from being read
+struct ChapterResult {
+    1: Chapter chapter;
+    2: string error;
+}
+
+// a chapter matching a search, snippet wraps the matched terms in <em> tags
+struct SearchHit {
+    1: string bookUid;
+    2: string chapterUid;
+    3: string chapterName;
+    4: double score;
+    5: string snippet;
+}
+
+// a book or chapter whose name matches a suggest prefix
+struct Suggestion {
+    1: string bookUid;
+    // unset for a book
+    2: optional string chapterUid;
+    3: string name;
+}
+
+// one write of a batch, the fields needed depend on the type
+struct Mutation {
+    1: MutationType type;
+    2: string bookUid;
+    3: string chapterUid;
+    4: string name;
+    5: Chapter chapter;
 }
 
 enum CallbackType {
     ADDED,
     CHANGED,
-    REMOVED
+    REMOVED,
+    // events were lost, reload with the matching get call
+    RESYNC,
+    // text edits, apply to the text of version - 1 from getChapterText
+    EDITED
 }
 
 enum ValidUpdate {
@@ -35,6 +123,16 @@ enum ValidUpdate {
     CHAPTER_INFO
 }
 
+enum MutationType {
+    ADD_BOOK,
+    RENAME_BOOK,
+    REMOVE_BOOK,
+    ADD_CHAPTER,
+    RENAME_CHAPTER,
+    UPDATE_CHAPTER,
+    REMOVE_CHAPTER
+}
+
 
 service Storage {
 
@@ -43,14 +141,65 @@ service Storage {
     void renameBook(1: CustomPair newValue);
     void renameBookChapter(1: string bookUid, 2: CustomPair newValue);
     Callback getChapter(1: string bookUid, 2: string chapterUid);
+    // like getChapter, but one "chapter" event per write of the chapter with
+    // the changed fields, instead of one event per field; poll with subscribeForChapter.
+    // Fails when the chapter does not exist
+    Callback watchChapter(1: string bookUid, 2: string chapterUid);
     void updateChapter(1: string bookUid, 2: string chapterUid, 3: Chapter chapter);
     void removeBook(1: string bookUid);
     void removeChapter(1: string bookUid, 2: string chapterUid);
     void addBook(1: string bookName);
     void addChapter(1: string bookUid, 2: string chapterName)
 
+    // complete current state in one response, pageSize 0 returns everything,
+    // later changes are delivered by the matching subscribeFor* call; with a
+    // pageSize the rest is read with getBookListPage/getBookChaptersPage from nextCursor
+    Page            getBookListSnapshot(1: i32 pageSize);
+    Page            getBookChaptersSnapshot(1: string bookUid, 2: i32 pageSize);
+    list<Callback>  getChapterSnapshot(1: string bookUid, 2: string chapterUid);
+
+    // children in key order, pageSize items per call starting after the cursor
+    Page getBookListPage(1: i32 pageSize, 2: string cursor);
+    Page getBookChaptersPage(1: string bookUid, 2: i32 pageSize, 3: string cursor);
+
+    // reads the chapters concurrently without subscribing, one result per
+    // reference in request order
+    list<ChapterResult> getChapters(1: list<ChapterRef> refs);
+
+    // the whole book in one read, chapters in key order
+    Handbook getHandbook(1: string bookUid);
+
+    // chapters whose name, description or text contain every word of the
+    // query, best match first, at most limit hits; fails unless the server
+    // runs with search.enabled
+    list<SearchHit> search(1: string query, 2: i32 limit);
+
+    // book and chapter names starting with the prefix, then names with a later
+    // word starting with it; case and accents are ignored, answered from memory
+    list<Suggestion> suggest(1: string prefix, 2: i32 limit);
+
+    // writes all mutations in one atomic update, returns the book or chapter
+    // uid each mutation wrote, including the uids generated for additions
+    list<string>    applyBatch(1: list<Mutation> mutations);
+
+    // writes only the chapter fields named in fieldMask ("name", "description",
+    // "text"), fields equal to the cached value are not written
+    void patchChapter(1: string bookUid, 2: string chapterUid, 3: Chapter chapter, 4: list<string> fieldMask);
+
+    // applies the edits in order to the text of baseVersion and returns the new
+    // version, throws VersionConflict when the text has moved past baseVersion
+    ChapterText getChapterText(1: string bookUid, 2: string chapterUid);
+    i64             editChapterText(1: string bookUid, 2: string chapterUid, 3: i64 baseVersion, 4: list<TextEdit> edits)
+                        throws (1: VersionConflict conflict);
+
+    // reads length units of the chapter text from offset, at most one chunk;
+    // length 0 reads one chunk, follow nextOffset to stream the rest and
+    // start over when the version changes
+    TextRange       getChapterTextRange(1: string bookUid, 2: string chapterUid, 3: i32 offset, 4: i32 length);
+
 
-    list<Callback>  subscribeForBookList();
-    list<Callback>  subscribeForBookChapters(1: string bookUid);
-    list<Callback>  subscribeForChapter(1: string bookUid, 2: string chapterUid);
+    // subscribe calls wait up to timeoutMillis for events, 0 answers right away
+    list<Callback>  subscribeForBookList(1: i64 timeoutMillis);
+    list<Callback>  subscribeForBookChapters(1: string bookUid, 2: i64 timeoutMillis);
+    list<Callback>  subscribeForChapter(1: string bookUid, 2: string chapterUid, 3: i64 timeoutMillis);
 }
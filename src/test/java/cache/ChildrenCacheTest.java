@@ -0,0 +1,144 @@
+package cache;
+
+import org.junit.Before;
+import org.junit.Test;
+import storage.InMemoryStorageBackend;
+import storage.ListenerRegistry;
+import storage.Snapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ChildrenCacheTest {
+
+    private InMemoryStorageBackend backend;
+    private ListenerRegistry listeners;
+
+    @Before
+    public void setUp() {
+        backend = new InMemoryStorageBackend();
+        listeners = new ListenerRegistry(backend);
+    }
+
+    /**
+     * Waits for the events and load callbacks queued so far on the event thread.
+     */
+    private void awaitEvents() throws Exception {
+        backend.get("").get();
+    }
+
+    @Test
+    public void readsThroughOnceThenServesFromMemory() throws Exception {
+        backend.setValue("books/b1/name", "Mosses").get();
+        backend.setValue("books/b2/name", "Lichens").get();
+        ChildrenCache cache = new ChildrenCache(backend, listeners, 1024 * 1024);
+
+        assertNull(cache.getCachedChildren("books"));
+        assertEquals(Arrays.asList("b1", "b2"), keys(cache.getChildren("books").get()));
+        assertEquals(Arrays.asList("b1", "b2"), keys(cache.getChildren("/books/").get()));
+        assertEquals(Arrays.asList("b1", "b2"), keys(cache.getCachedChildren("books")));
+
+        assertEquals(1, cache.getMetrics().getMisses());
+        assertEquals(1, cache.getMetrics().getHits());
+        assertEquals(1, listeners.getAttachedCount());
+    }
+
+    @Test
+    public void followsWritesToACachedPath() throws Exception {
+        backend.setValue("books/b1/name", "Mosses").get();
+        ChildrenCache cache = new ChildrenCache(backend, listeners, 1024 * 1024);
+        cache.getChildren("books").get();
+        long loaded = cache.getBytes();
+
+        backend.setValue("books/b2/name", "Lichens").get();
+        awaitEvents();
+        assertEquals(Arrays.asList("b1", "b2"), keys(cache.getCachedChildren("books")));
+        assertTrue(cache.getBytes() > loaded);
+
+        backend.removeValue("books/b2").get();
+        awaitEvents();
+        assertEquals(Arrays.asList("b1"), keys(cache.getCachedChildren("books")));
+        assertEquals(loaded, cache.getBytes());
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyReadPath() throws Exception {
+        for (String book : Arrays.asList("a", "b", "c", "d")) {
+            backend.setValue("books/" + book + "/chapters/c1/name", "Chapter").get();
+        }
+        ChildrenCache measured = new ChildrenCache(backend, new ListenerRegistry(backend), Long.MAX_VALUE);
+        measured.getChildren("books/a/chapters").get();
+        awaitEvents();
+        long perEntry = measured.getBytes();
+        assertTrue(perEntry > ChildrenCache.ENTRY_BYTES);
+
+        // room for three entries
+        ChildrenCache cache = new ChildrenCache(backend, listeners, 4 * perEntry - 1);
+        cache.getChildren("books/a/chapters").get();
+        cache.getChildren("books/b/chapters").get();
+        cache.getChildren("books/c/chapters").get();
+        awaitEvents();
+        assertEquals(3 * perEntry, cache.getBytes());
+
+        // a is read again, b becomes the least recently read
+        cache.getChildren("books/a/chapters").get();
+        cache.getChildren("books/d/chapters").get();
+        awaitEvents();
+
+        assertNull(cache.getCachedChildren("books/b/chapters"));
+        assertNotNull(cache.getCachedChildren("books/a/chapters"));
+        assertNotNull(cache.getCachedChildren("books/c/chapters"));
+        assertNotNull(cache.getCachedChildren("books/d/chapters"));
+        assertEquals(3, cache.getSize());
+        assertEquals(3 * perEntry, cache.getBytes());
+        assertEquals(1, cache.getMetrics().getEvictions());
+        // the listener of the evicted path is detached
+        assertEquals(3, listeners.getAttachedCount());
+    }
+
+    @Test
+    public void evictsMissingPaths() throws Exception {
+        ChildrenCache cache = new ChildrenCache(backend, listeners, 10 * ChildrenCache.ENTRY_BYTES);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(cache.getChildren("books/missing" + i + "/chapters").get().isEmpty());
+        }
+        awaitEvents();
+
+        assertEquals(10, cache.getSize());
+        assertEquals(10 * ChildrenCache.ENTRY_BYTES, cache.getBytes());
+        assertEquals(10, listeners.getAttachedCount());
+    }
+
+    @Test
+    public void keepsTheLastReadPathOverBudget() throws Exception {
+        backend.setValue("books/b1/name", "Mosses").get();
+        ChildrenCache cache = new ChildrenCache(backend, listeners, 0);
+        cache.getChildren("books").get();
+        awaitEvents();
+
+        assertEquals(Arrays.asList("b1"), keys(cache.getCachedChildren("books")));
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void estimatesSizes() {
+        assertEquals(40 + 2 * 6, ChildrenCache.sizeOf("Mosses"));
+        assertEquals(16, ChildrenCache.sizeOf(12L));
+        assertEquals(0, ChildrenCache.sizeOf(null));
+    }
+
+    private static List<String> keys(List<Snapshot> snapshots) {
+        List<String> keys = new ArrayList<>();
+        for (Snapshot snapshot : snapshots) {
+            keys.add(snapshot.getKey());
+        }
+        return keys;
+    }
+
+}
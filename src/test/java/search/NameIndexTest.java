@@ -0,0 +1,99 @@
+package search;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NameIndexTest {
+
+    private NameIndex index;
+
+    @Before
+    public void setUp() {
+        index = new NameIndex();
+        index.indexName("b1", null, "Mosses of the North");
+        index.indexName("b1", "c1", "Peat Moss");
+        index.indexName("b1", "c2", "Sphagnum");
+        index.indexName("b2", null, "Lichens");
+        index.indexName("b2", "c1", "Crème Brûlée and Moss");
+    }
+
+    private static List<String> names(List<NameIndex.Suggestion> suggestions) {
+        List<String> names = new ArrayList<>();
+        for (NameIndex.Suggestion suggestion : suggestions) {
+            names.add(suggestion.getName());
+        }
+        return names;
+    }
+
+    @Test
+    public void suggestsNameStartsBeforeLaterWords() {
+        // both later words are "moss", the uids break the tie
+        assertEquals(Arrays.asList("Mosses of the North", "Peat Moss", "Crème Brûlée and Moss"),
+                names(index.suggest("mos", 10)));
+        assertEquals(Arrays.asList("Mosses of the North"), names(index.suggest("mos", 1)));
+        assertEquals(Arrays.asList("Mosses of the North"), names(index.suggest("north", 10)));
+        assertTrue(index.suggest("fern", 10).isEmpty());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    public void tellsBooksFromChapters() {
+        NameIndex.Suggestion book = index.suggest("lich", 10).get(0);
+        assertEquals("b2", book.getBookUid());
+        assertNull(book.getChapterUid());
+
+        NameIndex.Suggestion chapter = index.suggest("sphag", 10).get(0);
+        assertEquals("b1", chapter.getBookUid());
+        assertEquals("c2", chapter.getChapterUid());
+    }
+
+    @Test
+    public void aTrailingSpaceAsksForTheNextWord() {
+        assertEquals(Arrays.asList("Mosses of the North"), names(index.suggest("mosses", 10)));
+        assertTrue(index.suggest("moss ", 10).isEmpty());
+        assertEquals(Arrays.asList("Peat Moss"), names(index.suggest("peat ", 10)));
+    }
+
+    @Test
+    public void ignoresCaseAccentsAndSpaces() {
+        assertEquals(Arrays.asList("Crème Brûlée and Moss"), names(index.suggest("CREME  brul", 10)));
+        assertEquals(Arrays.asList("Crème Brûlée and Moss"), names(index.suggest("brûl", 10)));
+        assertEquals("creme brulee", NameIndex.normalize(" Crème \t Brûlée "));
+    }
+
+    @Test
+    public void followsRenamesAndRemovals() {
+        index.indexName("b1", "c2", "Polytrichum");
+        assertTrue(index.suggest("sphag", 10).isEmpty());
+        assertEquals(Arrays.asList("Polytrichum"), names(index.suggest("poly", 10)));
+
+        index.removeName("b1", "c1");
+        assertEquals(Arrays.asList("Mosses of the North", "Crème Brûlée and Moss"), names(index.suggest("moss", 10)));
+
+        index.removeBook("b1");
+        assertEquals(Arrays.asList("Crème Brûlée and Moss"), names(index.suggest("moss", 10)));
+        assertTrue(index.suggest("poly", 10).isEmpty());
+        assertEquals(2, index.getSize());
+    }
+
+    @Test
+    public void ignoresBlankNames() {
+        index.indexName("b3", null, "   ");
+        index.indexName("b3", "c1", null);
+        assertEquals(5, index.getSize());
+
+        // blanking a name removes it
+        index.indexName("b2", null, " ");
+        assertTrue(index.suggest("lich", 10).isEmpty());
+        assertEquals(4, index.getSize());
+    }
+
+}
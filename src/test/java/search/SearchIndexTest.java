@@ -0,0 +1,122 @@
+package search;
+
+import org.junit.Test;
+import storage.Snapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SearchIndexTest {
+
+    private static Snapshot chapter(String uid, String name, String description, String text) {
+        Map<String, Object> chapter = new LinkedHashMap<>();
+        chapter.put("name", name);
+        chapter.put("description", description);
+        chapter.put("text", text);
+        return new Snapshot(uid, chapter);
+    }
+
+    private static List<String> uids(List<SearchIndex.Hit> hits) {
+        List<String> uids = new ArrayList<>();
+        for (SearchIndex.Hit hit : hits) {
+            uids.add(hit.getBookUid() + "/" + hit.getChapterUid());
+        }
+        return uids;
+    }
+
+    @Test
+    public void ranksNamesAboveTexts() {
+        SearchIndex index = new SearchIndex(Long.MAX_VALUE);
+        index.indexChapter("b1", chapter("c1", "Bogs", "Wet places", "Sphagnum moss covers the bog."));
+        index.indexChapter("b1", chapter("c2", "Sphagnum", "Peat moss", "It grows in bogs."));
+        index.indexChapter("b2", chapter("c1", "Lichens", "Fungi and algae", "Not a moss at all."));
+
+        assertEquals(Arrays.asList("b1/c2", "b1/c1"), uids(index.search("sphagnum", 10)));
+        assertEquals(Arrays.asList("b1/c2"), uids(index.search("SPHAGNUM peat", 10)));
+        assertEquals(3, index.search("moss", 10).size());
+        assertEquals(1, index.search("moss", 1).size());
+        assertTrue(index.search("moss fern", 10).isEmpty());
+        assertTrue(index.search("  ,. ", 10).isEmpty());
+    }
+
+    @Test
+    public void removesChaptersAndBooks() {
+        SearchIndex index = new SearchIndex(Long.MAX_VALUE);
+        index.indexChapter("b1", chapter("c1", "Peat", null, "moss"));
+        index.indexChapter("b1", chapter("c2", "Bog", null, "moss"));
+        index.indexChapter("b2", chapter("c1", "Fen", null, "moss"));
+
+        index.removeChapter("b1", "c1");
+        assertEquals(Arrays.asList("b1/c2", "b2/c1"), sorted(uids(index.search("moss", 10))));
+
+        index.removeBook("b2");
+        assertEquals(Arrays.asList("b1/c2"), uids(index.search("moss", 10)));
+        assertEquals(1, index.getDocuments());
+
+        // removing what is not there is harmless
+        index.removeChapter("b3", "c1");
+        index.removeBook("b2");
+        assertEquals(1, index.getDocuments());
+    }
+
+    @Test
+    public void replacesAChangedChapter() {
+        SearchIndex index = new SearchIndex(Long.MAX_VALUE);
+        index.indexChapter("b1", chapter("c1", "Peat", null, "Sphagnum"));
+        long bytes = index.getBytes();
+
+        // unchanged, nothing is indexed again
+        index.indexChapter("b1", chapter("c1", "Peat", null, "Sphagnum"));
+        assertEquals(bytes, index.getBytes());
+        assertEquals(1, index.getDocuments());
+
+        index.indexChapter("b1", chapter("c1", "Peat", null, "Polytrichum"));
+        assertTrue(index.search("sphagnum", 10).isEmpty());
+        assertEquals(Arrays.asList("b1/c1"), uids(index.search("polytrichum", 10)));
+        assertEquals(1, index.getDocuments());
+    }
+
+    @Test
+    public void skipsTextsPastTheBudget() {
+        SearchIndex index = new SearchIndex(0);
+        index.indexChapter("b1", chapter("c1", "Peat", null, "Sphagnum"));
+        index.indexChapter("b1", chapter("c2", "Bog", "Wet", "Polytrichum"));
+
+        // the first chapter fit, the second one is searchable by name and description only
+        assertEquals(Arrays.asList("b1/c1"), uids(index.search("sphagnum", 10)));
+        assertTrue(index.search("polytrichum", 10).isEmpty());
+        assertEquals(Arrays.asList("b1/c2"), uids(index.search("wet bog", 10)));
+    }
+
+    @Test
+    public void compactsAfterManyEdits() {
+        SearchIndex index = new SearchIndex(Long.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            index.indexChapter("b1", chapter("c" + i, "Chapter " + i, null, "moss"));
+        }
+        for (int edit = 0; edit < 5000; edit++) {
+            index.indexChapter("b1", chapter("c" + edit % 10, "Chapter " + edit % 10, null, "moss edit" + edit));
+        }
+
+        assertEquals(10, index.getDocuments());
+        assertEquals(10, index.search("moss", 100).size());
+        assertEquals(Arrays.asList("b1/c9"), uids(index.search("edit4999", 10)));
+        assertTrue(index.search("edit0", 10).isEmpty());
+        assertEquals(Arrays.asList("b1/c3"), uids(index.search("chapter 3", 10)));
+        // the 5000 replaced documents alone would take 96 bytes each
+        assertTrue(index.getBytes() < 96L * 5000);
+    }
+
+    private static List<String> sorted(List<String> list) {
+        Collections.sort(list);
+        return list;
+    }
+
+}
@@ -0,0 +1,241 @@
+package storage;
+
+import com.google.api.core.ApiFuture;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InMemoryStorageBackendTest {
+
+    private InMemoryStorageBackend backend;
+
+    @Before
+    public void setUp() {
+        backend = new InMemoryStorageBackend();
+    }
+
+    private static Map<String, Object> chapter(String name, String text) {
+        Map<String, Object> chapter = new LinkedHashMap<>();
+        chapter.put("name", name);
+        chapter.put("text", text);
+        return chapter;
+    }
+
+    /**
+     * Waits for the events queued so far, get completes after them.
+     */
+    private void awaitEvents() throws Exception {
+        backend.get("").get();
+    }
+
+    @Test
+    public void readsWhatWasWritten() throws Exception {
+        backend.setValue("books/b1/name", "Mosses").get();
+        backend.setValue("books/b1/chapters/c1", chapter("Peat", "Sphagnum")).get();
+        backend.setValue("books/b1/pages", 12).get();
+
+        Snapshot book = backend.get("books/b1").get();
+        assertEquals("b1", book.getKey());
+        assertEquals("Mosses", book.child("name").getValue());
+        assertEquals("Sphagnum", book.child("chapters").child("c1").child("text").getValue());
+        // integers are stored as longs, like Firebase reports them
+        assertEquals(12L, book.child("pages").getValue());
+        assertFalse(backend.get("books/b2").get().exists());
+    }
+
+    @Test
+    public void removingTheLastChildRemovesItsParents() throws Exception {
+        backend.setValue("books/b1/chapters/c1/name", "Peat").get();
+        backend.removeValue("books/b1/chapters/c1").get();
+
+        assertFalse(backend.get("books/b1").get().exists());
+        assertFalse(backend.get("books").get().exists());
+    }
+
+    @Test
+    public void emptyMapsAreNotStored() throws Exception {
+        backend.setValue("books/b1", new HashMap<String, Object>()).get();
+
+        assertFalse(backend.get("books/b1").get().exists());
+    }
+
+    @Test
+    public void pagesChildrenInKeyOrder() throws Exception {
+        for (String key : Arrays.asList("d", "a", "c", "e", "b")) {
+            backend.setValue("books/" + key + "/name", key.toUpperCase()).get();
+        }
+
+        assertEquals(Arrays.asList("a", "b"), keys(backend.getChildren("books", null, 2).get()));
+        assertEquals(Arrays.asList("c", "d"), keys(backend.getChildren("books", "b", 2).get()));
+        assertEquals(Collections.singletonList("e"), keys(backend.getChildren("books", "d", 2).get()));
+        // the cursor does not have to exist any more
+        assertEquals(Arrays.asList("c", "d"), keys(backend.getChildren("books", "bb", 2).get()));
+        assertTrue(backend.getChildren("missing", null, 2).get().isEmpty());
+    }
+
+    @Test
+    public void updatesSeveralPathsAtOnce() throws Exception {
+        backend.setValue("books/b1/name", "Mosses").get();
+        Map<String, Object> update = new HashMap<>();
+        update.put("books/b1/name", "Lichens");
+        update.put("bookIndex/b1", "Lichens");
+        update.put("books/b2", null);
+        backend.updateChildren("", update).get();
+
+        assertEquals("Lichens", backend.get("books/b1/name").get().getValue());
+        assertEquals("Lichens", backend.get("bookIndex/b1").get().getValue());
+    }
+
+    @Test
+    public void rejectsAnUpdateWithNestedPaths() throws Exception {
+        Map<String, Object> update = new HashMap<>();
+        update.put("books/b1", chapter("Peat", "Sphagnum"));
+        update.put("books/b1/name", "Mosses");
+
+        assertFailsWithIllegalArgument(backend.updateChildren("", update));
+        assertFalse(backend.get("books").get().exists());
+    }
+
+    @Test
+    public void rejectsAnUpdateOfAnEmptyKey() throws Exception {
+        Map<String, Object> update = new HashMap<>();
+        // an empty uid would otherwise write the parent
+        update.put("", "Mosses");
+
+        assertFailsWithIllegalArgument(backend.updateChildren("books", update));
+        assertFalse(backend.get("books").get().exists());
+    }
+
+    @Test
+    public void rejectsUnsupportedValues() throws Exception {
+        assertFailsWithIllegalArgument(backend.setValue("books/b1", new Object()));
+    }
+
+    @Test
+    public void reportsExistingChildrenThenChanges() throws Exception {
+        backend.setValue("books/a/name", "A").get();
+        backend.setValue("books/b/name", "B").get();
+        RecordingListener listener = new RecordingListener();
+        backend.addChildListener("books", listener);
+        awaitEvents();
+        assertEquals(Arrays.asList("added a after null", "added b after a"), listener.events);
+
+        listener.events.clear();
+        backend.setValue("books/c/name", "C").get();
+        backend.setValue("books/a/name", "A2").get();
+        backend.removeValue("books/b").get();
+        // unchanged values are not reported
+        backend.setValue("books/c/name", "C").get();
+        awaitEvents();
+        assertEquals(Arrays.asList("added c after b", "changed a after null", "removed b"), listener.events);
+
+        backend.removeChildListener("books", listener);
+        listener.events.clear();
+        backend.setValue("books/d/name", "D").get();
+        awaitEvents();
+        assertTrue(listener.events.isEmpty());
+    }
+
+    @Test
+    public void reportsEveryChildAnUpdateChanges() throws Exception {
+        backend.setValue("books/a/name", "A").get();
+        RecordingListener listener = new RecordingListener();
+        backend.addChildListener("books", listener);
+        awaitEvents();
+        listener.events.clear();
+
+        Map<String, Object> update = new HashMap<>();
+        update.put("a/name", "A2");
+        update.put("b/name", "B");
+        backend.updateChildren("books", update).get();
+        awaitEvents();
+
+        assertEquals(Arrays.asList("added b after a", "changed a after null"), listener.events);
+    }
+
+    @Test
+    public void reportsAValueOncePerWrite() throws Exception {
+        backend.setValue("books/b1/chapters/c1", chapter("Peat", "Sphagnum")).get();
+        final List<Object> values = Collections.synchronizedList(new ArrayList<>());
+        ValueListener listener = new ValueListener() {
+            @Override
+            public void onValue(Snapshot snapshot) {
+                values.add(snapshot.getValue());
+            }
+
+            @Override
+            public void onCancelled(Exception e) {
+                fail(e.toString());
+            }
+        };
+        backend.addValueListener("books/b1/chapters/c1", listener);
+
+        Map<String, Object> update = new HashMap<>();
+        update.put("name", "Bog");
+        update.put("text", "Peat moss");
+        backend.updateChildren("books/b1/chapters/c1", update).get();
+        // a write elsewhere does not change the value
+        backend.setValue("books/b1/name", "Mosses").get();
+        backend.removeValue("books/b1").get();
+        awaitEvents();
+
+        assertEquals(Arrays.<Object>asList(chapter("Peat", "Sphagnum"), chapter("Bog", "Peat moss"), null), values);
+    }
+
+    private static void assertFailsWithIllegalArgument(ApiFuture<Void> future)
+            throws InterruptedException {
+        try {
+            future.get();
+            fail("expected the write to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause().toString(), e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    private static List<String> keys(List<Snapshot> snapshots) {
+        List<String> keys = new ArrayList<>();
+        for (Snapshot snapshot : snapshots) {
+            keys.add(snapshot.getKey());
+        }
+        return keys;
+    }
+
+    private static class RecordingListener implements ChildListener {
+
+        final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+
+        @Override
+        public void onChildAdded(Snapshot snapshot, String previousChildKey) {
+            events.add("added " + snapshot.getKey() + " after " + previousChildKey);
+        }
+
+        @Override
+        public void onChildChanged(Snapshot snapshot, String previousChildKey) {
+            events.add("changed " + snapshot.getKey() + " after " + previousChildKey);
+        }
+
+        @Override
+        public void onChildRemoved(Snapshot snapshot) {
+            events.add("removed " + snapshot.getKey());
+        }
+
+        @Override
+        public void onCancelled(Exception e) {
+            events.add("cancelled");
+        }
+    }
+
+}
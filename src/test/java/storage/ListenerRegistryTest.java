@@ -0,0 +1,92 @@
+package storage;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class ListenerRegistryTest {
+
+    private InMemoryStorageBackend backend;
+    private ListenerRegistry listeners;
+
+    @Before
+    public void setUp() {
+        backend = new InMemoryStorageBackend();
+        listeners = new ListenerRegistry(backend);
+    }
+
+    /**
+     * Waits for the events queued so far, get completes after them.
+     */
+    private void awaitEvents() throws Exception {
+        backend.get("").get();
+    }
+
+    @Test
+    public void sharesOneBackendListenerPerPath() throws Exception {
+        RecordingListener first = new RecordingListener();
+        RecordingListener second = new RecordingListener();
+        listeners.addChildListener("books", first);
+        listeners.addChildListener("/books/", second);
+        assertEquals(1, listeners.getAttachedCount());
+
+        listeners.removeChildListener("books", first);
+        assertEquals(1, listeners.getAttachedCount());
+        listeners.removeChildListener("books", second);
+        assertEquals(0, listeners.getAttachedCount());
+    }
+
+    @Test
+    public void replaysChildrenInKeyOrder() throws Exception {
+        backend.setValue("books/b/name", "B").get();
+        listeners.addChildListener("books", new RecordingListener());
+        awaitEvents();
+        // added after the listener attached, but sorts before b
+        backend.setValue("books/a/name", "A").get();
+        backend.setValue("books/c/name", "C").get();
+        awaitEvents();
+
+        RecordingListener late = new RecordingListener();
+        listeners.addChildListener("books", late);
+        assertEquals(Arrays.asList("added a after null", "added b after a", "added c after b"), late.events);
+
+        // a cursor from the replay resumes the paged read without skipping or repeating
+        List<String> rest = new ArrayList<>();
+        for (Snapshot child : backend.getChildren("books", "a", 10).get()) {
+            rest.add(child.getKey());
+        }
+        assertEquals(Arrays.asList("b", "c"), rest);
+    }
+
+    private static class RecordingListener implements ChildListener {
+
+        final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+
+        @Override
+        public void onChildAdded(Snapshot snapshot, String previousChildKey) {
+            events.add("added " + snapshot.getKey() + " after " + previousChildKey);
+        }
+
+        @Override
+        public void onChildChanged(Snapshot snapshot, String previousChildKey) {
+            events.add("changed " + snapshot.getKey() + " after " + previousChildKey);
+        }
+
+        @Override
+        public void onChildRemoved(Snapshot snapshot) {
+            events.add("removed " + snapshot.getKey());
+        }
+
+        @Override
+        public void onCancelled(Exception e) {
+            events.add("cancelled");
+        }
+    }
+
+}
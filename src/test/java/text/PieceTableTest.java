@@ -0,0 +1,116 @@
+package text;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class PieceTableTest {
+
+    @Test
+    public void insertsAndDeletes() {
+        PieceTable table = new PieceTable("Hello world");
+        table.insert(5, ",");
+        table.delete(7, 5);
+        table.insert(7, "there");
+        table.insert(table.length(), "!");
+        table.insert(0, ">> ");
+
+        assertEquals(">> Hello, there!", table.toString());
+        assertEquals(16, table.length());
+    }
+
+    @Test
+    public void startsEmpty() {
+        PieceTable table = new PieceTable("");
+        assertEquals(0, table.pieceCount());
+
+        table.insert(0, "Moss");
+        table.delete(0, 4);
+        assertEquals("", table.toString());
+        assertEquals(0, table.length());
+    }
+
+    @Test
+    public void typingExtendsOnePiece() {
+        PieceTable table = new PieceTable("Peat moss");
+        String typed = " grows slowly";
+        int offset = 4;
+        for (char c : typed.toCharArray()) {
+            table.insert(offset++, String.valueOf(c));
+        }
+
+        assertEquals("Peat grows slowly moss", table.toString());
+        // the head of the original, the typed text and the tail of the original
+        assertEquals(3, table.pieceCount());
+    }
+
+    @Test
+    public void readsAcrossPieces() {
+        PieceTable table = new PieceTable("abcdef");
+        table.insert(3, "XYZ");
+        table.delete(0, 1);
+
+        assertEquals("bcXYZdef", table.toString());
+        assertEquals("cXYZd", table.substring(1, 6));
+        assertEquals("", table.substring(4, 4));
+        assertEquals('Y', table.charAt(3));
+        assertEquals('f', table.charAt(7));
+    }
+
+    @Test
+    public void ignoresEmptyEdits() {
+        PieceTable table = new PieceTable("abc");
+        table.insert(1, "");
+        table.delete(2, 0);
+
+        assertEquals("abc", table.toString());
+        assertEquals(1, table.pieceCount());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsAnInsertPastTheEnd() {
+        new PieceTable("abc").insert(4, "x");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsADeletePastTheEnd() {
+        new PieceTable("abc").delete(2, 2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsANegativeOffset() {
+        new PieceTable("abc").delete(-1, 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsAReversedRange() {
+        new PieceTable("abc").substring(2, 1);
+    }
+
+    @Test
+    public void matchesAStringBuilderUnderRandomEdits() {
+        Random random = new Random(42);
+        String original = "Lichens grow slowly on the north side of old birches.";
+        PieceTable table = new PieceTable(original);
+        StringBuilder expected = new StringBuilder(original);
+        for (int i = 0; i < 5000; i++) {
+            int offset = random.nextInt(expected.length() + 1);
+            if (random.nextBoolean() || expected.length() == 0) {
+                String text = Integer.toString(random.nextInt(1000), 36);
+                table.insert(offset, text);
+                expected.insert(offset, text);
+            } else {
+                int count = random.nextInt(Math.min(8, expected.length() - offset) + 1);
+                table.delete(offset, count);
+                expected.delete(offset, offset + count);
+            }
+            assertEquals(expected.length(), table.length());
+        }
+        assertEquals(expected.toString(), table.toString());
+        int start = expected.length() / 3;
+        assertEquals(expected.substring(start, 2 * start), table.substring(start, 2 * start));
+    }
+
+}
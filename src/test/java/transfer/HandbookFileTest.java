@@ -0,0 +1,141 @@
+package transfer;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import thrift.Chapter;
+import thrift.Handbook;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class HandbookFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static Handbook handbook(String uid, int chapters) {
+        Handbook handbook = new Handbook("Book " + uid, new ArrayList<Chapter>());
+        handbook.setUid(uid);
+        for (int i = 0; i < chapters; i++) {
+            Chapter chapter = new Chapter("Chapter " + i, "Mosses", "Sphagnum grows in bogs, сфагнум растёт на болотах.");
+            chapter.setUid(uid + "-c" + i);
+            handbook.addToChapters(chapter);
+        }
+        return handbook;
+    }
+
+    private static void write(File file, boolean append, Handbook... handbooks) throws IOException {
+        try (HandbookFile.Writer writer = new HandbookFile.Writer(file, append)) {
+            for (Handbook handbook : handbooks) {
+                writer.write(handbook);
+            }
+        }
+    }
+
+    private static List<Handbook> readAll(File file) throws IOException {
+        List<Handbook> handbooks = new ArrayList<>();
+        try (HandbookFile.Reader reader = new HandbookFile.Reader(file)) {
+            Handbook handbook;
+            while ((handbook = reader.next()) != null) {
+                handbooks.add(handbook);
+            }
+        }
+        return handbooks;
+    }
+
+    @Test
+    public void readsBackWhatWasWritten() throws Exception {
+        File file = folder.newFile("books.bin");
+        Handbook first = handbook("-La", 3);
+        Handbook empty = handbook("-Lb", 0);
+        write(file, false, first, empty);
+
+        List<Handbook> read = readAll(file);
+        assertEquals(2, read.size());
+        assertEquals(first, read.get(0));
+        assertEquals(empty, read.get(1));
+    }
+
+    @Test
+    public void appendsAfterExistingRecords() throws Exception {
+        File file = folder.newFile("books.bin");
+        write(file, false, handbook("-La", 1));
+        write(file, true, handbook("-Lb", 1));
+
+        List<Handbook> read = readAll(file);
+        assertEquals("-La", read.get(0).getUid());
+        assertEquals("-Lb", read.get(1).getUid());
+    }
+
+    @Test
+    public void cutsATornRecord() throws Exception {
+        File file = folder.newFile("books.bin");
+        write(file, false, handbook("-La", 2));
+        long complete = file.length();
+        write(file, true, handbook("-Lb", 2));
+        try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+            raw.setLength(file.length() - 10);
+        }
+
+        assertEquals("-La", HandbookFile.truncateToLastRecord(file));
+        assertEquals(complete, file.length());
+        assertEquals(1, readAll(file).size());
+    }
+
+    @Test
+    public void cutsATornLength() throws Exception {
+        File file = folder.newFile("books.bin");
+        write(file, false, handbook("-La", 1));
+        long complete = file.length();
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(new byte[]{0, 0});
+        }
+
+        assertEquals("-La", HandbookFile.truncateToLastRecord(file));
+        assertEquals(complete, file.length());
+    }
+
+    @Test
+    public void cutsACorruptLength() throws Exception {
+        File file = folder.newFile("books.bin");
+        write(file, false, handbook("-La", 1));
+        long complete = file.length();
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file, true))) {
+            out.writeInt(-5);
+            out.writeInt(12345);
+        }
+
+        assertEquals("-La", HandbookFile.truncateToLastRecord(file));
+        assertEquals(complete, file.length());
+    }
+
+    @Test
+    public void emptiesAFileWithoutACompleteRecord() throws Exception {
+        File file = folder.newFile("books.bin");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[]{0, 0, 0, 40, 1, 2});
+        }
+
+        assertNull(HandbookFile.truncateToLastRecord(file));
+        assertEquals(0, file.length());
+    }
+
+    @Test(expected = IOException.class)
+    public void failsOnACorruptLength() throws Exception {
+        File file = folder.newFile("books.bin");
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(Integer.MAX_VALUE);
+        }
+        readAll(file);
+    }
+
+}
@@ -0,0 +1,84 @@
+package write;
+
+import com.google.api.core.ApiFuture;
+import org.junit.Before;
+import org.junit.Test;
+import storage.InMemoryStorageBackend;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GroupCommitTest {
+
+    private InMemoryStorageBackend backend;
+
+    @Before
+    public void setUp() {
+        // throws like Firebase does for an update it rejects before sending
+        backend = new InMemoryStorageBackend() {
+            @Override
+            public ApiFuture<Void> updateChildren(String path, Map<String, Object> values) {
+                for (String key : values.keySet()) {
+                    if (key.contains("rejected")) {
+                        throw new IllegalArgumentException("Rejected " + key);
+                    }
+                }
+                return super.updateChildren(path, values);
+            }
+        };
+    }
+
+    private static Map<String, Object> update(String path, Object value) {
+        return Collections.singletonMap(path, value);
+    }
+
+    @Test
+    public void mergesUpdatesWithinTheWindow() throws Exception {
+        GroupCommit commits = new GroupCommit(backend, 50_000, 64);
+        ApiFuture<Void> first = commits.submit(update("books/b1/name", "Mosses"));
+        ApiFuture<Void> second = commits.submit(update("books/b2/name", "Lichens"));
+        ApiFuture<Void> third = commits.submit(update("books/b1/name", "Ferns"));
+
+        third.get(5, TimeUnit.SECONDS);
+        assertTrue(first.isDone() && second.isDone());
+        assertEquals("Ferns", backend.get("books/b1/name").get().getValue());
+        assertEquals("Lichens", backend.get("books/b2/name").get().getValue());
+    }
+
+    @Test
+    public void aRejectedGroupFailsWithoutBlockingTheNext() throws Exception {
+        GroupCommit commits = new GroupCommit(backend, 20_000, 2);
+        ApiFuture<Void> good = commits.submit(update("books/b1/name", "Mosses"));
+        ApiFuture<Void> bad = commits.submit(update("books/rejected/name", "Lichens"));
+        assertFailsWithIllegalArgument(good);
+        assertFailsWithIllegalArgument(bad);
+
+        // the next group is sent by the window timer
+        commits.submit(update("books/b2/name", "Ferns")).get(5, TimeUnit.SECONDS);
+        assertEquals("Ferns", backend.get("books/b2/name").get().getValue());
+        assertFalse(backend.get("books/b1").get().exists());
+    }
+
+    @Test
+    public void aRejectedUpdateFailsItsFutureWithoutAWindow() throws Exception {
+        GroupCommit commits = new GroupCommit(backend, 0, 64);
+        assertFailsWithIllegalArgument(commits.submit(update("books/rejected/name", "Mosses")));
+    }
+
+    private static void assertFailsWithIllegalArgument(ApiFuture<Void> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("expected the write to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause().toString(), e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+package write;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class WriteJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static Map<String, Object> update(String path, Object value) {
+        Map<String, Object> update = new LinkedHashMap<>();
+        update.put(path, value);
+        return update;
+    }
+
+    private static long recordBytes(Map<String, Object> update) {
+        return 4 + 4 + 1 + 8 + WriteJournal.encode(update).length;
+    }
+
+    @Test
+    public void replaysUpdatesThatWereNeverCommitted() throws Exception {
+        File file = new File(folder.getRoot(), "journal/writes.log");
+        Map<String, Object> chapter = new LinkedHashMap<>();
+        chapter.put("name", "Peat");
+        chapter.put("pages", 12L);
+        chapter.put("rating", 4.5);
+        chapter.put("draft", true);
+        chapter.put("text", "Sphagnum, сфагнум");
+
+        WriteJournal journal = new WriteJournal(file);
+        long first = journal.append(update("books/b1/name", "Mosses")).get();
+        long second = journal.append(update("books/b1/chapters/c1", chapter)).get();
+        long third = journal.append(update("books/b2", null)).get();
+        journal.commit(first);
+        journal.close();
+
+        WriteJournal reopened = new WriteJournal(file);
+        Map<Long, Map<String, Object>> recovered = reopened.getRecovered();
+        assertEquals(Arrays.asList(second, third), Arrays.asList(recovered.keySet().toArray()));
+        assertEquals(update("books/b1/chapters/c1", chapter), recovered.get(second));
+        assertEquals(update("books/b2", null), recovered.get(third));
+        // sequence numbers are never reused
+        assertTrue(reopened.append(update("books/b3/name", "Ferns")).get() > third);
+        reopened.close();
+    }
+
+    @Test
+    public void keepsOnlyUncommittedUpdatesAfterRecovery() throws Exception {
+        File file = folder.newFile("writes.log");
+        Map<String, Object> kept = update("books/b1/name", "Mosses");
+        WriteJournal journal = new WriteJournal(file);
+        for (int i = 0; i < 10; i++) {
+            journal.commit(journal.append(update("books/b" + i + "/name", "Book " + i)).get());
+        }
+        long sequence = journal.append(kept).get();
+        journal.close();
+
+        WriteJournal reopened = new WriteJournal(file);
+        reopened.close();
+        assertEquals(recordBytes(kept), file.length());
+
+        WriteJournal again = new WriteJournal(file);
+        assertEquals(Collections.singletonMap(sequence, kept), again.getRecovered());
+        again.close();
+    }
+
+    @Test
+    public void dropsATornLastRecord() throws Exception {
+        File file = folder.newFile("writes.log");
+        WriteJournal journal = new WriteJournal(file);
+        long first = journal.append(update("books/b1/name", "Mosses")).get();
+        journal.append(update("books/b2/name", "Lichens")).get();
+        journal.close();
+        try (RandomAccessFile cut = new RandomAccessFile(file, "rw")) {
+            cut.setLength(file.length() - 3);
+        }
+
+        WriteJournal reopened = new WriteJournal(file);
+        assertEquals(Collections.singleton(first), reopened.getRecovered().keySet());
+        reopened.close();
+    }
+
+    @Test
+    public void stopsAtACorruptRecord() throws Exception {
+        File file = folder.newFile("writes.log");
+        Map<String, Object> first = update("books/b1/name", "Mosses");
+        WriteJournal journal = new WriteJournal(file);
+        long sequence = journal.append(first).get();
+        journal.append(update("books/b2/name", "Lichens")).get();
+        journal.append(update("books/b3/name", "Ferns")).get();
+        journal.close();
+        // an unknown type in the second record, the third is dropped with it
+        try (RandomAccessFile corrupt = new RandomAccessFile(file, "rw")) {
+            corrupt.seek(recordBytes(first) + 8);
+            corrupt.writeByte(7);
+        }
+
+        WriteJournal reopened = new WriteJournal(file);
+        assertEquals(Collections.singletonMap(sequence, first), reopened.getRecovered());
+        reopened.close();
+    }
+
+    @Test
+    public void stopsAtAPayloadThatFailsItsChecksum() throws Exception {
+        File file = folder.newFile("writes.log");
+        Map<String, Object> first = update("books/b1/name", "Mosses");
+        WriteJournal journal = new WriteJournal(file);
+        long sequence = journal.append(first).get();
+        journal.append(update("books/b2/name", "Lichens")).get();
+        journal.close();
+        // still decodes, "Lichens" becomes "Lichons"
+        try (RandomAccessFile corrupt = new RandomAccessFile(file, "rw")) {
+            corrupt.seek(file.length() - 3);
+            corrupt.writeByte('o');
+        }
+
+        WriteJournal reopened = new WriteJournal(file);
+        assertEquals(Collections.singletonMap(sequence, first), reopened.getRecovered());
+        reopened.close();
+    }
+
+    @Test
+    public void stopsAtAnImpossibleLength() throws Exception {
+        File file = folder.newFile("writes.log");
+        WriteJournal journal = new WriteJournal(file);
+        long sequence = journal.append(update("books/b1/name", "Mosses")).get();
+        journal.close();
+        try (FileOutputStream garbage = new FileOutputStream(file, true)) {
+            garbage.write(new byte[]{0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 1, 2, 3});
+        }
+
+        WriteJournal reopened = new WriteJournal(file);
+        assertEquals(Collections.singleton(sequence), reopened.getRecovered().keySet());
+        reopened.close();
+    }
+
+    @Test
+    public void failsAppendsAfterClose() throws Exception {
+        WriteJournal journal = new WriteJournal(folder.newFile("writes.log"));
+        journal.close();
+        try {
+            journal.append(update("books/b1/name", "Mosses")).get();
+            fail("expected the append to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnsupportedValues() throws Exception {
+        WriteJournal journal = new WriteJournal(folder.newFile("writes.log"));
+        try {
+            journal.append(update("books/b1", new HashMap<String, Object>(Collections.singletonMap("x", new Object()))));
+        } finally {
+            journal.close();
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package write;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import storage.InMemoryStorageBackend;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class WriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private InMemoryStorageBackend backend;
+    private File file;
+
+    @Before
+    public void setUp() {
+        backend = new InMemoryStorageBackend();
+        file = new File(folder.getRoot(), "writes.log");
+    }
+
+    private static Map<String, Object> update(String path, Object value) {
+        return Collections.singletonMap(path, value);
+    }
+
+    @Test
+    public void rejectsAnInvalidWriteBeforeJournaling() throws Exception {
+        Writer writer = new Writer(backend, AckMode.DURABLE, new WriteJournal(file), 0, 64, 0);
+        Result answer = new Result();
+        writer.write(update("books/b.1/name", "Mosses"), null, answer);
+        assertFailsWithIllegalArgument(answer);
+        writer.close();
+
+        WriteJournal reopened = new WriteJournal(file);
+        assertTrue(reopened.getRecovered().isEmpty());
+        reopened.close();
+    }
+
+    @Test
+    public void skipsAJournaledWriteItCannotApply() throws Exception {
+        StringBuilder deep = new StringBuilder("books");
+        for (int i = 0; i < 40; i++) {
+            deep.append("/x");
+        }
+        WriteJournal journal = new WriteJournal(file);
+        journal.append(update(deep.toString(), "Mosses")).get();
+        journal.append(update("books/b1/name", "Lichens")).get();
+        journal.close();
+
+        Writer writer = new Writer(backend, AckMode.DURABLE, new WriteJournal(file), 0, 64, 0);
+        writer.replay();
+        writer.close();
+
+        assertEquals("Lichens", backend.get("books/b1/name").get().getValue());
+        WriteJournal reopened = new WriteJournal(file);
+        assertTrue(reopened.getRecovered().isEmpty());
+        reopened.close();
+    }
+
+    @Test
+    public void keepsFlushingAfterARejectedFlush() throws Exception {
+        InMemoryStorageBackend rejecting = new InMemoryStorageBackend() {
+            @Override
+            public ApiFuture<Void> updateChildren(String path, Map<String, Object> values) {
+                for (String key : values.keySet()) {
+                    if (key.contains("rejected")) {
+                        throw new IllegalStateException("Rejected " + key);
+                    }
+                }
+                return super.updateChildren(path, values);
+            }
+        };
+        Writer writer = new Writer(rejecting, AckMode.ACKNOWLEDGED, new WriteJournal(file), 0, 64, 20);
+        Result first = new Result();
+        writer.writeBehind("books/rejected/name", "Mosses", first);
+        first.get(5, TimeUnit.SECONDS);
+        awaitFlush(writer, "books/rejected/name");
+
+        Result second = new Result();
+        writer.writeBehind("books/b1/name", "Lichens", second);
+        second.get(5, TimeUnit.SECONDS);
+        awaitFlush(writer, "books/b1/name");
+        assertEquals("Lichens", rejecting.get("books/b1/name").get().getValue());
+
+        long start = System.currentTimeMillis();
+        writer.close();
+        // nothing is left committing, close does not wait for its timeout
+        assertTrue(System.currentTimeMillis() - start < 2000);
+    }
+
+    private static void awaitFlush(Writer writer, String path) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (writer.isBuffered(path)) {
+            assertTrue("still buffered: " + path, System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void assertFailsWithIllegalArgument(Result answer) throws Exception {
+        try {
+            answer.get(5, TimeUnit.SECONDS);
+            fail("expected the write to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause().toString(), e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    private static class Result implements AsyncMethodCallback<Void> {
+
+        private final SettableApiFuture<Void> future = SettableApiFuture.create();
+
+        @Override
+        public void onComplete(Void response) {
+            future.set(response);
+        }
+
+        @Override
+        public void onError(Exception exception) {
+            future.setException(exception);
+        }
+
+        Void get(long timeout, TimeUnit unit) throws Exception {
+            return future.get(timeout, unit);
+        }
+    }
+
+}